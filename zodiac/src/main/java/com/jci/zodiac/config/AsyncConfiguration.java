@@ -0,0 +1,120 @@
+package com.jci.zodiac.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * AsyncConfiguration - Thread pools for concurrent, non-scheduled work
+ * dashboardExecutor: runs independent dashboard / statistics sections in parallel
+ * importExecutor: runs background import jobs (one thread per running job, the rest queue)
+ * importWriterExecutor: the single batched writer of each running import job
+ * importValidationExecutor: validates import batches in parallel
+ * reportExecutor: renders the documents of a report bundle in parallel
+ * mvcAsyncExecutor: writes streamed responses (exports, downloads) once the request thread is released
+ */
+@Configuration
+public class AsyncConfiguration {
+
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor(
+            @Value("${app.dashboard.executor.pool-size:8}") int poolSize,
+            @Value("${app.dashboard.executor.queue-capacity:100}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("zodiac-dashboard-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor importExecutor(
+            @Value("${app.import.executor.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${app.import.executor.queue-capacity:20}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("zodiac-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * Same size as importExecutor: each running job has at most one writer, so a job never waits for a writer thread
+     */
+    @Bean
+    public ThreadPoolTaskExecutor importWriterExecutor(
+            @Value("${app.import.executor.max-concurrent-jobs:2}") int maxConcurrentJobs) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setThreadNamePrefix("zodiac-import-writer-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor importValidationExecutor(
+            @Value("${app.import.validation.pool-size:4}") int poolSize) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("zodiac-import-validate-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * Bounded pool and queue; bundle documents queue up behind it, so concurrent bundles share the same
+     * threads. When the queue is full the submitting request renders the document itself, which slows
+     * down new bundles instead of failing them (a shut-down pool still rejects).
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reportExecutor(
+            @Value("${app.report.executor.pool-size:4}") int poolSize,
+            @Value("${app.report.executor.queue-capacity:100}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("Report executor has been shut down");
+            }
+            task.run();
+        });
+        executor.setThreadNamePrefix("zodiac-report-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * Spring MVC async requests (StreamingResponseBody); registered in WebMvcConfiguration, since
+     * Boot's applicationTaskExecutor backs off when other executors exist and MVC would otherwise
+     * start an unbounded thread per request. When full, new async requests are rejected.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mvcAsyncExecutor(
+            @Value("${app.mvc.async.pool-size:8}") int poolSize,
+            @Value("${app.mvc.async.queue-capacity:50}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("zodiac-mvc-async-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
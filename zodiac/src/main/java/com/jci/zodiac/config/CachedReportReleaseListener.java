@@ -0,0 +1,32 @@
+package com.jci.zodiac.config;
+
+import com.jci.zodiac.service.ReportCacheService;
+import jakarta.servlet.ServletRequestEvent;
+import jakarta.servlet.ServletRequestListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * CachedReportReleaseListener - Releases a cached report whose response never sent it
+ * The response body closes the report once sent; this covers the other exits (an error after the
+ * controller returned, a rejected async dispatch, a client gone before the body ran). The request
+ * is destroyed only after its async processing completes, and closing twice is harmless.
+ */
+@Component
+@Slf4j
+public class CachedReportReleaseListener implements ServletRequestListener {
+
+    @Override
+    public void requestDestroyed(ServletRequestEvent event) {
+        if (event.getServletRequest().getAttribute(ReportCacheService.OPEN_REPORT_ATTRIBUTE)
+                instanceof ReportCacheService.CachedReport report) {
+            try {
+                report.close();
+            } catch (IOException e) {
+                log.warn("Could not release cached report: {}", e.getMessage());
+            }
+        }
+    }
+}
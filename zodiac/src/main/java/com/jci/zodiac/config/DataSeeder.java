@@ -4,6 +4,7 @@ import com.jci.zodiac.entity.Department;
 import com.jci.zodiac.entity.Member;
 import com.jci.zodiac.repository.DepartmentRepository;
 import com.jci.zodiac.repository.MemberRepository;
+import com.jci.zodiac.service.MemberCodeAllocator;
 import com.jci.zodiac.util.ZodiacCalculator;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,7 @@ public class DataSeeder {
 
     private final MemberRepository memberRepository;
     private final DepartmentRepository departmentRepository;
+    private final MemberCodeAllocator memberCodeAllocator;
 
     private final Map<String, Long> departmentMap = new HashMap<>();
 
@@ -181,7 +183,7 @@ public class DataSeeder {
         Member.ZodiacElement zodiacElement = ZodiacCalculator.calculateZodiacElement(zodiacSign);
 
         // Generate member code
-        String memberCode = String.format("JCI-DN-%03d", count);
+        String memberCode = memberCodeAllocator.nextCode();
 
         Member member = Member.builder()
                 .memberCode(memberCode)
@@ -0,0 +1,53 @@
+package com.jci.zodiac.config;
+
+import com.jci.zodiac.controller.DashboardController;
+import com.jci.zodiac.controller.ReportController;
+import com.jci.zodiac.dto.response.DegradableResponse;
+import com.jci.zodiac.util.ApiResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * DataVersionEtagAdvice - Adds the data-version ETag to successful dashboard / report responses
+ * Responses with degraded sections are not tagged, so a partial result is never revalidated as current.
+ */
+@ControllerAdvice(assignableTypes = {DashboardController.class, ReportController.class})
+public class DataVersionEtagAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+
+        Object etag = servletRequest.getServletRequest().getAttribute(DataVersionEtagInterceptor.ETAG_ATTRIBUTE);
+        int status = servletResponse.getServletResponse().getStatus();
+        if (etag == null || status < 200 || status >= 300 || isDegraded(body)) {
+            return body;
+        }
+
+        response.getHeaders().setETag((String) etag);
+        response.getHeaders().setCacheControl("no-cache");
+        return body;
+    }
+
+    private boolean isDegraded(Object body) {
+        Object data = body instanceof ApiResponse<?> apiResponse ? apiResponse.getData() : body;
+        return data instanceof DegradableResponse degradable && degradable.getDegradedSections() != null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.jci.zodiac.config;
+
+import com.jci.zodiac.service.DataVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Enumeration;
+
+/**
+ * DataVersionEtagInterceptor - Conditional GET for dashboard and report endpoints
+ * The ETag is the data version plus today's date (timelines, upcoming events and trends are
+ * relative to it), so it is known before the controller runs: a matching If-None-Match is
+ * answered with 304 without computing anything.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataVersionEtagInterceptor implements HandlerInterceptor {
+
+    /** Request attribute holding the ETag to set on a complete response */
+    public static final String ETAG_ATTRIBUTE = DataVersionEtagInterceptor.class.getName() + ".etag";
+
+    private final DataVersionService dataVersionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+
+        String etag = "\"dv-" + dataVersionService.currentTag() + "\"";
+
+        if (matchesIfNoneMatch(request, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            return false;
+        }
+
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    /**
+     * Weak comparison (RFC 9110): W/ prefixes are ignored, "*" matches any version
+     */
+    private boolean matchesIfNoneMatch(HttpServletRequest request, String etag) {
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        while (headers.hasMoreElements()) {
+            for (String candidate : headers.nextElement().split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,31 @@
+package com.jci.zodiac.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * WebMvcConfiguration - Spring MVC interceptors and async support
+ * Paths are relative to the /api context path. The async timeout stays spring.mvc.async.request-timeout.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfiguration implements WebMvcConfigurer {
+
+    private final DataVersionEtagInterceptor dataVersionEtagInterceptor;
+    private final ThreadPoolTaskExecutor mvcAsyncExecutor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(dataVersionEtagInterceptor)
+                .addPathPatterns("/dashboard/**", "/reports/**");
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor);
+    }
+}
@@ -2,9 +2,13 @@ package com.jci.zodiac.controller;
 
 import com.jci.zodiac.dto.request.*;
 import com.jci.zodiac.dto.response.BulkOperationResponse;
-import com.jci.zodiac.dto.response.ImportResult;
+import com.jci.zodiac.dto.response.ImportJobResponse;
+import com.jci.zodiac.dto.response.ImportValidationReport;
 import com.jci.zodiac.service.BulkOperationsService;
 import com.jci.zodiac.service.CsvImportService;
+import com.jci.zodiac.service.ExcelImportService;
+import com.jci.zodiac.service.ImportDryRunService;
+import com.jci.zodiac.service.MemberImportJobService;
 import com.jci.zodiac.util.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,6 +22,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -34,6 +39,9 @@ public class BulkOperationsController {
 
     private final BulkOperationsService bulkOperationsService;
     private final CsvImportService csvImportService;
+    private final ExcelImportService excelImportService;
+    private final MemberImportJobService memberImportJobService;
+    private final ImportDryRunService importDryRunService;
 
     /**
      * Bulk create members
@@ -126,12 +134,12 @@ public class BulkOperationsController {
     }
 
     /**
-     * Import members from CSV
+     * Import members from CSV (runs as a background job)
      * POST /api/members/bulk/import/csv
      */
     @PostMapping(value = "/import/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "Import from CSV", description = "Import members from CSV file")
-    public ResponseEntity<ApiResponse<ImportResult>> importFromCsv(
+    @Operation(summary = "Import from CSV", description = "Start a background import of members from an RFC 4180 CSV file")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> importFromCsv(
             @Parameter(description = "CSV file") @RequestParam("file") MultipartFile file,
             @Parameter(description = "Skip header row") @RequestParam(defaultValue = "true") boolean skipHeader,
             @Parameter(description = "Date format") @RequestParam(defaultValue = "yyyy-MM-dd") String dateFormat) {
@@ -145,7 +153,7 @@ public class BulkOperationsController {
                     .body(ApiResponse.error("File is empty"));
         }
 
-        if (!file.getOriginalFilename().endsWith(".csv")) {
+        if (file.getOriginalFilename() == null || !file.getOriginalFilename().toLowerCase().endsWith(".csv")) {
             return ResponseEntity
                     .badRequest()
                     .body(ApiResponse.error("Only CSV files are supported"));
@@ -156,19 +164,115 @@ public class BulkOperationsController {
                 .dateFormat(dateFormat)
                 .build();
 
-        ImportResult result = csvImportService.importFromCsv(file, config);
+        ImportJobResponse job = csvImportService.importFromCsv(file, config);
 
-        HttpStatus status = result.isFullySuccessful() ? HttpStatus.CREATED :
-                result.getSuccessfulImports() > 0 ? HttpStatus.MULTI_STATUS :
-                        HttpStatus.BAD_REQUEST;
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Import job started", job));
+    }
+
+    /**
+     * Import members from an Excel workbook (runs as a background job)
+     * POST /api/members/bulk/import/xlsx
+     */
+    @PostMapping(value = "/import/xlsx", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import from Excel", description = "Start a background import of members from the first sheet of an xlsx file (same columns as the CSV template)")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> importFromXlsx(
+            @Parameter(description = "Excel (xlsx) file") @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Skip header row") @RequestParam(defaultValue = "true") boolean skipHeader,
+            @Parameter(description = "Date format for text date cells (date-formatted cells are converted)")
+            @RequestParam(defaultValue = "yyyy-MM-dd") String dateFormat) {
+
+        log.info("REST request to import members from Excel: {}", file.getOriginalFilename());
+
+        if (file.isEmpty()) {
+            return ResponseEntity
+                    .badRequest()
+                    .body(ApiResponse.error("File is empty"));
+        }
+
+        if (file.getOriginalFilename() == null || !file.getOriginalFilename().toLowerCase().endsWith(".xlsx")) {
+            return ResponseEntity
+                    .badRequest()
+                    .body(ApiResponse.error("Only Excel (.xlsx) files are supported"));
+        }
+
+        ImportMembersRequest config = ImportMembersRequest.builder()
+                .skipHeader(skipHeader)
+                .dateFormat(dateFormat)
+                .build();
+
+        ImportJobResponse job = excelImportService.importFromXlsx(file, config);
 
         return ResponseEntity
-                .status(status)
-                .body(ApiResponse.success(
-                        String.format("Import completed: %d successful, %d failed",
-                                result.getSuccessfulImports(), result.getFailedImports()),
-                        result
-                ));
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Import job started", job));
+    }
+
+    /**
+     * Validate a CSV import without importing it (dry run)
+     * POST /api/members/bulk/import/csv/validate
+     */
+    @PostMapping(value = "/import/csv/validate", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Validate CSV import", description = "Dry run: check every row of a CSV file without writing anything")
+    public ResponseEntity<ApiResponse<ImportValidationReport>> validateCsvImport(
+            @Parameter(description = "CSV file") @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Skip header row") @RequestParam(defaultValue = "true") boolean skipHeader,
+            @Parameter(description = "Date format") @RequestParam(defaultValue = "yyyy-MM-dd") String dateFormat,
+            @Parameter(description = "Error page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Errors per page (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        log.info("REST request to validate CSV import: {}", file.getOriginalFilename());
+
+        if (file.isEmpty()) {
+            return ResponseEntity
+                    .badRequest()
+                    .body(ApiResponse.error("File is empty"));
+        }
+
+        ImportMembersRequest config = ImportMembersRequest.builder()
+                .skipHeader(skipHeader)
+                .dateFormat(dateFormat)
+                .build();
+
+        ImportValidationReport report = importDryRunService.validateCsv(file, config, page, size);
+
+        return ResponseEntity.ok(ApiResponse.success(
+                report.isValid() ? "File is valid" : report.getInvalidRows() + " invalid row(s) found", report));
+    }
+
+    /**
+     * Get import job progress
+     * GET /api/members/bulk/import/jobs/{jobId}
+     */
+    @GetMapping("/import/jobs/{jobId}")
+    @Operation(summary = "Get import job", description = "Get status and progress of a background import job")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> getImportJob(
+            @Parameter(description = "Import job ID") @PathVariable String jobId) {
+
+        log.info("REST request to get import job: {}", jobId);
+
+        ImportJobResponse job = memberImportJobService.getJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success(job));
+    }
+
+    /**
+     * Download the rejected rows of an import job
+     * GET /api/members/bulk/import/jobs/{jobId}/errors
+     */
+    @GetMapping("/import/jobs/{jobId}/errors")
+    @Operation(summary = "Download import errors", description = "Download rejected rows of an import job as CSV")
+    public ResponseEntity<StreamingResponseBody> downloadImportErrors(
+            @Parameter(description = "Import job ID") @PathVariable String jobId) {
+
+        log.info("REST request to download errors of import job: {}", jobId);
+
+        memberImportJobService.checkErrorFile(jobId);
+        StreamingResponseBody body = out -> memberImportJobService.writeErrorFile(jobId, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"import_errors_" + jobId + ".csv\"")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(body);
     }
 
     /**
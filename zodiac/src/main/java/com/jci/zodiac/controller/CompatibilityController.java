@@ -38,7 +38,7 @@ public class CompatibilityController {
 
         log.info("REST request to get compatibility for {} and {}", sign1, sign2);
 
-        ZodiacCompatibility compatibility = compatibilityService.getCompatibilityBySign(sign1, sign2);
+        ZodiacCompatibility compatibility = compatibilityService.getCompatibilityDetailsBySign(sign1, sign2);
 
         return ResponseEntity.ok(ApiResponse.success(compatibility));
     }
@@ -55,7 +55,7 @@ public class CompatibilityController {
 
         log.info("REST request to get compatibility for members: {} and {}", member1, member2);
 
-        ZodiacCompatibility compatibility = compatibilityService.getCompatibilityByMembers(member1, member2);
+        ZodiacCompatibility compatibility = compatibilityService.getCompatibilityDetailsByMembers(member1, member2);
 
         return ResponseEntity.ok(ApiResponse.success(compatibility));
     }
@@ -2,16 +2,20 @@ package com.jci.zodiac.controller;
 
 import com.jci.zodiac.dto.response.*;
 import com.jci.zodiac.service.DashboardService;
+import com.jci.zodiac.service.MembershipRollupService;
+import com.jci.zodiac.service.OrganizationSnapshotService;
 import com.jci.zodiac.util.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * DashboardController - REST APIs for dashboard and analytics
@@ -25,6 +29,8 @@ import java.time.LocalDate;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final MembershipRollupService membershipRollupService;
+    private final OrganizationSnapshotService organizationSnapshotService;
 
     /**
      * Get dashboard overview (main stats)
@@ -143,4 +149,69 @@ public class DashboardController {
 
         return ResponseEntity.ok(ApiResponse.success("Dashboard cache refreshed successfully"));
     }
+
+    /**
+     * Rebuild membership monthly rollup from the members table
+     * POST /api/dashboard/rebuild-rollup
+     */
+    @PostMapping("/rebuild-rollup")
+    @Operation(summary = "Rebuild membership rollup", description = "Recompute monthly joins/leaves used by timeline and hiring trends")
+    public ResponseEntity<ApiResponse<Integer>> rebuildMembershipRollup() {
+        log.info("REST request to rebuild membership monthly rollup");
+
+        int buckets = membershipRollupService.rebuild();
+
+        return ResponseEntity.ok(ApiResponse.success("Membership rollup rebuilt successfully", buckets));
+    }
+
+    /**
+     * Get daily organization snapshots in a date range
+     * GET /api/dashboard/snapshots?from=2025-01-01&to=2025-12-31
+     */
+    @GetMapping("/snapshots")
+    @Operation(summary = "Get organization snapshots", description = "Daily headcount, zodiac mix and compatibility snapshots in a date range")
+    public ResponseEntity<ApiResponse<List<OrganizationSnapshotResponse>>> getSnapshots(
+            @Parameter(description = "Start date (inclusive, yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date (inclusive, yyyy-MM-dd, default: today)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("REST request to get organization snapshots from {} to {}", from, to);
+
+        List<OrganizationSnapshotResponse> response = organizationSnapshotService.getSnapshots(
+                from, to != null ? to : LocalDate.now());
+
+        return ResponseEntity.ok(ApiResponse.success("Organization snapshots retrieved successfully", response));
+    }
+
+    /**
+     * Get monthly organization trends
+     * GET /api/dashboard/trends?months=12
+     */
+    @GetMapping("/trends")
+    @Operation(summary = "Get organization trends", description = "Month-by-month headcount and compatibility trend from daily snapshots")
+    public ResponseEntity<ApiResponse<OrganizationTrendResponse>> getOrganizationTrends(
+            @Parameter(description = "Number of months (default: 12)")
+            @RequestParam(defaultValue = "12") int months) {
+
+        log.info("REST request to get organization trends for {} months", months);
+
+        OrganizationTrendResponse response = organizationSnapshotService.getMonthlyTrend(months);
+
+        return ResponseEntity.ok(ApiResponse.success("Organization trends retrieved successfully", response));
+    }
+
+    /**
+     * Capture today's organization snapshot now
+     * POST /api/dashboard/snapshots/capture
+     */
+    @PostMapping("/snapshots/capture")
+    @Operation(summary = "Capture organization snapshot", description = "Capture (or refresh) today's snapshot without waiting for the daily job")
+    public ResponseEntity<ApiResponse<OrganizationSnapshotResponse>> captureSnapshot() {
+        log.info("REST request to capture organization snapshot");
+
+        OrganizationSnapshotResponse response = organizationSnapshotService.captureDailySnapshot();
+
+        return ResponseEntity.ok(ApiResponse.success("Organization snapshot captured successfully", response));
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.jci.zodiac.controller;
 
 import com.jci.zodiac.dto.request.CreateDepartmentRequest;
 import com.jci.zodiac.dto.request.UpdateDepartmentRequest;
+import com.jci.zodiac.dto.response.CursorPageResponse;
 import com.jci.zodiac.dto.response.DepartmentAnalyticsResponse;
 import com.jci.zodiac.dto.response.DepartmentResponse;
 import com.jci.zodiac.dto.response.DepartmentSummaryResponse;
@@ -99,6 +100,24 @@ public class DepartmentController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Get all departments (cursor pagination)
+     * GET /api/departments/cursor
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Get all departments (cursor)", description = "Departments ordered by id; pass nextCursor as cursor for the next page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<DepartmentSummaryResponse>>> getAllDepartmentsByCursor(
+            @Parameter(description = "nextCursor from the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        log.info("REST request to get departments, cursor: {}", cursor);
+
+        CursorPageResponse<DepartmentSummaryResponse> response = departmentService.getAllDepartments(cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Get active departments
      * GET /api/departments/active
@@ -3,6 +3,7 @@ package com.jci.zodiac.controller;
 import com.jci.zodiac.dto.request.CreateMemberRequest;
 import com.jci.zodiac.dto.request.MemberSearchRequest;
 import com.jci.zodiac.dto.request.UpdateMemberRequest;
+import com.jci.zodiac.dto.response.CursorPageResponse;
 import com.jci.zodiac.dto.response.MemberResponse;
 import com.jci.zodiac.dto.response.MemberSummaryResponse;
 import com.jci.zodiac.entity.Member;
@@ -119,6 +120,24 @@ public class MemberController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Search and filter members with cursor pagination
+     * POST /api/members/search/cursor
+     */
+    @PostMapping("/search/cursor")
+    @Operation(summary = "Search members (cursor)",
+            description = "Combine all filters; pass nextCursor as cursor to get the next page. " +
+                    "sortBy: createdAt, fullName, joinDate, memberCode or id; size is capped at 100")
+    public ResponseEntity<ApiResponse<CursorPageResponse<MemberSummaryResponse>>> searchMembersByCursor(
+            @RequestBody MemberSearchRequest searchRequest) {
+
+        log.info("REST request to search members by cursor: {}", searchRequest);
+
+        CursorPageResponse<MemberSummaryResponse> response = memberService.searchMembersByCursor(searchRequest);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Update member
      * PUT /api/members/{id}
@@ -183,6 +202,24 @@ public class MemberController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Get active members (cursor pagination)
+     * GET /api/members/active/cursor
+     */
+    @GetMapping("/active/cursor")
+    @Operation(summary = "Get active members (cursor)", description = "Active members ordered by id; pass nextCursor as cursor for the next page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<MemberSummaryResponse>>> getActiveMembersByCursor(
+            @Parameter(description = "nextCursor from the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        log.info("REST request to get active members, cursor: {}", cursor);
+
+        CursorPageResponse<MemberSummaryResponse> response = memberService.getActiveMembers(cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Get members by zodiac sign
      * GET /api/members/zodiac/{sign}
@@ -199,6 +236,25 @@ public class MemberController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Get members by zodiac sign (cursor pagination)
+     * GET /api/members/zodiac/{sign}/cursor
+     */
+    @GetMapping("/zodiac/{sign}/cursor")
+    @Operation(summary = "Get members by zodiac sign (cursor)", description = "Members of a sign ordered by id; pass nextCursor as cursor for the next page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<MemberSummaryResponse>>> getMembersByZodiacSignByCursor(
+            @Parameter(description = "Zodiac sign (e.g., Sagittarius)") @PathVariable Member.ZodiacSign sign,
+            @Parameter(description = "nextCursor from the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        log.info("REST request to get members by zodiac sign: {}, cursor: {}", sign, cursor);
+
+        CursorPageResponse<MemberSummaryResponse> response = memberService.getMembersByZodiacSign(sign, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Get members by zodiac element
      * GET /api/members/element/{element}
@@ -231,6 +287,25 @@ public class MemberController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Get members by department (cursor pagination)
+     * GET /api/members/department/{departmentId}/cursor
+     */
+    @GetMapping("/department/{departmentId}/cursor")
+    @Operation(summary = "Get members by department (cursor)", description = "Members of a department ordered by id; pass nextCursor as cursor for the next page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<MemberSummaryResponse>>> getMembersByDepartmentByCursor(
+            @Parameter(description = "Department ID") @PathVariable Long departmentId,
+            @Parameter(description = "nextCursor from the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        log.info("REST request to get members by department: {}, cursor: {}", departmentId, cursor);
+
+        CursorPageResponse<MemberSummaryResponse> response = memberService.getMembersByDepartment(departmentId, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Get member statistics
      * GET /api/members/stats
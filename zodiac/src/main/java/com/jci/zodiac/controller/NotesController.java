@@ -1,6 +1,7 @@
 package com.jci.zodiac.controller;
 
 import com.jci.zodiac.dto.request.CreateNoteRequest;
+import com.jci.zodiac.dto.response.CursorPageResponse;
 import com.jci.zodiac.dto.response.NoteResponse;
 import com.jci.zodiac.entity.Note;
 import com.jci.zodiac.service.NoteService;
@@ -79,6 +80,24 @@ public class NotesController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Get all notes (cursor pagination)
+     * GET /api/notes/cursor
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Get all notes (cursor)", description = "Notes newest first; pass nextCursor as cursor for the next page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<NoteResponse>>> getAllNotesByCursor(
+            @Parameter(description = "nextCursor from the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        log.info("REST request to get notes, cursor: {}", cursor);
+
+        CursorPageResponse<NoteResponse> response = noteService.getAllNotes(cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Get notes by type
      * GET /api/notes/type/{type}
@@ -3,21 +3,25 @@ package com.jci.zodiac.controller;
 import com.jci.zodiac.dto.request.GenerateReportRequest;
 import com.jci.zodiac.dto.request.TeamPredictionRequest;
 import com.jci.zodiac.dto.response.*;
+import com.jci.zodiac.service.OrganizationSnapshotService;
+import com.jci.zodiac.service.ReportBundleService;
+import com.jci.zodiac.service.ReportCacheService;
 import com.jci.zodiac.service.ReportService;
 import com.jci.zodiac.util.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.time.LocalDate;
 
 /**
@@ -32,6 +36,9 @@ import java.time.LocalDate;
 public class ReportController {
 
     private final ReportService reportService;
+    private final OrganizationSnapshotService organizationSnapshotService;
+    private final ReportBundleService reportBundleService;
+    private final ReportCacheService reportCacheService;
 
     /**
      * Get zodiac analytics report
@@ -56,7 +63,7 @@ public class ReportController {
     public ResponseEntity<ApiResponse<CompatibilityMatrixResponse>> getCompatibilityMatrix(
             @Parameter(description = "Department ID to filter (optional)")
             @RequestParam(required = false) Long departmentId,
-            @Parameter(description = "Maximum number of members (default: 20)")
+            @Parameter(description = "Maximum number of members (default: 20; 0 = whole department, or 20 without one)")
             @RequestParam(defaultValue = "20") int maxMembers) {
 
         log.info("REST request to get compatibility matrix for department: {}, maxMembers: {}", departmentId, maxMembers);
@@ -114,19 +121,21 @@ public class ReportController {
     }
 
     /**
-     * Export report to PDF
+     * Export report to PDF (cached on disk)
      * POST /api/reports/export-pdf
      */
     @PostMapping("/export-pdf")
     @Operation(summary = "Export report to PDF", description = "Generate and download PDF report")
-    public ResponseEntity<Resource> exportPdfReport(
-            @Valid @RequestBody GenerateReportRequest request) {
+    public ResponseEntity<StreamingResponseBody> exportPdfReport(
+            @Valid @RequestBody GenerateReportRequest request, HttpServletRequest servletRequest) throws IOException {
 
         log.info("REST request to export PDF report: {}", request.getReportType());
 
-        byte[] pdfBytes = reportService.generatePdfReport(request);
-
-        ByteArrayResource resource = new ByteArrayResource(pdfBytes);
+        // Pinned in the cache until sent; released when the request ends if the body never runs
+        ReportCacheService.CachedReport report = reportCacheService.getOrRender(request, "pdf",
+                () -> reportService.preparePdfReport(request));
+        servletRequest.setAttribute(ReportCacheService.OPEN_REPORT_ATTRIBUTE, report);
+        StreamingResponseBody body = report::transferTo;
 
         String filename = String.format("zodiac_report_%s_%s.pdf",
                 request.getReportType().toLowerCase(),
@@ -135,24 +144,26 @@ public class ReportController {
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
                 .contentType(MediaType.APPLICATION_PDF)
-                .contentLength(pdfBytes.length)
-                .body(resource);
+                .contentLength(report.size())
+                .body(body);
     }
 
     /**
-     * Export report to Excel
+     * Export report to Excel (cached on disk)
      * POST /api/reports/export-excel
      */
     @PostMapping("/export-excel")
     @Operation(summary = "Export report to Excel", description = "Generate and download Excel report")
-    public ResponseEntity<Resource> exportExcelReport(
-            @Valid @RequestBody GenerateReportRequest request) {
+    public ResponseEntity<StreamingResponseBody> exportExcelReport(
+            @Valid @RequestBody GenerateReportRequest request, HttpServletRequest servletRequest) throws IOException {
 
         log.info("REST request to export Excel report: {}", request.getReportType());
 
-        byte[] excelBytes = reportService.generateExcelReport(request);
-
-        ByteArrayResource resource = new ByteArrayResource(excelBytes);
+        // Pinned in the cache until sent; released when the request ends if the body never runs
+        ReportCacheService.CachedReport report = reportCacheService.getOrRender(request, "xlsx",
+                () -> reportService.prepareExcelReport(request));
+        servletRequest.setAttribute(ReportCacheService.OPEN_REPORT_ATTRIBUTE, report);
+        StreamingResponseBody body = report::transferTo;
 
         String filename = String.format("zodiac_report_%s_%s.xlsx",
                 request.getReportType().toLowerCase(),
@@ -161,8 +172,29 @@ public class ReportController {
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
                 .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .contentLength(excelBytes.length)
-                .body(resource);
+                .contentLength(report.size())
+                .body(body);
+    }
+
+    /**
+     * Export the monthly per-department report bundle (streamed ZIP)
+     * GET /api/reports/export-bundle
+     */
+    @GetMapping("/export-bundle")
+    @Operation(summary = "Export department report bundle",
+            description = "Composition PDF/Excel and compatibility matrix Excel for every department, as one ZIP")
+    public ResponseEntity<StreamingResponseBody> exportDepartmentBundle() {
+        log.info("REST request to export department report bundle");
+
+        ReportService.ReportWriter writer = reportBundleService.prepareDepartmentBundle();
+        StreamingResponseBody body = writer::writeTo;
+
+        String filename = String.format("zodiac_department_reports_%s.zip", LocalDate.now().toString());
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
     }
 
     /**
@@ -182,6 +214,23 @@ public class ReportController {
         return ResponseEntity.ok(ApiResponse.success("Hiring trends retrieved successfully", response));
     }
 
+    /**
+     * Get organization trends (headcount, zodiac mix, compatibility) over time
+     * GET /api/reports/organization-trends
+     */
+    @GetMapping("/organization-trends")
+    @Operation(summary = "Get organization trends", description = "Month-by-month organization trend built from daily snapshots")
+    public ResponseEntity<ApiResponse<OrganizationTrendResponse>> getOrganizationTrends(
+            @Parameter(description = "Number of months to analyze (default: 12)")
+            @RequestParam(defaultValue = "12") int months) {
+
+        log.info("REST request to get organization trends for last {} months", months);
+
+        OrganizationTrendResponse response = organizationSnapshotService.getMonthlyTrend(months);
+
+        return ResponseEntity.ok(ApiResponse.success("Organization trends retrieved successfully", response));
+    }
+
     /**
      * Get team performance predictions
      * POST /api/reports/team-predictions
@@ -0,0 +1,62 @@
+package com.jci.zodiac.controller;
+
+import com.jci.zodiac.dto.response.SearchResultResponse;
+import com.jci.zodiac.service.SearchIndexService;
+import com.jci.zodiac.util.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+/**
+ * SearchController - Unified search across members, notes, settings and zodiac profiles
+ * Base URL: /api/search
+ */
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Search", description = "Accent-insensitive search with relevance ranking")
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    /**
+     * Search everything
+     * GET /api/search?q={query}&types=MEMBER,NOTE&limit=20
+     */
+    @GetMapping
+    @Operation(summary = "Unified search",
+            description = "Accent-insensitive, prefix-matching search; all terms must match. Best match first")
+    public ResponseEntity<ApiResponse<SearchResultResponse>> search(
+            @Parameter(description = "Query, e.g. 'nguyen van' or 'Ngu'") @RequestParam String q,
+            @Parameter(description = "Document types to include (default: all)")
+            @RequestParam(required = false) Set<SearchIndexService.DocumentType> types,
+            @Parameter(description = "Max hits (max 100)") @RequestParam(defaultValue = "20") int limit) {
+
+        log.info("REST request to search: '{}' in {}", q, types);
+
+        SearchResultResponse response = searchIndexService.search(q, types, limit);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Rebuild the search index from the database
+     * POST /api/search/rebuild
+     */
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild search index", description = "Re-read all searchable data (normally kept in sync automatically)")
+    public ResponseEntity<ApiResponse<Integer>> rebuildIndex() {
+        log.info("REST request to rebuild search index");
+
+        int documents = searchIndexService.rebuild();
+
+        return ResponseEntity.ok(ApiResponse.success("Search index rebuilt", documents));
+    }
+}
@@ -3,11 +3,15 @@ package com.jci.zodiac.controller;
 import com.jci.zodiac.dto.request.BulkUpdateSettingsRequest;
 import com.jci.zodiac.dto.request.CreateSettingRequest;
 import com.jci.zodiac.dto.request.UpdateSettingRequest;
+import com.jci.zodiac.dto.response.CursorPageResponse;
+import com.jci.zodiac.dto.response.ImportValidationReport;
 import com.jci.zodiac.dto.response.SettingResponse;
 import com.jci.zodiac.dto.response.SettingsByCategoryResponse;
 import com.jci.zodiac.entity.Setting;
 import com.jci.zodiac.service.DataExportService;
 import com.jci.zodiac.service.DataImportService;
+import com.jci.zodiac.service.DataRestoreService;
+import com.jci.zodiac.service.ImportDryRunService;
 import com.jci.zodiac.service.SettingsService;
 import com.jci.zodiac.util.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +26,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -40,6 +45,8 @@ public class SettingsController {
     private final SettingsService settingsService;
     private final DataExportService dataExportService;
     private final DataImportService dataImportService;
+    private final DataRestoreService dataRestoreService;
+    private final ImportDryRunService importDryRunService;
 
     // ==================== Basic CRUD Operations ====================
 
@@ -107,6 +114,24 @@ public class SettingsController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Get all settings (cursor pagination)
+     * GET /api/settings/cursor
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Get all settings (cursor)", description = "Settings ordered by id; pass nextCursor as cursor for the next page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<SettingResponse>>> getAllSettingsByCursor(
+            @Parameter(description = "nextCursor from the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        log.info("REST request to get settings, cursor: {}", cursor);
+
+        CursorPageResponse<SettingResponse> response = settingsService.getAllSettings(cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Get public settings only
      * GET /api/settings/public
@@ -233,39 +258,43 @@ public class SettingsController {
     // ==================== Data Export/Import Operations ====================
 
     /**
-     * Export all data to JSON
+     * Export all data to JSON (streamed; gzip=true compresses on the fly)
      * GET /api/settings/export/json
      */
     @GetMapping("/export/json")
-    @Operation(summary = "Export data to JSON", description = "Export all system data as JSON file")
-    public ResponseEntity<byte[]> exportDataToJson() {
+    @Operation(summary = "Export data to JSON", description = "Stream all system data as JSON file")
+    public ResponseEntity<StreamingResponseBody> exportDataToJson(
+            @Parameter(description = "Gzip the response (Content-Encoding: gzip)") @RequestParam(defaultValue = "false") boolean gzip) {
         log.info("REST request to export data to JSON");
 
-        byte[] jsonData = dataExportService.exportAllDataToJson();
-
-        return ResponseEntity.ok()
+        StreamingResponseBody body = out -> dataExportService.writeAllDataToJson(out, gzip);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION,
                         "attachment; filename=\"zodiac_hr_backup_" + System.currentTimeMillis() + ".json\"")
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(jsonData);
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return response.body(body);
     }
 
     /**
-     * Export all data to Excel
+     * Export all data to Excel (streamed)
      * GET /api/settings/export/excel
      */
     @GetMapping("/export/excel")
-    @Operation(summary = "Export data to Excel", description = "Export all system data as Excel file")
-    public ResponseEntity<byte[]> exportDataToExcel() {
+    @Operation(summary = "Export data to Excel", description = "Stream all system data as Excel file")
+    public ResponseEntity<StreamingResponseBody> exportDataToExcel() {
         log.info("REST request to export data to Excel");
 
-        byte[] excelData = dataExportService.exportAllDataToExcel();
+        StreamingResponseBody body = dataExportService::writeAllDataToExcel;
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION,
                         "attachment; filename=\"zodiac_hr_backup_" + System.currentTimeMillis() + ".xlsx\"")
                 .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(excelData);
+                .body(body);
     }
 
     /**
@@ -312,7 +341,48 @@ public class SettingsController {
 
         Map<String, Object> result = dataImportService.importDataFromJson(file);
 
-        return ResponseEntity.ok(ApiResponse.success("Data imported successfully", result));
+        return ResponseEntity.ok(ApiResponse.success(restoreMessage(result), result));
+    }
+
+    /**
+     * Resume a failed JSON import after its last committed chunk
+     * POST /api/settings/import/json/{restoreId}/resume
+     */
+    @PostMapping("/import/json/{restoreId}/resume")
+    @Operation(summary = "Resume JSON import", description = "Continue a failed JSON import where it stopped")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> resumeJsonImport(
+            @Parameter(description = "Restore ID returned by the import") @PathVariable String restoreId) {
+
+        log.info("REST request to resume JSON import: {}", restoreId);
+
+        Map<String, Object> result = dataRestoreService.resume(restoreId);
+
+        return ResponseEntity.ok(ApiResponse.success(restoreMessage(result), result));
+    }
+
+    /**
+     * Validate a JSON backup without importing it (dry run)
+     * POST /api/settings/import/json/validate
+     */
+    @PostMapping(value = "/import/json/validate", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Validate JSON import", description = "Dry run: check the members of a JSON backup without writing anything")
+    public ResponseEntity<ApiResponse<ImportValidationReport>> validateJsonImport(
+            @Parameter(description = "JSON backup file") @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Error page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Errors per page (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        log.info("REST request to validate JSON import: {}", file.getOriginalFilename());
+
+        if (file.isEmpty()) {
+            return ResponseEntity
+                    .badRequest()
+                    .body(ApiResponse.error("File is empty"));
+        }
+
+        ImportValidationReport report = importDryRunService.validateJson(file, page, size);
+
+        return ResponseEntity.ok(ApiResponse.success(
+                report.isValid() ? "File is valid" : report.getInvalidRows() + " invalid row(s) found", report));
     }
 
     /**
@@ -390,4 +460,10 @@ public class SettingsController {
 
         return ResponseEntity.ok(ApiResponse.success("System information retrieved", systemInfo));
     }
-}
\ No newline at end of file
+
+    private String restoreMessage(Map<String, Object> result) {
+        return Boolean.TRUE.equals(result.get("success"))
+                ? "Data imported successfully"
+                : "Data import stopped; resume with restoreId " + result.get("restoreId");
+    }
+}
@@ -3,6 +3,7 @@ package com.jci.zodiac.controller;
 import com.jci.zodiac.dto.request.AddTeamMemberRequest;
 import com.jci.zodiac.dto.request.CreateTeamRequest;
 import com.jci.zodiac.dto.request.UpdateTeamRequest;
+import com.jci.zodiac.dto.response.CursorPageResponse;
 import com.jci.zodiac.dto.response.TeamAnalyticsResponse;
 import com.jci.zodiac.dto.response.TeamMemberResponse;
 import com.jci.zodiac.dto.response.TeamResponse;
@@ -83,6 +84,24 @@ public class TeamController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Get all teams (cursor pagination)
+     * GET /api/teams/cursor
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Get all teams (cursor)", description = "Teams ordered by id; pass nextCursor as cursor for the next page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TeamSummaryResponse>>> getAllTeamsByCursor(
+            @Parameter(description = "nextCursor from the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        log.info("REST request to get teams, cursor: {}", cursor);
+
+        CursorPageResponse<TeamSummaryResponse> response = teamService.getAllTeams(cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Get active teams
      * GET /api/teams/active
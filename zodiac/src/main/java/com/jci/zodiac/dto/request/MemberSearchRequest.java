@@ -35,4 +35,7 @@ public class MemberSearchRequest {
     private String sortBy = "createdAt";
 
     private String sortDirection = "DESC"; // ASC or DESC
+
+    // Keyset pagination (search/cursor): nextCursor of the previous page, null for the first page
+    private String cursor;
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.jci.zodiac.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a cursor (keyset) paginated list
+ * Pass nextCursor back as "cursor" to get the following page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+
+    private Integer size;
+
+    private Boolean hasNext;
+
+    private String nextCursor; // null on the last page
+}
@@ -16,7 +16,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class DashboardOverviewResponse {
+public class DashboardOverviewResponse implements DegradableResponse {
 
     // Quick Stats
     private QuickStats quickStats;
@@ -33,6 +33,9 @@ public class DashboardOverviewResponse {
     // Alerts
     private List<String> alerts;
 
+    // Sections that timed out or failed (null when the overview is complete)
+    private List<String> degradedSections;
+
     @Data
     @AllArgsConstructor
     @NoArgsConstructor
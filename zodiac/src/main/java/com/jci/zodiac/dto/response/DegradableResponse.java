@@ -0,0 +1,15 @@
+package com.jci.zodiac.dto.response;
+
+import java.util.List;
+
+/**
+ * Response assembled from independent sections, some of which may have fallen back
+ * Degraded responses are neither cached nor tagged with an ETag.
+ */
+public interface DegradableResponse {
+
+    /**
+     * Sections that timed out or failed (null when the response is complete)
+     */
+    List<String> getDegradedSections();
+}
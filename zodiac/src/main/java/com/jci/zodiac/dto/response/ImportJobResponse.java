@@ -0,0 +1,49 @@
+package com.jci.zodiac.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for background import job status
+ * Carries counts only; rejected rows are in the downloadable error file (errorFileUrl)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJobResponse {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private String jobId;
+    private String fileName;
+    private String format;
+    private Status status;
+
+    private long totalRows;
+    private long processedRows;
+    private long successfulImports;
+    private long failedImports;
+    private long skippedRows;
+
+    private String errorFileUrl;
+    private String message;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public double getSuccessRate() {
+        if (totalRows == 0) return 0.0;
+        return (double) successfulImports / totalRows * 100;
+    }
+}
@@ -0,0 +1,48 @@
+package com.jci.zodiac.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a dry-run import validation
+ * Counts cover the whole file; errors holds one page of rejected rows in file order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportValidationReport {
+
+    private String fileName;
+    private String format;
+
+    private long totalRows;
+    private long validRows;
+    /** JSON backups: rows whose member code already exists (or repeats in the file); restore links them */
+    private long linkedRows;
+    private long invalidRows;
+    private long skippedRows;
+
+    private int page;
+    private int size;
+    private int totalPages;
+    private List<RowError> errors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private String field;
+        private String value;
+        private String message;
+    }
+
+    public boolean isValid() {
+        return invalidRows == 0;
+    }
+}
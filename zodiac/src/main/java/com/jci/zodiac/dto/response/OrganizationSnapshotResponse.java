@@ -0,0 +1,42 @@
+package com.jci.zodiac.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * DTO for one daily organization snapshot (trend data point)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganizationSnapshotResponse {
+
+    private LocalDate snapshotDate;
+
+    // Headcounts
+    private Integer totalMembers;
+    private Integer activeMembers;
+    private Integer inactiveMembers;
+    private Integer onLeaveMembers;
+    private Integer alumniMembers;
+    private Integer totalDepartments;
+    private Integer activeTeams;
+
+    // Zodiac mix of active members
+    private Map<String, Long> signDistribution;
+    private Map<String, Long> elementDistribution;
+
+    // Compatibility
+    private BigDecimal averageCompatibility;
+    private Integer excellentPairs;
+    private Integer goodPairs;
+    private Integer conflictPairs;
+    private Integer criticalConflicts;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -16,7 +17,7 @@ import java.util.Map;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class OrganizationStatisticsResponse {
+public class OrganizationStatisticsResponse implements DegradableResponse {
 
     // Member Statistics
     private MemberStats memberStats;
@@ -33,6 +34,9 @@ public class OrganizationStatisticsResponse {
     // Compatibility Statistics
     private CompatibilityStats compatibilityStats;
 
+    // Sections that timed out or failed (null when the statistics are complete)
+    private List<String> degradedSections;
+
     @Data
     @AllArgsConstructor
     @NoArgsConstructor
@@ -0,0 +1,32 @@
+package com.jci.zodiac.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for organization trends (one snapshot per month)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganizationTrendResponse {
+
+    private Integer months;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    // Last snapshot of each month, oldest first
+    private List<OrganizationSnapshotResponse> points;
+
+    // Change between first and last point
+    private Integer activeMemberChange;
+    private BigDecimal compatibilityChange;
+    private String compatibilityTrend; // UP, DOWN, STABLE
+}
@@ -0,0 +1,36 @@
+package com.jci.zodiac.dto.response;
+
+import com.jci.zodiac.service.SearchIndexService;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for unified search results (members, notes, settings, zodiac profiles)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultResponse {
+
+    private String query;
+    private Integer totalHits;
+    private Long tookMs;
+    private List<Hit> hits; // Best match first
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Hit {
+        private SearchIndexService.DocumentType type;
+        private Long id;
+        private String title;       // e.g., member name, note title, setting key
+        private String subtitle;    // e.g., member code + position
+        private Double score;
+    }
+}
@@ -1,5 +1,6 @@
 package com.jci.zodiac.entity;
 
+import com.jci.zodiac.event.DataVersionEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -16,6 +17,7 @@ import java.time.LocalDateTime;
         @Index(name = "idx_is_active", columnList = "is_active"),
         @Index(name = "idx_zodiac_theme", columnList = "zodiac_theme")
 })
+@EntityListeners(DataVersionEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
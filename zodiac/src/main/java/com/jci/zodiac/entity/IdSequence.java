@@ -0,0 +1,31 @@
+package com.jci.zodiac.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * IdSequence Entity - Named counters handed out in blocks (hi/lo)
+ * next_value is the first value not yet reserved by any app node.
+ */
+@Entity
+@Table(name = "id_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdSequence {
+
+    /** Sequence behind member codes (JCI-DN-XXX) */
+    public static final String MEMBER_CODE = "member_code";
+
+    /** Data version behind ETags and cache keys (DataVersionService), bumped by one per write */
+    public static final String DATA_VERSION = "data_version";
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
@@ -1,5 +1,11 @@
 package com.jci.zodiac.entity;
 
+import com.jci.zodiac.event.DataVersionEntityListener;
+import com.jci.zodiac.event.MemberChangedEvent;
+import com.jci.zodiac.event.MemberEntityListener;
+import com.jci.zodiac.event.SearchIndexEntityListener;
+import com.jci.zodiac.util.BirthdayDates;
+import com.jci.zodiac.util.SearchTextNormalizer;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -22,8 +28,16 @@ import java.util.List;
         @Index(name = "idx_zodiac_sign", columnList = "zodiac_sign"),
         @Index(name = "idx_zodiac_element", columnList = "zodiac_element"),
         @Index(name = "idx_status", columnList = "membership_status"),
-        @Index(name = "idx_join_date", columnList = "join_date")
+        @Index(name = "idx_join_date", columnList = "join_date"),
+        @Index(name = "idx_members_status_created", columnList = "membership_status, created_at, id"),
+        @Index(name = "idx_members_sign_status_created", columnList = "zodiac_sign, membership_status, created_at, id"),
+        @Index(name = "idx_members_element_status_created", columnList = "zodiac_element, membership_status, created_at, id"),
+        @Index(name = "idx_members_department_status_created", columnList = "department_id, membership_status, created_at, id"),
+        @Index(name = "idx_members_created", columnList = "created_at, id"),
+        @Index(name = "idx_members_full_name", columnList = "full_name, id"),
+        @Index(name = "idx_members_status_birthday", columnList = "membership_status, birth_month_day")
 })
+@EntityListeners({MemberEntityListener.class, DataVersionEntityListener.class, SearchIndexEntityListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -50,6 +64,11 @@ public class Member {
     @Column(name = "date_of_birth", nullable = false)
     private LocalDate dateOfBirth;
 
+    // MMDD of dateOfBirth (e.g. 1225), derived on save for indexed birthday range queries
+    @Column(name = "birth_month_day", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private Integer birthMonthDay;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "zodiac_sign", nullable = false, length = 20)
     private ZodiacSign zodiacSign;
@@ -74,6 +93,10 @@ public class Member {
     @Builder.Default
     private MembershipStatus membershipStatus = MembershipStatus.Active;
 
+    // Day the member last left (Inactive/Alumni), kept through later edits; null while not left
+    @Column(name = "left_date")
+    private LocalDate leftDate;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "membership_type", length = 20)
     @Builder.Default
@@ -84,6 +107,7 @@ public class Member {
     @Column(name = "avatar_url", length = 500)
     private String avatarUrl;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String address;
 
@@ -105,11 +129,18 @@ public class Member {
     @Column(length = 100)
     private String company;
 
+    // Search index tokens of name, code, email, position and company, derived on save for keyword matching in SQL
+    @Column(name = "search_text", nullable = false, length = 500)
+    @Setter(AccessLevel.NONE)
+    private String searchText;
+
 // ==================== Metadata ====================
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    @Basic(fetch = FetchType.LAZY)
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(columnDefinition = "JSON")
     private List<String> tags;
@@ -126,6 +157,12 @@ public class Member {
     @Builder.Default
     private Long createdBy = 1L; // Always created by VP (user id = 1)
 
+    // State as last loaded from / written to the database (for change events)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private MemberChangedEvent.MemberState persistentState;
+
     // ==================== Enums ====================
 
     public enum ZodiacSign {
@@ -138,7 +175,14 @@ public class Member {
     }
 
     public enum MembershipStatus {
-        Active, Inactive, OnLeave, Alumni
+        Active, Inactive, OnLeave, Alumni;
+
+        /**
+         * Inactive and Alumni members count as having left the club
+         */
+        public boolean hasLeft() {
+            return this == Inactive || this == Alumni;
+        }
     }
 
     public enum MembershipType {
@@ -182,6 +226,20 @@ public class Member {
         return java.time.temporal.ChronoUnit.DAYS.between(this.joinDate, LocalDate.now());
     }
 
+    /**
+     * State as last loaded from / written to the database (null for new entities)
+     */
+    public MemberChangedEvent.MemberState persistentState() {
+        return persistentState;
+    }
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    protected void rememberPersistentState() {
+        this.persistentState = MemberChangedEvent.MemberState.of(this);
+    }
+
     @PrePersist
     protected void onCreate() {
         if (this.membershipStatus == null) {
@@ -193,6 +251,34 @@ public class Member {
         if (this.city == null) {
             this.city = "Da Nang";
         }
+        syncDerivedColumns();
+    }
+
+    @PreUpdate
+    protected void syncDerivedColumns() {
+        if (this.dateOfBirth != null) {
+            this.birthMonthDay = BirthdayDates.monthDay(this.dateOfBirth);
+        }
+        this.leftDate = leftDateFor(this.membershipStatus, this.leftDate, LocalDate.now());
+        this.searchText = keywordText();
+    }
+
+    /**
+     * Normalized keyword tokens of the searchable columns, as stored in search_text
+     */
+    public String keywordText() {
+        return SearchTextNormalizer.tokenText(fullName, memberCode, email, position, company);
+    }
+
+    /**
+     * leftDate after moving to {@code status}: kept while the member stays left, {@code today} when
+     * they leave, cleared when they come back
+     */
+    public static LocalDate leftDateFor(MembershipStatus status, LocalDate leftDate, LocalDate today) {
+        if (status == null || !status.hasLeft()) {
+            return null;
+        }
+        return leftDate != null ? leftDate : today;
     }
 
     @Override
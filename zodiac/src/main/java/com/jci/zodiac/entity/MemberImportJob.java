@@ -0,0 +1,81 @@
+package com.jci.zodiac.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * MemberImportJob Entity - State of a background member import
+ * Written by the node running the job after each batch, read by whichever node serves the
+ * status request. Rejected rows are in member_import_errors.
+ */
+@Entity
+@Table(name = "member_import_jobs", indexes = {
+        @Index(name = "idx_import_job_updated", columnList = "updated_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberImportJob {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(nullable = false, length = 10)
+    private String format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.QUEUED;
+
+    @Column(name = "total_rows", nullable = false)
+    @Builder.Default
+    private Long totalRows = 0L;
+
+    @Column(name = "processed_rows", nullable = false)
+    @Builder.Default
+    private Long processedRows = 0L;
+
+    @Column(name = "successful_imports", nullable = false)
+    @Builder.Default
+    private Long successfulImports = 0L;
+
+    @Column(name = "failed_imports", nullable = false)
+    @Builder.Default
+    private Long failedImports = 0L;
+
+    @Column(name = "skipped_rows", nullable = false)
+    @Builder.Default
+    private Long skippedRows = 0L;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,59 @@
+package com.jci.zodiac.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * MembershipMonthlyRollup Entity - Joins/leaves per month x sign x element x department
+ * Maintained incrementally on member writes, rebuilt from members by MembershipRollupService
+ */
+@Entity
+@Table(name = "membership_monthly_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rollup_bucket",
+                columnNames = {"period_month", "zodiac_sign", "zodiac_element", "department_id"}),
+        indexes = @Index(name = "idx_rollup_month", columnList = "period_month"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MembershipMonthlyRollup {
+
+    /** department_id value used for members without a department */
+    public static final long NO_DEPARTMENT = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "period_month", nullable = false)
+    private LocalDate periodMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "zodiac_sign", nullable = false, length = 20)
+    private Member.ZodiacSign zodiacSign;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "zodiac_element", nullable = false, length = 10)
+    private Member.ZodiacElement zodiacElement;
+
+    @Column(name = "department_id", nullable = false)
+    @Builder.Default
+    private Long departmentId = NO_DEPARTMENT;
+
+    @Column(name = "join_count", nullable = false)
+    @Builder.Default
+    private Integer joinCount = 0;
+
+    @Column(name = "leave_count", nullable = false)
+    @Builder.Default
+    private Integer leaveCount = 0;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
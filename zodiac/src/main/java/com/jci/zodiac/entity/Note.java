@@ -1,5 +1,7 @@
 package com.jci.zodiac.entity;
 
+import com.jci.zodiac.event.DataVersionEntityListener;
+import com.jci.zodiac.event.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -19,6 +21,7 @@ import java.util.List;
         @Index(name = "idx_member", columnList = "member_id"),
         @Index(name = "idx_important", columnList = "is_important")
 })
+@EntityListeners({DataVersionEntityListener.class, SearchIndexEntityListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
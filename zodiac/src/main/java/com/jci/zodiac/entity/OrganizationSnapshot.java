@@ -0,0 +1,92 @@
+package com.jci.zodiac.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * OrganizationSnapshot Entity - Daily summary of headcounts, zodiac mix and compatibility
+ * Written once a day by OrganizationSnapshotService, read for trends
+ */
+@Entity
+@Table(name = "organization_snapshots")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganizationSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "snapshot_date", nullable = false, unique = true)
+    private LocalDate snapshotDate;
+
+    // ==================== Headcounts ====================
+
+    @Column(name = "total_members", nullable = false)
+    private Integer totalMembers;
+
+    @Column(name = "active_members", nullable = false)
+    private Integer activeMembers;
+
+    @Column(name = "inactive_members", nullable = false)
+    private Integer inactiveMembers;
+
+    @Column(name = "on_leave_members", nullable = false)
+    private Integer onLeaveMembers;
+
+    @Column(name = "alumni_members", nullable = false)
+    private Integer alumniMembers;
+
+    @Column(name = "total_departments", nullable = false)
+    private Integer totalDepartments;
+
+    @Column(name = "active_teams", nullable = false)
+    private Integer activeTeams;
+
+    // ==================== Zodiac Mix (active members) ====================
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "sign_histogram", columnDefinition = "JSON")
+    private Map<String, Long> signHistogram;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "element_histogram", columnDefinition = "JSON")
+    private Map<String, Long> elementHistogram;
+
+    // ==================== Compatibility ====================
+
+    @Column(name = "average_compatibility", precision = 5, scale = 2)
+    private BigDecimal averageCompatibility;
+
+    @Column(name = "excellent_pairs", nullable = false)
+    private Integer excellentPairs;
+
+    @Column(name = "good_pairs", nullable = false)
+    private Integer goodPairs;
+
+    @Column(name = "conflict_pairs", nullable = false)
+    private Integer conflictPairs;
+
+    @Column(name = "critical_conflicts", nullable = false)
+    private Integer criticalConflicts;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
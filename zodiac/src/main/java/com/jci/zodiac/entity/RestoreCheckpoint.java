@@ -0,0 +1,79 @@
+package com.jci.zodiac.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * RestoreCheckpoint Entity - Progress of a streaming JSON backup restore
+ * Advanced in the same transaction as each restored chunk, so it always points just past
+ * the last committed row; a failed restore resumes from here.
+ */
+@Entity
+@Table(name = "restore_checkpoints", indexes = {
+        @Index(name = "idx_restore_status", columnList = "status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RestoreCheckpoint {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    /** Spooled upload, kept until the restore completes */
+    @Column(name = "spool_path", nullable = false, length = 500)
+    private String spoolPath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.RUNNING;
+
+    /** Backup section being restored (settings, departments, members, ...) */
+    @Column(nullable = false, length = 30)
+    private String section;
+
+    /** Rows of the current section already committed */
+    @Column(name = "section_rows", nullable = false)
+    @Builder.Default
+    private Long sectionRows = 0L;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "imported_counts", columnDefinition = "JSON")
+    @Builder.Default
+    private Map<String, Integer> importedCounts = new HashMap<>();
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "failed_counts", columnDefinition = "JSON")
+    @Builder.Default
+    private Map<String, Integer> failedCounts = new HashMap<>();
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+}
@@ -1,5 +1,7 @@
 package com.jci.zodiac.entity;
 
+import com.jci.zodiac.event.DataVersionEntityListener;
+import com.jci.zodiac.event.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -17,6 +19,7 @@ import java.time.LocalDateTime;
         @Index(name = "idx_category", columnList = "category"),
         @Index(name = "idx_public", columnList = "is_public")
 })
+@EntityListeners({DataVersionEntityListener.class, SearchIndexEntityListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.jci.zodiac.entity;
 
+import com.jci.zodiac.event.DataVersionEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -22,6 +23,7 @@ import java.util.Map;
         @Index(name = "idx_team_type", columnList = "team_type"),
         @Index(name = "idx_dates", columnList = "start_date, end_date")
 })
+@EntityListeners(DataVersionEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.jci.zodiac.entity;
 
+import com.jci.zodiac.event.DataVersionEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -21,6 +22,7 @@ import java.time.LocalDateTime;
                 @Index(name = "idx_active", columnList = "is_active")
         }
 )
+@EntityListeners(DataVersionEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.jci.zodiac.entity;
 
+import com.jci.zodiac.event.DataVersionEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -23,6 +24,7 @@ import java.time.LocalDateTime;
                 @Index(name = "idx_compatibility", columnList = "compatibility_level")
         }
 )
+@EntityListeners(DataVersionEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -65,12 +67,15 @@ public class ZodiacCompatibility {
     @Column(name = "compatibility_level", length = 20)
     private CompatibilityLevel compatibilityLevel;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "strengths_together", columnDefinition = "TEXT")
     private String strengthsTogether;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "challenges_together", columnDefinition = "TEXT")
     private String challengesTogether;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "management_tips", columnDefinition = "TEXT")
     private String managementTips;
 
@@ -1,5 +1,7 @@
 package com.jci.zodiac.entity;
 
+import com.jci.zodiac.event.DataVersionEntityListener;
+import com.jci.zodiac.event.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -20,6 +22,7 @@ import java.util.Map;
         @Index(name = "idx_element", columnList = "element"),
         @Index(name = "idx_modality", columnList = "modality")
 })
+@EntityListeners({DataVersionEntityListener.class, SearchIndexEntityListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -75,57 +78,71 @@ public class ZodiacProfile {
 
     // ==================== Personality & Traits (JSON) ====================
 
+    @Basic(fetch = FetchType.LAZY)
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "personality_traits", nullable = false, columnDefinition = "JSON")
     private List<String> personalityTraits;
 
+    @Basic(fetch = FetchType.LAZY)
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(nullable = false, columnDefinition = "JSON")
     private List<String> strengths;
 
+    @Basic(fetch = FetchType.LAZY)
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(nullable = false, columnDefinition = "JSON")
     private List<String> weaknesses;
 
+    @Basic(fetch = FetchType.LAZY)
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "work_style", nullable = false, columnDefinition = "JSON")
     private List<String> workStyle;
 
+    @Basic(fetch = FetchType.LAZY)
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "best_roles", columnDefinition = "JSON")
     private List<String> bestRoles;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "communication_style", columnDefinition = "TEXT")
     private String communicationStyle;
 
+    @Basic(fetch = FetchType.LAZY)
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "motivation_factors", columnDefinition = "JSON")
     private List<String> motivationFactors;
 
+    @Basic(fetch = FetchType.LAZY)
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "stress_triggers", columnDefinition = "JSON")
     private List<String> stressTriggers;
 
     // ==================== Leadership & Teamwork ====================
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "leadership_style", columnDefinition = "TEXT")
     private String leadershipStyle;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "team_contribution", columnDefinition = "TEXT")
     private String teamContribution;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "conflict_resolution_style", columnDefinition = "TEXT")
     private String conflictResolutionStyle;
 
     // ==================== Additional Info ====================
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "description_long", columnDefinition = "TEXT")
     private String descriptionLong;
 
+    @Basic(fetch = FetchType.LAZY)
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "famous_people", columnDefinition = "JSON")
     private List<String> famousPeople;
 
+    @Basic(fetch = FetchType.LAZY)
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "custom_attributes", columnDefinition = "JSON")
     private Map<String, Object> customAttributes;
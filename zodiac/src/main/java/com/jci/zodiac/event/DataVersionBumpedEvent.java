@@ -0,0 +1,9 @@
+package com.jci.zodiac.event;
+
+/**
+ * DataVersionBumpedEvent - Published once this node's bump of the shared data version has committed
+ * The bump moved the version from {@code version - 1} to {@code version}; any other gap was left
+ * by writes on other nodes.
+ */
+public record DataVersionBumpedEvent(long version) {
+}
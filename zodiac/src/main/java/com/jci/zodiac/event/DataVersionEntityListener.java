@@ -0,0 +1,28 @@
+package com.jci.zodiac.event;
+
+import com.jci.zodiac.service.DataVersionService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * DataVersionEntityListener - Bumps the data version after any insert / update / delete
+ * Registered on Member, Department, Team, TeamMember and ZodiacCompatibility, and on the searchable
+ * Note, Setting and ZodiacProfile so every node's search index notices their changes.
+ * Bulk JPQL / JDBC writes bypass JPA callbacks and must call DataVersionService themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataVersionEntityListener {
+
+    private final DataVersionService dataVersionService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void afterWrite(Object entity) {
+        dataVersionService.bumpAfterCommit();
+    }
+}
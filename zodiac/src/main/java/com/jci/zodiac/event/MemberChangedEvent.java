@@ -0,0 +1,50 @@
+package com.jci.zodiac.event;
+
+import com.jci.zodiac.entity.Member;
+
+import java.time.LocalDate;
+
+/**
+ * MemberChangedEvent - Published after a member row is inserted, updated or deleted
+ * before is null for CREATED, after is null for DELETED
+ */
+public record MemberChangedEvent(ChangeType type, MemberState before, MemberState after) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    /**
+     * The member columns that derived data (rollups, indexes, caches) depend on
+     */
+    public record MemberState(
+            Long id,
+            LocalDate dateOfBirth,
+            LocalDate joinDate,
+            Member.ZodiacSign zodiacSign,
+            Member.ZodiacElement zodiacElement,
+            Long departmentId,
+            Member.MembershipStatus membershipStatus,
+            LocalDate leftDate
+    ) {
+        public static MemberState of(Member member) {
+            return new MemberState(
+                    member.getId(),
+                    member.getDateOfBirth(),
+                    member.getJoinDate(),
+                    member.getZodiacSign(),
+                    member.getZodiacElement(),
+                    member.getDepartmentId(),
+                    member.getMembershipStatus(),
+                    member.getLeftDate()
+            );
+        }
+
+        /**
+         * Inactive and Alumni members count as having left the club
+         */
+        public boolean hasLeft() {
+            return membershipStatus != null && membershipStatus.hasLeft();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.jci.zodiac.event;
+
+import com.jci.zodiac.entity.Member;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * MemberEntityListener - Turns JPA lifecycle callbacks on Member into MemberChangedEvents
+ * Covers every write path (services, bulk operations, imports, seeders) in one place.
+ * Listeners should use @TransactionalEventListener so they only see committed changes.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void afterInsert(Member member) {
+        eventPublisher.publishEvent(new MemberChangedEvent(
+                MemberChangedEvent.ChangeType.CREATED, null, MemberChangedEvent.MemberState.of(member)));
+    }
+
+    @PostUpdate
+    public void afterUpdate(Member member) {
+        eventPublisher.publishEvent(new MemberChangedEvent(
+                MemberChangedEvent.ChangeType.UPDATED, member.persistentState(), MemberChangedEvent.MemberState.of(member)));
+    }
+
+    @PostRemove
+    public void afterDelete(Member member) {
+        MemberChangedEvent.MemberState before = member.persistentState() != null
+                ? member.persistentState()
+                : MemberChangedEvent.MemberState.of(member);
+        eventPublisher.publishEvent(new MemberChangedEvent(
+                MemberChangedEvent.ChangeType.DELETED, before, null));
+    }
+}
@@ -0,0 +1,11 @@
+package com.jci.zodiac.event;
+
+import java.util.List;
+
+/**
+ * MembersChangedEvent - One event for a batch of member changes written with bulk SQL/JDBC
+ * Bulk writes bypass the JPA callbacks, so they publish this instead of one MemberChangedEvent per row.
+ * Listeners should use @TransactionalEventListener so they only see committed changes.
+ */
+public record MembersChangedEvent(List<MemberChangedEvent> changes) {
+}
@@ -0,0 +1,31 @@
+package com.jci.zodiac.event;
+
+import com.jci.zodiac.service.SearchIndexService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * SearchIndexEntityListener - Keeps the search index in sync with committed writes
+ * Registered on Member, Note, Setting and ZodiacProfile.
+ * Bulk JPQL / JDBC writes bypass JPA callbacks and must reindex themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexEntityListener {
+
+    private final SearchIndexService searchIndexService;
+
+    @PostPersist
+    @PostUpdate
+    public void afterSave(Object entity) {
+        searchIndexService.indexAfterCommit(entity);
+    }
+
+    @PostRemove
+    public void afterRemove(Object entity) {
+        searchIndexService.removeAfterCommit(entity);
+    }
+}
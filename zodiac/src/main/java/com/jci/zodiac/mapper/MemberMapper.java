@@ -5,6 +5,8 @@ import com.jci.zodiac.dto.request.UpdateMemberRequest;
 import com.jci.zodiac.dto.response.MemberResponse;
 import com.jci.zodiac.dto.response.MemberSummaryResponse;
 import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.repository.MemberSummaryView;
+import com.jci.zodiac.util.BirthdayDates;
 import com.jci.zodiac.util.ZodiacCalculator;
 import org.springframework.stereotype.Component;
 
@@ -205,6 +207,37 @@ public class MemberMapper {
                 .build();
     }
 
+    /**
+     * Convert a summary projection to MemberSummaryResponse (same fields as the entity overload)
+     */
+    public MemberSummaryResponse toSummaryResponse(MemberSummaryView view) {
+        if (view == null) {
+            return null;
+        }
+
+        return MemberSummaryResponse.builder()
+                .id(view.getId())
+                .memberCode(view.getMemberCode())
+                .fullName(view.getFullName())
+                .email(view.getEmail())
+                .position(view.getPosition())
+                .zodiacSign(view.getZodiacSign().name())
+                .zodiacElement(view.getZodiacElement().name())
+                .zodiacSymbol(ZodiacCalculator.getSymbol(view.getZodiacSign()))
+                .elementSymbol(ZodiacCalculator.getElementSymbol(view.getZodiacElement()))
+                .avatarUrl(view.getAvatarUrl())
+                .membershipStatus(view.getMembershipStatus().name())
+                .joinDate(view.getJoinDate())
+                .isActive(view.getMembershipStatus() == Member.MembershipStatus.Active)
+                .departmentId(view.getDepartmentId())
+                // Computed fields
+                .age(calculateAge(view.getDateOfBirth()))
+                .daysSinceJoined(calculateDaysSinceJoined(view.getJoinDate()))
+                .isBirthdayToday(isBirthdayToday(view.getDateOfBirth()))
+                .isBirthdayThisWeek(isBirthdayThisWeek(view.getDateOfBirth()))
+                .build();
+    }
+
     // ==================== Helper Methods ====================
 
     private Integer calculateAge(LocalDate dateOfBirth) {
@@ -219,33 +252,17 @@ public class MemberMapper {
 
     private Boolean isBirthdayToday(LocalDate dateOfBirth) {
         if (dateOfBirth == null) return false;
-        LocalDate today = LocalDate.now();
-        return dateOfBirth.getMonth() == today.getMonth() &&
-                dateOfBirth.getDayOfMonth() == today.getDayOfMonth();
+        return BirthdayDates.daysUntil(dateOfBirth, LocalDate.now()) == 0;
     }
 
     private Boolean isBirthdayThisWeek(LocalDate dateOfBirth) {
         if (dateOfBirth == null) return false;
-        LocalDate today = LocalDate.now();
-        LocalDate nextWeek = today.plusDays(7);
-
-        LocalDate birthdayThisYear = LocalDate.of(today.getYear(),
-                dateOfBirth.getMonth(), dateOfBirth.getDayOfMonth());
-
-        return !birthdayThisYear.isBefore(today) && !birthdayThisYear.isAfter(nextWeek);
+        return BirthdayDates.daysUntil(dateOfBirth, LocalDate.now()) <= 7;
     }
 
     private Integer calculateDaysUntilBirthday(LocalDate dateOfBirth) {
         if (dateOfBirth == null) return null;
-        LocalDate today = LocalDate.now();
-        LocalDate nextBirthday = LocalDate.of(today.getYear(),
-                dateOfBirth.getMonth(), dateOfBirth.getDayOfMonth());
-
-        if (nextBirthday.isBefore(today)) {
-            nextBirthday = nextBirthday.plusYears(1);
-        }
-
-        return (int) ChronoUnit.DAYS.between(today, nextBirthday);
+        return (int) BirthdayDates.daysUntil(dateOfBirth, LocalDate.now());
     }
 
     private String getElementDescription(Member.ZodiacElement element) {
@@ -1,19 +1,27 @@
 package com.jci.zodiac.repository;
 
 import com.jci.zodiac.entity.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * DepartmentRepository - Department data access
  */
 @Repository
-public interface DepartmentRepository extends JpaRepository<Department, Long> {
+public interface DepartmentRepository extends JpaRepository<Department, Long>,
+        JpaSpecificationExecutor<Department> {
 
     Optional<Department> findByCode(String code);
 
@@ -36,4 +44,40 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
 
     @Query("SELECT d FROM Department d WHERE d.leadMemberId = :memberId")
     List<Department> findByLeadMemberId(@Param("memberId") Long memberId);
-}
\ No newline at end of file
+
+    Optional<Department> findFirstByOrderByMemberCountDesc();
+
+    /**
+     * (code, id) of the departments with the given codes
+     */
+    @Query("SELECT d.code, d.id FROM Department d WHERE d.code IN :codes")
+    List<Object[]> findIdsByCodeIn(@Param("codes") Collection<String> codes);
+
+    /**
+     * Add (or subtract) to the member counter in place, never below zero
+     */
+    @Modifying
+    @Query("UPDATE Department d SET d.memberCount = CASE WHEN COALESCE(d.memberCount, 0) + :delta < 0 THEN 0 " +
+            "ELSE COALESCE(d.memberCount, 0) + :delta END WHERE d.id = :id")
+    int adjustMemberCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Single-row summary: total, active, with leader, without members
+     */
+    @Query("SELECT COUNT(d), " +
+            "SUM(CASE WHEN d.isActive = true THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN d.leadMemberId IS NOT NULL THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN d.memberCount = 0 THEN 1 ELSE 0 END) " +
+            "FROM Department d")
+    List<Object[]> summarizeDepartments();
+
+    /**
+     * All rows in id order as a forward-only stream (MySQL row streaming); close it and read it inside a transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT d FROM Department d ORDER BY d.id")
+    Stream<Department> streamAll();
+}
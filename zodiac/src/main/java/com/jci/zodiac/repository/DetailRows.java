@@ -0,0 +1,30 @@
+package com.jci.zodiac.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+/**
+ * DetailRows - Entities of the "WithDetails" list queries
+ * Those queries select the lazy columns next to the entity. Setting a lazy attribute from the row
+ * marks it loaded without a select, but on a managed entity it is also a change that a flush would
+ * write back, so the entity is detached first.
+ */
+public final class DetailRows {
+
+    private DetailRows() {
+    }
+
+    /**
+     * Detach an entity the read-only query just loaded, so its lazy attributes can be set
+     * Returns false for an instance the persistence context already held (writable): that one
+     * keeps its own state and loads its lazy group on first access.
+     */
+    public static boolean detachLoaded(EntityManager entityManager, Object entity) {
+        Session session = entityManager.unwrap(Session.class);
+        if (!session.contains(entity) || !session.isReadOnly(entity)) {
+            return false;
+        }
+        session.detach(entity);
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package com.jci.zodiac.repository;
+
+import com.jci.zodiac.entity.IdSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * IdSequence Repository - Block reservation for named sequences
+ */
+@Repository
+public interface IdSequenceRepository extends JpaRepository<IdSequence, String> {
+
+    /**
+     * Read a sequence row with a row lock (SELECT ... FOR UPDATE), so concurrent
+     * reservations from other threads or nodes wait until this transaction commits
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM IdSequence s WHERE s.name = :name")
+    Optional<IdSequence> findForUpdate(@Param("name") String name);
+
+    /**
+     * Current value of a sequence, without locking
+     */
+    @Query("SELECT s.nextValue FROM IdSequence s WHERE s.name = :name")
+    Optional<Long> findValue(@Param("name") String name);
+
+    /**
+     * Add one to a sequence (locks the row until the transaction ends)
+     */
+    @Modifying
+    @Query("UPDATE IdSequence s SET s.nextValue = s.nextValue + 1 WHERE s.name = :name")
+    int increment(@Param("name") String name);
+
+    /**
+     * Move a sequence forward to at least {@code value}; never moves it back
+     */
+    @Modifying
+    @Query(value = "UPDATE id_sequences SET next_value = GREATEST(next_value, :value) WHERE name = :name",
+            nativeQuery = true)
+    int advanceTo(@Param("name") String name, @Param("value") long value);
+}
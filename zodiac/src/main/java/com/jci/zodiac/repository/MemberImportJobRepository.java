@@ -0,0 +1,26 @@
+package com.jci.zodiac.repository;
+
+import com.jci.zodiac.entity.MemberImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * MemberImportJob Repository - State of background member imports
+ */
+@Repository
+public interface MemberImportJobRepository extends JpaRepository<MemberImportJob, String> {
+
+    /**
+     * Delete jobs not updated since the cutoff (their rejected rows cascade)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM member_import_jobs WHERE updated_at < :cutoff", nativeQuery = true)
+    int deleteNotUpdatedSince(@Param("cutoff") LocalDateTime cutoff);
+}
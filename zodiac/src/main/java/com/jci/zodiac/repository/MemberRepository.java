@@ -1,18 +1,28 @@
 package com.jci.zodiac.repository;
 
 import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.util.BirthdayDates;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.Month;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Member Repository - JCI Members CRUD & Queries
@@ -21,6 +31,23 @@ import java.util.Optional;
 public interface MemberRepository extends JpaRepository<Member, Long>,
         JpaSpecificationExecutor<Member> {
 
+    /** Select list for {@link MemberSummaryView} in JPQL queries (alias m) */
+    String SUMMARY_COLUMNS = "m.id AS id, m.memberCode AS memberCode, m.fullName AS fullName, " +
+            "m.email AS email, m.position AS position, m.zodiacSign AS zodiacSign, " +
+            "m.zodiacElement AS zodiacElement, m.avatarUrl AS avatarUrl, " +
+            "m.membershipStatus AS membershipStatus, m.joinDate AS joinDate, " +
+            "m.dateOfBirth AS dateOfBirth, m.departmentId AS departmentId";
+
+    /** Active members with birth_month_day in a {@link BirthdayDates.Window} (alias m) */
+    String BIRTHDAY_WINDOW = "m.membershipStatus = 'Active' AND (m.birthMonthDay BETWEEN :from AND :to " +
+            "OR m.birthMonthDay BETWEEN :wrapFrom AND :wrapTo)";
+
+    /** Calendar order from the window start: rest of this year first, then the wrapped part */
+    String BIRTHDAY_WINDOW_ORDER = " ORDER BY CASE WHEN m.birthMonthDay >= :from THEN 0 ELSE 1 END, m.birthMonthDay";
+
+    /** Lazy columns selected next to the entity by "WithDetails" queries, in this order (alias m) */
+    String DETAIL_COLUMNS = "m.address, m.notes, m.tags";
+
     // ==================== Basic Queries ====================
 
     Optional<Member> findByMemberCode(String memberCode);
@@ -31,6 +58,18 @@ public interface MemberRepository extends JpaRepository<Member, Long>,
 
     boolean existsByEmail(String email);
 
+    @Query("SELECT m.email FROM Member m WHERE m.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT m.memberCode FROM Member m WHERE m.memberCode IN :codes")
+    List<String> findExistingMemberCodes(@Param("codes") Collection<String> codes);
+
+    /**
+     * (memberCode, id) of the members with the given codes
+     */
+    @Query("SELECT m.memberCode, m.id FROM Member m WHERE m.memberCode IN :codes")
+    List<Object[]> findIdsByMemberCodeIn(@Param("codes") Collection<String> codes);
+
     // ==================== Search & Filter ====================
 
     List<Member> findByZodiacSign(Member.ZodiacSign zodiacSign);
@@ -43,13 +82,34 @@ public interface MemberRepository extends JpaRepository<Member, Long>,
 
     List<Member> findByDepartmentId(Long departmentId);
 
-    @Query("SELECT m FROM Member m WHERE m.fullName LIKE %:keyword% " +
-            "OR m.email LIKE %:keyword% OR m.position LIKE %:keyword%")
-    List<Member> searchByKeyword(@Param("keyword") String keyword);
+    List<Member> findByDepartmentIdIsNotNull();
+
+    // ==================== Summary Projections (list views) ====================
+
+    Page<MemberSummaryView> findSummariesBy(Pageable pageable);
+
+    List<MemberSummaryView> findSummariesByMembershipStatus(Member.MembershipStatus status);
 
-    @Query("SELECT m FROM Member m WHERE m.fullName LIKE %:keyword% " +
-            "OR m.email LIKE %:keyword% OR m.position LIKE %:keyword%")
-    Page<Member> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    List<MemberSummaryView> findSummariesByZodiacSign(Member.ZodiacSign zodiacSign);
+
+    List<MemberSummaryView> findSummariesByZodiacElement(Member.ZodiacElement zodiacElement);
+
+    List<MemberSummaryView> findSummariesByDepartmentId(Long departmentId);
+
+    List<MemberSummaryView> findSummariesByIdIn(Collection<Long> ids);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM Member m WHERE " + BIRTHDAY_WINDOW + BIRTHDAY_WINDOW_ORDER)
+    List<MemberSummaryView> findSummariesInBirthdayWindow(@Param("from") int from, @Param("to") int to,
+                                                          @Param("wrapFrom") int wrapFrom,
+                                                          @Param("wrapTo") int wrapTo);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM Member m WHERE m.zodiacSign = :sign " +
+            "ORDER BY m.birthMonthDay")
+    List<MemberSummaryView> findSummariesByZodiacSignOrderByBirthday(@Param("sign") Member.ZodiacSign sign);
+
+    default List<MemberSummaryView> findBirthdaySummaries(BirthdayDates.Window window) {
+        return findSummariesInBirthdayWindow(window.from(), window.to(), window.wrapFrom(), window.wrapTo());
+    }
 
     // ==================== Zodiac Queries ====================
 
@@ -72,50 +132,46 @@ public interface MemberRepository extends JpaRepository<Member, Long>,
     long countActiveByDepartmentId(@Param("departmentId") Long departmentId);
 
     // ==================== Birthday Queries ====================
+    // Backed by idx_members_status_birthday (membership_status, birth_month_day)
 
     /**
-     * Find members with birthday on specific month and day
+     * (id, dateOfBirth) of every active member, for the in-memory birthday calendar
      */
-    @Query("SELECT m FROM Member m WHERE FUNCTION('MONTH', m.dateOfBirth) = :month " +
-            "AND FUNCTION('DAY', m.dateOfBirth) = :day " +
-            "AND m.membershipStatus = 'Active'")
-    List<Member> findByBirthday(@Param("month") int month, @Param("day") int day);
+    @Query("SELECT m.id, m.dateOfBirth FROM Member m WHERE m.membershipStatus = 'Active'")
+    List<Object[]> findActiveBirthdays();
+
+    @Query("SELECT m FROM Member m WHERE " + BIRTHDAY_WINDOW + BIRTHDAY_WINDOW_ORDER)
+    List<Member> findInBirthdayWindow(@Param("from") int from, @Param("to") int to,
+                                      @Param("wrapFrom") int wrapFrom, @Param("wrapTo") int wrapTo);
 
-    @Query("SELECT m FROM Member m WHERE m.dateOfBirth BETWEEN :startDate AND :endDate " +
-            "ORDER BY FUNCTION('MONTH', m.dateOfBirth), FUNCTION('DAY', m.dateOfBirth)")
-    List<Member> findUpcomingBirthdays(@Param("startDate") LocalDate startDate,
-                                       @Param("endDate") LocalDate endDate);
+    @Query("SELECT COUNT(m) FROM Member m WHERE " + BIRTHDAY_WINDOW)
+    long countInBirthdayWindow(@Param("from") int from, @Param("to") int to,
+                               @Param("wrapFrom") int wrapFrom, @Param("wrapTo") int wrapTo);
 
     /**
-     * Find members with birthdays between two dates
+     * Active members whose birthday falls in the window, in calendar order from its start
      */
-    @Query("SELECT m FROM Member m WHERE " +
-            "(FUNCTION('MONTH', m.dateOfBirth) > :startMonth OR " +
-            "(FUNCTION('MONTH', m.dateOfBirth) = :startMonth AND FUNCTION('DAY', m.dateOfBirth) >= :startDay)) " +
-            "AND (FUNCTION('MONTH', m.dateOfBirth) < :endMonth OR " +
-            "(FUNCTION('MONTH', m.dateOfBirth) = :endMonth AND FUNCTION('DAY', m.dateOfBirth) <= :endDay)) " +
-            "AND m.membershipStatus = 'Active' " +
-            "ORDER BY FUNCTION('MONTH', m.dateOfBirth), FUNCTION('DAY', m.dateOfBirth)")
-    List<Member> findUpcomingBirthdaysInRange(@Param("startMonth") int startMonth,
-                                              @Param("startDay") int startDay,
-                                              @Param("endMonth") int endMonth,
-                                              @Param("endDay") int endDay);
+    default List<Member> findBirthdays(BirthdayDates.Window window) {
+        return findInBirthdayWindow(window.from(), window.to(), window.wrapFrom(), window.wrapTo());
+    }
+
+    default long countBirthdays(BirthdayDates.Window window) {
+        return countInBirthdayWindow(window.from(), window.to(), window.wrapFrom(), window.wrapTo());
+    }
 
     /**
-     * Find members with birthdays in a specific month
+     * Find active members whose birthday falls between two dates (inclusive), in calendar order
      */
-    @Query("SELECT m FROM Member m WHERE FUNCTION('MONTH', m.dateOfBirth) = :month " +
-            "AND m.membershipStatus = 'Active' " +
-            "ORDER BY FUNCTION('DAY', m.dateOfBirth)")
-    List<Member> findByBirthMonth(@Param("month") int month);
+    default List<Member> findUpcomingBirthdays(LocalDate startDate, LocalDate endDate) {
+        return findBirthdays(BirthdayDates.Window.between(startDate, endDate));
+    }
 
     /**
      * Find members with birthdays today
      * Used by: BirthdayNotificationService.checkBirthdaysToday()
      */
     default List<Member> findMembersWithBirthdayToday() {
-        LocalDate today = LocalDate.now();
-        return findByBirthday(today.getMonthValue(), today.getDayOfMonth());
+        return findBirthdays(BirthdayDates.Window.on(LocalDate.now()));
     }
 
     /**
@@ -124,26 +180,7 @@ public interface MemberRepository extends JpaRepository<Member, Long>,
      */
     default List<Member> findMembersWithUpcomingBirthdays(int daysAhead) {
         LocalDate today = LocalDate.now();
-        LocalDate endDate = today.plusDays(daysAhead);
-
-        // Handle year wrap-around (e.g., Dec 25 + 10 days = Jan 4)
-        if (endDate.getYear() > today.getYear()) {
-            // Split into two queries: rest of this year + beginning of next year
-            List<Member> result = findUpcomingBirthdaysInRange(
-                    today.getMonthValue(), today.getDayOfMonth(),
-                    12, 31
-            );
-            result.addAll(findUpcomingBirthdaysInRange(
-                    1, 1,
-                    endDate.getMonthValue(), endDate.getDayOfMonth()
-            ));
-            return result;
-        } else {
-            return findUpcomingBirthdaysInRange(
-                    today.getMonthValue(), today.getDayOfMonth(),
-                    endDate.getMonthValue(), endDate.getDayOfMonth()
-            );
-        }
+        return findUpcomingBirthdays(today, today.plusDays(daysAhead));
     }
 
     /**
@@ -151,9 +188,40 @@ public interface MemberRepository extends JpaRepository<Member, Long>,
      * Used by: BirthdayNotificationService.monthlyBirthdayReport()
      */
     default List<Member> findMembersByBirthMonth(Month month) {
-        return findByBirthMonth(month.getValue());
+        return findBirthdays(BirthdayDates.Window.month(month));
     }
 
+    // ==================== Bulk Writes (set-based) ====================
+
+    /**
+     * Locked rows for a bulk write: id, memberCode, fullName, then the MemberChangedEvent.MemberState
+     * columns (dateOfBirth, joinDate, zodiacSign, zodiacElement, departmentId, membershipStatus, leftDate)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m.id, m.memberCode, m.fullName, m.dateOfBirth, m.joinDate, m.zodiacSign, " +
+            "m.zodiacElement, m.departmentId, m.membershipStatus, m.leftDate FROM Member m WHERE m.id IN :ids")
+    List<Object[]> findBulkRowsForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Member m SET m.membershipStatus = :status, " +
+            "m.leftDate = CASE WHEN :leaving = true THEN COALESCE(m.leftDate, :today) ELSE NULL END, " +
+            "m.updatedAt = :now WHERE m.id IN :ids")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids,
+                         @Param("status") Member.MembershipStatus status,
+                         @Param("leaving") boolean leaving,
+                         @Param("today") LocalDate today,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Member m SET m.departmentId = :departmentId, m.updatedAt = :now WHERE m.id IN :ids")
+    int bulkUpdateDepartment(@Param("ids") Collection<Long> ids,
+                             @Param("departmentId") Long departmentId,
+                             @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM Member m WHERE m.id IN :ids")
+    int bulkDelete(@Param("ids") Collection<Long> ids);
+
     // ==================== Statistics ====================
 
     @Query("SELECT COUNT(m) FROM Member m WHERE m.membershipStatus = 'Active'")
@@ -165,4 +233,48 @@ public interface MemberRepository extends JpaRepository<Member, Long>,
 
     @Query("SELECT m FROM Member m WHERE m.joinDate >= :date AND m.membershipStatus = 'Active'")
     List<Member> findRecentJoins(@Param("date") LocalDate date);
-}
\ No newline at end of file
+
+    @Query("SELECT COUNT(m) FROM Member m WHERE m.joinDate >= :date AND m.membershipStatus = 'Active'")
+    long countRecentJoins(@Param("date") LocalDate date);
+
+    // ==================== Aggregates (one row per group) ====================
+
+    @Query("SELECT m.membershipStatus, COUNT(m) FROM Member m GROUP BY m.membershipStatus")
+    List<Object[]> countByMembershipStatus();
+
+    @Query("SELECT m.zodiacSign, COUNT(m) FROM Member m WHERE m.membershipStatus = 'Active' " +
+            "GROUP BY m.zodiacSign")
+    List<Object[]> countActiveByZodiacSign();
+
+    @Query("SELECT m.zodiacElement, COUNT(m) FROM Member m WHERE m.membershipStatus = 'Active' " +
+            "GROUP BY m.zodiacElement")
+    List<Object[]> countActiveByZodiacElement();
+
+    /**
+     * Member count per department name (null name = department no longer exists)
+     */
+    @Query("SELECT d.name, COUNT(m) FROM Member m LEFT JOIN Department d ON d.id = m.departmentId " +
+            "WHERE m.departmentId IS NOT NULL GROUP BY d.name")
+    List<Object[]> countByDepartmentName();
+
+    /**
+     * All rows in id order as a forward-only stream (MySQL row streaming); close it and read it inside a transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Member m ORDER BY m.id")
+    Stream<Member> streamAll();
+
+    /**
+     * Like streamAll, with the lazy columns (DETAIL_COLUMNS) read in the same row
+     * A lazy attribute must not be loaded while a streaming result set is open on the connection.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m, " + DETAIL_COLUMNS + " FROM Member m ORDER BY m.id")
+    Stream<Object[]> streamAllWithDetails();
+}
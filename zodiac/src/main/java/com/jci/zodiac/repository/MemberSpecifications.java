@@ -0,0 +1,94 @@
+package com.jci.zodiac.repository;
+
+import com.jci.zodiac.dto.request.MemberSearchRequest;
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.util.SearchTextNormalizer;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * MemberSpecifications - Composable member filters
+ * Each factory returns null for an empty filter, so they can be chained with and() freely.
+ */
+public final class MemberSpecifications {
+
+    private MemberSpecifications() {
+    }
+
+    /**
+     * All structured filters of a search request combined with AND
+     * The keyword is resolved through the search index and applied with {@link #idIn}
+     * (or {@link #keyword}, which matches the same way, when it matches too many members for an id list).
+     */
+    public static Specification<Member> matching(MemberSearchRequest request) {
+        return Specification.where(hasZodiacSign(request.getZodiacSign()))
+                .and(hasZodiacElement(request.getZodiacElement()))
+                .and(hasMembershipStatus(request.getMembershipStatus()))
+                .and(inDepartment(request.getDepartmentId()))
+                .and(positionContains(request.getPosition()));
+    }
+
+    /**
+     * Member id in the given set (an empty set matches nothing)
+     */
+    public static Specification<Member> idIn(Collection<Long> ids) {
+        if (ids == null) {
+            return null;
+        }
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    /**
+     * Every keyword term starts a token of the name, code, email, position or company
+     * The search index's own rule, applied in SQL to the tokens stored in search_text.
+     */
+    public static Specification<Member> keyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        Specification<Member> spec = Specification.where(null);
+        for (String term : SearchTextNormalizer.tokenize(keyword)) {
+            String pattern = "% " + escapeLike(term) + "%";
+            spec = spec.and((root, query, cb) -> cb.like(root.get("searchText"), pattern, '\\'));
+        }
+        return spec;
+    }
+
+    public static Specification<Member> hasZodiacSign(Member.ZodiacSign sign) {
+        return sign == null ? null : (root, query, cb) -> cb.equal(root.get("zodiacSign"), sign);
+    }
+
+    public static Specification<Member> hasZodiacElement(Member.ZodiacElement element) {
+        return element == null ? null : (root, query, cb) -> cb.equal(root.get("zodiacElement"), element);
+    }
+
+    public static Specification<Member> hasMembershipStatus(Member.MembershipStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("membershipStatus"), status);
+    }
+
+    public static Specification<Member> inDepartment(Long departmentId) {
+        return departmentId == null ? null : (root, query, cb) -> cb.equal(root.get("departmentId"), departmentId);
+    }
+
+    public static Specification<Member> positionContains(String position) {
+        if (position == null || position.isBlank()) {
+            return null;
+        }
+        String pattern = likePattern(position);
+        return (root, query, cb) -> cb.like(root.get("position"), pattern, '\\');
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static String likePattern(String text) {
+        return "%" + escapeLike(text.trim()) + "%";
+    }
+
+    private static String escapeLike(String text) {
+        return text
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,36 @@
+package com.jci.zodiac.repository;
+
+import com.jci.zodiac.entity.Member;
+
+import java.time.LocalDate;
+
+/**
+ * MemberSummaryView - Closed projection with only the columns a member list needs
+ * Skips the TEXT / JSON columns (address, notes, tags) and is not attached to the persistence context.
+ */
+public interface MemberSummaryView {
+
+    Long getId();
+
+    String getMemberCode();
+
+    String getFullName();
+
+    String getEmail();
+
+    String getPosition();
+
+    Member.ZodiacSign getZodiacSign();
+
+    Member.ZodiacElement getZodiacElement();
+
+    String getAvatarUrl();
+
+    Member.MembershipStatus getMembershipStatus();
+
+    LocalDate getJoinDate();
+
+    LocalDate getDateOfBirth();
+
+    Long getDepartmentId();
+}
@@ -0,0 +1,73 @@
+package com.jci.zodiac.repository;
+
+import com.jci.zodiac.entity.MembershipMonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * MembershipMonthlyRollupRepository - Monthly joins/leaves aggregates
+ */
+@Repository
+public interface MembershipMonthlyRollupRepository extends JpaRepository<MembershipMonthlyRollup, Long> {
+
+    // ==================== Incremental Maintenance ====================
+
+    /**
+     * Add (or subtract) joins/leaves to a bucket, creating it if missing
+     */
+    @Modifying
+    @Query(value = "INSERT INTO membership_monthly_rollup " +
+            "(period_month, zodiac_sign, zodiac_element, department_id, join_count, leave_count) " +
+            "VALUES (:periodMonth, :sign, :element, :departmentId, :joins, :leaves) " +
+            "ON DUPLICATE KEY UPDATE join_count = join_count + VALUES(join_count), " +
+            "leave_count = leave_count + VALUES(leave_count)",
+            nativeQuery = true)
+    void applyDelta(@Param("periodMonth") LocalDate periodMonth,
+                    @Param("sign") String sign,
+                    @Param("element") String element,
+                    @Param("departmentId") long departmentId,
+                    @Param("joins") int joins,
+                    @Param("leaves") int leaves);
+
+    // ==================== Full Rebuild ====================
+
+    @Modifying
+    @Query(value = "DELETE FROM membership_monthly_rollup", nativeQuery = true)
+    void deleteAllBuckets();
+
+    @Modifying
+    @Query(value = "INSERT INTO membership_monthly_rollup " +
+            "(period_month, zodiac_sign, zodiac_element, department_id, join_count, leave_count) " +
+            "SELECT DATE_FORMAT(join_date, '%Y-%m-01'), zodiac_sign, zodiac_element, COALESCE(department_id, 0), COUNT(*), 0 " +
+            "FROM members " +
+            "GROUP BY DATE_FORMAT(join_date, '%Y-%m-01'), zodiac_sign, zodiac_element, COALESCE(department_id, 0)",
+            nativeQuery = true)
+    int backfillJoins();
+
+    @Modifying
+    @Query(value = "INSERT INTO membership_monthly_rollup " +
+            "(period_month, zodiac_sign, zodiac_element, department_id, join_count, leave_count) " +
+            "SELECT DATE_FORMAT(COALESCE(left_date, updated_at), '%Y-%m-01'), zodiac_sign, zodiac_element, COALESCE(department_id, 0), 0, COUNT(*) " +
+            "FROM members WHERE membership_status IN ('Inactive', 'Alumni') " +
+            "GROUP BY DATE_FORMAT(COALESCE(left_date, updated_at), '%Y-%m-01'), zodiac_sign, zodiac_element, COALESCE(department_id, 0) " +
+            "ON DUPLICATE KEY UPDATE leave_count = VALUES(leave_count)",
+            nativeQuery = true)
+    int backfillLeaves();
+
+    // ==================== Reads ====================
+
+    @Query("SELECT r.periodMonth, r.zodiacSign, SUM(r.joinCount) FROM MembershipMonthlyRollup r " +
+            "WHERE r.joinCount <> 0 GROUP BY r.periodMonth, r.zodiacSign ORDER BY r.periodMonth")
+    List<Object[]> sumJoinsByMonthAndSign();
+
+    @Query("SELECT r.periodMonth, r.zodiacSign, SUM(r.joinCount) FROM MembershipMonthlyRollup r " +
+            "WHERE r.periodMonth >= :from AND r.joinCount <> 0 " +
+            "GROUP BY r.periodMonth, r.zodiacSign ORDER BY r.periodMonth")
+    List<Object[]> sumJoinsByMonthAndSignSince(@Param("from") LocalDate from);
+}
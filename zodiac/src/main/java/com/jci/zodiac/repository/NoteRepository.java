@@ -1,17 +1,22 @@
 package com.jci.zodiac.repository;
 
 import com.jci.zodiac.entity.Note;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface NoteRepository extends JpaRepository<Note, Long> {
+public interface NoteRepository extends JpaRepository<Note, Long>,
+        JpaSpecificationExecutor<Note> {
 
     List<Note> findByNoteType(Note.NoteType noteType);
 
@@ -25,8 +30,15 @@ public interface NoteRepository extends JpaRepository<Note, Long> {
 
     Page<Note> findByNoteType(Note.NoteType noteType, Pageable pageable);
 
-    @Query("SELECT n FROM Note n WHERE n.title LIKE %:keyword% OR n.content LIKE %:keyword%")
-    List<Note> searchByKeyword(@Param("keyword") String keyword);
-
     long countByMemberId(Long memberId);
-}
\ No newline at end of file
+
+    /**
+     * All rows in id order as a forward-only stream (MySQL row streaming); close it and read it inside a transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT n FROM Note n ORDER BY n.id")
+    Stream<Note> streamAll();
+}
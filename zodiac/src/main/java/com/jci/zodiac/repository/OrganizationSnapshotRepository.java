@@ -0,0 +1,27 @@
+package com.jci.zodiac.repository;
+
+import com.jci.zodiac.entity.OrganizationSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * OrganizationSnapshotRepository - Daily organization snapshots
+ */
+@Repository
+public interface OrganizationSnapshotRepository extends JpaRepository<OrganizationSnapshot, Long> {
+
+    Optional<OrganizationSnapshot> findBySnapshotDate(LocalDate snapshotDate);
+
+    List<OrganizationSnapshot> findBySnapshotDateBetweenOrderBySnapshotDateAsc(LocalDate from, LocalDate to);
+
+    /**
+     * Latest snapshot taken on or before a date (trend baseline)
+     */
+    Optional<OrganizationSnapshot> findFirstBySnapshotDateLessThanEqualOrderBySnapshotDateDesc(LocalDate date);
+
+    Optional<OrganizationSnapshot> findFirstByOrderBySnapshotDateAsc();
+}
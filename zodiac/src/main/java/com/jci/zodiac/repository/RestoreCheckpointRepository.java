@@ -0,0 +1,12 @@
+package com.jci.zodiac.repository;
+
+import com.jci.zodiac.entity.RestoreCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * RestoreCheckpoint Repository - Progress of JSON backup restores
+ */
+@Repository
+public interface RestoreCheckpointRepository extends JpaRepository<RestoreCheckpoint, String> {
+}
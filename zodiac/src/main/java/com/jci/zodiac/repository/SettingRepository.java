@@ -1,19 +1,26 @@
 package com.jci.zodiac.repository;
 
 import com.jci.zodiac.entity.Setting;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * SettingRepository - Data access for system settings
  */
 @Repository
-public interface SettingRepository extends JpaRepository<Setting, Long> {
+public interface SettingRepository extends JpaRepository<Setting, Long>,
+        JpaSpecificationExecutor<Setting> {
 
     // ==================== Basic Queries ====================
 
@@ -21,6 +28,8 @@ public interface SettingRepository extends JpaRepository<Setting, Long> {
 
     boolean existsByKey(String key);
 
+    List<Setting> findByKeyIn(Collection<String> keys);
+
     List<Setting> findByCategory(Setting.Category category);
 
     @Query("SELECT s FROM Setting s WHERE s.isPublic = true")
@@ -31,9 +40,6 @@ public interface SettingRepository extends JpaRepository<Setting, Long> {
 
     // ==================== Search ====================
 
-    @Query("SELECT s FROM Setting s WHERE s.key LIKE %:keyword% OR s.description LIKE %:keyword%")
-    List<Setting> searchByKeyword(@Param("keyword") String keyword);
-
     @Query("SELECT s FROM Setting s WHERE s.category = :category AND s.isPublic = true")
     List<Setting> findPublicByCategory(@Param("category") Setting.Category category);
 
@@ -52,4 +58,14 @@ public interface SettingRepository extends JpaRepository<Setting, Long> {
 
     @Query("SELECT COUNT(s) FROM Setting s WHERE s.category = :category")
     long countByCategory(@Param("category") Setting.Category category);
-}
\ No newline at end of file
+
+    /**
+     * All rows in id order as a forward-only stream (MySQL row streaming); close it and read it inside a transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Setting s ORDER BY s.id")
+    Stream<Setting> streamAll();
+}
@@ -1,13 +1,18 @@
 package com.jci.zodiac.repository;
 
 import com.jci.zodiac.entity.TeamMember;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
@@ -20,6 +25,12 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
 
     Optional<TeamMember> findByTeamIdAndMemberId(Long teamId, Long memberId);
 
+    /**
+     * (teamId, memberId) pairs already present for the given teams
+     */
+    @Query("SELECT tm.teamId, tm.memberId FROM TeamMember tm WHERE tm.teamId IN :teamIds")
+    List<Object[]> findPairsByTeamIdIn(@Param("teamIds") Collection<Long> teamIds);
+
     boolean existsByTeamIdAndMemberIdAndIsActive(Long teamId, Long memberId, Boolean isActive);
 
     @Query("SELECT COUNT(tm) FROM TeamMember tm WHERE tm.teamId = :teamId AND tm.isActive = true")
@@ -30,4 +41,14 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
 
     @Query("SELECT tm.role, COUNT(tm) FROM TeamMember tm WHERE tm.teamId = :teamId AND tm.isActive = true GROUP BY tm.role")
     List<Object[]> countMembersByRole(@Param("teamId") Long teamId);
-}
\ No newline at end of file
+
+    /**
+     * All rows in id order as a forward-only stream (MySQL row streaming); close it and read it inside a transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT tm FROM TeamMember tm ORDER BY tm.id")
+    Stream<TeamMember> streamAll();
+}
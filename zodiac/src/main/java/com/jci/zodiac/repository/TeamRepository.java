@@ -1,16 +1,22 @@
 package com.jci.zodiac.repository;
 
 import com.jci.zodiac.entity.Team;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface TeamRepository extends JpaRepository<Team, Long> {
+public interface TeamRepository extends JpaRepository<Team, Long>,
+        JpaSpecificationExecutor<Team> {
 
     List<Team> findByStatus(Team.Status status);
 
@@ -32,4 +38,21 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 
     @Query("SELECT t FROM Team t WHERE t.hasZodiacConflicts = true")
     List<Team> findTeamsWithConflicts();
-}
\ No newline at end of file
+
+    /**
+     * Team count and conflicting team count per status
+     */
+    @Query("SELECT t.status, COUNT(t), SUM(CASE WHEN t.hasZodiacConflicts = true THEN 1 ELSE 0 END) " +
+            "FROM Team t GROUP BY t.status")
+    List<Object[]> summarizeByStatus();
+
+    /**
+     * All rows in id order as a forward-only stream (MySQL row streaming); close it and read it inside a transaction
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Team t ORDER BY t.id")
+    Stream<Team> streamAll();
+}
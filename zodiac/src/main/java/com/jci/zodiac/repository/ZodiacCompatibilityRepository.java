@@ -1,8 +1,11 @@
 package com.jci.zodiac.repository;
 
 import com.jci.zodiac.entity.ZodiacCompatibility;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,6 +19,13 @@ import java.util.Optional;
 @Repository
 public interface ZodiacCompatibilityRepository extends JpaRepository<ZodiacCompatibility, Long> {
 
+    /**
+     * Lazy text columns selected next to the entity by the list queries ("WithDetails"), in this
+     * order, so a list loads them in its own query instead of one lazy-group select per row.
+     * Those queries load the entity read-only; see {@link DetailRows}.
+     */
+    String DETAIL_COLUMNS = "zc.strengthsTogether, zc.challengesTogether, zc.managementTips";
+
     // ==================== Basic Queries ====================
 
     @Query("SELECT zc FROM ZodiacCompatibility zc WHERE " +
@@ -26,20 +36,23 @@ public interface ZodiacCompatibilityRepository extends JpaRepository<ZodiacCompa
             @Param("sign2") ZodiacCompatibility.ZodiacSign sign2
     );
 
-    @Query("SELECT zc FROM ZodiacCompatibility zc WHERE " +
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT zc, " + DETAIL_COLUMNS + " FROM ZodiacCompatibility zc WHERE " +
             "zc.zodiacSign1 = :sign OR zc.zodiacSign2 = :sign " +
             "ORDER BY zc.overallScore DESC")
-    List<ZodiacCompatibility> findAllForSign(@Param("sign") ZodiacCompatibility.ZodiacSign sign);
+    List<Object[]> findAllForSignWithDetails(@Param("sign") ZodiacCompatibility.ZodiacSign sign);
 
     // ==================== High/Low Compatibility ====================
 
-    @Query("SELECT zc FROM ZodiacCompatibility zc WHERE " +
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT zc, " + DETAIL_COLUMNS + " FROM ZodiacCompatibility zc WHERE " +
             "zc.overallScore >= :minScore ORDER BY zc.overallScore DESC")
-    List<ZodiacCompatibility> findHighCompatibilityPairs(@Param("minScore") BigDecimal minScore);
+    List<Object[]> findHighCompatibilityPairsWithDetails(@Param("minScore") BigDecimal minScore);
 
-    @Query("SELECT zc FROM ZodiacCompatibility zc WHERE " +
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT zc, " + DETAIL_COLUMNS + " FROM ZodiacCompatibility zc WHERE " +
             "zc.overallScore < :maxScore ORDER BY zc.overallScore ASC")
-    List<ZodiacCompatibility> findLowCompatibilityPairs(@Param("maxScore") BigDecimal maxScore);
+    List<Object[]> findLowCompatibilityPairsWithDetails(@Param("maxScore") BigDecimal maxScore);
 
     @Query("SELECT zc FROM ZodiacCompatibility zc WHERE " +
             "zc.compatibilityLevel = :level ORDER BY zc.overallScore DESC")
@@ -49,10 +62,11 @@ public interface ZodiacCompatibilityRepository extends JpaRepository<ZodiacCompa
 
     // ==================== Best Matches ====================
 
-    @Query("SELECT zc FROM ZodiacCompatibility zc WHERE " +
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT zc, " + DETAIL_COLUMNS + " FROM ZodiacCompatibility zc WHERE " +
             "(zc.zodiacSign1 = :sign OR zc.zodiacSign2 = :sign) " +
             "ORDER BY zc.overallScore DESC")
-    List<ZodiacCompatibility> findBestMatchesForSign(
+    List<Object[]> findBestMatchesForSignWithDetails(
             @Param("sign") ZodiacCompatibility.ZodiacSign sign
     );
 
@@ -73,4 +87,13 @@ public interface ZodiacCompatibilityRepository extends JpaRepository<ZodiacCompa
 
     @Query("SELECT COUNT(zc) FROM ZodiacCompatibility zc WHERE zc.overallScore >= :minScore")
     long countHighCompatibilityPairs(@Param("minScore") BigDecimal minScore);
+
+    @Query("SELECT COUNT(zc) FROM ZodiacCompatibility zc WHERE zc.overallScore < :maxScore")
+    long countLowCompatibilityPairs(@Param("maxScore") BigDecimal maxScore);
+
+    /**
+     * Lightweight (sign1, sign2, overallScore) rows without the long text columns
+     */
+    @Query("SELECT zc.zodiacSign1, zc.zodiacSign2, zc.overallScore FROM ZodiacCompatibility zc")
+    List<Object[]> findAllOverallScores();
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.jci.zodiac.repository;
 
 import com.jci.zodiac.entity.ZodiacProfile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,18 +19,35 @@ import java.util.Optional;
 @Repository
 public interface ZodiacProfileRepository extends JpaRepository<ZodiacProfile, Long> {
 
+    /**
+     * Lazy descriptive columns selected next to the entity by the list queries ("WithDetails"),
+     * in this order, so a list loads them in its own query instead of one select per profile.
+     * Those queries load the entity read-only; see {@link DetailRows}.
+     */
+    String DETAIL_COLUMNS = "zp.personalityTraits, zp.strengths, zp.weaknesses, zp.workStyle, zp.bestRoles, " +
+            "zp.communicationStyle, zp.motivationFactors, zp.stressTriggers, zp.leadershipStyle, " +
+            "zp.teamContribution, zp.conflictResolutionStyle, zp.descriptionLong, zp.famousPeople, zp.customAttributes";
+
     Optional<ZodiacProfile> findByZodiacSign(ZodiacProfile.ZodiacSign zodiacSign);
 
     List<ZodiacProfile> findByElement(ZodiacProfile.Element element);
 
-    List<ZodiacProfile> findByModality(ZodiacProfile.Modality modality);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT zp, " + DETAIL_COLUMNS + " FROM ZodiacProfile zp WHERE zp.modality = :modality")
+    List<Object[]> findByModalityWithDetails(@Param("modality") ZodiacProfile.Modality modality);
 
-    @Query("SELECT zp FROM ZodiacProfile zp WHERE zp.element = :element " +
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT zp, " + DETAIL_COLUMNS + " FROM ZodiacProfile zp WHERE zp.element = :element " +
             "ORDER BY zp.zodiacSign")
-    List<ZodiacProfile> findByElementOrdered(@Param("element") ZodiacProfile.Element element);
+    List<Object[]> findByElementOrderedWithDetails(@Param("element") ZodiacProfile.Element element);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT zp, " + DETAIL_COLUMNS + " FROM ZodiacProfile zp ORDER BY zp.element, zp.zodiacSign")
+    List<Object[]> findAllOrderedByElementWithDetails();
 
-    @Query("SELECT zp FROM ZodiacProfile zp ORDER BY zp.element, zp.zodiacSign")
-    List<ZodiacProfile> findAllOrderedByElement();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT zp, " + DETAIL_COLUMNS + " FROM ZodiacProfile zp WHERE zp.id IN :ids")
+    List<Object[]> findAllByIdWithDetails(@Param("ids") Collection<Long> ids);
 
     boolean existsByZodiacSign(ZodiacProfile.ZodiacSign zodiacSign);
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.event.MemberChangedEvent;
+import com.jci.zodiac.event.MembersChangedEvent;
+import com.jci.zodiac.repository.MemberRepository;
+import com.jci.zodiac.repository.MemberSummaryView;
+import com.jci.zodiac.util.BirthdayCalendar;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * BirthdayCalendarService - In-memory birthday calendar of active members
+ * Built at startup, kept current from committed MemberChangedEvents and rebuilt nightly
+ * as a safety net (app.birthday.calendar.rebuild.cron). Window, count and month lookups
+ * need no SQL; members are then loaded by primary key only for the ids being shown.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BirthdayCalendarService {
+
+    private final MemberRepository memberRepository;
+
+    private final BirthdayCalendar calendar = new BirthdayCalendar();
+    private final Object pendingLock = new Object();
+    private volatile boolean loaded;
+    // Changes committed while a rebuild is loading; replayed once the new calendar is in place
+    private List<MemberChangedEvent> pendingDuringRebuild;
+
+    // ==================== Calendar Maintenance ====================
+
+    /**
+     * Reload the calendar from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.birthday.calendar.rebuild.cron:0 50 3 * * ?}")
+    @Transactional(readOnly = true)
+    public synchronized int rebuild() {
+        synchronized (pendingLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        Map<Long, LocalDate> birthdays = new HashMap<>();
+        try {
+            for (Object[] row : memberRepository.findActiveBirthdays()) {
+                birthdays.put((Long) row[0], (LocalDate) row[1]);
+            }
+        } catch (RuntimeException e) {
+            synchronized (pendingLock) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (pendingLock) {
+            calendar.replaceAll(birthdays);
+            pendingDuringRebuild.forEach(this::apply);
+            pendingDuringRebuild = null;
+            loaded = true;
+        }
+
+        log.info("🎂 Birthday calendar rebuilt: {} active member(s)", birthdays.size());
+        return birthdays.size();
+    }
+
+    /**
+     * Apply a committed member change: active members are (re)placed, everyone else is removed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        synchronized (pendingLock) {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+            apply(event);
+        }
+    }
+
+    /**
+     * Apply a committed batch of member changes (bulk writes)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembersChanged(MembersChangedEvent event) {
+        event.changes().forEach(this::onMemberChanged);
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Ids of active members with a birthday from {@code start} to {@code end} (inclusive), in calendar order
+     */
+    public List<Long> idsBetween(LocalDate start, LocalDate end) {
+        ensureLoaded();
+        return calendar.idsBetween(start, end);
+    }
+
+    /**
+     * Ids of active members with a birthday in the next {@code daysAhead} days (today included)
+     */
+    public List<Long> upcomingIds(int daysAhead) {
+        LocalDate today = LocalDate.now();
+        return idsBetween(today, today.plusDays(daysAhead));
+    }
+
+    public int countUpcoming(int daysAhead) {
+        ensureLoaded();
+        LocalDate today = LocalDate.now();
+        return calendar.countBetween(today, today.plusDays(daysAhead));
+    }
+
+    public List<Long> idsInMonth(Month month) {
+        ensureLoaded();
+        return calendar.idsInMonth(month);
+    }
+
+    /**
+     * Load members by id, keeping the calendar order
+     */
+    @Transactional(readOnly = true)
+    public List<Member> loadMembers(List<Long> ids) {
+        return ids.isEmpty() ? new ArrayList<>() : inOrder(ids, memberRepository.findAllById(ids), Member::getId);
+    }
+
+    /**
+     * Load member summaries by id, keeping the calendar order
+     */
+    @Transactional(readOnly = true)
+    public List<MemberSummaryView> loadSummaries(List<Long> ids) {
+        return ids.isEmpty()
+                ? new ArrayList<>()
+                : inOrder(ids, memberRepository.findSummariesByIdIn(ids), MemberSummaryView::getId);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    private void apply(MemberChangedEvent event) {
+        MemberChangedEvent.MemberState after = event.after();
+        if (after != null && after.membershipStatus() == Member.MembershipStatus.Active && after.dateOfBirth() != null) {
+            calendar.put(after.id(), after.dateOfBirth());
+        } else if (after != null) {
+            calendar.remove(after.id());
+        } else {
+            calendar.remove(event.before().id());
+        }
+    }
+
+    // Members deleted since the calendar was read are simply skipped
+    private <T> List<T> inOrder(List<Long> ids, Iterable<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>();
+        rows.forEach(row -> byId.put(idOf.apply(row), row));
+        List<T> result = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            T row = byId.get(id);
+            if (row != null) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+}
@@ -1,7 +1,7 @@
 package com.jci.zodiac.service;
 
 import com.jci.zodiac.entity.Member;
-import com.jci.zodiac.repository.MemberRepository;
+import com.jci.zodiac.util.BirthdayDates;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -24,7 +24,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class BirthdayNotificationService {
 
-    private final MemberRepository memberRepository;
+    private final BirthdayCalendarService birthdayCalendarService;
     private final BirthdayService birthdayService;
 
     // Format for logging
@@ -41,7 +41,9 @@ public class BirthdayNotificationService {
         log.info("🎂 Running daily birthday check...");
 
         try {
-            List<Member> birthdaysToday = memberRepository.findMembersWithBirthdayToday();
+            LocalDate today = LocalDate.now();
+            List<Member> birthdaysToday = birthdayCalendarService.loadMembers(
+                    birthdayCalendarService.idsBetween(today, today));
 
             if (birthdaysToday.isEmpty()) {
                 log.info("✅ No birthdays today");
@@ -77,7 +79,8 @@ public class BirthdayNotificationService {
         log.info("📅 Running weekly upcoming birthdays check...");
 
         try {
-            List<Member> upcomingBirthdays = memberRepository.findMembersWithUpcomingBirthdays(7);
+            List<Member> upcomingBirthdays = birthdayCalendarService.loadMembers(
+                    birthdayCalendarService.upcomingIds(7));
 
             if (upcomingBirthdays.isEmpty()) {
                 log.info("✅ No upcoming birthdays in the next 7 days");
@@ -87,14 +90,10 @@ public class BirthdayNotificationService {
             log.info("📋 Upcoming birthdays (next 7 days): {} member(s)", upcomingBirthdays.size());
 
             // Group by date and log
+            LocalDate today = LocalDate.now();
             upcomingBirthdays.forEach(member -> {
-                LocalDate birthday = LocalDate.of(
-                        LocalDate.now().getYear(),
-                        member.getDateOfBirth().getMonth(),
-                        member.getDateOfBirth().getDayOfMonth()
-                );
-
-                long daysUntil = java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(), birthday);
+                LocalDate birthday = BirthdayDates.nextOccurrence(member.getDateOfBirth(), today);
+                long daysUntil = BirthdayDates.daysUntil(member.getDateOfBirth(), today);
 
                 log.info("🎂 {} ({}) - {} ({} days) - {} {}",
                         member.getFullName(),
@@ -126,7 +125,8 @@ public class BirthdayNotificationService {
 
         try {
             java.time.Month currentMonth = LocalDate.now().getMonth();
-            List<Member> monthBirthdays = memberRepository.findMembersByBirthMonth(currentMonth);
+            List<Member> monthBirthdays = birthdayCalendarService.loadMembers(
+                    birthdayCalendarService.idsInMonth(currentMonth));
 
             if (monthBirthdays.isEmpty()) {
                 log.info("✅ No birthdays this month ({})", currentMonth);
@@ -135,13 +135,7 @@ public class BirthdayNotificationService {
 
             log.info("📅 BIRTHDAYS IN {}: {} member(s)", currentMonth, monthBirthdays.size());
 
-            // Sort by day
-            monthBirthdays.sort((m1, m2) ->
-                    Integer.compare(m1.getDateOfBirth().getDayOfMonth(),
-                            m2.getDateOfBirth().getDayOfMonth())
-            );
-
-            // Log detailed report
+            // Log detailed report (already ordered by day)
             monthBirthdays.forEach(member -> {
                 log.info("  • {} - {} {} ({})",
                         currentMonth.toString().substring(0, 3) + " " + member.getDateOfBirth().getDayOfMonth(),
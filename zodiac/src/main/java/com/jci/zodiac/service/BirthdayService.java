@@ -4,6 +4,7 @@ import com.jci.zodiac.dto.response.MemberSummaryResponse;
 import com.jci.zodiac.entity.Member;
 import com.jci.zodiac.mapper.MemberMapper;
 import com.jci.zodiac.repository.MemberRepository;
+import com.jci.zodiac.repository.MemberSummaryView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,7 @@ public class BirthdayService {
 
     private final MemberRepository memberRepository;
     private final MemberMapper memberMapper;
+    private final BirthdayCalendarService birthdayCalendarService;
 
     /**
      * Get members with birthdays today
@@ -33,10 +35,8 @@ public class BirthdayService {
         log.debug("Fetching birthdays today");
 
         LocalDate today = LocalDate.now();
-        List<Member> members = memberRepository.findByBirthday(
-                today.getMonthValue(),
-                today.getDayOfMonth()
-        );
+        List<MemberSummaryView> members = birthdayCalendarService.loadSummaries(
+                birthdayCalendarService.idsBetween(today, today));
 
         return members.stream()
                 .map(memberMapper::toSummaryResponse)
@@ -50,10 +50,8 @@ public class BirthdayService {
     public List<MemberSummaryResponse> getUpcomingBirthdays(int daysAhead) {
         log.debug("Fetching upcoming birthdays in next {} days", daysAhead);
 
-        LocalDate today = LocalDate.now();
-        LocalDate endDate = today.plusDays(daysAhead);
-
-        List<Member> members = memberRepository.findUpcomingBirthdays(today, endDate);
+        List<MemberSummaryView> members = birthdayCalendarService.loadSummaries(
+                birthdayCalendarService.upcomingIds(daysAhead));
 
         return members.stream()
                 .map(memberMapper::toSummaryResponse)
@@ -67,14 +65,8 @@ public class BirthdayService {
     public List<MemberSummaryResponse> getBirthdaysByMonth(Month month) {
         log.debug("Fetching birthdays in month: {}", month);
 
-        List<Member> allMembers = memberRepository.findByMembershipStatus(Member.MembershipStatus.Active);
-
-        return allMembers.stream()
-                .filter(member -> member.getDateOfBirth().getMonth() == month)
-                .sorted((m1, m2) -> Integer.compare(
-                        m1.getDateOfBirth().getDayOfMonth(),
-                        m2.getDateOfBirth().getDayOfMonth()
-                ))
+        // Ordered by day in the calendar
+        return birthdayCalendarService.loadSummaries(birthdayCalendarService.idsInMonth(month)).stream()
                 .map(memberMapper::toSummaryResponse)
                 .collect(Collectors.toList());
     }
@@ -86,17 +78,8 @@ public class BirthdayService {
     public List<MemberSummaryResponse> getBirthdaysByZodiacSign(Member.ZodiacSign sign) {
         log.debug("Fetching birthdays for zodiac sign: {}", sign);
 
-        List<Member> members = memberRepository.findByZodiacSign(sign);
-
-        return members.stream()
-                .sorted((m1, m2) -> {
-                    int monthCompare = m1.getDateOfBirth().getMonth().compareTo(m2.getDateOfBirth().getMonth());
-                    if (monthCompare != 0) return monthCompare;
-                    return Integer.compare(
-                            m1.getDateOfBirth().getDayOfMonth(),
-                            m2.getDateOfBirth().getDayOfMonth()
-                    );
-                })
+        // Ordered by birth month / day in the query
+        return memberRepository.findSummariesByZodiacSignOrderByBirthday(sign).stream()
                 .map(memberMapper::toSummaryResponse)
                 .collect(Collectors.toList());
     }
@@ -106,11 +89,7 @@ public class BirthdayService {
      */
     @Transactional(readOnly = true)
     public boolean hasBirthdaysToday() {
-        LocalDate today = LocalDate.now();
-        return !memberRepository.findByBirthday(
-                today.getMonthValue(),
-                today.getDayOfMonth()
-        ).isEmpty();
+        return birthdayCalendarService.countUpcoming(0) > 0;
     }
 
     /**
@@ -118,8 +97,6 @@ public class BirthdayService {
      */
     @Transactional(readOnly = true)
     public long countUpcomingBirthdays(int daysAhead) {
-        LocalDate today = LocalDate.now();
-        LocalDate endDate = today.plusDays(daysAhead);
-        return memberRepository.findUpcomingBirthdays(today, endDate).size();
+        return birthdayCalendarService.countUpcoming(daysAhead);
     }
 }
\ No newline at end of file
@@ -5,18 +5,25 @@ import com.jci.zodiac.dto.request.BulkMemberRequest;
 import com.jci.zodiac.dto.request.BulkUpdateStatusRequest;
 import com.jci.zodiac.dto.request.CreateMemberRequest;
 import com.jci.zodiac.dto.response.BulkOperationResponse;
-import com.jci.zodiac.dto.response.MemberResponse;
 import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.event.MemberChangedEvent;
+import com.jci.zodiac.event.MembersChangedEvent;
+import com.jci.zodiac.exception.ResourceNotFoundException;
+import com.jci.zodiac.mapper.MemberMapper;
+import com.jci.zodiac.repository.DepartmentRepository;
 import com.jci.zodiac.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * BulkOperationsService - Handle bulk member operations
@@ -26,45 +33,73 @@ import java.util.Map;
 @Slf4j
 public class BulkOperationsService {
 
-    private final MemberService memberService;
     private final MemberRepository memberRepository;
+    private final MemberMapper memberMapper;
+    private final MemberBulkWriter memberBulkWriter;
+    private final ZodiacUtilityService zodiacUtilityService;
+    private final DepartmentRepository departmentRepository;
+    private final SearchIndexService searchIndexService;
+    private final DataVersionService dataVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.bulk.chunk-size:1000}")
+    private int chunkSize;
 
     /**
      * Bulk create members
+     * Rows are validated up front (one IN query per chunk of emails), then inserted with
+     * JDBC batches in transactions of app.bulk.chunk-size rows; a failing chunk only
+     * rejects its offending rows.
      */
-    @Transactional
     public BulkOperationResponse bulkCreateMembers(BulkMemberRequest request) {
-        log.info("Bulk creating {} members", request.getMembers().size());
+        List<CreateMemberRequest> rows = request.getMembers();
+        log.info("Bulk creating {} members", rows.size());
 
         List<String> successMessages = new ArrayList<>();
         List<String> errorMessages = new ArrayList<>();
-        List<MemberResponse> createdMembers = new ArrayList<>();
-        int successCount = 0;
-        int failureCount = 0;
+        List<Long> createdMemberIds = new ArrayList<>();
 
-        for (int i = 0; i < request.getMembers().size(); i++) {
-            CreateMemberRequest memberRequest = request.getMembers().get(i);
-            try {
-                MemberResponse created = memberService.createMember(memberRequest);
-                createdMembers.add(created);
-                successMessages.add(String.format("Row %d: Created %s (%s)",
-                        i + 1, created.getFullName(), created.getMemberCode()));
-                successCount++;
-            } catch (Exception e) {
+        // Pre-validate every row before writing anything
+        Set<String> takenEmails = findExistingEmails(rows);
+        List<Member> validMembers = new ArrayList<>();
+        List<Integer> rowNumbers = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            CreateMemberRequest memberRequest = rows.get(i);
+            String error = validateNewMember(memberRequest, takenEmails);
+            if (error != null) {
                 errorMessages.add(String.format("Row %d: Failed to create %s - %s",
-                        i + 1, memberRequest.getFullName(), e.getMessage()));
-                failureCount++;
-                log.error("Failed to create member at row {}: {}", i + 1, e.getMessage());
+                        i + 1, memberRequest.getFullName(), error));
+            } else {
+                validMembers.add(memberMapper.toEntity(memberRequest));
+                rowNumbers.add(i + 1);
             }
         }
 
+        for (int start = 0; start < validMembers.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, validMembers.size());
+            MemberBulkWriter.ChunkResult result = memberBulkWriter.insertChunk(
+                    new ArrayList<>(validMembers.subList(start, end)));
+
+            result.inserted().forEach(member -> createdMemberIds.add(member.getId()));
+            for (MemberBulkWriter.RowFailure failure : result.failures()) {
+                errorMessages.add(String.format("Row %d: Failed to create %s - %s",
+                        rowNumbers.get(start + failure.index()), failure.member().getFullName(), failure.message()));
+            }
+            successMessages.add(String.format("Rows %d-%d: Created %d member(s)",
+                    rowNumbers.get(start), rowNumbers.get(end - 1), result.inserted().size()));
+        }
+
+        log.info("Bulk create finished: {} created, {} failed", createdMemberIds.size(), errorMessages.size());
+
         Map<String, Object> details = new HashMap<>();
-        details.put("createdMembers", createdMembers);
+        details.put("createdMemberIds", createdMemberIds);
+        details.put("chunkSize", chunkSize);
 
         return BulkOperationResponse.builder()
-                .totalRequested(request.getMembers().size())
-                .successCount(successCount)
-                .failureCount(failureCount)
+                .totalRequested(rows.size())
+                .successCount(createdMemberIds.size())
+                .failureCount(rows.size() - createdMemberIds.size())
                 .successMessages(successMessages)
                 .errorMessages(errorMessages)
                 .details(details)
@@ -73,121 +108,220 @@ public class BulkOperationsService {
 
     /**
      * Bulk update member status
+     * One UPDATE ... WHERE id IN (...) per chunk of ids
      */
-    @Transactional
     public BulkOperationResponse bulkUpdateStatus(BulkUpdateStatusRequest request) {
         log.info("Bulk updating status for {} members to {}",
                 request.getMemberIds().size(), request.getNewStatus());
 
-        List<String> successMessages = new ArrayList<>();
-        List<String> errorMessages = new ArrayList<>();
-        int successCount = 0;
-        int failureCount = 0;
-
-        for (Long memberId : request.getMemberIds()) {
-            try {
-                Member member = memberRepository.findById(memberId)
-                        .orElseThrow(() -> new RuntimeException("Member not found: " + memberId));
-
-                Member.MembershipStatus oldStatus = member.getMembershipStatus();
-                member.setMembershipStatus(request.getNewStatus());
-                memberRepository.save(member);
-
-                successMessages.add(String.format("Member %s (%s): %s → %s",
-                        member.getMemberCode(), member.getFullName(), oldStatus, request.getNewStatus()));
-                successCount++;
-            } catch (Exception e) {
-                errorMessages.add(String.format("Member ID %d: %s", memberId, e.getMessage()));
-                failureCount++;
-                log.error("Failed to update status for member {}: {}", memberId, e.getMessage());
-            }
-        }
-
-        return BulkOperationResponse.builder()
-                .totalRequested(request.getMemberIds().size())
-                .successCount(successCount)
-                .failureCount(failureCount)
-                .successMessages(successMessages)
-                .errorMessages(errorMessages)
-                .build();
+        return updateInChunks(request.getMemberIds(),
+                rows -> updateStatus(rows, request.getNewStatus()),
+                row -> String.format("Member %s (%s): %s → %s",
+                        row.memberCode(), row.fullName(), row.state().membershipStatus(), request.getNewStatus()));
     }
 
     /**
      * Bulk delete members
+     * Soft delete is a bulk status change to Inactive; permanent delete is one DELETE per chunk
      */
-    @Transactional
     public BulkOperationResponse bulkDeleteMembers(BulkDeleteRequest request) {
         log.info("Bulk deleting {} members (permanent: {})",
                 request.getMemberIds().size(), request.isPermanent());
 
-        List<String> successMessages = new ArrayList<>();
-        List<String> errorMessages = new ArrayList<>();
-        int successCount = 0;
-        int failureCount = 0;
-
-        for (Long memberId : request.getMemberIds()) {
-            try {
-                if (request.isPermanent()) {
-                    memberService.permanentlyDeleteMember(memberId);
-                    successMessages.add(String.format("Member ID %d: Permanently deleted", memberId));
-                } else {
-                    memberService.deleteMember(memberId);
-                    successMessages.add(String.format("Member ID %d: Soft deleted (status changed to Inactive)", memberId));
-                }
-                successCount++;
-            } catch (Exception e) {
-                errorMessages.add(String.format("Member ID %d: %s", memberId, e.getMessage()));
-                failureCount++;
-                log.error("Failed to delete member {}: {}", memberId, e.getMessage());
-            }
+        if (!request.isPermanent()) {
+            return updateInChunks(request.getMemberIds(),
+                    rows -> updateStatus(rows, Member.MembershipStatus.Inactive),
+                    row -> String.format("Member ID %d: Soft deleted (status changed to Inactive)", row.id()));
         }
 
-        return BulkOperationResponse.builder()
-                .totalRequested(request.getMemberIds().size())
-                .successCount(successCount)
-                .failureCount(failureCount)
-                .successMessages(successMessages)
-                .errorMessages(errorMessages)
-                .build();
+        return updateInChunks(request.getMemberIds(), rows -> {
+            List<Long> ids = rows.stream().map(BulkRow::id).toList();
+            checkAffected(memberRepository.bulkDelete(ids), rows);
+
+            Map<Long, Integer> removedPerDepartment = new HashMap<>();
+            rows.stream()
+                    .filter(row -> row.state().departmentId() != null)
+                    .forEach(row -> removedPerDepartment.merge(row.state().departmentId(), -1, Integer::sum));
+            removedPerDepartment.forEach(departmentRepository::adjustMemberCount);
+            searchIndexService.removeAllAfterCommit(SearchIndexService.DocumentType.MEMBER, ids);
+
+            return rows.stream()
+                    .map(row -> new MemberChangedEvent(MemberChangedEvent.ChangeType.DELETED, row.state(), null))
+                    .toList();
+        }, row -> String.format("Member ID %d: Permanently deleted", row.id()));
     }
 
     /**
      * Bulk update department
+     * One UPDATE per chunk of ids, plus one member_count adjustment per department touched
      */
-    @Transactional
     public BulkOperationResponse bulkUpdateDepartment(List<Long> memberIds, Long newDepartmentId) {
         log.info("Bulk updating department for {} members to department {}",
                 memberIds.size(), newDepartmentId);
 
+        if (!departmentRepository.existsById(newDepartmentId)) {
+            throw new ResourceNotFoundException("Department", "id", newDepartmentId);
+        }
+
+        return updateInChunks(memberIds, rows -> {
+            LocalDateTime now = LocalDateTime.now();
+            checkAffected(memberRepository.bulkUpdateDepartment(
+                    rows.stream().map(BulkRow::id).toList(), newDepartmentId, now), rows);
+
+            List<BulkRow> moved = rows.stream()
+                    .filter(row -> !newDepartmentId.equals(row.state().departmentId()))
+                    .toList();
+            Map<Long, Integer> deltas = new HashMap<>();
+            for (BulkRow row : moved) {
+                if (row.state().departmentId() != null) {
+                    deltas.merge(row.state().departmentId(), -1, Integer::sum);
+                }
+                deltas.merge(newDepartmentId, 1, Integer::sum);
+            }
+            deltas.forEach(departmentRepository::adjustMemberCount);
+
+            return moved.stream()
+                    .map(row -> updated(row, new MemberChangedEvent.MemberState(row.id(),
+                            row.state().dateOfBirth(), row.state().joinDate(), row.state().zodiacSign(),
+                            row.state().zodiacElement(), newDepartmentId, row.state().membershipStatus(),
+                            row.state().leftDate())))
+                    .toList();
+        }, row -> String.format("Member %s (%s): Department updated", row.memberCode(), row.fullName()));
+    }
+
+    // ==================== Helper Methods ====================
+
+    /** A locked member row: display fields plus its state before the bulk write */
+    private record BulkRow(Long id, String memberCode, String fullName, MemberChangedEvent.MemberState state) {
+    }
+
+    /** Writes one chunk of found rows and returns the resulting member changes */
+    @FunctionalInterface
+    private interface ChunkUpdate {
+        List<MemberChangedEvent> apply(List<BulkRow> rows);
+    }
+
+    /**
+     * Run a set-based write over the ids in chunks of app.bulk.chunk-size, one transaction each
+     * Rows are locked and read first, so per-id outcomes (updated / not found) come from the
+     * found set, checked against the affected-row count. A failing chunk only fails its own ids.
+     */
+    private BulkOperationResponse updateInChunks(List<Long> memberIds, ChunkUpdate update,
+                                                 Function<BulkRow, String> successMessage) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(memberIds));
         List<String> successMessages = new ArrayList<>();
         List<String> errorMessages = new ArrayList<>();
-        int successCount = 0;
-        int failureCount = 0;
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
 
-        for (Long memberId : memberIds) {
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            List<Long> chunk = ids.subList(start, Math.min(start + chunkSize, ids.size()));
+            List<String> chunkSuccesses = new ArrayList<>();
+            List<String> chunkErrors = new ArrayList<>();
             try {
-                Member member = memberRepository.findById(memberId)
-                        .orElseThrow(() -> new RuntimeException("Member not found: " + memberId));
-
-                member.setDepartmentId(newDepartmentId);
-                memberRepository.save(member);
-
-                successMessages.add(String.format("Member %s (%s): Department updated",
-                        member.getMemberCode(), member.getFullName()));
-                successCount++;
-            } catch (Exception e) {
-                errorMessages.add(String.format("Member ID %d: %s", memberId, e.getMessage()));
-                failureCount++;
-                log.error("Failed to update department for member {}: {}", memberId, e.getMessage());
+                chunkTransaction.executeWithoutResult(status -> {
+                    Map<Long, BulkRow> rows = findRowsForUpdate(chunk);
+                    if (!rows.isEmpty()) {
+                        List<MemberChangedEvent> changes = update.apply(new ArrayList<>(rows.values()));
+                        if (!changes.isEmpty()) {
+                            eventPublisher.publishEvent(new MembersChangedEvent(changes));
+                        }
+                        dataVersionService.bumpAfterCommit();
+                    }
+                    for (Long id : chunk) {
+                        BulkRow row = rows.get(id);
+                        if (row != null) {
+                            chunkSuccesses.add(successMessage.apply(row));
+                        } else {
+                            chunkErrors.add(String.format("Member ID %d: Member not found: %d", id, id));
+                        }
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.error("Bulk write failed for {} member id(s): {}", chunk.size(), e.getMessage());
+                chunkSuccesses.clear();
+                chunkErrors.clear();
+                chunk.forEach(id -> chunkErrors.add(String.format("Member ID %d: %s", id, e.getMessage())));
             }
+            successMessages.addAll(chunkSuccesses);
+            errorMessages.addAll(chunkErrors);
         }
 
         return BulkOperationResponse.builder()
                 .totalRequested(memberIds.size())
-                .successCount(successCount)
-                .failureCount(failureCount)
+                .successCount(successMessages.size())
+                .failureCount(errorMessages.size())
                 .successMessages(successMessages)
                 .errorMessages(errorMessages)
                 .build();
     }
-}
\ No newline at end of file
+
+    private Map<Long, BulkRow> findRowsForUpdate(List<Long> ids) {
+        Map<Long, BulkRow> rows = new HashMap<>();
+        for (Object[] row : memberRepository.findBulkRowsForUpdate(ids)) {
+            Long id = (Long) row[0];
+            rows.put(id, new BulkRow(id, (String) row[1], (String) row[2], new MemberChangedEvent.MemberState(
+                    id,
+                    (LocalDate) row[3],
+                    (LocalDate) row[4],
+                    (Member.ZodiacSign) row[5],
+                    (Member.ZodiacElement) row[6],
+                    (Long) row[7],
+                    (Member.MembershipStatus) row[8],
+                    (LocalDate) row[9])));
+        }
+        return rows;
+    }
+
+    private List<MemberChangedEvent> updateStatus(List<BulkRow> rows, Member.MembershipStatus newStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        checkAffected(memberRepository.bulkUpdateStatus(rows.stream().map(BulkRow::id).toList(),
+                newStatus, newStatus.hasLeft(), now.toLocalDate(), now), rows);
+
+        return rows.stream()
+                .filter(row -> row.state().membershipStatus() != newStatus)
+                .map(row -> updated(row, new MemberChangedEvent.MemberState(row.id(),
+                        row.state().dateOfBirth(), row.state().joinDate(), row.state().zodiacSign(),
+                        row.state().zodiacElement(), row.state().departmentId(), newStatus,
+                        Member.leftDateFor(newStatus, row.state().leftDate(), now.toLocalDate()))))
+                .toList();
+    }
+
+    private MemberChangedEvent updated(BulkRow row, MemberChangedEvent.MemberState after) {
+        return new MemberChangedEvent(MemberChangedEvent.ChangeType.UPDATED, row.state(), after);
+    }
+
+    // The rows are locked, so anything but a full match means they changed underneath us
+    private void checkAffected(int affected, List<BulkRow> rows) {
+        if (affected != rows.size()) {
+            throw new IllegalStateException(String.format(
+                    "Expected to write %d member row(s) but %d were affected", rows.size(), affected));
+        }
+    }
+
+    // Existing emails (lower-cased), looked up with one IN query per chunk of rows
+    private Set<String> findExistingEmails(List<CreateMemberRequest> rows) {
+        List<String> emails = rows.stream()
+                .map(CreateMemberRequest::getEmail)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Set<String> existing = new HashSet<>();
+        for (int start = 0; start < emails.size(); start += chunkSize) {
+            List<String> chunk = emails.subList(start, Math.min(start + chunkSize, emails.size()));
+            memberRepository.findExistingEmails(chunk).forEach(email -> existing.add(email.toLowerCase()));
+        }
+        return existing;
+    }
+
+    // Same rules as MemberService.createMember; claims the email so later duplicate rows are rejected
+    private String validateNewMember(CreateMemberRequest request, Set<String> takenEmails) {
+        if (!zodiacUtilityService.isValidDateOfBirth(request.getDateOfBirth())) {
+            return "Invalid date of birth. Member must be at least 18 years old.";
+        }
+        if (request.getEmail() != null && !takenEmails.add(request.getEmail().toLowerCase())) {
+            return "Member already exists with email: '" + request.getEmail() + "'";
+        }
+        return null;
+    }
+}
@@ -3,8 +3,10 @@ package com.jci.zodiac.service;
 import com.jci.zodiac.entity.Member;
 import com.jci.zodiac.entity.ZodiacCompatibility;
 import com.jci.zodiac.exception.ResourceNotFoundException;
+import com.jci.zodiac.repository.DetailRows;
 import com.jci.zodiac.repository.MemberRepository;
 import com.jci.zodiac.repository.ZodiacCompatibilityRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,6 +28,7 @@ public class CompatibilityService {
 
     private final ZodiacCompatibilityRepository compatibilityRepository;
     private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
 
     /**
      * Get compatibility between two zodiac signs
@@ -43,6 +46,17 @@ public class CompatibilityService {
                 ));
     }
 
+    /**
+     * Get compatibility between two zodiac signs, including the lazy text columns
+     * For responses serialized after the transaction.
+     */
+    @Transactional(readOnly = true)
+    public ZodiacCompatibility getCompatibilityDetailsBySign(
+            ZodiacCompatibility.ZodiacSign sign1,
+            ZodiacCompatibility.ZodiacSign sign2) {
+        return withDetails(getCompatibilityBySign(sign1, sign2));
+    }
+
     /**
      * Get compatibility between two members
      */
@@ -62,13 +76,23 @@ public class CompatibilityService {
         return getCompatibilityBySign(sign1, sign2);
     }
 
+    /**
+     * Get compatibility between two members, including the lazy text columns
+     */
+    @Transactional(readOnly = true)
+    public ZodiacCompatibility getCompatibilityDetailsByMembers(Long memberId1, Long memberId2) {
+        return withDetails(getCompatibilityByMembers(memberId1, memberId2));
+    }
+
     /**
      * Get all compatibility pairs for a specific sign
      */
     @Transactional(readOnly = true)
     public List<ZodiacCompatibility> getAllCompatibilitiesForSign(ZodiacCompatibility.ZodiacSign sign) {
         log.debug("Fetching all compatibilities for sign: {}", sign);
-        return compatibilityRepository.findAllForSign(sign);
+        return compatibilityRepository.findAllForSignWithDetails(sign).stream()
+                .map(this::fromDetailRow)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -77,8 +101,9 @@ public class CompatibilityService {
     @Transactional(readOnly = true)
     public List<ZodiacCompatibility> getBestMatchesForSign(ZodiacCompatibility.ZodiacSign sign) {
         log.debug("Finding best matches for sign: {}", sign);
-        return compatibilityRepository.findBestMatchesForSign(sign).stream()
+        return compatibilityRepository.findBestMatchesForSignWithDetails(sign).stream()
                 .limit(5)
+                .map(this::fromDetailRow)
                 .collect(Collectors.toList());
     }
 
@@ -89,9 +114,10 @@ public class CompatibilityService {
     public List<ZodiacCompatibility> getBestCompatiblePairs(int limit) {
         log.debug("Finding top {} best compatible pairs", limit);
         return compatibilityRepository
-                .findHighCompatibilityPairs(BigDecimal.valueOf(80))
+                .findHighCompatibilityPairsWithDetails(BigDecimal.valueOf(80))
                 .stream()
                 .limit(limit)
+                .map(this::fromDetailRow)
                 .collect(Collectors.toList());
     }
 
@@ -101,7 +127,9 @@ public class CompatibilityService {
     @Transactional(readOnly = true)
     public List<ZodiacCompatibility> getChallengingPairs() {
         log.debug("Finding challenging pairs");
-        return compatibilityRepository.findLowCompatibilityPairs(BigDecimal.valueOf(50));
+        return compatibilityRepository.findLowCompatibilityPairsWithDetails(BigDecimal.valueOf(50)).stream()
+                .map(this::fromDetailRow)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -218,7 +246,53 @@ public class CompatibilityService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Average compatibility over every member pair, computed from a sign distribution
+     * pairs(a, b) = n(a) * n(b), pairs(a, a) = n(a) * (n(a) - 1) / 2 - no per-member lookups
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal calculateAverageScoreForDistribution(Map<Member.ZodiacSign, Long> signCounts) {
+        Map<String, BigDecimal> scoreByPair = new HashMap<>();
+        for (Object[] row : compatibilityRepository.findAllOverallScores()) {
+            scoreByPair.put(pairKey(row[0].toString(), row[1].toString()), (BigDecimal) row[2]);
+        }
+
+        List<Member.ZodiacSign> signs = signCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        BigDecimal totalScore = BigDecimal.ZERO;
+        long pairCount = 0;
+
+        for (int i = 0; i < signs.size(); i++) {
+            for (int j = i; j < signs.size(); j++) {
+                long n1 = signCounts.get(signs.get(i));
+                long n2 = signCounts.get(signs.get(j));
+                long pairs = i == j ? n1 * (n1 - 1) / 2 : n1 * n2;
+
+                BigDecimal score = scoreByPair.get(pairKey(signs.get(i).name(), signs.get(j).name()));
+                if (pairs == 0 || score == null) {
+                    continue;
+                }
+
+                totalScore = totalScore.add(score.multiply(BigDecimal.valueOf(pairs)));
+                pairCount += pairs;
+            }
+        }
+
+        if (pairCount == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        return totalScore.divide(BigDecimal.valueOf(pairCount), 2, RoundingMode.HALF_UP);
+    }
+
     // Helper methods
+    private String pairKey(String sign1, String sign2) {
+        return sign1.compareTo(sign2) <= 0 ? sign1 + "|" + sign2 : sign2 + "|" + sign1;
+    }
+
     private ZodiacCompatibility.ZodiacSign convertToCompatibilitySign(Member.ZodiacSign memberSign) {
         return ZodiacCompatibility.ZodiacSign.valueOf(memberSign.name());
     }
@@ -269,6 +343,31 @@ public class CompatibilityService {
         return insights;
     }
 
+    /**
+     * Load the lazy text columns (one select for the whole lazy group) so the entity
+     * can still be serialized after the transaction ends
+     */
+    private ZodiacCompatibility withDetails(ZodiacCompatibility compatibility) {
+        compatibility.getStrengthsTogether();
+        return compatibility;
+    }
+
+    /**
+     * Entity from a "WithDetails" list row (entity, then ZodiacCompatibilityRepository.DETAIL_COLUMNS)
+     * Setting a lazy attribute marks it loaded, so no per-row select is issued; the entity is
+     * detached first so that is never flushed as an UPDATE.
+     */
+    private ZodiacCompatibility fromDetailRow(Object[] row) {
+        ZodiacCompatibility compatibility = (ZodiacCompatibility) row[0];
+        if (!DetailRows.detachLoaded(entityManager, compatibility)) {
+            return withDetails(compatibility);
+        }
+        compatibility.setStrengthsTogether((String) row[1]);
+        compatibility.setChallengesTogether((String) row[2]);
+        compatibility.setManagementTips((String) row[3]);
+        return compatibility;
+    }
+
     // DTOs
     public record TeamCompatibilityResult(
             int teamSize,
@@ -6,22 +6,34 @@ import com.jci.zodiac.entity.Member;
 import com.jci.zodiac.entity.Team;
 import com.jci.zodiac.entity.ZodiacCompatibility;
 import com.jci.zodiac.repository.*;
+import com.jci.zodiac.util.BirthdayDates;
+import com.jci.zodiac.util.EnumCounts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.Month;
+import java.time.YearMonth;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * DashboardService - Business logic for dashboard and analytics
+ * Every cached result is keyed by the data version tag (shared version plus today's date).
  */
 @Service
 @RequiredArgsConstructor
@@ -34,46 +46,74 @@ public class DashboardService {
     private final ZodiacCompatibilityRepository compatibilityRepository;
     private final CompatibilityService compatibilityService;
     private final ZodiacUtilityService zodiacUtilityService;
+    private final MembershipRollupService membershipRollupService;
+    private final OrganizationSnapshotService organizationSnapshotService;
+    private final DataVersionService dataVersionService;
+    private final BirthdayCalendarService birthdayCalendarService;
+    private final PlatformTransactionManager transactionManager;
+    private final ThreadPoolTaskExecutor dashboardExecutor;
+
+    @Value("${app.dashboard.section-timeout-ms:3000}")
+    private long sectionTimeoutMs;
 
     /**
      * Get main dashboard overview
+     * Independent sections run concurrently, each in its own read-only transaction.
+     * A section that fails or exceeds the timeout falls back to an empty value and is
+     * reported in degradedSections; degraded overviews are not cached.
      */
-    @Transactional(readOnly = true)
-    @Cacheable(value = "dashboardOverview", unless = "#result == null")
+    @Cacheable(value = "dashboardOverview", key = "@dataVersionService.currentTag()",
+            unless = "#result == null || #result.degradedSections != null")
     public DashboardOverviewResponse getDashboardOverview() {
         log.info("Generating dashboard overview");
 
-        // Quick Stats
-        long totalMembers = memberRepository.count();
-        long activeMembers = memberRepository.countActive();
-        long totalDepartments = departmentRepository.count();
-        long activeTeams = teamRepository.countByStatus(Team.Status.Active);
+        Set<String> degraded = ConcurrentHashMap.newKeySet();
+
+        CompletableFuture<long[]> countsFuture = runSection("quickStats", () -> new long[]{
+                memberRepository.count(),
+                memberRepository.countActive(),
+                departmentRepository.count(),
+                teamRepository.countByStatus(Team.Status.Active)
+        }, new long[4], degraded);
+        CompletableFuture<BigDecimal> avgCompatibilityFuture = runSection("averageCompatibility",
+                this::calculateAverageOrgCompatibility, BigDecimal.ZERO, degraded);
+        CompletableFuture<Map<Member.ZodiacSign, Long>> signCountsFuture = runSection("zodiacInsights",
+                this::countActiveBySign, Collections.emptyMap(), degraded);
+        CompletableFuture<Map<Member.ZodiacElement, Long>> elementCountsFuture = runSection("zodiacInsights",
+                this::countActiveByElement, Collections.emptyMap(), degraded);
+        CompletableFuture<Integer> conflictsFuture = runSection("totalConflicts",
+                this::countTotalConflicts, 0, degraded);
+        CompletableFuture<Integer> excellentPairsFuture = runSection("excellentPairs",
+                this::countExcellentPairs, 0, degraded);
+        CompletableFuture<List<DashboardOverviewResponse.RecentActivity>> recentActivitiesFuture =
+                runSection("recentActivities", this::getRecentActivities, Collections.emptyList(), degraded);
+        CompletableFuture<List<DashboardOverviewResponse.UpcomingEvent>> upcomingEventsFuture =
+                runSection("upcomingEvents", this::getUpcomingEvents, Collections.emptyList(), degraded);
 
-        // Average organization compatibility
-        BigDecimal avgCompatibility = calculateAverageOrgCompatibility();
-        String compatibilityTrend = determineCompatibilityTrend(avgCompatibility);
+        // Quick Stats
+        long[] counts = countsFuture.join();
+        BigDecimal avgCompatibility = avgCompatibilityFuture.join();
+        String compatibilityTrend = runSection("compatibilityTrend",
+                () -> organizationSnapshotService.getCompatibilityTrend(avgCompatibility), "STABLE", degraded).join();
 
         DashboardOverviewResponse.QuickStats quickStats = DashboardOverviewResponse.QuickStats.builder()
-                .totalMembers(totalMembers)
-                .activeMembers(activeMembers)
-                .totalDepartments(totalDepartments)
-                .activeTeams(activeTeams)
+                .totalMembers(counts[0])
+                .activeMembers(counts[1])
+                .totalDepartments(counts[2])
+                .activeTeams(counts[3])
                 .averageOrganizationCompatibility(avgCompatibility)
                 .compatibilityTrend(compatibilityTrend)
                 .build();
 
         // Zodiac Insights
-        List<Member> allActiveMembers = memberRepository.findByMembershipStatus(Member.MembershipStatus.Active);
+        Map<Member.ZodiacSign, Long> signCounts = signCountsFuture.join();
+        Map<Member.ZodiacElement, Long> elementBalance = elementCountsFuture.join();
 
-        Member.ZodiacSign mostCommonSign = zodiacUtilityService.getMostCommonZodiacSign(allActiveMembers);
-        Map<Member.ZodiacElement, Long> elementBalance = zodiacUtilityService.calculateElementBalance(allActiveMembers);
-        Member.ZodiacElement mostCommonElement = elementBalance.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
+        Member.ZodiacSign mostCommonSign = mostCommon(signCounts);
+        Member.ZodiacElement mostCommonElement = mostCommon(elementBalance);
 
-        int totalConflicts = countTotalConflicts();
-        int excellentPairs = countExcellentPairs();
+        int totalConflicts = conflictsFuture.join();
+        int excellentPairs = excellentPairsFuture.join();
         String organizationVibe = determineOrganizationVibe(mostCommonElement, avgCompatibility);
 
         DashboardOverviewResponse.ZodiacInsights zodiacInsights = DashboardOverviewResponse.ZodiacInsights.builder()
@@ -85,13 +125,13 @@ public class DashboardService {
                 .build();
 
         // Recent Activities
-        List<DashboardOverviewResponse.RecentActivity> recentActivities = getRecentActivities();
+        List<DashboardOverviewResponse.RecentActivity> recentActivities = recentActivitiesFuture.join();
 
         // Upcoming Events
-        List<DashboardOverviewResponse.UpcomingEvent> upcomingEvents = getUpcomingEvents();
+        List<DashboardOverviewResponse.UpcomingEvent> upcomingEvents = upcomingEventsFuture.join();
 
         // Alerts
-        List<String> alerts = generateAlerts(totalConflicts, elementBalance);
+        List<String> alerts = generateAlerts(totalConflicts, elementBalance, degraded);
 
         return DashboardOverviewResponse.builder()
                 .quickStats(quickStats)
@@ -99,6 +139,7 @@ public class DashboardService {
                 .recentActivities(recentActivities)
                 .upcomingEvents(upcomingEvents)
                 .alerts(alerts)
+                .degradedSections(degraded.isEmpty() ? null : new ArrayList<>(new TreeSet<>(degraded)))
                 .build();
     }
 
@@ -106,7 +147,7 @@ public class DashboardService {
      * Get zodiac distribution data for pie chart
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "zodiacDistribution", unless = "#result == null")
+    @Cacheable(value = "zodiacDistribution", key = "@dataVersionService.currentTag()", unless = "#result == null")
     public ChartDataResponse getZodiacDistribution() {
         log.info("Generating zodiac distribution chart data");
 
@@ -142,7 +183,7 @@ public class DashboardService {
      * Get element balance data for bar chart
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "elementBalance", unless = "#result == null")
+    @Cacheable(value = "elementBalance", key = "@dataVersionService.currentTag()", unless = "#result == null")
     public ChartDataResponse getElementBalance() {
         log.info("Generating element balance chart data");
 
@@ -182,7 +223,7 @@ public class DashboardService {
      * Get department breakdown
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "departmentBreakdown", unless = "#result == null")
+    @Cacheable(value = "departmentBreakdown", key = "@dataVersionService.currentTag()", unless = "#result == null")
     public ChartDataResponse getDepartmentBreakdown() {
         log.info("Generating department breakdown chart data");
 
@@ -217,36 +258,30 @@ public class DashboardService {
      * Get timeline data for new hires
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "timelineData", key = "#months", unless = "#result == null")
+    @Cacheable(value = "timelineData", key = "#months + ':' + @dataVersionService.currentTag()", unless = "#result == null")
     public TimelineDataResponse getTimelineData(int months) {
         log.info("Generating timeline data for last {} months", months);
 
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusMonths(months);
 
-        List<Member> newHires = memberRepository.findRecentJoins(startDate);
+        // Pre-aggregated joins per month and sign (oldest first)
+        SortedMap<YearMonth, Map<Member.ZodiacSign, Long>> joinsByMonth = membershipRollupService.getMonthlyJoinsBySign(startDate);
 
-        // Group by month
-        Map<String, List<Member>> membersByMonth = newHires.stream()
-                .collect(Collectors.groupingBy(member ->
-                        member.getJoinDate().getMonth().name() + " " + member.getJoinDate().getYear()
-                ));
-
-        List<TimelineDataResponse.TimelineEvent> events = membersByMonth.entrySet().stream()
+        List<TimelineDataResponse.TimelineEvent> events = joinsByMonth.entrySet().stream()
                 .map(entry -> {
-                    List<Member> monthMembers = entry.getValue();
-                    Member.ZodiacSign mostCommonInMonth = zodiacUtilityService.getMostCommonZodiacSign(monthMembers);
+                    long monthTotal = entry.getValue().values().stream().mapToLong(Long::longValue).sum();
+                    Member.ZodiacSign mostCommonInMonth = mostCommon(entry.getValue());
 
                     return TimelineDataResponse.TimelineEvent.builder()
-                            .date(monthMembers.get(0).getJoinDate())
+                            .date(entry.getKey().atDay(1))
                             .eventType("NEW_HIRES")
-                            .description(String.format("%d new member(s) joined", monthMembers.size()))
+                            .description(String.format("%d new member(s) joined", monthTotal))
                             .zodiacSign(mostCommonInMonth != null ? mostCommonInMonth.name() : "Mixed")
                             .zodiacSymbol(mostCommonInMonth != null ? zodiacUtilityService.getZodiacSymbol(mostCommonInMonth) : "🌟")
-                            .count(monthMembers.size())
+                            .count((int) monthTotal)
                             .build();
                 })
-                .sorted(Comparator.comparing(TimelineDataResponse.TimelineEvent::getDate))
                 .collect(Collectors.toList());
 
         return TimelineDataResponse.builder()
@@ -259,100 +294,117 @@ public class DashboardService {
 
     /**
      * Get organization-wide statistics
+     * Each statistics block is assembled concurrently in its own read-only transaction;
+     * a block that fails or times out is left null and listed in degradedSections.
      */
-    @Transactional(readOnly = true)
-    @Cacheable(value = "organizationStats", unless = "#result == null")
+    @Cacheable(value = "organizationStats", key = "@dataVersionService.currentTag()",
+            unless = "#result == null || #result.degradedSections != null")
     public OrganizationStatisticsResponse getOrganizationStatistics() {
         log.info("Generating organization statistics");
 
-        // Member Stats
-        List<Member> allMembers = memberRepository.findAll();
-        long activeCount = memberRepository.countActive();
-        LocalDate oneMonthAgo = LocalDate.now().minusMonths(1);
-        List<Member> newThisMonth = memberRepository.findRecentJoins(oneMonthAgo);
-
-        Map<String, Long> membersByDepartment = allMembers.stream()
-                .filter(m -> m.getDepartmentId() != null)
-                .collect(Collectors.groupingBy(
-                        m -> departmentRepository.findById(m.getDepartmentId())
-                                .map(Department::getName)
-                                .orElse("Unassigned"),
-                        Collectors.counting()
-                ));
-
-        OrganizationStatisticsResponse.MemberStats memberStats = OrganizationStatisticsResponse.MemberStats.builder()
-                .total((long) allMembers.size())
-                .active(activeCount)
-                .inactive(allMembers.stream().filter(m -> m.getMembershipStatus() == Member.MembershipStatus.Inactive).count())
-                .onLeave(allMembers.stream().filter(m -> m.getMembershipStatus() == Member.MembershipStatus.OnLeave).count())
-                .newThisMonth((long) newThisMonth.size())
+        Set<String> degraded = ConcurrentHashMap.newKeySet();
+
+        CompletableFuture<OrganizationStatisticsResponse.MemberStats> memberStatsFuture =
+                runSection("memberStats", this::buildMemberStats, null, degraded);
+        CompletableFuture<OrganizationStatisticsResponse.DepartmentStats> departmentStatsFuture =
+                runSection("departmentStats", this::buildDepartmentStats, null, degraded);
+        CompletableFuture<OrganizationStatisticsResponse.TeamStats> teamStatsFuture =
+                runSection("teamStats", this::buildTeamStats, null, degraded);
+        CompletableFuture<OrganizationStatisticsResponse.ZodiacStats> zodiacStatsFuture =
+                runSection("zodiacStats", this::buildZodiacStats, null, degraded);
+        CompletableFuture<OrganizationStatisticsResponse.CompatibilityStats> compatibilityStatsFuture =
+                runSection("compatibilityStats", this::buildCompatibilityStats, null, degraded);
+
+        return OrganizationStatisticsResponse.builder()
+                .memberStats(memberStatsFuture.join())
+                .departmentStats(departmentStatsFuture.join())
+                .teamStats(teamStatsFuture.join())
+                .zodiacStats(zodiacStatsFuture.join())
+                .compatibilityStats(compatibilityStatsFuture.join())
+                .degradedSections(degraded.isEmpty() ? null : new ArrayList<>(new TreeSet<>(degraded)))
+                .build();
+    }
+
+    private OrganizationStatisticsResponse.MemberStats buildMemberStats() {
+        Map<Member.MembershipStatus, Long> byStatus = EnumCounts.of(
+                memberRepository.countByMembershipStatus(), Member.MembershipStatus.class);
+        long newThisMonth = memberRepository.countRecentJoins(LocalDate.now().minusMonths(1));
+
+        Map<String, Long> membersByDepartment = new HashMap<>();
+        for (Object[] row : memberRepository.countByDepartmentName()) {
+            String name = row[0] != null ? (String) row[0] : "Unassigned";
+            membersByDepartment.merge(name, toLong(row[1]), Long::sum);
+        }
+
+        return OrganizationStatisticsResponse.MemberStats.builder()
+                .total(byStatus.values().stream().mapToLong(Long::longValue).sum())
+                .active(byStatus.get(Member.MembershipStatus.Active))
+                .inactive(byStatus.get(Member.MembershipStatus.Inactive))
+                .onLeave(byStatus.get(Member.MembershipStatus.OnLeave))
+                .newThisMonth(newThisMonth)
                 .byDepartment(membersByDepartment)
                 .build();
+    }
 
-        // Department Stats
-        List<Department> allDepartments = departmentRepository.findAll();
-        OrganizationStatisticsResponse.DepartmentStats departmentStats = OrganizationStatisticsResponse.DepartmentStats.builder()
-                .total((long) allDepartments.size())
-                .active(departmentRepository.countActive())
-                .withLeaders(allDepartments.stream().filter(d -> d.getLeadMemberId() != null).count())
-                .withoutMembers(allDepartments.stream().filter(d -> d.getMemberCount() == 0).count())
-                .largestDepartment(allDepartments.stream()
-                        .max(Comparator.comparing(Department::getMemberCount))
+    private OrganizationStatisticsResponse.DepartmentStats buildDepartmentStats() {
+        Object[] summary = departmentRepository.summarizeDepartments().get(0);
+        return OrganizationStatisticsResponse.DepartmentStats.builder()
+                .total(toLong(summary[0]))
+                .active(toLong(summary[1]))
+                .withLeaders(toLong(summary[2]))
+                .withoutMembers(toLong(summary[3]))
+                .largestDepartment(departmentRepository.findFirstByOrderByMemberCountDesc()
                         .map(Department::getName)
                         .orElse("N/A"))
                 .build();
+    }
+
+    private OrganizationStatisticsResponse.TeamStats buildTeamStats() {
+        Map<Team.Status, Long> byStatus = new EnumMap<>(Team.Status.class);
+        long withConflicts = 0;
+        for (Object[] row : teamRepository.summarizeByStatus()) {
+            byStatus.put((Team.Status) row[0], toLong(row[1]));
+            withConflicts += toLong(row[2]);
+        }
 
-        // Team Stats
-        List<Team> allTeams = teamRepository.findAll();
-        OrganizationStatisticsResponse.TeamStats teamStats = OrganizationStatisticsResponse.TeamStats.builder()
-                .total((long) allTeams.size())
-                .active(teamRepository.countByStatus(Team.Status.Active))
-                .planning(teamRepository.countByStatus(Team.Status.Planning))
-                .completed(teamRepository.countByStatus(Team.Status.Completed))
-                .withConflicts((long) teamRepository.findTeamsWithConflicts().size())
+        return OrganizationStatisticsResponse.TeamStats.builder()
+                .total(byStatus.values().stream().mapToLong(Long::longValue).sum())
+                .active(byStatus.getOrDefault(Team.Status.Active, 0L))
+                .planning(byStatus.getOrDefault(Team.Status.Planning, 0L))
+                .completed(byStatus.getOrDefault(Team.Status.Completed, 0L))
+                .withConflicts(withConflicts)
                 .build();
+    }
 
-        // Zodiac Stats
-        List<Member> activeMembers = memberRepository.findByMembershipStatus(Member.MembershipStatus.Active);
-        Map<Member.ZodiacSign, Long> zodiacDist = zodiacUtilityService.calculateZodiacDistribution(activeMembers);
-        Map<Member.ZodiacElement, Long> elementDist = zodiacUtilityService.calculateElementBalance(activeMembers);
+    private OrganizationStatisticsResponse.ZodiacStats buildZodiacStats() {
+        Map<Member.ZodiacSign, Long> zodiacDist = countActiveBySign();
+        Map<Member.ZodiacElement, Long> elementDist = countActiveByElement();
 
-        OrganizationStatisticsResponse.ZodiacStats zodiacStats = OrganizationStatisticsResponse.ZodiacStats.builder()
+        Member.ZodiacSign mostCommonSign = mostCommon(zodiacDist);
+        Member.ZodiacSign leastCommonSign = zodiacDist.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .min(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+        Member.ZodiacElement dominantElement = mostCommon(elementDist);
+
+        return OrganizationStatisticsResponse.ZodiacStats.builder()
                 .signDistribution(zodiacDist)
                 .elementDistribution(elementDist)
-                .mostCommonSign(zodiacUtilityService.getMostCommonZodiacSign(activeMembers) != null ?
-                        zodiacUtilityService.getMostCommonZodiacSign(activeMembers).name() : "N/A")
-                .leastCommonSign(zodiacUtilityService.getLeastCommonZodiacSign(activeMembers) != null ?
-                        zodiacUtilityService.getLeastCommonZodiacSign(activeMembers).name() : "N/A")
-                .dominantElement(elementDist.entrySet().stream()
-                        .max(Map.Entry.comparingByValue())
-                        .map(e -> e.getKey().name())
-                        .orElse("N/A"))
-                .isBalanced(zodiacUtilityService.isTeamBalanced(activeMembers))
+                .mostCommonSign(mostCommonSign != null ? mostCommonSign.name() : "N/A")
+                .leastCommonSign(leastCommonSign != null ? leastCommonSign.name() : "N/A")
+                .dominantElement(dominantElement != null ? dominantElement.name() : "N/A")
+                .isBalanced(elementDist.values().stream().noneMatch(count -> count == 0))
                 .build();
+    }
 
-        // Compatibility Stats
-        BigDecimal avgCompat = calculateAverageOrgCompatibility();
-        int excellentPairs = countExcellentPairs();
-        int goodPairs = countGoodPairs();
-        int conflictPairs = countConflictPairs();
-        int criticalConflicts = countCriticalConflicts();
-
-        OrganizationStatisticsResponse.CompatibilityStats compatibilityStats =
-                OrganizationStatisticsResponse.CompatibilityStats.builder()
-                        .averageOrgCompatibility(avgCompat)
-                        .totalExcellentPairs(excellentPairs)
-                        .totalGoodPairs(goodPairs)
-                        .totalConflictPairs(conflictPairs)
-                        .criticalConflicts(criticalConflicts)
-                        .build();
-
-        return OrganizationStatisticsResponse.builder()
-                .memberStats(memberStats)
-                .departmentStats(departmentStats)
-                .teamStats(teamStats)
-                .zodiacStats(zodiacStats)
-                .compatibilityStats(compatibilityStats)
+    private OrganizationStatisticsResponse.CompatibilityStats buildCompatibilityStats() {
+        return OrganizationStatisticsResponse.CompatibilityStats.builder()
+                .averageOrgCompatibility(calculateAverageOrgCompatibility())
+                .totalExcellentPairs(countExcellentPairs())
+                .totalGoodPairs(countGoodPairs())
+                .totalConflictPairs(countConflictPairs())
+                .criticalConflicts(countCriticalConflicts())
                 .build();
     }
 
@@ -417,71 +469,85 @@ public class DashboardService {
 
     /**
      * Refresh all dashboard caches
+     * Bumps the data version so clients holding an old ETag re-fetch as well.
      */
-    @CacheEvict(value = {"dashboardOverview", "zodiacDistribution", "elementBalance",
-            "departmentBreakdown", "timelineData", "organizationStats"}, allEntries = true)
     public void refreshCache() {
+        dataVersionService.bump();
         log.info("Dashboard cache refreshed");
     }
 
     // ==================== Helper Methods ====================
 
-    private BigDecimal calculateAverageOrgCompatibility() {
-        List<Member> activeMembers = memberRepository.findByMembershipStatus(Member.MembershipStatus.Active);
-
-        if (activeMembers.size() < 2) {
-            return BigDecimal.ZERO;
-        }
-
-        BigDecimal totalScore = BigDecimal.ZERO;
-        int pairCount = 0;
-
-        for (int i = 0; i < Math.min(activeMembers.size(), 10); i++) {
-            for (int j = i + 1; j < Math.min(activeMembers.size(), 10); j++) {
-                try {
-                    ZodiacCompatibility compat = compatibilityService.getCompatibilityByMembers(
-                            activeMembers.get(i).getId(),
-                            activeMembers.get(j).getId()
-                    );
-                    totalScore = totalScore.add(compat.getOverallScore());
-                    pairCount++;
-                } catch (Exception e) {
-                    log.warn("Error calculating compatibility: {}", e.getMessage());
-                }
-            }
-        }
-
-        if (pairCount == 0) {
-            return BigDecimal.ZERO;
+    /**
+     * Run one dashboard section on the dashboard executor inside its own read-only transaction.
+     * Completes with the fallback (and records the section as degraded) on failure, rejection or timeout.
+     */
+    private <T> CompletableFuture<T> runSection(String section, Supplier<T> supplier, T fallback, Set<String> degraded) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs)));
+
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> supplier.get()), dashboardExecutor);
+        } catch (RejectedExecutionException e) {
+            future = CompletableFuture.failedFuture(e);
         }
 
-        return totalScore.divide(BigDecimal.valueOf(pairCount), 2, RoundingMode.HALF_UP);
+        return future
+                .orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn("Dashboard section '{}' degraded: {}", section, ex.toString());
+                    degraded.add(section);
+                    return fallback;
+                });
     }
 
-    private String determineCompatibilityTrend(BigDecimal avgScore) {
-        if (avgScore.compareTo(BigDecimal.valueOf(70)) >= 0) return "UP";
-        if (avgScore.compareTo(BigDecimal.valueOf(50)) >= 0) return "STABLE";
-        return "DOWN";
+    private BigDecimal calculateAverageOrgCompatibility() {
+        return compatibilityService.calculateAverageScoreForDistribution(countActiveBySign());
     }
 
     private int countTotalConflicts() {
-        return compatibilityRepository.findLowCompatibilityPairs(BigDecimal.valueOf(40)).size();
+        return (int) compatibilityRepository.countLowCompatibilityPairs(BigDecimal.valueOf(40));
     }
 
     private int countExcellentPairs() {
-        return compatibilityRepository.findHighCompatibilityPairs(BigDecimal.valueOf(80)).size();
+        return (int) compatibilityRepository.countHighCompatibilityPairs(BigDecimal.valueOf(80));
     }
 
     private int countGoodPairs() {
-        return compatibilityRepository.findHighCompatibilityPairs(BigDecimal.valueOf(65)).size();
+        return (int) compatibilityRepository.countHighCompatibilityPairs(BigDecimal.valueOf(65));
     }
 
     private int countConflictPairs() {
-        return compatibilityRepository.findLowCompatibilityPairs(BigDecimal.valueOf(50)).size();
+        return (int) compatibilityRepository.countLowCompatibilityPairs(BigDecimal.valueOf(50));
     }
 
     private int countCriticalConflicts() {
-        return compatibilityRepository.findLowCompatibilityPairs(BigDecimal.valueOf(30)).size();
+        return (int) compatibilityRepository.countLowCompatibilityPairs(BigDecimal.valueOf(30));
+    }
+
+    private Map<Member.ZodiacSign, Long> countActiveBySign() {
+        return EnumCounts.of(memberRepository.countActiveByZodiacSign(), Member.ZodiacSign.class);
+    }
+
+    private Map<Member.ZodiacElement, Long> countActiveByElement() {
+        return EnumCounts.of(memberRepository.countActiveByZodiacElement(), Member.ZodiacElement.class);
+    }
+
+    /**
+     * Key with the highest non-zero count, or null when every count is zero
+     */
+    private <E> E mostCommon(Map<E, Long> counts) {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+
+    private long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
     }
 
     private String determineOrganizationVibe(Member.ZodiacElement dominantElement, BigDecimal avgCompat) {
@@ -520,21 +586,15 @@ public class DashboardService {
         LocalDate today = LocalDate.now();
         LocalDate nextMonth = today.plusMonths(1);
 
-        List<Member> upcomingBirthdays = memberRepository.findUpcomingBirthdays(today, nextMonth);
+        List<Long> upcomingIds = birthdayCalendarService.idsBetween(today, nextMonth);
+        List<Member> upcomingBirthdays = birthdayCalendarService.loadMembers(
+                upcomingIds.subList(0, Math.min(5, upcomingIds.size())));
 
         return upcomingBirthdays.stream()
-                .limit(5)
                 .map(member -> {
-                    LocalDate thisBirthday = LocalDate.of(
-                            today.getYear(),
-                            member.getDateOfBirth().getMonth(),
-                            member.getDateOfBirth().getDayOfMonth()
-                    );
-                    if (thisBirthday.isBefore(today)) {
-                        thisBirthday = thisBirthday.plusYears(1);
-                    }
-
-                    long daysUntil = java.time.temporal.ChronoUnit.DAYS.between(today, thisBirthday);
+                    // Feb 29 birthdays fall on Feb 28 in non-leap years
+                    LocalDate thisBirthday = BirthdayDates.nextOccurrence(member.getDateOfBirth(), today);
+                    long daysUntil = BirthdayDates.daysUntil(member.getDateOfBirth(), today);
 
                     return new DashboardOverviewResponse.UpcomingEvent(
                             "BIRTHDAY",
@@ -546,9 +606,15 @@ public class DashboardService {
                 .collect(Collectors.toList());
     }
 
-    private List<String> generateAlerts(int conflicts, Map<Member.ZodiacElement, Long> elementBalance) {
+    private List<String> generateAlerts(int conflicts, Map<Member.ZodiacElement, Long> elementBalance,
+                                        Set<String> degradedSections) {
         List<String> alerts = new ArrayList<>();
 
+        if (!degradedSections.isEmpty()) {
+            alerts.add("⏳ Some dashboard sections are temporarily unavailable: " +
+                    String.join(", ", new TreeSet<>(degradedSections)));
+        }
+
         if (conflicts > 5) {
             alerts.add("⚠️ High number of compatibility conflicts detected (" + conflicts + " pairs)");
         }
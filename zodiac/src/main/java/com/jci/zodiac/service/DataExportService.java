@@ -1,22 +1,29 @@
 package com.jci.zodiac.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.jci.zodiac.entity.*;
 import com.jci.zodiac.repository.*;
+import com.jci.zodiac.util.ExcelStylePalette;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * DataExportService - Export all system data to JSON/Excel
@@ -34,51 +41,52 @@ public class DataExportService {
     private final SettingRepository settingRepository;
     private final ZodiacProfileRepository zodiacProfileRepository;
     private final ZodiacCompatibilityRepository compatibilityRepository;
+    private final EntityManager entityManager;
 
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
             .enable(SerializationFeature.INDENT_OUTPUT);
 
+    @Value("${app.export.excel.row-window:100}")
+    private int excelRowWindow;
+
     /**
-     * Export all data to JSON
+     * Stream all data as JSON, optionally gzipped
+     * Each table is read through a forward-only cursor and written row by row, with every entity
+     * detached once written, so memory use does not grow with the data. Sections come in restore order.
      */
     @Transactional(readOnly = true)
-    public byte[] exportAllDataToJson() {
-        log.info("Exporting all data to JSON");
+    public void writeAllDataToJson(OutputStream out, boolean gzip) throws IOException {
+        log.info("Streaming all data to JSON (gzip: {})", gzip);
 
-        try {
-            Map<String, Object> allData = new HashMap<>();
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        try (JsonGenerator json = objectMapper.createGenerator(target)) {
+            json.writeStartObject();
 
             // Metadata
-            allData.put("exportDate", LocalDateTime.now());
-            allData.put("version", "1.0.0");
-            allData.put("system", "JCI Danang - Zodiac HR Management");
-
-            // Export all entities
-            allData.put("members", memberRepository.findAll());
-            allData.put("departments", departmentRepository.findAll());
-            allData.put("teams", teamRepository.findAll());
-            allData.put("teamMembers", teamMemberRepository.findAll());
-            allData.put("notes", noteRepository.findAll());
-            allData.put("settings", settingRepository.findAll());
-            allData.put("zodiacProfiles", zodiacProfileRepository.findAll());
-            allData.put("zodiacCompatibility", compatibilityRepository.findAll());
-
-            // Statistics
+            json.writeObjectField("exportDate", LocalDateTime.now());
+            json.writeStringField("version", "1.0.0");
+            json.writeStringField("system", "JCI Danang - Zodiac HR Management");
+
+            for (String section : DataRestoreService.SECTIONS) {
+                writeSection(json, section, streamSection(section));
+            }
+
+            // Reference data (a few dozen rows)
+            json.writeObjectField("zodiacProfiles", zodiacProfileRepository.findAll());
+            json.writeObjectField("zodiacCompatibility", compatibilityRepository.findAll());
+
+            // Statistics (counted after the cursors are closed)
             Map<String, Object> stats = new HashMap<>();
             stats.put("totalMembers", memberRepository.count());
             stats.put("totalDepartments", departmentRepository.count());
             stats.put("totalTeams", teamRepository.count());
             stats.put("totalNotes", noteRepository.count());
             stats.put("totalSettings", settingRepository.count());
-            allData.put("statistics", stats);
+            json.writeObjectField("statistics", stats);
 
-            return objectMapper.writeValueAsBytes(allData);
-
-        } catch (Exception e) {
-            log.error("Error exporting data to JSON: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to export data to JSON", e);
+            json.writeEndObject();
         }
     }
 
@@ -103,18 +111,21 @@ public class DataExportService {
     }
 
     /**
-     * Export all data to Excel
+     * Stream all data as an Excel workbook
+     * SXSSF keeps only a window of rows per sheet in memory (older rows spill to a compressed temp
+     * file) and members are read through a forward-only cursor, so memory does not grow with the data.
      */
     @Transactional(readOnly = true)
-    public byte[] exportAllDataToExcel() {
+    public void writeAllDataToExcel(OutputStream out) throws IOException {
         log.info("Exporting all data to Excel");
 
-        try (XSSFWorkbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-
+        SXSSFWorkbook workbook = new SXSSFWorkbook(excelRowWindow);
+        workbook.setCompressTempFiles(true);
+        try {
             // Create header style
-            CellStyle headerStyle = createHeaderStyle(workbook);
-            CellStyle dataStyle = createDataStyle(workbook);
+            ExcelStylePalette palette = new ExcelStylePalette(workbook);
+            CellStyle headerStyle = palette.header();
+            CellStyle dataStyle = palette.data();
 
             // Sheet 1: Members
             createMembersSheet(workbook, headerStyle, dataStyle);
@@ -131,12 +142,10 @@ public class DataExportService {
             // Sheet 5: Statistics
             createStatisticsSheet(workbook, headerStyle, dataStyle);
 
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
-
-        } catch (IOException e) {
-            log.error("Error exporting data to Excel: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to export data to Excel", e);
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
 
@@ -161,9 +170,50 @@ public class DataExportService {
 
     // ==================== Helper Methods ====================
 
-    private void createMembersSheet(XSSFWorkbook workbook, CellStyle headerStyle, CellStyle dataStyle) {
+    private Stream<?> streamSection(String section) {
+        return switch (section) {
+            case "settings" -> settingRepository.streamAll();
+            case "departments" -> departmentRepository.streamAll();
+            case "members" -> memberRepository.streamAllWithDetails().map(this::fromDetailRow);
+            case "teams" -> teamRepository.streamAll();
+            case "teamMembers" -> teamMemberRepository.streamAll();
+            case "notes" -> noteRepository.streamAll();
+            default -> throw new IllegalArgumentException("Unknown backup section: " + section);
+        };
+    }
+
+    /**
+     * Member from a streamAllWithDetails row (entity, then MemberRepository.DETAIL_COLUMNS)
+     * Setting a lazy attribute marks it loaded, so serializing the member issues no select while
+     * the streaming result set still holds the connection. The member is detached first, so the
+     * setters are never flushed as an UPDATE.
+     */
+    @SuppressWarnings("unchecked")
+    private Member fromDetailRow(Object[] row) {
+        Member member = (Member) row[0];
+        entityManager.detach(member);
+        member.setAddress((String) row[1]);
+        member.setNotes((String) row[2]);
+        member.setTags((List<String>) row[3]);
+        return member;
+    }
+
+    private void writeSection(JsonGenerator json, String name, Stream<?> rows) throws IOException {
+        json.writeArrayFieldStart(name);
+        try (rows) {
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object row = iterator.next();
+                json.writeObject(row);
+                entityManager.detach(row);
+            }
+        }
+        json.writeEndArray();
+        json.flush();
+    }
+
+    private void createMembersSheet(SXSSFWorkbook workbook, CellStyle headerStyle, CellStyle dataStyle) {
         Sheet sheet = workbook.createSheet("Members");
-        List<Member> members = memberRepository.findAll();
 
         // Header
         Row headerRow = sheet.createRow(0);
@@ -176,31 +226,38 @@ public class DataExportService {
 
         // Data
         int rowNum = 1;
-        for (Member member : members) {
-            Row row = sheet.createRow(rowNum++);
-            row.createCell(0).setCellValue(member.getId());
-            row.createCell(1).setCellValue(member.getMemberCode());
-            row.createCell(2).setCellValue(member.getFullName());
-            row.createCell(3).setCellValue(member.getEmail());
-            row.createCell(4).setCellValue(member.getZodiacSign().name());
-            row.createCell(5).setCellValue(member.getZodiacElement().name());
-            row.createCell(6).setCellValue(member.getDepartmentId() != null ? member.getDepartmentId().toString() : "N/A");
-            row.createCell(7).setCellValue(member.getMembershipStatus().name());
-            row.createCell(8).setCellValue(member.getJoinDate().toString());
-
-            for (int i = 0; i < 9; i++) {
-                row.getCell(i).setCellStyle(dataStyle);
+        try (Stream<Member> members = memberRepository.streamAll()) {
+            Iterator<Member> iterator = members.iterator();
+            while (iterator.hasNext()) {
+                Member member = iterator.next();
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(0).setCellValue(member.getId());
+                row.createCell(1).setCellValue(member.getMemberCode());
+                row.createCell(2).setCellValue(member.getFullName());
+                row.createCell(3).setCellValue(member.getEmail());
+                row.createCell(4).setCellValue(member.getZodiacSign().name());
+                row.createCell(5).setCellValue(member.getZodiacElement().name());
+                row.createCell(6).setCellValue(member.getDepartmentId() != null ? member.getDepartmentId().toString() : "N/A");
+                row.createCell(7).setCellValue(member.getMembershipStatus().name());
+                row.createCell(8).setCellValue(member.getJoinDate().toString());
+
+                for (int i = 0; i < 9; i++) {
+                    row.getCell(i).setCellStyle(dataStyle);
+                }
+                entityManager.detach(member);
             }
         }
 
-        // Auto-size columns
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
+        // Fixed widths: auto-sizing would measure every streamed row
+        int[] widths = {8, 14, 28, 32, 14, 10, 12, 12, 12};
+        for (int i = 0; i < widths.length; i++) {
+            sheet.setColumnWidth(i, widths[i] * 256);
         }
     }
 
-    private void createDepartmentsSheet(XSSFWorkbook workbook, CellStyle headerStyle, CellStyle dataStyle) {
-        Sheet sheet = workbook.createSheet("Departments");
+    private void createDepartmentsSheet(SXSSFWorkbook workbook, CellStyle headerStyle, CellStyle dataStyle) {
+        SXSSFSheet sheet = workbook.createSheet("Departments");
+        sheet.trackAllColumnsForAutoSizing();
         List<Department> departments = departmentRepository.findAll();
 
         Row headerRow = sheet.createRow(0);
@@ -232,8 +289,9 @@ public class DataExportService {
         }
     }
 
-    private void createTeamsSheet(XSSFWorkbook workbook, CellStyle headerStyle, CellStyle dataStyle) {
-        Sheet sheet = workbook.createSheet("Teams");
+    private void createTeamsSheet(SXSSFWorkbook workbook, CellStyle headerStyle, CellStyle dataStyle) {
+        SXSSFSheet sheet = workbook.createSheet("Teams");
+        sheet.trackAllColumnsForAutoSizing();
         List<Team> teams = teamRepository.findAll();
 
         Row headerRow = sheet.createRow(0);
@@ -265,8 +323,9 @@ public class DataExportService {
         }
     }
 
-    private void createSettingsSheet(XSSFWorkbook workbook, CellStyle headerStyle, CellStyle dataStyle) {
-        Sheet sheet = workbook.createSheet("Settings");
+    private void createSettingsSheet(SXSSFWorkbook workbook, CellStyle headerStyle, CellStyle dataStyle) {
+        SXSSFSheet sheet = workbook.createSheet("Settings");
+        sheet.trackAllColumnsForAutoSizing();
         List<Setting> settings = settingRepository.findAll();
 
         Row headerRow = sheet.createRow(0);
@@ -297,8 +356,9 @@ public class DataExportService {
         }
     }
 
-    private void createStatisticsSheet(XSSFWorkbook workbook, CellStyle headerStyle, CellStyle dataStyle) {
-        Sheet sheet = workbook.createSheet("Statistics");
+    private void createStatisticsSheet(SXSSFWorkbook workbook, CellStyle headerStyle, CellStyle dataStyle) {
+        SXSSFSheet sheet = workbook.createSheet("Statistics");
+        sheet.trackAllColumnsForAutoSizing();
 
         Row headerRow = sheet.createRow(0);
         headerRow.createCell(0).setCellValue("Metric");
@@ -328,28 +388,4 @@ public class DataExportService {
         sheet.autoSizeColumn(0);
         sheet.autoSizeColumn(1);
     }
-
-    private CellStyle createHeaderStyle(XSSFWorkbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        font.setFontHeightInPoints((short) 12);
-        style.setFont(font);
-        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        return style;
-    }
-
-    private CellStyle createDataStyle(XSSFWorkbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        return style;
-    }
-}
\ No newline at end of file
+}
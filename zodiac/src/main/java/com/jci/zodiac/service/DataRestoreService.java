@@ -0,0 +1,721 @@
+package com.jci.zodiac.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jci.zodiac.entity.*;
+import com.jci.zodiac.exception.BadRequestException;
+import com.jci.zodiac.exception.ResourceNotFoundException;
+import com.jci.zodiac.repository.*;
+import com.jci.zodiac.util.ZodiacCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DataRestoreService - Streaming restore of JSON backups
+ * The upload is spooled to disk and scanned once for the byte offset of each section; sections
+ * are then streamed with JsonParser in dependency order (settings -> departments -> members ->
+ * teams -> team members -> notes), whatever their order in the file. Each chunk resolves existing
+ * keys with one IN query per key type, writes with JDBC batches and advances a RestoreCheckpoint
+ * in the same transaction, so heap stays bounded and a failed restore resumes after its last
+ * committed chunk. Backup ids are mapped to database ids in restore_id_map to remap references.
+ */
+@Service
+@Slf4j
+public class DataRestoreService {
+
+    /** Backup sections in restore order: later sections reference earlier ones */
+    static final List<String> SECTIONS = List.of("settings", "departments", "members", "teams", "teamMembers", "notes");
+
+    private static final String DONE = "done";
+
+    // No lead_member_id: the lead must exist first (fk_departments_lead), it is set after the members section
+    private static final String INSERT_DEPARTMENT_SQL = "INSERT INTO departments (name, code, description, " +
+            "zodiac_theme, color_primary, color_secondary, icon_url, member_count, " +
+            "active_projects_count, is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_TEAM_SQL = "INSERT INTO teams (name, description, department_id, team_type, " +
+            "start_date, end_date, status, member_count, target_member_count, compatibility_score, element_balance, " +
+            "has_zodiac_conflicts, created_at, updated_at, created_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_TEAM_MEMBER_SQL = "INSERT INTO team_members (team_id, member_id, role, " +
+            "joined_date, left_date, is_active, notes, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_NOTE_SQL = "INSERT INTO notes (note_type, member_id, team_id, department_id, " +
+            "title, content, tags, is_important, created_at, updated_at, created_by) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ID_MAP_SQL = "INSERT INTO restore_id_map " +
+            "(restore_id, entity, old_id, new_id, created, lead_old_id) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE new_id = VALUES(new_id), created = VALUES(created), lead_old_id = VALUES(lead_old_id)";
+
+    // Departments inserted by this restore have no lead yet; set it from the backup's lead id (kept in
+    // restore_id_map.lead_old_id) mapped to the restored member, leaving it empty if that member is missing
+    private static final String REMAP_DEPARTMENT_LEADS_SQL = "UPDATE departments d " +
+            "JOIN restore_id_map dm ON dm.restore_id = ? AND dm.entity = 'DEPARTMENT' AND dm.new_id = d.id " +
+            "AND dm.created = TRUE AND dm.lead_old_id IS NOT NULL " +
+            "JOIN restore_id_map mm ON mm.restore_id = dm.restore_id AND mm.entity = 'MEMBER' AND mm.old_id = dm.lead_old_id " +
+            "SET d.lead_member_id = mm.new_id";
+
+    // Member counters are derived data: recount them from the members table rather than trusting the backup
+    private static final String RECOUNT_DEPARTMENT_MEMBERS_SQL = "UPDATE departments d " +
+            "LEFT JOIN (SELECT department_id, COUNT(*) AS members FROM members " +
+            "WHERE department_id IS NOT NULL GROUP BY department_id) c ON c.department_id = d.id " +
+            "SET d.member_count = COALESCE(c.members, 0)";
+
+    private enum MappedEntity {
+        DEPARTMENT, MEMBER, TEAM
+    }
+
+    private record IdMapping(MappedEntity entity, Long oldId, long newId, boolean created, Long leadOldId) {
+    }
+
+    /** Outcome of one chunk */
+    private static final class ChunkOutcome {
+        private int imported;
+        private int failed;
+        private final List<IdMapping> mappings = new ArrayList<>();
+
+        private void map(MappedEntity entity, Long oldId, long newId, boolean created) {
+            map(entity, oldId, newId, created, null);
+        }
+
+        private void map(MappedEntity entity, Long oldId, long newId, boolean created, Long leadOldId) {
+            if (oldId != null) {
+                mappings.add(new IdMapping(entity, oldId, newId, created, leadOldId));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        ChunkOutcome write(String restoreId, List<JsonNode> rows);
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    private final RestoreCheckpointRepository checkpointRepository;
+    private final SettingRepository settingRepository;
+    private final DepartmentRepository departmentRepository;
+    private final MemberRepository memberRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final MemberBulkWriter memberBulkWriter;
+    private final MemberImportJobService memberImportJobService;
+    private final SearchIndexService searchIndexService;
+    private final DataVersionService dataVersionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    // Restores running in this JVM (a restore must not run twice at once)
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    public DataRestoreService(RestoreCheckpointRepository checkpointRepository,
+                              SettingRepository settingRepository,
+                              DepartmentRepository departmentRepository,
+                              MemberRepository memberRepository,
+                              TeamMemberRepository teamMemberRepository,
+                              MemberBulkWriter memberBulkWriter,
+                              MemberImportJobService memberImportJobService,
+                              SearchIndexService searchIndexService,
+                              DataVersionService dataVersionService,
+                              JdbcTemplate jdbcTemplate,
+                              NamedParameterJdbcTemplate namedJdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.checkpointRepository = checkpointRepository;
+        this.settingRepository = settingRepository;
+        this.departmentRepository = departmentRepository;
+        this.memberRepository = memberRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.memberBulkWriter = memberBulkWriter;
+        this.memberImportJobService = memberImportJobService;
+        this.searchIndexService = searchIndexService;
+        this.dataVersionService = dataVersionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // ==================== Restore ====================
+
+    /**
+     * Restore a JSON backup; the result carries restoreId for resuming a failed restore
+     */
+    public Map<String, Object> restore(MultipartFile file) {
+        log.info("Restoring data from JSON file: {}", file.getOriginalFilename());
+
+        Path spooled = memberImportJobService.spool(file, ".json");
+        RestoreCheckpoint checkpoint = checkpointRepository.save(RestoreCheckpoint.builder()
+                .id(UUID.randomUUID().toString())
+                .fileName(file.getOriginalFilename())
+                .spoolPath(spooled.toString())
+                .section(SECTIONS.get(0))
+                .build());
+
+        return run(checkpoint.getId());
+    }
+
+    /**
+     * Continue a failed restore after its last committed chunk
+     */
+    public Map<String, Object> resume(String restoreId) {
+        RestoreCheckpoint checkpoint = checkpointRepository.findById(restoreId)
+                .orElseThrow(() -> new ResourceNotFoundException("Restore", "id", restoreId));
+
+        if (checkpoint.getStatus() == RestoreCheckpoint.Status.COMPLETED) {
+            throw new BadRequestException("Restore " + restoreId + " has already completed");
+        }
+        if (!Files.exists(Path.of(checkpoint.getSpoolPath()))) {
+            throw new BadRequestException("Backup file of restore " + restoreId + " is no longer available");
+        }
+
+        log.info("Resuming restore {} at {} row {}", restoreId, checkpoint.getSection(), checkpoint.getSectionRows());
+        return run(restoreId);
+    }
+
+    private Map<String, Object> run(String restoreId) {
+        if (!running.add(restoreId)) {
+            throw new BadRequestException("Restore " + restoreId + " is already running");
+        }
+
+        try {
+            RestoreCheckpoint checkpoint = updateCheckpoint(restoreId, cp -> {
+                cp.setStatus(RestoreCheckpoint.Status.RUNNING);
+                cp.setMessage(null);
+            });
+            Path file = Path.of(checkpoint.getSpoolPath());
+            Map<String, Long> offsets = locateSections(file);
+
+            int start = DONE.equals(checkpoint.getSection()) ? SECTIONS.size() : SECTIONS.indexOf(checkpoint.getSection());
+            for (int i = start; i < SECTIONS.size(); i++) {
+                String section = SECTIONS.get(i);
+                Long offset = offsets.get(section);
+                if (offset != null) {
+                    restoreSection(restoreId, file, section, offset, i == start ? checkpoint.getSectionRows() : 0);
+                }
+                advance(restoreId, section, i + 1 < SECTIONS.size() ? SECTIONS.get(i + 1) : DONE);
+            }
+
+            complete(restoreId, file);
+        } catch (Exception e) {
+            log.error("Restore {} failed: {}", restoreId, e.getMessage(), e);
+            updateCheckpoint(restoreId, cp -> {
+                cp.setStatus(RestoreCheckpoint.Status.FAILED);
+                cp.setMessage(e.getMessage());
+            });
+        } finally {
+            running.remove(restoreId);
+        }
+
+        return toResult(checkpointRepository.findById(restoreId).orElseThrow());
+    }
+
+    // Byte offset of each top-level array, found without materializing anything
+    private Map<String, Long> locateSections(Path file) throws IOException {
+        Map<String, Long> offsets = new HashMap<>();
+        try (JsonParser parser = objectMapper.createParser(file.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new BadRequestException("Invalid backup file: expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String section = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && SECTIONS.contains(section)) {
+                    offsets.put(section, parser.currentTokenLocation().getByteOffset());
+                }
+                parser.skipChildren();
+            }
+        }
+        return offsets;
+    }
+
+    private void restoreSection(String restoreId, Path file, String section, long offset, long skipRows)
+            throws IOException {
+        log.info("Restoring {} (restore {}){}", section, restoreId,
+                skipRows > 0 ? ", resuming after row " + skipRows : "");
+        ChunkWriter writer = writerFor(section);
+
+        try (InputStream in = Files.newInputStream(file)) {
+            in.skipNBytes(offset);
+            try (JsonParser parser = objectMapper.createParser(in)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IOException("Section '" + section + "' is not an array");
+                }
+
+                List<JsonNode> chunk = new ArrayList<>(chunkSize);
+                long row = 0;
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new IOException("Unexpected end of file in section '" + section + "'");
+                    }
+                    if (row++ < skipRows) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    chunk.add(parser.readValueAsTree());
+                    if (chunk.size() >= chunkSize) {
+                        writeChunk(restoreId, section, chunk, writer);
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    writeChunk(restoreId, section, chunk, writer);
+                }
+            }
+        }
+    }
+
+    // Rows, id mappings and checkpoint commit together
+    private void writeChunk(String restoreId, String section, List<JsonNode> rows, ChunkWriter writer) {
+        chunkTransaction.executeWithoutResult(status -> {
+            ChunkOutcome outcome = writer.write(restoreId, rows);
+            saveMappings(restoreId, outcome.mappings);
+
+            RestoreCheckpoint checkpoint = checkpointRepository.findById(restoreId).orElseThrow();
+            checkpoint.setSectionRows(checkpoint.getSectionRows() + rows.size());
+            checkpoint.getImportedCounts().merge(section, outcome.imported, Integer::sum);
+            if (outcome.failed > 0) {
+                checkpoint.getFailedCounts().merge(section, outcome.failed, Integer::sum);
+            }
+            checkpointRepository.save(checkpoint);
+            dataVersionService.bumpAfterCommit();
+        });
+    }
+
+    private void advance(String restoreId, String finishedSection, String nextSection) {
+        chunkTransaction.executeWithoutResult(status -> {
+            if ("members".equals(finishedSection)) {
+                jdbcTemplate.update(REMAP_DEPARTMENT_LEADS_SQL, restoreId);
+                jdbcTemplate.update(RECOUNT_DEPARTMENT_MEMBERS_SQL);
+                dataVersionService.bumpAfterCommit();
+            }
+            RestoreCheckpoint checkpoint = checkpointRepository.findById(restoreId).orElseThrow();
+            checkpoint.setSection(nextSection);
+            checkpoint.setSectionRows(0L);
+            checkpointRepository.save(checkpoint);
+        });
+    }
+
+    private void complete(String restoreId, Path file) throws IOException {
+        chunkTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM restore_id_map WHERE restore_id = ?", restoreId);
+            RestoreCheckpoint checkpoint = checkpointRepository.findById(restoreId).orElseThrow();
+            checkpoint.setStatus(RestoreCheckpoint.Status.COMPLETED);
+            checkpointRepository.save(checkpoint);
+        });
+        Files.deleteIfExists(file);
+        log.info("Restore {} completed", restoreId);
+    }
+
+    private RestoreCheckpoint updateCheckpoint(String restoreId, java.util.function.Consumer<RestoreCheckpoint> change) {
+        return chunkTransaction.execute(status -> {
+            RestoreCheckpoint checkpoint = checkpointRepository.findById(restoreId).orElseThrow();
+            change.accept(checkpoint);
+            return checkpointRepository.save(checkpoint);
+        });
+    }
+
+    private Map<String, Object> toResult(RestoreCheckpoint checkpoint) {
+        boolean completed = checkpoint.getStatus() == RestoreCheckpoint.Status.COMPLETED;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", completed);
+        result.put("restoreId", checkpoint.getId());
+        result.put("status", checkpoint.getStatus());
+        result.put("importCounts", checkpoint.getImportedCounts());
+        result.put("failedCounts", checkpoint.getFailedCounts());
+        result.put("totalImported", checkpoint.getImportedCounts().values().stream().mapToInt(Integer::intValue).sum());
+        if (!completed) {
+            result.put("resumeFrom", Map.of("section", checkpoint.getSection(), "row", checkpoint.getSectionRows()));
+        }
+        result.put("errors", checkpoint.getMessage() != null ? List.of(checkpoint.getMessage()) : List.of());
+        return result;
+    }
+
+    // ==================== Section Writers ====================
+
+    private ChunkWriter writerFor(String section) {
+        return switch (section) {
+            case "settings" -> this::restoreSettings;
+            case "departments" -> this::restoreDepartments;
+            case "members" -> this::restoreMembers;
+            case "teams" -> this::restoreTeams;
+            case "teamMembers" -> this::restoreTeamMembers;
+            case "notes" -> this::restoreNotes;
+            default -> throw new IllegalArgumentException("Unknown backup section: " + section);
+        };
+    }
+
+    // Settings are a handful of rows: update editable ones in place, insert missing ones (entity listeners reindex)
+    private ChunkOutcome restoreSettings(String restoreId, List<JsonNode> rows) {
+        ChunkOutcome outcome = new ChunkOutcome();
+        List<Setting> settings = convert(rows, Setting.class, outcome, setting -> setting.getKey() != null);
+
+        Map<String, Setting> existing = settingRepository.findByKeyIn(
+                        settings.stream().map(Setting::getKey).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(setting -> setting.getKey().toLowerCase(), Function.identity(), (a, b) -> a));
+
+        List<Setting> toInsert = new ArrayList<>();
+        for (Setting setting : settings) {
+            Setting current = existing.get(setting.getKey().toLowerCase());
+            if (current == null) {
+                setting.setId(null);
+                toInsert.add(setting);
+                existing.put(setting.getKey().toLowerCase(), setting);
+            } else if (Boolean.TRUE.equals(current.getIsEditable()) && current != setting) {
+                current.setValue(setting.getValue());
+                current.setDescription(setting.getDescription());
+                outcome.imported++;
+            }
+        }
+        settingRepository.saveAll(toInsert);
+        outcome.imported += toInsert.size();
+        return outcome;
+    }
+
+    private ChunkOutcome restoreDepartments(String restoreId, List<JsonNode> rows) {
+        ChunkOutcome outcome = new ChunkOutcome();
+        List<Department> departments = convert(rows, Department.class, outcome,
+                department -> department.getCode() != null && department.getName() != null);
+
+        Map<String, Long> existing = toIdMap(departmentRepository.findIdsByCodeIn(
+                departments.stream().map(Department::getCode).collect(Collectors.toSet())));
+
+        List<Department> toInsert = new ArrayList<>();
+        Map<Department, Long> oldIds = new IdentityHashMap<>();
+        for (Department department : departments) {
+            Long existingId = existing.get(department.getCode().toLowerCase());
+            if (existingId != null) {
+                outcome.map(MappedEntity.DEPARTMENT, department.getId(), existingId, false);
+                continue;
+            }
+            oldIds.put(department, department.getId());
+            existing.put(department.getCode().toLowerCase(), -1L); // duplicate code later in the chunk is skipped
+            toInsert.add(department);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = insertBatch(INSERT_DEPARTMENT_SQL, toInsert, (statement, department) -> {
+            int i = 1;
+            statement.setString(i++, department.getName());
+            statement.setString(i++, department.getCode());
+            statement.setString(i++, department.getDescription());
+            statement.setString(i++, department.getZodiacTheme() != null ? department.getZodiacTheme().name() : null);
+            statement.setString(i++, department.getColorPrimary());
+            statement.setString(i++, department.getColorSecondary());
+            statement.setString(i++, department.getIconUrl());
+            statement.setInt(i++, 0); // recounted once the members section is restored
+            statement.setInt(i++, department.getActiveProjectsCount() != null ? department.getActiveProjectsCount() : 0);
+            statement.setBoolean(i++, !Boolean.FALSE.equals(department.getIsActive()));
+            statement.setObject(i++, department.getCreatedAt() != null ? department.getCreatedAt() : now);
+            statement.setObject(i, now);
+        });
+        for (int i = 0; i < toInsert.size(); i++) {
+            Department department = toInsert.get(i);
+            outcome.map(MappedEntity.DEPARTMENT, oldIds.get(department), ids.get(i), true, department.getLeadMemberId());
+        }
+        outcome.imported += toInsert.size();
+        return outcome;
+    }
+
+    // Members go through MemberBulkWriter (events, search index, row-by-row fallback, member code sequence moved
+    // past the restored codes); it commits on its own, which is safe to repeat on resume because members
+    // already present are matched by code
+    private ChunkOutcome restoreMembers(String restoreId, List<JsonNode> rows) {
+        ChunkOutcome outcome = new ChunkOutcome();
+        List<Member> members = convert(rows, Member.class, outcome, member ->
+                member.getMemberCode() != null && member.getFullName() != null && member.getDateOfBirth() != null);
+
+        Map<String, Long> existing = toIdMap(memberRepository.findIdsByMemberCodeIn(
+                members.stream().map(Member::getMemberCode).collect(Collectors.toSet())));
+        Map<Long, Long> departmentIds = lookupMappings(restoreId, MappedEntity.DEPARTMENT,
+                members.stream().map(Member::getDepartmentId).filter(Objects::nonNull).collect(Collectors.toSet()));
+
+        List<Member> toInsert = new ArrayList<>();
+        Map<Member, Long> oldIds = new IdentityHashMap<>();
+        for (Member member : members) {
+            Long existingId = existing.get(member.getMemberCode().toLowerCase());
+            if (existingId != null) {
+                outcome.map(MappedEntity.MEMBER, member.getId(), existingId, false);
+                continue;
+            }
+            oldIds.put(member, member.getId());
+            existing.put(member.getMemberCode().toLowerCase(), -1L);
+
+            member.setId(null);
+            member.setDepartmentId(member.getDepartmentId() != null ? departmentIds.get(member.getDepartmentId()) : null);
+            if (member.getZodiacSign() == null || member.getZodiacElement() == null) {
+                member.setZodiacSign(ZodiacCalculator.calculateZodiacSign(member.getDateOfBirth()));
+                member.setZodiacElement(ZodiacCalculator.calculateZodiacElement(member.getZodiacSign()));
+            }
+            toInsert.add(member);
+        }
+
+        MemberBulkWriter.ChunkResult result = memberBulkWriter.insertChunk(toInsert);
+        for (Member member : result.inserted()) {
+            outcome.map(MappedEntity.MEMBER, oldIds.get(member), member.getId(), true);
+        }
+        result.failures().forEach(failure -> log.warn("Failed to restore member {}: {}",
+                failure.member().getMemberCode(), failure.message()));
+        outcome.imported += result.inserted().size();
+        outcome.failed += result.failures().size();
+        return outcome;
+    }
+
+    private ChunkOutcome restoreTeams(String restoreId, List<JsonNode> rows) {
+        ChunkOutcome outcome = new ChunkOutcome();
+        List<Team> teams = convert(rows, Team.class, outcome, team -> team.getName() != null);
+
+        Map<Long, Long> departmentIds = lookupMappings(restoreId, MappedEntity.DEPARTMENT,
+                teams.stream().map(Team::getDepartmentId).filter(Objects::nonNull).collect(Collectors.toSet()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = insertBatch(INSERT_TEAM_SQL, teams, (statement, team) -> {
+            int i = 1;
+            statement.setString(i++, team.getName());
+            statement.setString(i++, team.getDescription());
+            statement.setObject(i++, team.getDepartmentId() != null ? departmentIds.get(team.getDepartmentId()) : null, Types.BIGINT);
+            statement.setString(i++, (team.getTeamType() != null ? team.getTeamType() : Team.TeamType.Project).name());
+            statement.setObject(i++, team.getStartDate());
+            statement.setObject(i++, team.getEndDate());
+            statement.setString(i++, (team.getStatus() != null ? team.getStatus() : Team.Status.Planning).name());
+            statement.setInt(i++, team.getMemberCount() != null ? team.getMemberCount() : 0);
+            statement.setObject(i++, team.getTargetMemberCount(), Types.INTEGER);
+            statement.setBigDecimal(i++, team.getCompatibilityScore());
+            statement.setString(i++, toJson(team.getElementBalance()));
+            statement.setBoolean(i++, Boolean.TRUE.equals(team.getHasZodiacConflicts()));
+            statement.setObject(i++, team.getCreatedAt() != null ? team.getCreatedAt() : now);
+            statement.setObject(i++, now);
+            statement.setLong(i, team.getCreatedBy() != null ? team.getCreatedBy() : 1L);
+        });
+        for (int i = 0; i < teams.size(); i++) {
+            outcome.map(MappedEntity.TEAM, teams.get(i).getId(), ids.get(i), true);
+        }
+        outcome.imported += teams.size();
+        return outcome;
+    }
+
+    private ChunkOutcome restoreTeamMembers(String restoreId, List<JsonNode> rows) {
+        ChunkOutcome outcome = new ChunkOutcome();
+        List<TeamMember> teamMembers = convert(rows, TeamMember.class, outcome, teamMember ->
+                teamMember.getTeamId() != null && teamMember.getMemberId() != null && teamMember.getJoinedDate() != null);
+
+        Map<Long, Long> teamIds = lookupMappings(restoreId, MappedEntity.TEAM,
+                teamMembers.stream().map(TeamMember::getTeamId).collect(Collectors.toSet()));
+        Map<Long, Long> memberIds = lookupMappings(restoreId, MappedEntity.MEMBER,
+                teamMembers.stream().map(TeamMember::getMemberId).collect(Collectors.toSet()));
+
+        Set<List<Long>> pairs = new HashSet<>();
+        if (!teamIds.isEmpty()) {
+            teamMemberRepository.findPairsByTeamIdIn(new HashSet<>(teamIds.values()))
+                    .forEach(pair -> pairs.add(List.of((Long) pair[0], (Long) pair[1])));
+        }
+
+        List<TeamMember> toInsert = new ArrayList<>();
+        for (TeamMember teamMember : teamMembers) {
+            Long teamId = teamIds.get(teamMember.getTeamId());
+            Long memberId = memberIds.get(teamMember.getMemberId());
+            if (teamId == null || memberId == null) {
+                outcome.failed++; // team or member not in the backup / not restored
+                continue;
+            }
+            if (pairs.add(List.of(teamId, memberId))) {
+                teamMember.setTeamId(teamId);
+                teamMember.setMemberId(memberId);
+                toInsert.add(teamMember);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_TEAM_MEMBER_SQL, toInsert, toInsert.size(), (statement, teamMember) -> {
+            int i = 1;
+            statement.setLong(i++, teamMember.getTeamId());
+            statement.setLong(i++, teamMember.getMemberId());
+            statement.setString(i++, teamMember.getRole() != null ? teamMember.getRole() : "Member");
+            statement.setObject(i++, teamMember.getJoinedDate());
+            statement.setObject(i++, teamMember.getLeftDate());
+            statement.setBoolean(i++, !Boolean.FALSE.equals(teamMember.getIsActive()));
+            statement.setString(i++, teamMember.getNotes());
+            statement.setObject(i, teamMember.getCreatedAt() != null ? teamMember.getCreatedAt() : now);
+        });
+        outcome.imported += toInsert.size();
+        return outcome;
+    }
+
+    private ChunkOutcome restoreNotes(String restoreId, List<JsonNode> rows) {
+        ChunkOutcome outcome = new ChunkOutcome();
+        List<Note> notes = convert(rows, Note.class, outcome, note -> note.getNoteType() != null && note.getContent() != null);
+
+        Map<Long, Long> memberIds = lookupMappings(restoreId, MappedEntity.MEMBER,
+                notes.stream().map(Note::getMemberId).filter(Objects::nonNull).collect(Collectors.toSet()));
+        Map<Long, Long> teamIds = lookupMappings(restoreId, MappedEntity.TEAM,
+                notes.stream().map(Note::getTeamId).filter(Objects::nonNull).collect(Collectors.toSet()));
+        Map<Long, Long> departmentIds = lookupMappings(restoreId, MappedEntity.DEPARTMENT,
+                notes.stream().map(Note::getDepartmentId).filter(Objects::nonNull).collect(Collectors.toSet()));
+
+        List<Note> toInsert = new ArrayList<>();
+        for (Note note : notes) {
+            if ((note.getMemberId() != null && !memberIds.containsKey(note.getMemberId()))
+                    || (note.getTeamId() != null && !teamIds.containsKey(note.getTeamId()))
+                    || (note.getDepartmentId() != null && !departmentIds.containsKey(note.getDepartmentId()))) {
+                outcome.failed++; // references something that was not restored
+                continue;
+            }
+            note.setMemberId(note.getMemberId() != null ? memberIds.get(note.getMemberId()) : null);
+            note.setTeamId(note.getTeamId() != null ? teamIds.get(note.getTeamId()) : null);
+            note.setDepartmentId(note.getDepartmentId() != null ? departmentIds.get(note.getDepartmentId()) : null);
+            toInsert.add(note);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = insertBatch(INSERT_NOTE_SQL, toInsert, (statement, note) -> {
+            int i = 1;
+            statement.setString(i++, note.getNoteType().name());
+            statement.setObject(i++, note.getMemberId(), Types.BIGINT);
+            statement.setObject(i++, note.getTeamId(), Types.BIGINT);
+            statement.setObject(i++, note.getDepartmentId(), Types.BIGINT);
+            statement.setString(i++, note.getTitle());
+            statement.setString(i++, note.getContent());
+            statement.setString(i++, toJson(note.getTags()));
+            statement.setBoolean(i++, Boolean.TRUE.equals(note.getIsImportant()));
+            statement.setObject(i++, note.getCreatedAt() != null ? note.getCreatedAt() : now);
+            statement.setObject(i++, now);
+            statement.setLong(i, note.getCreatedBy() != null ? note.getCreatedBy() : 1L);
+        });
+        for (int i = 0; i < toInsert.size(); i++) {
+            toInsert.get(i).setId(ids.get(i));
+        }
+        searchIndexService.indexAllAfterCommit(toInsert);
+        outcome.imported += toInsert.size();
+        return outcome;
+    }
+
+    // ==================== Helper Methods ====================
+
+    // Rows that do not map onto the entity or miss required fields count as failed
+    private <T> List<T> convert(List<JsonNode> rows, Class<T> type, ChunkOutcome outcome,
+                                java.util.function.Predicate<T> required) {
+        List<T> entities = new ArrayList<>(rows.size());
+        for (JsonNode row : rows) {
+            try {
+                T entity = objectMapper.treeToValue(row, type);
+                if (entity != null && required.test(entity)) {
+                    entities.add(entity);
+                    continue;
+                }
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                log.debug("Skipping invalid {} row: {}", type.getSimpleName(), e.getMessage());
+            }
+            outcome.failed++;
+        }
+        return entities;
+    }
+
+    // (key, id) rows to a map keyed by lower-cased key (unique keys are case-insensitive in MySQL)
+    private Map<String, Long> toIdMap(List<Object[]> rows) {
+        Map<String, Long> ids = new HashMap<>();
+        for (Object[] row : rows) {
+            ids.put(((String) row[0]).toLowerCase(), (Long) row[1]);
+        }
+        return ids;
+    }
+
+    private Map<Long, Long> lookupMappings(String restoreId, MappedEntity entity, Collection<Long> oldIds) {
+        Map<Long, Long> mappings = new HashMap<>();
+        if (oldIds.isEmpty()) {
+            return mappings;
+        }
+        namedJdbcTemplate.query("SELECT old_id, new_id FROM restore_id_map " +
+                        "WHERE restore_id = :restoreId AND entity = :entity AND old_id IN (:oldIds)",
+                new MapSqlParameterSource()
+                        .addValue("restoreId", restoreId)
+                        .addValue("entity", entity.name())
+                        .addValue("oldIds", oldIds),
+                rs -> {
+                    mappings.put(rs.getLong(1), rs.getLong(2));
+                });
+        return mappings;
+    }
+
+    private void saveMappings(String restoreId, List<IdMapping> mappings) {
+        jdbcTemplate.batchUpdate(INSERT_ID_MAP_SQL, mappings, mappings.size(), (statement, mapping) -> {
+            statement.setString(1, restoreId);
+            statement.setString(2, mapping.entity().name());
+            statement.setLong(3, mapping.oldId());
+            statement.setLong(4, mapping.newId());
+            statement.setBoolean(5, mapping.created());
+            statement.setObject(6, mapping.leadOldId(), Types.BIGINT);
+        });
+    }
+
+    // One JDBC batch; returns the generated ids in row order
+    private <T> List<Long> insertBatch(String sql, List<T> rows, RowBinder<T> binder) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (T row : rows) {
+                    binder.bind(statement, row);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> ids = new ArrayList<>(rows.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != rows.size()) {
+                    throw new SQLException("Expected " + rows.size() + " generated keys, got " + ids.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    private String toJson(Object value) throws SQLException {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Invalid JSON value: " + e.getMessage(), e);
+        }
+    }
+}
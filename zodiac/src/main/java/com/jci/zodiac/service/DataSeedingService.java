@@ -29,6 +29,7 @@ public class DataSeedingService implements CommandLineRunner {
     private final MemberRepository memberRepository;
     private final DepartmentRepository departmentRepository;
     private final UserRepository userRepository;
+    private final MemberCodeAllocator memberCodeAllocator;
 
     @Override
     public void run(String... args) {
@@ -400,7 +401,7 @@ public class DataSeedingService implements CommandLineRunner {
 
     private Member createDemoMember(String name, LocalDate dob, Member.ZodiacSign zodiacSign) {
         return Member.builder()
-                .memberCode("JCI-DN-" + String.format("%03d", ThreadLocalRandom.current().nextInt(1, 100)))
+                .memberCode(memberCodeAllocator.nextCode())
                 .fullName(name)
                 .email(name.toLowerCase().replace(" ", ".") + "@example.com")
                 .dateOfBirth(dob)
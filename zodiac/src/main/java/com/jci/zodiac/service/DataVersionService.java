@@ -0,0 +1,172 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.entity.IdSequence;
+import com.jci.zodiac.event.DataVersionBumpedEvent;
+import com.jci.zodiac.repository.IdSequenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DataVersionService - Monotonic version of the member / team / department / compatibility data
+ * (and the searchable notes, settings and zodiac profiles)
+ * Bumped with every committed write; used for ETags, dashboard and report cache keys and to tell
+ * the search index it is stale. The version lives in the id_sequences table, so every app node sees
+ * every other node's writes: a node re-reads it at most every app.data-version.refresh-ms and sees
+ * its own bumps at once ({@link DataVersionBumpedEvent}).
+ */
+@Service
+@Slf4j
+public class DataVersionService {
+
+    /** Caches whose content depends on the versioned data */
+    private static final List<String> DATA_CACHES = List.of(
+            "dashboardOverview", "zodiacDistribution", "elementBalance",
+            "departmentBreakdown", "timelineData", "organizationStats");
+
+    private final IdSequenceRepository idSequenceRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate bumpTransaction;
+    private final long refreshMillis;
+
+    private volatile long version = -1;
+    private volatile long readAt;
+
+    public DataVersionService(IdSequenceRepository idSequenceRepository,
+                              CacheManager cacheManager,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.data-version.refresh-ms:1000}") long refreshMillis) {
+        this.idSequenceRepository = idSequenceRepository;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.bumpTransaction = new TransactionTemplate(transactionManager);
+        this.bumpTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.refreshMillis = refreshMillis;
+    }
+
+    /**
+     * Current data version
+     */
+    public long currentVersion() {
+        if (version < 0 || System.currentTimeMillis() - readAt >= refreshMillis) {
+            observe(readVersion());
+        }
+        return version;
+    }
+
+    /**
+     * Current data version, read from the database now
+     */
+    public long refreshedVersion() {
+        observe(readVersion());
+        return version;
+    }
+
+    /**
+     * Data version plus today's date, for content that is also relative to the current date
+     * (upcoming birthdays, timelines, trends), so it changes at midnight as well
+     */
+    public String currentTag() {
+        return currentVersion() + "-" + LocalDate.now();
+    }
+
+    /**
+     * Bump the version as part of the current transaction (immediately if there is none)
+     * The increment is written just before commit, so rolled-back writes never change the
+     * version and the row lock is only held for the commit itself. One bump per transaction.
+     * Writes Hibernate only flushes during the commit (dirty-checked updates, removes) register
+     * after the before-commit hooks have run; those are bumped right after the commit instead.
+     */
+    public void bumpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump();
+            return;
+        }
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(VersionBump.class::isInstance);
+        if (!registered) {
+            TransactionSynchronizationManager.registerSynchronization(new VersionBump());
+        }
+    }
+
+    /**
+     * Bump the version now, in its own transaction
+     */
+    public long bump() {
+        Long bumped = bumpTransaction.execute(status -> increment());
+        publish(bumped);
+        log.debug("Data version bumped to {}", version);
+        return version;
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Increments the version inside the committing transaction, publishes it once committed
+     * Registered during the commit's own flush, it misses beforeCommit and increments in a
+     * new transaction once the write has committed.
+     */
+    private class VersionBump implements TransactionSynchronization {
+        private Long bumped;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            bumped = increment();
+        }
+
+        @Override
+        public void afterCommit() {
+            if (bumped == null) {
+                bumped = bumpTransaction.execute(status -> increment());
+            }
+            publish(bumped);
+        }
+    }
+
+    private void publish(Long bumped) {
+        clearCaches();
+        observe(bumped);
+        eventPublisher.publishEvent(new DataVersionBumpedEvent(bumped));
+    }
+
+    private Long increment() {
+        idSequenceRepository.increment(IdSequence.DATA_VERSION);
+        return readVersion();
+    }
+
+    private Long readVersion() {
+        return idSequenceRepository.findValue(IdSequence.DATA_VERSION)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Sequence '" + IdSequence.DATA_VERSION + "' is missing from id_sequences"));
+    }
+
+    // Versions only move forward, even if a slower refresh reads an older value
+    private synchronized void observe(Long stored) {
+        if (stored != null && stored > version) {
+            version = stored;
+        }
+        readAt = System.currentTimeMillis();
+    }
+
+    private void clearCaches() {
+        for (String cacheName : DATA_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+}
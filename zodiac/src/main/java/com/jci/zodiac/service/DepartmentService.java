@@ -2,6 +2,7 @@ package com.jci.zodiac.service;
 
 import com.jci.zodiac.dto.request.CreateDepartmentRequest;
 import com.jci.zodiac.dto.request.UpdateDepartmentRequest;
+import com.jci.zodiac.dto.response.CursorPageResponse;
 import com.jci.zodiac.dto.response.DepartmentAnalyticsResponse;
 import com.jci.zodiac.dto.response.DepartmentResponse;
 import com.jci.zodiac.dto.response.DepartmentSummaryResponse;
@@ -13,9 +14,11 @@ import com.jci.zodiac.exception.ResourceNotFoundException;
 import com.jci.zodiac.mapper.MemberMapper;
 import com.jci.zodiac.repository.DepartmentRepository;
 import com.jci.zodiac.repository.MemberRepository;
+import com.jci.zodiac.util.KeysetPagination;
 import com.jci.zodiac.util.ZodiacCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +41,9 @@ public class DepartmentService {
     private final MemberMapper memberMapper;
     private final ZodiacUtilityService zodiacUtilityService;
 
+    private static final KeysetPagination.SortKey<Department> KEYSET_SORT_KEY =
+            KeysetPagination.SortKey.of("id", Long.class, Department::getId, Department::getId);
+
     /**
      * Create department
      */
@@ -115,6 +121,17 @@ public class DepartmentService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get all departments, one keyset page at a time (ordered by id)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<DepartmentSummaryResponse> getAllDepartments(String cursor, Integer size) {
+        log.debug("Fetching departments page after cursor: {}", cursor);
+
+        return KeysetPagination.fetch(departmentRepository, null, KEYSET_SORT_KEY, Sort.Direction.ASC,
+                cursor, size, this::toSummaryResponse);
+    }
+
     /**
      * Get active departments
      */
@@ -2,42 +2,51 @@ package com.jci.zodiac.service;
 
 import com.jci.zodiac.dto.response.*;
 import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.util.ExcelStylePalette;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * ExcelExportService - Generate Excel reports using Apache POI
+ * Workbooks are SXSSF streaming workbooks written straight to the given stream
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ExcelExportService {
 
+    @Value("${app.export.excel.row-window:100}")
+    private int rowWindow;
+
     /**
      * Generate Excel for Zodiac Analytics Report
      */
-    public byte[] generateZodiacAnalyticsExcel(ZodiacAnalyticsResponse data) throws IOException {
+    public void writeZodiacAnalyticsExcel(ZodiacAnalyticsResponse data, OutputStream out) throws IOException {
         log.info("Generating Zodiac Analytics Excel");
 
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+        render(out, workbook -> {
 
             // Create styles
-            CellStyle headerStyle = createHeaderStyle(workbook);
-            CellStyle titleStyle = createTitleStyle(workbook);
-            CellStyle dataStyle = createDataStyle(workbook);
+            ExcelStylePalette palette = new ExcelStylePalette(workbook);
+            CellStyle headerStyle = palette.header();
+            CellStyle titleStyle = palette.title();
+            CellStyle dataStyle = palette.data();
 
             // Sheet 1: Overview
-            XSSFSheet overviewSheet = workbook.createSheet("Overview");
+            Sheet overviewSheet = createSheet(workbook, "Overview");
             int rowNum = 0;
 
             // Title
@@ -95,7 +104,7 @@ public class ExcelExportService {
 
             // Sheet 2: Insights & Recommendations
             if (!data.getInsights().isEmpty() || !data.getRecommendations().isEmpty()) {
-                XSSFSheet insightsSheet = workbook.createSheet("Insights");
+                Sheet insightsSheet = createSheet(workbook, "Insights");
                 rowNum = 0;
 
                 // Insights
@@ -130,24 +139,24 @@ public class ExcelExportService {
                 insightsSheet.setColumnWidth(0, 15000);
             }
 
-            return convertToByteArray(workbook);
-        }
+        });
     }
 
     /**
      * Generate Excel for Department Composition Report
      */
-    public byte[] generateDepartmentCompositionExcel(DepartmentCompositionResponse data) throws IOException {
+    public void writeDepartmentCompositionExcel(DepartmentCompositionResponse data, OutputStream out) throws IOException {
         log.info("Generating Department Composition Excel");
 
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+        render(out, workbook -> {
 
-            CellStyle headerStyle = createHeaderStyle(workbook);
-            CellStyle titleStyle = createTitleStyle(workbook);
-            CellStyle dataStyle = createDataStyle(workbook);
+            ExcelStylePalette palette = new ExcelStylePalette(workbook);
+            CellStyle headerStyle = palette.header();
+            CellStyle titleStyle = palette.title();
+            CellStyle dataStyle = palette.data();
 
             // Sheet 1: Summary
-            XSSFSheet summarySheet = workbook.createSheet("Summary");
+            Sheet summarySheet = createSheet(workbook, "Summary");
             int rowNum = 0;
 
             // Title
@@ -193,7 +202,7 @@ public class ExcelExportService {
                     sheetName = sheetName.substring(0, 31);
                 }
 
-                XSSFSheet deptSheet = workbook.createSheet(sheetName);
+                Sheet deptSheet = createSheet(workbook, sheetName);
                 rowNum = 0;
 
                 // Department Header
@@ -231,24 +240,24 @@ public class ExcelExportService {
                 deptSheet.autoSizeColumn(1);
             }
 
-            return convertToByteArray(workbook);
-        }
+        });
     }
 
     /**
      * Generate Excel for Fun Stats Report
      */
-    public byte[] generateFunStatsExcel(FunStatsResponse data) throws IOException {
+    public void writeFunStatsExcel(FunStatsResponse data, OutputStream out) throws IOException {
         log.info("Generating Fun Stats Excel");
 
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+        render(out, workbook -> {
 
-            CellStyle headerStyle = createHeaderStyle(workbook);
-            CellStyle titleStyle = createTitleStyle(workbook);
-            CellStyle dataStyle = createDataStyle(workbook);
-            CellStyle sagittariusStyle = createSagittariusStyle(workbook);
+            ExcelStylePalette palette = new ExcelStylePalette(workbook);
+            CellStyle headerStyle = palette.header();
+            CellStyle titleStyle = palette.title();
+            CellStyle dataStyle = palette.data();
+            CellStyle sagittariusStyle = palette.sagittarius();
 
-            XSSFSheet sheet = workbook.createSheet("Fun Statistics");
+            Sheet sheet = createSheet(workbook, "Fun Statistics");
             int rowNum = 0;
 
             // Title
@@ -314,22 +323,32 @@ public class ExcelExportService {
                 sheet.autoSizeColumn(i);
             }
 
-            return convertToByteArray(workbook);
-        }
+        });
     }
 
     /**
      * Generate Excel for Compatibility Matrix
+     * Rows are generated while writing from the members' signs, so memory stays flat in the matrix
+     * size; each sign pair's cell is looked up once. At most ReportService.MAX_MATRIX_MEMBERS members.
      */
-    public byte[] generateCompatibilityMatrixExcel(CompatibilityMatrixResponse data) throws IOException {
-        log.info("Generating Compatibility Matrix Excel");
+    public void writeCompatibilityMatrixExcel(List<Member> members,
+                                              Function<List<Member.ZodiacSign>, CompatibilityMatrixResponse.MatrixCell> cellForSigns,
+                                              OutputStream out) throws IOException {
+        log.info("Generating Compatibility Matrix Excel: {} member(s)", members.size());
+        if (members.size() > ReportService.MAX_MATRIX_MEMBERS) {
+            throw new IllegalArgumentException("Compatibility matrix has more than " + ReportService.MAX_MATRIX_MEMBERS + " members");
+        }
 
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+        render(out, workbook -> {
 
-            CellStyle headerStyle = createHeaderStyle(workbook);
-            CellStyle dataStyle = createDataStyle(workbook);
+            ExcelStylePalette palette = new ExcelStylePalette(workbook);
+            CellStyle headerStyle = palette.header();
+            CellStyle selfStyle = palette.score(ReportService.SELF_CELL.getValue());
+            int signs = Member.ZodiacSign.values().length;
+            CompatibilityMatrixResponse.MatrixCell[][] cellsBySigns = new CompatibilityMatrixResponse.MatrixCell[signs][signs];
 
-            XSSFSheet sheet = workbook.createSheet("Compatibility Matrix");
+            SXSSFSheet sheet = (SXSSFSheet) workbook.createSheet("Compatibility Matrix");
+            sheet.trackColumnForAutoSizing(0); // only the label column is auto-sized
             int rowNum = 0;
 
             // Header row
@@ -337,120 +356,77 @@ public class ExcelExportService {
             headerRow.createCell(0).setCellValue("Member");
             headerRow.getCell(0).setCellStyle(headerStyle);
 
-            for (int i = 0; i < data.getColumnLabels().size(); i++) {
+            for (int i = 0; i < members.size(); i++) {
                 Cell cell = headerRow.createCell(i + 1);
-                cell.setCellValue(data.getColumnLabels().get(i));
+                cell.setCellValue(ReportService.matrixLabel(members.get(i)));
                 cell.setCellStyle(headerStyle);
             }
 
             // Data rows
-            for (int i = 0; i < data.getRowLabels().size(); i++) {
+            for (int i = 0; i < members.size(); i++) {
+                Member.ZodiacSign sign1 = members.get(i).getZodiacSign();
                 Row row = sheet.createRow(rowNum++);
 
                 // Row label
                 Cell labelCell = row.createCell(0);
-                labelCell.setCellValue(data.getRowLabels().get(i));
+                labelCell.setCellValue(ReportService.matrixLabel(members.get(i)));
                 labelCell.setCellStyle(headerStyle);
 
                 // Matrix cells
-                List<CompatibilityMatrixResponse.MatrixCell> matrixRow = data.getMatrix().get(i);
-                for (int j = 0; j < matrixRow.size(); j++) {
-                    CompatibilityMatrixResponse.MatrixCell matrixCell = matrixRow.get(j);
+                for (int j = 0; j < members.size(); j++) {
                     Cell cell = row.createCell(j + 1);
-
-                    if (matrixCell.getLevel().equals("Self")) {
+                    if (i == j) {
                         cell.setCellValue("-");
-                    } else {
-                        cell.setCellValue(matrixCell.getValue().doubleValue());
+                        cell.setCellStyle(selfStyle);
+                        continue;
+                    }
+
+                    Member.ZodiacSign sign2 = members.get(j).getZodiacSign();
+                    CompatibilityMatrixResponse.MatrixCell matrixCell = cellsBySigns[sign1.ordinal()][sign2.ordinal()];
+                    if (matrixCell == null) {
+                        matrixCell = cellForSigns.apply(List.of(sign1, sign2));
+                        cellsBySigns[sign1.ordinal()][sign2.ordinal()] = matrixCell;
                     }
+                    cell.setCellValue(matrixCell.getValue().doubleValue());
 
-                    // Color coding
-                    CellStyle colorStyle = createCompatibilityColorStyle(workbook, matrixCell.getValue());
-                    cell.setCellStyle(colorStyle);
+                    // Color coding (one shared style per score band)
+                    cell.setCellStyle(palette.score(matrixCell.getValue()));
                 }
             }
 
             // Auto-size first column
             sheet.autoSizeColumn(0);
 
-            return convertToByteArray(workbook);
-        }
+        });
     }
 
     // ==================== Helper Methods ====================
 
-    private CellStyle createHeaderStyle(XSSFWorkbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        font.setFontHeightInPoints((short) 12);
-        style.setFont(font);
-        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        return style;
+    @FunctionalInterface
+    private interface WorkbookContent {
+        void fill(Workbook workbook) throws IOException;
     }
 
-    private CellStyle createTitleStyle(XSSFWorkbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        font.setFontHeightInPoints((short) 16);
-        font.setColor(IndexedColors.DARK_BLUE.getIndex());
-        style.setFont(font);
-        return style;
-    }
-
-    private CellStyle createSagittariusStyle(XSSFWorkbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        font.setFontHeightInPoints((short) 14);
-        font.setColor(IndexedColors.VIOLET.getIndex());
-        style.setFont(font);
-        style.setFillForegroundColor(IndexedColors.LAVENDER.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        return style;
-    }
-
-    private CellStyle createDataStyle(XSSFWorkbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        style.setWrapText(true);
-        return style;
-    }
-
-    private CellStyle createCompatibilityColorStyle(XSSFWorkbook workbook, java.math.BigDecimal score) {
-        CellStyle style = workbook.createCellStyle();
-
-        if (score.compareTo(java.math.BigDecimal.valueOf(80)) >= 0) {
-            style.setFillForegroundColor(IndexedColors.LIGHT_GREEN.getIndex());
-        } else if (score.compareTo(java.math.BigDecimal.valueOf(65)) >= 0) {
-            style.setFillForegroundColor(IndexedColors.LIME.getIndex());
-        } else if (score.compareTo(java.math.BigDecimal.valueOf(50)) >= 0) {
-            style.setFillForegroundColor(IndexedColors.LIGHT_YELLOW.getIndex());
-        } else if (score.compareTo(java.math.BigDecimal.valueOf(35)) >= 0) {
-            style.setFillForegroundColor(IndexedColors.LIGHT_ORANGE.getIndex());
-        } else {
-            style.setFillForegroundColor(IndexedColors.CORAL.getIndex());
+    // Streaming workbook: only the last rowWindow rows of a sheet stay in memory, older rows spill to a temp file
+    private void render(OutputStream out, WorkbookContent content) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowWindow);
+        workbook.setCompressTempFiles(true);
+        try {
+            content.fill(workbook);
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
+    }
 
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-
-        return style;
+    private Sheet createSheet(Workbook workbook, String name) {
+        SXSSFSheet sheet = (SXSSFSheet) workbook.createSheet(name);
+        sheet.trackAllColumnsForAutoSizing();
+        return sheet;
     }
 
-    private void addDataRow(XSSFSheet sheet, int rowNum, String label, String value,
+    private void addDataRow(Sheet sheet, int rowNum, String label, String value,
                             CellStyle labelStyle, CellStyle valueStyle) {
         Row row = sheet.createRow(rowNum);
         Cell labelCell = row.createCell(0);
@@ -462,7 +438,7 @@ public class ExcelExportService {
         valueCell.setCellStyle(valueStyle);
     }
 
-    private void addTableHeader(XSSFSheet sheet, int rowNum, String[] headers, CellStyle style) {
+    private void addTableHeader(Sheet sheet, int rowNum, String[] headers, CellStyle style) {
         Row row = sheet.createRow(rowNum);
         for (int i = 0; i < headers.length; i++) {
             Cell cell = row.createCell(i);
@@ -471,12 +447,6 @@ public class ExcelExportService {
         }
     }
 
-    private byte[] convertToByteArray(XSSFWorkbook workbook) throws IOException {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        return outputStream.toByteArray();
-    }
-
     private String getElementEmoji(Member.ZodiacElement element) {
         return switch (element) {
             case Fire -> "🔥";
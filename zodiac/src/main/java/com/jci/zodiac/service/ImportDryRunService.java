@@ -0,0 +1,336 @@
+package com.jci.zodiac.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jci.zodiac.dto.request.ImportMembersRequest;
+import com.jci.zodiac.dto.response.ImportValidationReport;
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.exception.BadRequestException;
+import com.jci.zodiac.repository.MemberRepository;
+import com.jci.zodiac.util.CsvRowSource;
+import com.jci.zodiac.util.FingerprintSet;
+import com.jci.zodiac.util.KeysetPagination;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * ImportDryRunService - Validates import files without writing anything
+ * The file is checked in one streaming pass against the same rules as the real write: the CSV
+ * import job for CSV files, DataRestoreService for the members section of a JSON backup (rows
+ * whose member code already exists are linked to that member, not rejected).
+ * Cost per request: existing emails (and, for JSON, member codes) are streamed from the members
+ * table at most once, on the first row that needs them, into compact fingerprint sets of about
+ * 16 bytes per member. Fingerprint hits are confirmed with one IN query per chunk, so the database
+ * is only asked about rows that probably collide.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportDryRunService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MemberRepository memberRepository;
+    private final MemberRowValidator memberRowValidator;
+
+    // Configured like DataRestoreService's mapper, so a row converts here exactly when it converts there
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Value("${app.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Dry run of a CSV member import (same rules as the import job)
+     */
+    public ImportValidationReport validateCsv(MultipartFile file, ImportMembersRequest config, int page, int size) {
+        log.info("Validating CSV import file: {}", file.getOriginalFilename());
+
+        DryRun dryRun = new DryRun(page, size);
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(config.getDateFormat());
+
+        try (CsvRowSource source = new CsvRowSource(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            source.forEachRow((rowNumber, columns) -> {
+                if ((config.isSkipHeader() && rowNumber == 1) || MemberRowValidator.isBlank(columns)) {
+                    dryRun.skip();
+                    return;
+                }
+                MemberRowValidator.Result result = memberRowValidator.validate(rowNumber, columns, config, dateFormatter);
+                if (result.isValid()) {
+                    dryRun.check(rowNumber, result.member().getEmail(), null);
+                } else {
+                    dryRun.reject(rowNumber, result.field(), result.value(), result.error());
+                }
+            });
+        } catch (IOException e) {
+            throw new BadRequestException("Failed to read file: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BadRequestException("Validation interrupted");
+        }
+
+        return dryRun.finish(file.getOriginalFilename(), "CSV");
+    }
+
+    /**
+     * Dry run of the members section of a JSON backup (same rules as DataRestoreService:
+     * memberCode, fullName and dateOfBirth required, existing member codes are linked)
+     */
+    public ImportValidationReport validateJson(MultipartFile file, int page, int size) {
+        log.info("Validating JSON import file: {}", file.getOriginalFilename());
+
+        DryRun dryRun = new DryRun(page, size);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(file.getInputStream())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new BadRequestException("Invalid backup file: expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String section = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("members".equals(section) && value == JsonToken.START_ARRAY) {
+                    long rowNumber = 0;
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        validateJsonMember(++rowNumber, parser.readValueAsTree(), dryRun);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Invalid JSON file: " + e.getMessage());
+        }
+
+        return dryRun.finish(file.getOriginalFilename(), "JSON");
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void validateJsonMember(long rowNumber, JsonNode node, DryRun dryRun) {
+        if (node == null || !node.isObject()) {
+            dryRun.reject(rowNumber, "row", null, "Member entry must be a JSON object");
+            return;
+        }
+
+        String memberCode = text(node, "memberCode");
+        String fullName = text(node, "fullName");
+        String email = text(node, "email");
+        String dobStr = text(node, "dateOfBirth");
+
+        if (memberCode == null) {
+            dryRun.reject(rowNumber, "memberCode", null, "Member code is required");
+            return;
+        }
+        if (fullName == null) {
+            dryRun.reject(rowNumber, "fullName", null, "Full name is required");
+            return;
+        }
+        if (!node.hasNonNull("dateOfBirth")) {
+            dryRun.reject(rowNumber, "dateOfBirth", null, "Date of birth is required");
+            return;
+        }
+
+        try {
+            objectMapper.treeToValue(node.get("dateOfBirth"), LocalDate.class);
+        } catch (IOException e) {
+            dryRun.reject(rowNumber, "dateOfBirth", dobStr, "Invalid date format. Expected: yyyy-MM-dd");
+            return;
+        }
+        try {
+            objectMapper.treeToValue(node, Member.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            String message = e instanceof JsonProcessingException json ? json.getOriginalMessage() : e.getMessage();
+            dryRun.reject(rowNumber, "row", null, "Invalid member entry: " + message);
+            return;
+        }
+
+        dryRun.check(rowNumber, email, memberCode);
+    }
+
+    private String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        String text = value.isValueNode() ? value.asText().trim() : value.toString();
+        return text.isEmpty() ? null : text;
+    }
+
+    // Streams one column of the members table into a fingerprint set (MySQL row streaming)
+    private FingerprintSet loadFingerprints(String sql) {
+        JdbcTemplate streaming = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        streaming.setFetchSize(Integer.MIN_VALUE);
+
+        FingerprintSet fingerprints = new FingerprintSet();
+        streaming.query(sql, (RowCallbackHandler) rs -> fingerprints.add(normalize(rs.getString(1))));
+        return fingerprints;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** A row waiting for the chunk's confirmation queries */
+    private record PendingRow(long rowNumber, String email, String memberCode, boolean confirmEmail,
+                              boolean confirmCode, ImportValidationReport.RowError error) {
+    }
+
+    /**
+     * State of one dry run: uniqueness sets, the current chunk and the requested error page
+     */
+    private final class DryRun {
+
+        private final int page;
+        private final int size;
+        private FingerprintSet existingEmails;
+        private FingerprintSet existingCodes;
+        private final FingerprintSet fileEmails = new FingerprintSet();
+        private final FingerprintSet fileCodes = new FingerprintSet();
+        private final List<PendingRow> pending = new ArrayList<>();
+        private final List<ImportValidationReport.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long validRows;
+        private long invalidRows;
+        private long skippedRows;
+        private long linkedRows;
+
+        private DryRun(int page, int size) {
+            this.page = Math.max(0, page);
+            this.size = KeysetPagination.pageSize(size);
+        }
+
+        void skip() {
+            skippedRows++;
+        }
+
+        void reject(long rowNumber, String field, String value, String message) {
+            totalRows++;
+            add(new PendingRow(rowNumber, null, null, false, false,
+                    new ImportValidationReport.RowError(rowNumber, field, value, message)));
+        }
+
+        // Queue a row that passed field validation; uniqueness is decided in file order by flush()
+        void check(long rowNumber, String email, String memberCode) {
+            totalRows++;
+            boolean confirmEmail = email != null && existingEmails().mightContain(normalize(email));
+            boolean confirmCode = memberCode != null && existingCodes().mightContain(normalize(memberCode));
+            add(new PendingRow(rowNumber, email, memberCode, confirmEmail, confirmCode, null));
+        }
+
+        ImportValidationReport finish(String fileName, String format) {
+            flush();
+            log.info("Dry run of {} ({}): {} row(s), {} valid, {} linked, {} invalid, {} skipped",
+                    fileName, format, totalRows, validRows, linkedRows, invalidRows, skippedRows);
+
+            return ImportValidationReport.builder()
+                    .fileName(fileName)
+                    .format(format)
+                    .totalRows(totalRows)
+                    .validRows(validRows)
+                    .linkedRows(linkedRows)
+                    .invalidRows(invalidRows)
+                    .skippedRows(skippedRows)
+                    .page(page)
+                    .size(size)
+                    .totalPages((int) ((invalidRows + size - 1) / size))
+                    .errors(errors)
+                    .build();
+        }
+
+        private void add(PendingRow row) {
+            pending.add(row);
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        // Confirm fingerprint hits with one query per key type, then decide the chunk in file order.
+        // Like DataRestoreService, a member code already in the database or earlier in the file links
+        // the row instead of inserting it, so its email is not checked.
+        private void flush() {
+            Set<String> takenEmails = confirm(
+                    pending.stream().filter(PendingRow::confirmEmail).map(PendingRow::email).toList(),
+                    memberRepository::findExistingEmails);
+            Set<String> takenCodes = confirm(
+                    pending.stream().filter(PendingRow::confirmCode).map(PendingRow::memberCode).toList(),
+                    memberRepository::findExistingMemberCodes);
+
+            for (PendingRow row : pending) {
+                if (row.error() != null) {
+                    record(row.error());
+                    continue;
+                }
+                if (row.memberCode() != null) {
+                    String codeKey = normalize(row.memberCode());
+                    boolean taken = row.confirmCode() && takenCodes.contains(codeKey);
+                    if (!fileCodes.add(codeKey) || taken) {
+                        linkedRows++;
+                        continue;
+                    }
+                }
+                String emailKey = row.email() != null ? normalize(row.email()) : null;
+                if (emailKey != null && !fileEmails.add(emailKey)) {
+                    record(new ImportValidationReport.RowError(row.rowNumber(), "email", row.email(),
+                            "Duplicate email in file: '" + row.email() + "'"));
+                } else if (row.confirmEmail() && takenEmails.contains(emailKey)) {
+                    record(new ImportValidationReport.RowError(row.rowNumber(), "email", row.email(),
+                            "Member already exists with email: '" + row.email() + "'"));
+                } else {
+                    validRows++;
+                }
+            }
+            pending.clear();
+        }
+
+        // Loaded on first use: a file without valid rows costs no scan, a CSV file never loads codes
+        private FingerprintSet existingEmails() {
+            if (existingEmails == null) {
+                existingEmails = loadFingerprints("SELECT email FROM members WHERE email IS NOT NULL");
+            }
+            return existingEmails;
+        }
+
+        private FingerprintSet existingCodes() {
+            if (existingCodes == null) {
+                existingCodes = loadFingerprints("SELECT member_code FROM members");
+            }
+            return existingCodes;
+        }
+
+        private Set<String> confirm(List<String> candidates,
+                                    Function<Collection<String>, List<String>> query) {
+            Set<String> taken = new HashSet<>();
+            if (!candidates.isEmpty()) {
+                query.apply(candidates).forEach(value -> taken.add(normalize(value)));
+            }
+            return taken;
+        }
+
+        // Counts every rejected row, keeps only the requested page
+        private void record(ImportValidationReport.RowError error) {
+            long index = invalidRows++;
+            if (index >= (long) page * size && index < (long) (page + 1) * size) {
+                errors.add(error);
+            }
+        }
+    }
+}
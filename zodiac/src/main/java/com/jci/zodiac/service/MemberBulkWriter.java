@@ -0,0 +1,215 @@
+package com.jci.zodiac.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.event.MemberChangedEvent;
+import com.jci.zodiac.event.MembersChangedEvent;
+import com.jci.zodiac.util.BirthdayDates;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MemberBulkWriter - Inserts members in JDBC batches, one transaction per chunk
+ * Member.id is IDENTITY, which turns off Hibernate batching, so bulk paths write with plain
+ * JDBC (rewritten into multi-row INSERTs by rewriteBatchedStatements=true) and then publish
+ * one MembersChangedEvent, index the rows for search and bump the data version themselves.
+ * Callers validate rows first; a chunk that still fails is retried row by row so only the
+ * offending rows are rejected.
+ */
+@Service
+@Slf4j
+public class MemberBulkWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO members (member_code, full_name, email, phone, " +
+            "date_of_birth, birth_month_day, zodiac_sign, zodiac_element, position, department_id, join_date, " +
+            "membership_status, left_date, membership_type, avatar_url, address, city, emergency_contact, emergency_phone, " +
+            "facebook_url, company, search_text, notes, tags, created_at, updated_at, created_by) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MemberCodeAllocator memberCodeAllocator;
+    private final SearchIndexService searchIndexService;
+    private final DataVersionService dataVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** Outcome of one chunk: inserted members (ids set) and rejected rows by index within the chunk */
+    public record ChunkResult(List<Member> inserted, List<RowFailure> failures) {
+    }
+
+    public record RowFailure(int index, Member member, String message) {
+    }
+
+    public MemberBulkWriter(JdbcTemplate jdbcTemplate,
+                            MemberCodeAllocator memberCodeAllocator,
+                            SearchIndexService searchIndexService,
+                            DataVersionService dataVersionService,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.memberCodeAllocator = memberCodeAllocator;
+        this.searchIndexService = searchIndexService;
+        this.dataVersionService = dataVersionService;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Insert a chunk in its own transaction
+     * Members without a code get one from MemberCodeAllocator, which is first moved past the codes
+     * the chunk brings along; generated ids are set on the members.
+     */
+    public ChunkResult insertChunk(List<Member> chunk) {
+        if (chunk.isEmpty()) {
+            return new ChunkResult(List.of(), List.of());
+        }
+        memberCodeAllocator.advancePast(chunk.stream().map(Member::getMemberCode).toList());
+        chunk.forEach(this::applyDefaults);
+
+        try {
+            chunkTransaction.executeWithoutResult(status -> insertAndPublish(chunk));
+            return new ChunkResult(chunk, List.of());
+        } catch (RuntimeException e) {
+            log.warn("Bulk insert of {} member(s) failed ({}), retrying row by row", chunk.size(), e.getMessage());
+            chunk.forEach(member -> member.setId(null));
+            return insertRowByRow(chunk);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private ChunkResult insertRowByRow(List<Member> chunk) {
+        List<Member> inserted = new ArrayList<>();
+        List<RowFailure> failures = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Member member = chunk.get(i);
+            try {
+                chunkTransaction.executeWithoutResult(status -> insertAndPublish(List.of(member)));
+                inserted.add(member);
+            } catch (RuntimeException e) {
+                member.setId(null);
+                failures.add(new RowFailure(i, member, rootMessage(e)));
+            }
+        }
+        return new ChunkResult(inserted, failures);
+    }
+
+    private void insertAndPublish(List<Member> members) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Member member : members) {
+                    bind(statement, member);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (Member member : members) {
+                        if (!keys.next()) {
+                            throw new SQLException("Missing generated key for member " + member.getMemberCode());
+                        }
+                        member.setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+
+        eventPublisher.publishEvent(new MembersChangedEvent(members.stream()
+                .map(member -> new MemberChangedEvent(MemberChangedEvent.ChangeType.CREATED,
+                        null, MemberChangedEvent.MemberState.of(member)))
+                .toList()));
+        searchIndexService.indexAllAfterCommit(members);
+        dataVersionService.bumpAfterCommit();
+    }
+
+    // Same defaults as Member @Builder.Default / @PrePersist / timestamps
+    private void applyDefaults(Member member) {
+        if (member.getMemberCode() == null) {
+            member.setMemberCode(memberCodeAllocator.nextCode());
+        }
+        if (member.getMembershipStatus() == null) {
+            member.setMembershipStatus(Member.MembershipStatus.Active);
+        }
+        if (member.getMembershipType() == null) {
+            member.setMembershipType(Member.MembershipType.FullMember);
+        }
+        if (member.getCity() == null) {
+            member.setCity("Da Nang");
+        }
+        if (member.getCreatedBy() == null) {
+            member.setCreatedBy(1L);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // Backups and imports without a left date count the leave on the row's last update
+        member.setLeftDate(Member.leftDateFor(member.getMembershipStatus(), member.getLeftDate(),
+                member.getUpdatedAt() != null ? member.getUpdatedAt().toLocalDate() : now.toLocalDate()));
+        if (member.getCreatedAt() == null) {
+            member.setCreatedAt(now);
+        }
+        member.setUpdatedAt(now);
+    }
+
+    private void bind(PreparedStatement statement, Member member) throws SQLException {
+        int i = 1;
+        statement.setString(i++, member.getMemberCode());
+        statement.setString(i++, member.getFullName());
+        statement.setString(i++, member.getEmail());
+        statement.setString(i++, member.getPhone());
+        statement.setObject(i++, member.getDateOfBirth());
+        statement.setInt(i++, BirthdayDates.monthDay(member.getDateOfBirth()));
+        statement.setString(i++, member.getZodiacSign().name());
+        statement.setString(i++, member.getZodiacElement().name());
+        statement.setString(i++, member.getPosition());
+        statement.setObject(i++, member.getDepartmentId(), Types.BIGINT);
+        statement.setObject(i++, member.getJoinDate());
+        statement.setString(i++, member.getMembershipStatus().name());
+        statement.setObject(i++, member.getLeftDate(), Types.DATE);
+        statement.setString(i++, member.getMembershipType().name());
+        statement.setString(i++, member.getAvatarUrl());
+        statement.setString(i++, member.getAddress());
+        statement.setString(i++, member.getCity());
+        statement.setString(i++, member.getEmergencyContact());
+        statement.setString(i++, member.getEmergencyPhone());
+        statement.setString(i++, member.getFacebookUrl());
+        statement.setString(i++, member.getCompany());
+        statement.setString(i++, member.keywordText());
+        statement.setString(i++, member.getNotes());
+        statement.setString(i++, toJson(member.getTags()));
+        statement.setObject(i++, member.getCreatedAt());
+        statement.setObject(i++, member.getUpdatedAt());
+        statement.setObject(i, member.getCreatedBy(), Types.BIGINT);
+    }
+
+    private String toJson(List<String> tags) throws SQLException {
+        if (tags == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(tags);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Invalid tags: " + e.getMessage(), e);
+        }
+    }
+
+    private String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+}
@@ -0,0 +1,157 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.entity.IdSequence;
+import com.jci.zodiac.repository.IdSequenceRepository;
+import com.jci.zodiac.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * MemberCodeAllocator - Hands out member codes without a query per insert
+ * Reserves blocks of app.member-code.block-size values from the id_sequences table (hi/lo)
+ * and serves them from an AtomicLong. Each reservation commits on its own under a row lock,
+ * so threads and app nodes never get overlapping blocks. Values left in a block when the
+ * app stops are skipped, so codes are unique and increasing per node but not gap-free.
+ * Imports and restores insert explicit codes: they move the sequence past those codes first
+ * ({@link #advancePast}), and each new block skips values whose code is already taken.
+ */
+@Service
+@Slf4j
+public class MemberCodeAllocator {
+
+    /** Codes the sequence hands out, JCI-DN- plus the sequence value */
+    private static final Pattern SEQUENCE_CODE = Pattern.compile("^JCI-DN-(\\d{1,18})$", Pattern.CASE_INSENSITIVE);
+
+    private final IdSequenceRepository idSequenceRepository;
+    private final MemberRepository memberRepository;
+    private final ZodiacUtilityService zodiacUtilityService;
+    private final TransactionTemplate reservationTransaction;
+    private final int blockSize;
+
+    private volatile Block block = new Block(0, 0, Set.of());
+
+    /** Reserved values [next, limit), minus the ones already used as explicit codes */
+    private record Block(AtomicLong next, long limit, Set<Long> taken) {
+        Block(long first, long limit, Set<Long> taken) {
+            this(new AtomicLong(first), limit, taken);
+        }
+    }
+
+    public MemberCodeAllocator(IdSequenceRepository idSequenceRepository,
+                               MemberRepository memberRepository,
+                               ZodiacUtilityService zodiacUtilityService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.member-code.block-size:50}") int blockSize) {
+        this.idSequenceRepository = idSequenceRepository;
+        this.memberRepository = memberRepository;
+        this.zodiacUtilityService = zodiacUtilityService;
+        this.reservationTransaction = new TransactionTemplate(transactionManager);
+        this.reservationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    /**
+     * Next unused member code, e.g. JCI-DN-042
+     */
+    public String nextCode() {
+        return zodiacUtilityService.generateMemberCode(nextValue());
+    }
+
+    /**
+     * Next sequence value; only touches the database when the current block is used up
+     */
+    public long nextValue() {
+        while (true) {
+            Block current = block;
+            long value = current.next().getAndIncrement();
+            if (value < current.limit()) {
+                if (current.taken().contains(value)) {
+                    continue;
+                }
+                return value;
+            }
+            synchronized (this) {
+                if (block == current) {
+                    block = reserveBlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Move the sequence past explicit codes that are about to be inserted (imports, restores)
+     * Call before inserting, so no block reserved afterwards can contain them; this node also drops
+     * the rest of its current block. Codes outside the JCI-DN-number format are ignored; the
+     * sequence never moves back.
+     */
+    public void advancePast(Collection<String> codes) {
+        OptionalLong highest = codes.stream()
+                .map(this::sequenceValue)
+                .filter(value -> value >= 0)
+                .mapToLong(Long::longValue)
+                .max();
+        if (highest.isEmpty()) {
+            return;
+        }
+        reservationTransaction.executeWithoutResult(status ->
+                idSequenceRepository.advanceTo(IdSequence.MEMBER_CODE, highest.getAsLong() + 1));
+        synchronized (this) {
+            block = new Block(0, 0, Set.of()); // the held block may overlap the new codes
+        }
+        log.debug("Member code sequence advanced past {}", highest.getAsLong());
+    }
+
+    // ==================== Helper Methods ====================
+
+    // Runs in its own transaction so the reservation survives a rollback of the caller
+    private Block reserveBlock() {
+        long first = reservationTransaction.execute(status -> {
+            IdSequence sequence = idSequenceRepository.findForUpdate(IdSequence.MEMBER_CODE)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "Sequence '" + IdSequence.MEMBER_CODE + "' is missing from id_sequences"));
+            long reserved = sequence.getNextValue();
+            sequence.setNextValue(reserved + blockSize);
+            return reserved;
+        });
+        long limit = first + blockSize;
+        Set<Long> taken = takenValues(first, limit);
+        log.debug("Reserved member code block [{}, {}), {} value(s) already taken", first, limit, taken.size());
+        return new Block(first, limit, taken);
+    }
+
+    // One query per block: values whose code was inserted explicitly before the sequence caught up
+    private Set<Long> takenValues(long first, long limit) {
+        Map<String, Long> valuesByCode = new HashMap<>();
+        for (long value = first; value < limit; value++) {
+            valuesByCode.put(zodiacUtilityService.generateMemberCode(value), value);
+        }
+        return memberRepository.findExistingMemberCodes(valuesByCode.keySet()).stream()
+                .map(code -> valuesByCode.get(code.toUpperCase(Locale.ROOT))) // the column compares case-insensitively
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private long sequenceValue(String code) {
+        if (code == null) {
+            return -1;
+        }
+        Matcher matcher = SEQUENCE_CODE.matcher(code.trim());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+}
@@ -0,0 +1,500 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.dto.request.ImportMembersRequest;
+import com.jci.zodiac.dto.response.ImportJobResponse;
+import com.jci.zodiac.entity.MemberImportJob;
+import com.jci.zodiac.exception.BadRequestException;
+import com.jci.zodiac.exception.ResourceNotFoundException;
+import com.jci.zodiac.repository.MemberImportJobRepository;
+import com.jci.zodiac.repository.MemberRepository;
+import com.jci.zodiac.util.CsvRowSource;
+import com.jci.zodiac.util.TabularRowSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MemberImportJobService - Streaming member imports as background jobs
+ * The upload is spooled to a temp file, then each job runs a three-stage pipeline:
+ * the job thread reads rows and hands batches to a parallel validation stage, and a single
+ * writer takes validated batches in order from a bounded queue and inserts them with
+ * MemberBulkWriter. Memory stays flat in file size.
+ * Job state is kept in member_import_jobs and rejected rows in member_import_errors, updated after
+ * each batch, so any node can serve a job's progress and error CSV; only the upload is local.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberImportJobService {
+
+    private static final List<String> ERROR_FILE_HEADER = List.of("Row", "Field", "Value", "Error");
+
+    private static final String INSERT_ERROR_SQL = "INSERT INTO member_import_errors " +
+            "(job_id, source_row, field, field_value, error) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_ERRORS_SQL = "SELECT id, source_row, field, field_value, error " +
+            "FROM member_import_errors WHERE job_id = ? AND id > ? ORDER BY id LIMIT ?";
+
+    private final MemberRepository memberRepository;
+    private final MemberImportJobRepository memberImportJobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MemberBulkWriter memberBulkWriter;
+    private final MemberRowValidator memberRowValidator;
+    private final ThreadPoolTaskExecutor importExecutor;
+    private final ThreadPoolTaskExecutor importWriterExecutor;
+    private final ThreadPoolTaskExecutor importValidationExecutor;
+
+    @Value("${app.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.import.queue-capacity:8}")
+    private int queueCapacity;
+
+    @Value("${app.import.spool-dir:${java.io.tmpdir}/zodiac-imports}")
+    private Path spoolDir;
+
+    @Value("${app.import.job-retention-hours:24}")
+    private int jobRetentionHours;
+
+    /** Opens a spooled upload as rows */
+    @FunctionalInterface
+    public interface SourceOpener {
+        TabularRowSource open(Path file) throws IOException;
+    }
+
+    private record RawRow(long rowNumber, List<String> columns) {
+    }
+
+    private record RejectedRow(long rowNumber, String field, String value, String error) {
+    }
+
+    private record StoredRejectedRow(long id, RejectedRow row) {
+    }
+
+    // Marks the end of the batch queue (compared by reference)
+    private static final CompletableFuture<List<MemberRowValidator.Result>> END_OF_ROWS = CompletableFuture.completedFuture(List.of());
+
+    // ==================== Jobs ====================
+
+    /**
+     * Copy an upload to the spool directory so the job can read it after the request ends
+     */
+    public Path spool(MultipartFile file, String suffix) {
+        try {
+            Files.createDirectories(spoolDir);
+            Path spooled = Files.createTempFile(spoolDir, "upload-", suffix);
+            file.transferTo(spooled);
+            return spooled;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store upload: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Queue an import of a spooled file; the file is deleted when the job ends
+     */
+    public ImportJobResponse start(String fileName, String format, Path spooledFile,
+                                   ImportMembersRequest config, SourceOpener opener) {
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), fileName, format);
+        MemberImportJob saved = memberImportJobRepository.save(job.toEntity());
+
+        try {
+            importExecutor.execute(() -> run(job, spooledFile, config, opener));
+        } catch (RejectedExecutionException e) {
+            memberImportJobRepository.deleteById(job.id);
+            deleteQuietly(spooledFile);
+            throw new BadRequestException("Too many imports in progress, please retry later");
+        }
+
+        log.info("📥 Import job {} queued for {} ({})", job.id, fileName, format);
+        return toResponse(saved);
+    }
+
+    public ImportJobResponse getJob(String jobId) {
+        return toResponse(findJob(jobId));
+    }
+
+    /**
+     * Fail unless the job has finished with rejected rows (call before streaming its error CSV)
+     */
+    public void checkErrorFile(String jobId) {
+        MemberImportJob job = findJob(jobId);
+        if (job.getFinishedAt() == null || job.getFailedImports() == 0) {
+            throw new ResourceNotFoundException("Import error file", "jobId", jobId);
+        }
+    }
+
+    /**
+     * Error CSV of a job (Row, Field, Value, Error), read from the database a chunk at a time
+     */
+    public void writeErrorFile(String jobId, OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CsvRowSource.formatRecord(ERROR_FILE_HEADER));
+        writer.newLine();
+
+        long afterId = 0;
+        while (true) {
+            List<StoredRejectedRow> page = jdbcTemplate.query(SELECT_ERRORS_SQL, (rs, rowNum) -> new StoredRejectedRow(
+                    rs.getLong("id"),
+                    new RejectedRow(rs.getLong("source_row"), rs.getString("field"),
+                            rs.getString("field_value"), rs.getString("error"))), jobId, afterId, chunkSize);
+            for (StoredRejectedRow stored : page) {
+                RejectedRow row = stored.row();
+                writer.write(CsvRowSource.formatRecord(List.of(String.valueOf(row.rowNumber()), nullToEmpty(row.field()),
+                        nullToEmpty(row.value()), nullToEmpty(row.error()))));
+                writer.newLine();
+            }
+            if (page.size() < chunkSize) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).id();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Forget jobs not updated for app.import.job-retention-hours, with their rejected rows
+     * A running job is updated after every batch; one whose node stopped is dropped here too.
+     */
+    @Scheduled(fixedDelayString = "${app.import.cleanup-interval-ms:3600000}")
+    public void purgeStaleJobs() {
+        int purged = memberImportJobRepository.deleteNotUpdatedSince(LocalDateTime.now().minusHours(jobRetentionHours));
+        if (purged > 0) {
+            log.info("📥 Purged {} import job(s)", purged);
+        }
+    }
+
+    // ==================== Pipeline ====================
+
+    private void run(ImportJob job, Path spooledFile, ImportMembersRequest config, SourceOpener opener) {
+        job.status = MemberImportJob.Status.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        log.info("📥 Import job {} started", job.id);
+
+        BlockingQueue<CompletableFuture<List<MemberRowValidator.Result>>> batches = new ArrayBlockingQueue<>(queueCapacity);
+
+        try {
+            saveState(job);
+
+            AtomicBoolean aborted = new AtomicBoolean();
+            CountDownLatch writerDone = new CountDownLatch(1);
+            Future<?> writer = importWriterExecutor.submit(() -> {
+                try {
+                    return writeAll(job, batches, aborted);
+                } finally {
+                    writerDone.countDown();
+                }
+            });
+
+            Exception failure = null;
+            try {
+                readRows(job, spooledFile, config, opener, batches, writer);
+            } catch (Exception e) {
+                failure = e;
+                aborted.set(true);
+                batches.clear(); // drop queued batches and make room for the end marker
+            }
+            // Always stop and await the writer here, so the final state saved below is the last write
+            failure = stopWriter(batches, writer, writerDone, aborted, failure);
+            if (failure != null) {
+                throw failure;
+            }
+
+            job.status = MemberImportJob.Status.COMPLETED;
+            job.message = String.format("Import completed: %d successful, %d failed",
+                    job.successfulImports.get(), job.failedImports.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(job, "Import interrupted");
+        } catch (Exception e) {
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            log.error("❌ Import job {} failed: {}", job.id, cause.getMessage(), cause);
+            fail(job, "Failed to read file: " + cause.getMessage());
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            deleteQuietly(spooledFile);
+            try {
+                saveState(job);
+            } catch (RuntimeException e) {
+                log.error("❌ Could not save the final state of import job {}: {}", job.id, e.getMessage(), e);
+            }
+        }
+
+        log.info("📥 Import job {} {}: {} row(s), {} imported, {} failed, {} skipped",
+                job.id, job.status, job.totalRows.get(), job.successfulImports.get(),
+                job.failedImports.get(), job.skippedRows.get());
+    }
+
+    private void readRows(ImportJob job, Path spooledFile, ImportMembersRequest config, SourceOpener opener,
+                          BlockingQueue<CompletableFuture<List<MemberRowValidator.Result>>> batches,
+                          Future<?> writer) throws Exception {
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(config.getDateFormat());
+        try (TabularRowSource source = opener.open(spooledFile)) {
+            List<RawRow> batch = new ArrayList<>(chunkSize);
+            source.forEachRow((rowNumber, columns) -> {
+                if ((config.isSkipHeader() && rowNumber == 1) || MemberRowValidator.isBlank(columns)) {
+                    job.skippedRows.incrementAndGet();
+                    return;
+                }
+                job.totalRows.incrementAndGet();
+                batch.add(new RawRow(rowNumber, columns));
+                if (batch.size() >= chunkSize) {
+                    enqueue(batches, validateAsync(List.copyOf(batch), config, dateFormatter), writer);
+                    batch.clear();
+                }
+            });
+            if (!batch.isEmpty()) {
+                enqueue(batches, validateAsync(List.copyOf(batch), config, dateFormatter), writer);
+            }
+        }
+    }
+
+    /**
+     * Send the end marker, wait until the writer thread has really finished, and return the first
+     * failure; later ones are attached as suppressed. If the marker cannot be queued normally the
+     * writer is told to stop and the queue is cleared, so the marker always gets through.
+     */
+    private Exception stopWriter(BlockingQueue<CompletableFuture<List<MemberRowValidator.Result>>> batches,
+                                 Future<?> writer, CountDownLatch writerDone, AtomicBoolean aborted,
+                                 Exception failure) {
+        try {
+            enqueue(batches, END_OF_ROWS, writer);
+        } catch (Exception e) {
+            failure = withSuppressed(failure, e);
+            aborted.set(true);
+            batches.clear();
+            batches.offer(END_OF_ROWS); // this thread is the only producer, so there is room now
+        }
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                writerDone.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        try {
+            writer.get();
+        } catch (ExecutionException e) {
+            failure = withSuppressed(failure, e);
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return failure;
+    }
+
+    private Exception withSuppressed(Exception primary, Exception secondary) {
+        if (primary == null) {
+            return secondary;
+        }
+        Throwable cause = rootCause(secondary);
+        if (cause != rootCause(primary) && cause != primary.getCause()) { // enqueue already reported it
+            primary.addSuppressed(secondary);
+        }
+        return primary;
+    }
+
+    private Throwable rootCause(Throwable e) {
+        return e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    // Blocks while the queue is full (backpressure); gives up if the writer died
+    private void enqueue(BlockingQueue<CompletableFuture<List<MemberRowValidator.Result>>> batches,
+                         CompletableFuture<List<MemberRowValidator.Result>> batch, Future<?> writer) throws InterruptedException {
+        while (!batches.offer(batch, 1, TimeUnit.SECONDS)) {
+            if (writer.isDone()) {
+                try {
+                    writer.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Import writer failed: " + e.getCause().getMessage(), e.getCause());
+                }
+                throw new IllegalStateException("Import writer stopped unexpectedly");
+            }
+        }
+    }
+
+    private CompletableFuture<List<MemberRowValidator.Result>> validateAsync(List<RawRow> rows, ImportMembersRequest config,
+                                                                DateTimeFormatter dateFormatter) {
+        return CompletableFuture.supplyAsync(() -> rows.stream()
+                .map(row -> memberRowValidator.validate(row.rowNumber(), row.columns(), config, dateFormatter))
+                .toList(), importValidationExecutor);
+    }
+
+    // Single writer: takes validated batches in file order, checks emails per batch, inserts in one chunk;
+    // stops without writing more once the reader has failed
+    private Void writeAll(ImportJob job, BlockingQueue<CompletableFuture<List<MemberRowValidator.Result>>> batches,
+                          AtomicBoolean aborted) throws InterruptedException {
+        while (true) {
+            CompletableFuture<List<MemberRowValidator.Result>> batch = batches.take();
+            if (batch == END_OF_ROWS || aborted.get()) {
+                return null;
+            }
+            writeBatch(job, batch.join());
+        }
+    }
+
+    private void writeBatch(ImportJob job, List<MemberRowValidator.Result> rows) {
+        List<RejectedRow> errors = new ArrayList<>();
+        List<MemberRowValidator.Result> valid = new ArrayList<>(rows.size());
+        for (MemberRowValidator.Result row : rows) {
+            if (!row.isValid()) {
+                errors.add(new RejectedRow(row.rowNumber(), row.field(), row.value(), row.error()));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        // Duplicate emails: against the database (earlier batches are committed) and within the batch
+        Set<String> takenEmails = new HashSet<>();
+        List<String> emails = valid.stream().map(row -> row.member().getEmail()).filter(Objects::nonNull).toList();
+        if (!emails.isEmpty()) {
+            memberRepository.findExistingEmails(emails).forEach(email -> takenEmails.add(email.toLowerCase()));
+        }
+
+        List<MemberRowValidator.Result> toInsert = new ArrayList<>(valid.size());
+        for (MemberRowValidator.Result row : valid) {
+            String email = row.member().getEmail();
+            if (email != null && !takenEmails.add(email.toLowerCase())) {
+                errors.add(new RejectedRow(row.rowNumber(), "email", email, "Member already exists with email: '" + email + "'"));
+            } else {
+                toInsert.add(row);
+            }
+        }
+
+        MemberBulkWriter.ChunkResult result = memberBulkWriter.insertChunk(
+                toInsert.stream().map(MemberRowValidator.Result::member).toList());
+        job.successfulImports.addAndGet(result.inserted().size());
+        for (MemberBulkWriter.RowFailure failure : result.failures()) {
+            errors.add(new RejectedRow(toInsert.get(failure.index()).rowNumber(), "member",
+                    failure.member().getFullName(), failure.message()));
+        }
+
+        if (!errors.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ERROR_SQL, errors, errors.size(), (statement, error) -> {
+                statement.setString(1, job.id);
+                statement.setLong(2, error.rowNumber());
+                statement.setString(3, error.field());
+                statement.setString(4, error.value());
+                statement.setString(5, error.error());
+            });
+            job.failedImports.addAndGet(errors.size());
+        }
+        job.processedRows.addAndGet(rows.size());
+        saveState(job);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private MemberImportJob findJob(String jobId) {
+        return memberImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job", "id", jobId));
+    }
+
+    private void saveState(ImportJob job) {
+        memberImportJobRepository.save(job.toEntity());
+    }
+
+    private void fail(ImportJob job, String message) {
+        job.status = MemberImportJob.Status.FAILED;
+        job.message = message;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static ImportJobResponse toResponse(MemberImportJob job) {
+        boolean hasErrorFile = job.getFinishedAt() != null && job.getFailedImports() > 0;
+        return ImportJobResponse.builder()
+                .jobId(job.getId())
+                .fileName(job.getFileName())
+                .format(job.getFormat())
+                .status(ImportJobResponse.Status.valueOf(job.getStatus().name()))
+                .totalRows(job.getTotalRows())
+                .processedRows(job.getProcessedRows())
+                .successfulImports(job.getSuccessfulImports())
+                .failedImports(job.getFailedImports())
+                .skippedRows(job.getSkippedRows())
+                .errorFileUrl(hasErrorFile ? "/api/members/bulk/import/jobs/" + job.getId() + "/errors" : null)
+                .message(job.getMessage())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Mutable job state on the node running it; counters are updated by the job's reader and
+     * writer threads and saved to member_import_jobs after each batch
+     */
+    private static final class ImportJob {
+        private final String id;
+        private final String fileName;
+        private final String format;
+        private final AtomicLong totalRows = new AtomicLong();
+        private final AtomicLong processedRows = new AtomicLong();
+        private final AtomicLong successfulImports = new AtomicLong();
+        private final AtomicLong failedImports = new AtomicLong();
+        private final AtomicLong skippedRows = new AtomicLong();
+        private volatile MemberImportJob.Status status = MemberImportJob.Status.QUEUED;
+        private volatile String message;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        private ImportJob(String id, String fileName, String format) {
+            this.id = id;
+            this.fileName = fileName;
+            this.format = format;
+        }
+
+        private MemberImportJob toEntity() {
+            return MemberImportJob.builder()
+                    .id(id)
+                    .fileName(fileName)
+                    .format(format)
+                    .status(status)
+                    .totalRows(totalRows.get())
+                    .processedRows(processedRows.get())
+                    .successfulImports(successfulImports.get())
+                    .failedImports(failedImports.get())
+                    .skippedRows(skippedRows.get())
+                    .message(message)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
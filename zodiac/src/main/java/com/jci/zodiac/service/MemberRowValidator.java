@@ -0,0 +1,118 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.dto.request.CreateMemberRequest;
+import com.jci.zodiac.dto.request.ImportMembersRequest;
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.mapper.MemberMapper;
+import com.jci.zodiac.util.CsvRowSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * MemberRowValidator - Checks one tabular import row and turns it into a new member
+ * Stateless and thread-safe; shared by import jobs and dry runs so both report the same errors.
+ * Uniqueness (emails) is not checked here, it needs the surrounding rows and the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberRowValidator {
+
+    /** Columns the default mapping needs (name, email, phone, date of birth, position, join date) */
+    public static final int MIN_COLUMNS = 6;
+
+    private final MemberMapper memberMapper;
+    private final ZodiacUtilityService zodiacUtilityService;
+
+    /** Either a member ready to insert or the first problem found in the row */
+    public record Result(long rowNumber, Member member, String field, String value, String error) {
+
+        static Result valid(long rowNumber, Member member) {
+            return new Result(rowNumber, member, null, null, null);
+        }
+
+        public static Result invalid(long rowNumber, String field, String value, String error) {
+            return new Result(rowNumber, null, field, value, error);
+        }
+
+        public boolean isValid() {
+            return error == null;
+        }
+    }
+
+    public Result validate(long rowNumber, List<String> columns, ImportMembersRequest config,
+                           DateTimeFormatter dateFormatter) {
+        if (columns.size() < MIN_COLUMNS) {
+            return Result.invalid(rowNumber, "row", CsvRowSource.formatRecord(columns),
+                    "Insufficient columns. Expected at least " + MIN_COLUMNS + " columns.");
+        }
+
+        String fullName = column(columns, config.getFullNameColumn());
+        String email = column(columns, config.getEmailColumn());
+        String phone = column(columns, config.getPhoneColumn());
+        String dobStr = column(columns, config.getDateOfBirthColumn());
+        String position = column(columns, config.getPositionColumn());
+        String joinDateStr = column(columns, config.getJoinDateColumn());
+        String occupation = column(columns, config.getOccupationColumn());
+
+        if (fullName == null) {
+            return Result.invalid(rowNumber, "fullName", null, "Full name is required");
+        }
+        if (dobStr == null) {
+            return Result.invalid(rowNumber, "dateOfBirth", null, "Date of birth is required");
+        }
+
+        LocalDate dateOfBirth;
+        try {
+            dateOfBirth = LocalDate.parse(dobStr, dateFormatter);
+        } catch (DateTimeParseException e) {
+            return Result.invalid(rowNumber, "dateOfBirth", dobStr,
+                    "Invalid date format. Expected: " + config.getDateFormat());
+        }
+        if (!zodiacUtilityService.isValidDateOfBirth(dateOfBirth)) {
+            return Result.invalid(rowNumber, "dateOfBirth", dobStr,
+                    "Invalid date of birth. Member must be at least 18 years old.");
+        }
+
+        LocalDate joinDate = LocalDate.now();
+        if (joinDateStr != null) {
+            try {
+                joinDate = LocalDate.parse(joinDateStr, dateFormatter);
+            } catch (DateTimeParseException e) {
+                return Result.invalid(rowNumber, "joinDate", joinDateStr,
+                        "Invalid date format. Expected: " + config.getDateFormat());
+            }
+        }
+
+        CreateMemberRequest request = CreateMemberRequest.builder()
+                .fullName(fullName)
+                .email(email)
+                .phone(phone)
+                .dateOfBirth(dateOfBirth)
+                .position(position != null ? position : occupation)
+                .joinDate(joinDate)
+                .city("Da Nang")
+                .build();
+
+        return Result.valid(rowNumber, memberMapper.toEntity(request));
+    }
+
+    /**
+     * True for rows without any content (e.g. trailing empty lines); imports skip them
+     */
+    public static boolean isBlank(List<String> columns) {
+        return columns.stream().allMatch(String::isBlank);
+    }
+
+    private String column(List<String> columns, int index) {
+        if (index < 0 || index >= columns.size()) {
+            return null;
+        }
+        String value = columns.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+}
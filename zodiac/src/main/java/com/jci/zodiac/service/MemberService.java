@@ -3,23 +3,32 @@ package com.jci.zodiac.service;
 import com.jci.zodiac.dto.request.CreateMemberRequest;
 import com.jci.zodiac.dto.request.MemberSearchRequest;
 import com.jci.zodiac.dto.request.UpdateMemberRequest;
+import com.jci.zodiac.dto.response.CursorPageResponse;
 import com.jci.zodiac.dto.response.MemberResponse;
 import com.jci.zodiac.dto.response.MemberSummaryResponse;
 import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.exception.BadRequestException;
 import com.jci.zodiac.exception.DuplicateResourceException;
 import com.jci.zodiac.exception.ResourceNotFoundException;
 import com.jci.zodiac.mapper.MemberMapper;
 import com.jci.zodiac.repository.MemberRepository;
+import com.jci.zodiac.repository.MemberSpecifications;
+import com.jci.zodiac.repository.MemberSummaryView;
+import com.jci.zodiac.util.KeysetPagination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +43,20 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final MemberMapper memberMapper;
     private final ZodiacUtilityService zodiacUtilityService;
+    private final SearchIndexService searchIndexService;
+    private final MemberCodeAllocator memberCodeAllocator;
+
+    /** Keyword matches applied as an id list; beyond this the keyword is matched in SQL, by the same rule */
+    private static final int MAX_KEYWORD_MATCHES = 1000;
+
+    /** Sort orders supported by keyset pagination (non-null columns, backed by indexes) */
+    private static final Map<String, KeysetPagination.SortKey<Member>> KEYSET_SORT_KEYS = Map.of(
+            "createdAt", KeysetPagination.SortKey.of("createdAt", LocalDateTime.class, Member::getCreatedAt, Member::getId),
+            "fullName", KeysetPagination.SortKey.of("fullName", String.class, Member::getFullName, Member::getId),
+            "joinDate", KeysetPagination.SortKey.of("joinDate", LocalDate.class, Member::getJoinDate, Member::getId),
+            "memberCode", KeysetPagination.SortKey.of("memberCode", String.class, Member::getMemberCode, Member::getId),
+            "id", KeysetPagination.SortKey.of("id", Long.class, Member::getId, Member::getId)
+    );
 
     /**
      * Create a new member
@@ -54,16 +77,8 @@ public class MemberService {
         // Convert DTO to entity
         Member member = memberMapper.toEntity(request);
 
-        // Generate unique member code
-        long nextSequence = memberRepository.count() + 1;
-        String memberCode = zodiacUtilityService.generateMemberCode(nextSequence);
-
-        // Ensure uniqueness
-        while (memberRepository.existsByMemberCode(memberCode)) {
-            nextSequence++;
-            memberCode = zodiacUtilityService.generateMemberCode(nextSequence);
-        }
-        member.setMemberCode(memberCode);
+        // Generate unique member code (served from a reserved block, no query per insert)
+        member.setMemberCode(memberCodeAllocator.nextCode());
 
         // Save member
         Member savedMember = memberRepository.save(member);
@@ -112,7 +127,7 @@ public class MemberService {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Member> memberPage = memberRepository.findAll(pageable);
+        Page<MemberSummaryView> memberPage = memberRepository.findSummariesBy(pageable);
 
         return memberPage.map(memberMapper::toSummaryResponse);
     }
@@ -134,35 +149,30 @@ public class MemberService {
                 sort
         );
 
-        Page<Member> memberPage;
-
-        // Apply filters
-        if (searchRequest.getKeyword() != null && !searchRequest.getKeyword().isEmpty()) {
-            memberPage = memberRepository.searchByKeyword(searchRequest.getKeyword(), pageable);
-        } else if (searchRequest.getZodiacSign() != null) {
-            memberPage = memberRepository.findAll(
-                    (root, query, cb) -> cb.equal(root.get("zodiacSign"), searchRequest.getZodiacSign()),
-                    pageable
-            );
-        } else if (searchRequest.getZodiacElement() != null) {
-            memberPage = memberRepository.findAll(
-                    (root, query, cb) -> cb.equal(root.get("zodiacElement"), searchRequest.getZodiacElement()),
-                    pageable
-            );
-        } else if (searchRequest.getMembershipStatus() != null) {
-            memberPage = memberRepository.findByMembershipStatus(searchRequest.getMembershipStatus(), pageable);
-        } else if (searchRequest.getDepartmentId() != null) {
-            memberPage = memberRepository.findAll(
-                    (root, query, cb) -> cb.equal(root.get("departmentId"), searchRequest.getDepartmentId()),
-                    pageable
-            );
-        } else {
-            memberPage = memberRepository.findAll(pageable);
-        }
+        Page<Member> memberPage = memberRepository.findAll(searchSpecification(searchRequest), pageable);
 
         return memberPage.map(memberMapper::toSummaryResponse);
     }
 
+    /**
+     * Search and filter members with keyset (cursor) pagination
+     * All filters are combined; sortBy must be one of KEYSET_SORT_KEYS.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MemberSummaryResponse> searchMembersByCursor(MemberSearchRequest searchRequest) {
+        log.debug("Searching members by cursor with filters: {}", searchRequest);
+
+        return KeysetPagination.fetch(
+                memberRepository,
+                searchSpecification(searchRequest),
+                keysetSortKey(searchRequest.getSortBy()),
+                sortDirection(searchRequest.getSortDirection()),
+                searchRequest.getCursor(),
+                searchRequest.getSize(),
+                memberMapper::toSummaryResponse
+        );
+    }
+
     /**
      * Update member
      */
@@ -233,13 +243,25 @@ public class MemberService {
     public List<MemberSummaryResponse> getActiveMembers() {
         log.debug("Fetching active members");
 
-        List<Member> activeMembers = memberRepository.findByMembershipStatus(Member.MembershipStatus.Active);
+        List<MemberSummaryView> activeMembers = memberRepository.findSummariesByMembershipStatus(Member.MembershipStatus.Active);
 
         return activeMembers.stream()
                 .map(memberMapper::toSummaryResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get active members, one keyset page at a time (ordered by id)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MemberSummaryResponse> getActiveMembers(String cursor, Integer size) {
+        log.debug("Fetching active members page after cursor: {}", cursor);
+
+        return KeysetPagination.fetch(memberRepository,
+                MemberSpecifications.hasMembershipStatus(Member.MembershipStatus.Active),
+                KEYSET_SORT_KEYS.get("id"), Sort.Direction.ASC, cursor, size, memberMapper::toSummaryResponse);
+    }
+
     /**
      * Get members by zodiac sign
      */
@@ -247,13 +269,25 @@ public class MemberService {
     public List<MemberSummaryResponse> getMembersByZodiacSign(Member.ZodiacSign sign) {
         log.debug("Fetching members with zodiac sign: {}", sign);
 
-        List<Member> members = memberRepository.findByZodiacSign(sign);
+        List<MemberSummaryView> members = memberRepository.findSummariesByZodiacSign(sign);
 
         return members.stream()
                 .map(memberMapper::toSummaryResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get members by zodiac sign, one keyset page at a time (ordered by id)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MemberSummaryResponse> getMembersByZodiacSign(Member.ZodiacSign sign, String cursor, Integer size) {
+        log.debug("Fetching members with zodiac sign {} after cursor: {}", sign, cursor);
+
+        return KeysetPagination.fetch(memberRepository,
+                MemberSpecifications.hasZodiacSign(sign),
+                KEYSET_SORT_KEYS.get("id"), Sort.Direction.ASC, cursor, size, memberMapper::toSummaryResponse);
+    }
+
     /**
      * Get members by zodiac element
      */
@@ -261,7 +295,7 @@ public class MemberService {
     public List<MemberSummaryResponse> getMembersByZodiacElement(Member.ZodiacElement element) {
         log.debug("Fetching members with zodiac element: {}", element);
 
-        List<Member> members = memberRepository.findByZodiacElement(element);
+        List<MemberSummaryView> members = memberRepository.findSummariesByZodiacElement(element);
 
         return members.stream()
                 .map(memberMapper::toSummaryResponse)
@@ -275,13 +309,25 @@ public class MemberService {
     public List<MemberSummaryResponse> getMembersByDepartment(Long departmentId) {
         log.debug("Fetching members in department: {}", departmentId);
 
-        List<Member> members = memberRepository.findByDepartmentId(departmentId);
+        List<MemberSummaryView> members = memberRepository.findSummariesByDepartmentId(departmentId);
 
         return members.stream()
                 .map(memberMapper::toSummaryResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get members by department, one keyset page at a time (ordered by id)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MemberSummaryResponse> getMembersByDepartment(Long departmentId, String cursor, Integer size) {
+        log.debug("Fetching members in department {} after cursor: {}", departmentId, cursor);
+
+        return KeysetPagination.fetch(memberRepository,
+                MemberSpecifications.inDepartment(departmentId),
+                KEYSET_SORT_KEYS.get("id"), Sort.Direction.ASC, cursor, size, memberMapper::toSummaryResponse);
+    }
+
     /**
      * Count total members
      */
@@ -297,4 +343,39 @@ public class MemberService {
     public long countActiveMembers() {
         return memberRepository.countActive();
     }
-}
\ No newline at end of file
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Structured filters plus the keyword, matched accent-insensitively through the search index
+     * A keyword matching more than MAX_KEYWORD_MATCHES members is applied as a LIKE predicate
+     * instead, so no match is dropped and page totals stay exact.
+     */
+    private Specification<Member> searchSpecification(MemberSearchRequest searchRequest) {
+        Specification<Member> spec = MemberSpecifications.matching(searchRequest);
+        String keyword = searchRequest.getKeyword();
+        if (keyword == null || keyword.isBlank()) {
+            return spec;
+        }
+        List<Long> matchingIds = searchIndexService.searchIds(
+                keyword, SearchIndexService.DocumentType.MEMBER, MAX_KEYWORD_MATCHES + 1);
+        if (matchingIds.size() > MAX_KEYWORD_MATCHES) {
+            log.debug("Keyword '{}' matches over {} members, matching it in SQL", keyword, MAX_KEYWORD_MATCHES);
+            return spec.and(MemberSpecifications.keyword(keyword));
+        }
+        return spec.and(MemberSpecifications.idIn(matchingIds));
+    }
+
+    private KeysetPagination.SortKey<Member> keysetSortKey(String sortBy) {
+        KeysetPagination.SortKey<Member> key = KEYSET_SORT_KEYS.get(sortBy != null ? sortBy : "createdAt");
+        if (key == null) {
+            throw new BadRequestException("Unsupported sort for cursor pagination: " + sortBy
+                    + ". Use one of " + KEYSET_SORT_KEYS.keySet());
+        }
+        return key;
+    }
+
+    private Sort.Direction sortDirection(String sortDirection) {
+        return "ASC".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC;
+    }
+}
@@ -0,0 +1,176 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.entity.MembershipMonthlyRollup;
+import com.jci.zodiac.event.MemberChangedEvent;
+import com.jci.zodiac.event.MembersChangedEvent;
+import com.jci.zodiac.repository.MembershipMonthlyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * MembershipRollupService - Maintains and reads the membership_monthly_rollup table
+ * Joins are bucketed by join month. A member who left (Inactive/Alumni) counts as one leave in the
+ * month of their left_date, which later edits don't move; reactivating or deleting them removes it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MembershipRollupService {
+
+    private final MembershipMonthlyRollupRepository rollupRepository;
+    private final DataVersionService dataVersionService;
+
+    // ==================== Incremental Maintenance ====================
+
+    /**
+     * Apply a committed member change to the rollup
+     * Runs after commit in its own transaction; a failure only leaves the rollup
+     * stale until the next rebuild, it never rolls back the member write.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onMemberChanged(MemberChangedEvent event) {
+        try {
+            Map<Bucket, int[]> deltas = new HashMap<>();
+            collectDeltas(event, deltas);
+            applyDeltas(deltas);
+        } catch (Exception e) {
+            log.warn("Failed to update membership rollup for member {}: {}",
+                    event.after() != null ? event.after().id() : event.before().id(), e.getMessage());
+        }
+    }
+
+    /**
+     * Apply a committed batch of member changes (bulk writes), one upsert per touched bucket
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onMembersChanged(MembersChangedEvent event) {
+        try {
+            Map<Bucket, int[]> deltas = new HashMap<>();
+            event.changes().forEach(change -> collectDeltas(change, deltas));
+            applyDeltas(deltas);
+        } catch (Exception e) {
+            log.warn("Failed to update membership rollup for {} bulk change(s): {}",
+                    event.changes().size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Recompute the whole rollup from the members table
+     * Runs weekly (app.rollup.rebuild.cron) and can be triggered manually
+     */
+    @Scheduled(cron = "${app.rollup.rebuild.cron:0 30 2 * * SUN}")
+    @Transactional
+    public int rebuild() {
+        log.info("Rebuilding membership monthly rollup...");
+
+        rollupRepository.deleteAllBuckets();
+        int joinBuckets = rollupRepository.backfillJoins();
+        int leaveBuckets = rollupRepository.backfillLeaves();
+        dataVersionService.bumpAfterCommit();
+
+        log.info("Membership rollup rebuilt: {} join bucket(s), {} leave bucket row(s)", joinBuckets, leaveBuckets);
+        return joinBuckets;
+    }
+
+    // ==================== Reads ====================
+
+    /**
+     * Joins per month and zodiac sign since the month containing {@code from}, oldest month first
+     * Signs without joins in a month are omitted.
+     */
+    @Transactional(readOnly = true)
+    public SortedMap<YearMonth, Map<Member.ZodiacSign, Long>> getMonthlyJoinsBySign(LocalDate from) {
+        return toMonthlyJoins(rollupRepository.sumJoinsByMonthAndSignSince(YearMonth.from(from).atDay(1)));
+    }
+
+    /**
+     * Joins per month and zodiac sign over the whole history, oldest month first
+     */
+    @Transactional(readOnly = true)
+    public SortedMap<YearMonth, Map<Member.ZodiacSign, Long>> getMonthlyJoinsBySign() {
+        return toMonthlyJoins(rollupRepository.sumJoinsByMonthAndSign());
+    }
+
+    // ==================== Helper Methods ====================
+
+    /** One rollup row: month x sign x element x department */
+    private record Bucket(YearMonth month, Member.ZodiacSign sign, Member.ZodiacElement element, long departmentId) {
+        static Bucket of(YearMonth month, MemberChangedEvent.MemberState state) {
+            return new Bucket(month, state.zodiacSign(), state.zodiacElement(),
+                    state.departmentId() != null ? state.departmentId() : MembershipMonthlyRollup.NO_DEPARTMENT);
+        }
+    }
+
+    // Adds the change's {joins, leaves} deltas per bucket
+    private void collectDeltas(MemberChangedEvent event, Map<Bucket, int[]> deltas) {
+        MemberChangedEvent.MemberState before = event.before();
+        MemberChangedEvent.MemberState after = event.after();
+
+        // Move the join if its bucket changed (or add/remove it on create/delete)
+        if (!sameJoinBucket(before, after)) {
+            if (before != null) {
+                deltas.computeIfAbsent(Bucket.of(YearMonth.from(before.joinDate()), before), k -> new int[2])[0]--;
+            }
+            if (after != null) {
+                deltas.computeIfAbsent(Bucket.of(YearMonth.from(after.joinDate()), after), k -> new int[2])[0]++;
+            }
+        }
+
+        // Move the leave the same way: taken back on reactivation/delete, re-bucketed while still left
+        if (before != null && before.hasLeft()) {
+            deltas.computeIfAbsent(Bucket.of(leaveMonth(before), before), k -> new int[2])[1]--;
+        }
+        if (after != null && after.hasLeft()) {
+            deltas.computeIfAbsent(Bucket.of(leaveMonth(after), after), k -> new int[2])[1]++;
+        }
+    }
+
+    // Month a left member's leave is counted in (rows written without a left date count as now)
+    private YearMonth leaveMonth(MemberChangedEvent.MemberState state) {
+        return state.leftDate() != null ? YearMonth.from(state.leftDate()) : YearMonth.now();
+    }
+
+    private void applyDeltas(Map<Bucket, int[]> deltas) {
+        deltas.forEach((bucket, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                rollupRepository.applyDelta(bucket.month().atDay(1), bucket.sign().name(), bucket.element().name(),
+                        bucket.departmentId(), delta[0], delta[1]);
+            }
+        });
+    }
+
+    private boolean sameJoinBucket(MemberChangedEvent.MemberState before, MemberChangedEvent.MemberState after) {
+        if (before == null || after == null) {
+            return false;
+        }
+        return YearMonth.from(before.joinDate()).equals(YearMonth.from(after.joinDate()))
+                && before.zodiacSign() == after.zodiacSign()
+                && before.zodiacElement() == after.zodiacElement()
+                && Objects.equals(before.departmentId(), after.departmentId());
+    }
+
+    private SortedMap<YearMonth, Map<Member.ZodiacSign, Long>> toMonthlyJoins(List<Object[]> rows) {
+        SortedMap<YearMonth, Map<Member.ZodiacSign, Long>> result = new TreeMap<>();
+        for (Object[] row : rows) {
+            long joins = ((Number) row[2]).longValue();
+            if (joins <= 0) {
+                continue;
+            }
+            result.computeIfAbsent(YearMonth.from((LocalDate) row[0]), k -> new EnumMap<>(Member.ZodiacSign.class))
+                    .put((Member.ZodiacSign) row[1], joins);
+        }
+        return result;
+    }
+}
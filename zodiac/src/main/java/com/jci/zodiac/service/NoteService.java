@@ -1,14 +1,17 @@
 package com.jci.zodiac.service;
 
 import com.jci.zodiac.dto.request.CreateNoteRequest;
+import com.jci.zodiac.dto.response.CursorPageResponse;
 import com.jci.zodiac.dto.response.NoteResponse;
 import com.jci.zodiac.entity.Member;
 import com.jci.zodiac.entity.Note;
 import com.jci.zodiac.exception.ResourceNotFoundException;
 import com.jci.zodiac.repository.MemberRepository;
 import com.jci.zodiac.repository.NoteRepository;
+import com.jci.zodiac.util.KeysetPagination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +27,9 @@ public class NoteService {
     private final NoteRepository noteRepository;
     private final MemberRepository memberRepository;
 
+    private static final KeysetPagination.SortKey<Note> KEYSET_SORT_KEY =
+            KeysetPagination.SortKey.of("id", Long.class, Note::getId, Note::getId);
+
     public NoteResponse createNote(CreateNoteRequest request) {
         log.info("Creating note of type: {}", request.getNoteType());
 
@@ -56,6 +62,15 @@ public class NoteService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * All notes, newest first, one keyset page at a time
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<NoteResponse> getAllNotes(String cursor, Integer size) {
+        return KeysetPagination.fetch(noteRepository, null, KEYSET_SORT_KEY, Sort.Direction.DESC,
+                cursor, size, this::toResponse);
+    }
+
     @Transactional(readOnly = true)
     public List<NoteResponse> getNotesByType(Note.NoteType type) {
         return noteRepository.findByNoteType(type).stream()
@@ -0,0 +1,209 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.dto.response.OrganizationSnapshotResponse;
+import com.jci.zodiac.dto.response.OrganizationTrendResponse;
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.entity.OrganizationSnapshot;
+import com.jci.zodiac.entity.Team;
+import com.jci.zodiac.exception.BadRequestException;
+import com.jci.zodiac.repository.*;
+import com.jci.zodiac.util.EnumCounts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * OrganizationSnapshotService - Daily organization snapshots and trends
+ * A compact row per day lets trends be read from a few hundred indexed rows
+ * instead of replaying history from the members table.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrganizationSnapshotService {
+
+    private static final BigDecimal TREND_THRESHOLD = BigDecimal.ONE; // score points
+    private static final int MAX_RANGE_DAYS = 3 * 366;
+
+    private final OrganizationSnapshotRepository snapshotRepository;
+    private final MemberRepository memberRepository;
+    private final DepartmentRepository departmentRepository;
+    private final TeamRepository teamRepository;
+    private final ZodiacCompatibilityRepository compatibilityRepository;
+    private final CompatibilityService compatibilityService;
+    private final DataVersionService dataVersionService;
+
+    @Value("${app.snapshot.trend-window-days:30}")
+    private int trendWindowDays;
+
+    // ==================== Capture ====================
+
+    /**
+     * Capture (or refresh) today's snapshot
+     * Runs every day shortly after midnight (app.snapshot.cron)
+     */
+    @Scheduled(cron = "${app.snapshot.cron:0 15 0 * * ?}")
+    @Transactional
+    public OrganizationSnapshotResponse captureDailySnapshot() {
+        LocalDate today = LocalDate.now();
+        log.info("📸 Capturing organization snapshot for {}", today);
+
+        Map<Member.MembershipStatus, Long> byStatus = EnumCounts.of(
+                memberRepository.countByMembershipStatus(), Member.MembershipStatus.class);
+        Map<Member.ZodiacSign, Long> bySign = EnumCounts.of(
+                memberRepository.countActiveByZodiacSign(), Member.ZodiacSign.class);
+        Map<Member.ZodiacElement, Long> byElement = EnumCounts.of(
+                memberRepository.countActiveByZodiacElement(), Member.ZodiacElement.class);
+
+        OrganizationSnapshot snapshot = snapshotRepository.findBySnapshotDate(today)
+                .orElseGet(() -> OrganizationSnapshot.builder().snapshotDate(today).build());
+
+        snapshot.setTotalMembers((int) byStatus.values().stream().mapToLong(Long::longValue).sum());
+        snapshot.setActiveMembers(byStatus.get(Member.MembershipStatus.Active).intValue());
+        snapshot.setInactiveMembers(byStatus.get(Member.MembershipStatus.Inactive).intValue());
+        snapshot.setOnLeaveMembers(byStatus.get(Member.MembershipStatus.OnLeave).intValue());
+        snapshot.setAlumniMembers(byStatus.get(Member.MembershipStatus.Alumni).intValue());
+        snapshot.setTotalDepartments((int) departmentRepository.count());
+        snapshot.setActiveTeams((int) teamRepository.countByStatus(Team.Status.Active));
+        snapshot.setSignHistogram(toNameKeys(bySign));
+        snapshot.setElementHistogram(toNameKeys(byElement));
+        snapshot.setAverageCompatibility(compatibilityService.calculateAverageScoreForDistribution(bySign));
+        snapshot.setExcellentPairs((int) compatibilityRepository.countHighCompatibilityPairs(BigDecimal.valueOf(80)));
+        snapshot.setGoodPairs((int) compatibilityRepository.countHighCompatibilityPairs(BigDecimal.valueOf(65)));
+        snapshot.setConflictPairs((int) compatibilityRepository.countLowCompatibilityPairs(BigDecimal.valueOf(50)));
+        snapshot.setCriticalConflicts((int) compatibilityRepository.countLowCompatibilityPairs(BigDecimal.valueOf(30)));
+
+        OrganizationSnapshot saved = snapshotRepository.save(snapshot);
+        dataVersionService.bumpAfterCommit();
+        log.info("✅ Snapshot saved: {} active member(s), avg compatibility {}",
+                saved.getActiveMembers(), saved.getAverageCompatibility());
+
+        return toResponse(saved);
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Daily snapshots in a date range (inclusive), oldest first
+     */
+    @Transactional(readOnly = true)
+    public List<OrganizationSnapshotResponse> getSnapshots(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            throw new BadRequestException("Snapshot range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        return snapshotRepository.findBySnapshotDateBetweenOrderBySnapshotDateAsc(from, to).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Monthly trend: last snapshot of each of the last N months, oldest first
+     */
+    @Transactional(readOnly = true)
+    public OrganizationTrendResponse getMonthlyTrend(int months) {
+        if (months < 1 || months > 36) {
+            throw new BadRequestException("Months must be between 1 and 36");
+        }
+
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = YearMonth.from(endDate).minusMonths(months - 1L).atDay(1);
+
+        // Snapshots come back ordered by date, so the last put per month wins
+        Map<YearMonth, OrganizationSnapshot> lastPerMonth = new TreeMap<>();
+        for (OrganizationSnapshot snapshot :
+                snapshotRepository.findBySnapshotDateBetweenOrderBySnapshotDateAsc(startDate, endDate)) {
+            lastPerMonth.put(YearMonth.from(snapshot.getSnapshotDate()), snapshot);
+        }
+
+        List<OrganizationSnapshotResponse> points = lastPerMonth.values().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+
+        OrganizationTrendResponse.OrganizationTrendResponseBuilder builder = OrganizationTrendResponse.builder()
+                .months(months)
+                .startDate(startDate)
+                .endDate(endDate)
+                .points(points);
+
+        if (points.size() >= 2) {
+            OrganizationSnapshotResponse first = points.get(0);
+            OrganizationSnapshotResponse last = points.get(points.size() - 1);
+            builder.activeMemberChange(last.getActiveMembers() - first.getActiveMembers())
+                    .compatibilityChange(last.getAverageCompatibility().subtract(first.getAverageCompatibility()))
+                    .compatibilityTrend(determineTrend(first.getAverageCompatibility(), last.getAverageCompatibility()));
+        } else {
+            builder.activeMemberChange(0)
+                    .compatibilityChange(BigDecimal.ZERO)
+                    .compatibilityTrend("STABLE");
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Compare the current org average with the snapshot taken app.snapshot.trend-window-days ago
+     * (or the oldest snapshot, if history is shorter). STABLE when there is no history yet.
+     */
+    @Transactional(readOnly = true)
+    public String getCompatibilityTrend(BigDecimal currentAverage) {
+        LocalDate baselineDate = LocalDate.now().minusDays(trendWindowDays);
+
+        Optional<OrganizationSnapshot> baseline = snapshotRepository
+                .findFirstBySnapshotDateLessThanEqualOrderBySnapshotDateDesc(baselineDate)
+                .or(snapshotRepository::findFirstByOrderBySnapshotDateAsc);
+
+        return baseline
+                .filter(snapshot -> snapshot.getAverageCompatibility() != null)
+                .map(snapshot -> determineTrend(snapshot.getAverageCompatibility(), currentAverage))
+                .orElse("STABLE");
+    }
+
+    // ==================== Helper Methods ====================
+
+    private String determineTrend(BigDecimal previous, BigDecimal current) {
+        BigDecimal change = current.subtract(previous);
+        if (change.compareTo(TREND_THRESHOLD) >= 0) return "UP";
+        if (change.compareTo(TREND_THRESHOLD.negate()) <= 0) return "DOWN";
+        return "STABLE";
+    }
+
+    private <E extends Enum<E>> Map<String, Long> toNameKeys(Map<E, Long> counts) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counts.forEach((key, value) -> result.put(key.name(), value));
+        return result;
+    }
+
+    private OrganizationSnapshotResponse toResponse(OrganizationSnapshot snapshot) {
+        return OrganizationSnapshotResponse.builder()
+                .snapshotDate(snapshot.getSnapshotDate())
+                .totalMembers(snapshot.getTotalMembers())
+                .activeMembers(snapshot.getActiveMembers())
+                .inactiveMembers(snapshot.getInactiveMembers())
+                .onLeaveMembers(snapshot.getOnLeaveMembers())
+                .alumniMembers(snapshot.getAlumniMembers())
+                .totalDepartments(snapshot.getTotalDepartments())
+                .activeTeams(snapshot.getActiveTeams())
+                .signDistribution(snapshot.getSignHistogram())
+                .elementDistribution(snapshot.getElementHistogram())
+                .averageCompatibility(snapshot.getAverageCompatibility())
+                .excellentPairs(snapshot.getExcellentPairs())
+                .goodPairs(snapshot.getGoodPairs())
+                .conflictPairs(snapshot.getConflictPairs())
+                .criticalConflicts(snapshot.getCriticalConflicts())
+                .build();
+    }
+}
@@ -4,24 +4,29 @@ import com.jci.zodiac.dto.response.*;
 import com.jci.zodiac.entity.Member;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.math.BigDecimal;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.Map;
 
 /**
  * PdfExportService - Generate PDF reports using Apache PDFBox
+ * Documents buffer up to app.export.pdf.max-main-memory-mb in memory and spill the rest to a temp
+ * file; each page's content stream is closed as soon as the page is full, and the document is saved
+ * straight to the given stream. Heap use therefore does not grow with the page count.
+ * Font metrics are cached by PDFBox across documents; each document creates its font resources once
+ * (documents are rendered concurrently, so PDF objects are never shared between them).
  */
 @Service
 @RequiredArgsConstructor
@@ -29,312 +34,218 @@ import java.util.Map;
 public class PdfExportService {
 
     private static final float MARGIN = 50;
+    private static final float BOTTOM = 60; // keeps body text clear of the footer
     private static final float TITLE_SIZE = 20;
     private static final float HEADING_SIZE = 14;
     private static final float TEXT_SIZE = 11;
     private static final float LINE_HEIGHT = 15;
 
+    private static final String FOOTER = "JCI Danang Junior Club - Zodiac HR Management";
+
+    @Value("${app.export.pdf.max-main-memory-mb:4}")
+    private long maxMainMemoryMb;
+
     /**
      * Generate PDF for Zodiac Analytics Report
      */
-    public byte[] generateZodiacAnalyticsPdf(ZodiacAnalyticsResponse data) throws IOException {
+    public void writeZodiacAnalyticsPdf(ZodiacAnalyticsResponse data, OutputStream out) throws IOException {
         log.info("Generating Zodiac Analytics PDF");
 
-        try (PDDocument document = new PDDocument()) {
-            PDPage page = new PDPage(PDRectangle.A4);
-            document.addPage(page);
-
-            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
-                float yPosition = page.getMediaBox().getHeight() - MARGIN;
-
-                // Title
-                yPosition = addTitle(content, "♐ ZODIAC ANALYTICS REPORT", yPosition);
-                yPosition -= LINE_HEIGHT * 2;
-
-                // Metadata
-                yPosition = addText(content, "Generated: " + LocalDate.now().format(DateTimeFormatter.ISO_DATE),
-                        yPosition, TEXT_SIZE);
-                yPosition = addText(content, "Total Members: " + data.getTotalMembers(), yPosition, TEXT_SIZE);
-                yPosition -= LINE_HEIGHT;
-
-                // Most/Least Common Signs
-                yPosition = addHeading(content, "Zodiac Distribution", yPosition);
-                yPosition = addText(content, "Most Common: " + data.getMostCommonSign(), yPosition, TEXT_SIZE);
-                yPosition = addText(content, "Least Common: " + data.getLeastCommonSign(), yPosition, TEXT_SIZE);
-                yPosition = addText(content, "Preferred Element: " + data.getPreferredElement(), yPosition, TEXT_SIZE);
-                yPosition -= LINE_HEIGHT;
-
-                // Zodiac Breakdown
-                yPosition = addHeading(content, "Sign Distribution", yPosition);
-                for (Map.Entry<Member.ZodiacSign, Long> entry : data.getZodiacDistribution().entrySet()) {
-                    if (entry.getValue() > 0) {
-                        String line = String.format("  %s: %d members (%.1f%%)",
-                                entry.getKey().name(),
-                                entry.getValue(),
-                                (entry.getValue() * 100.0 / data.getTotalMembers()));
-                        yPosition = addText(content, line, yPosition, TEXT_SIZE);
-                    }
-                }
-                yPosition -= LINE_HEIGHT;
-
-                // Element Distribution
-                yPosition = addHeading(content, "Element Balance", yPosition);
-                for (Map.Entry<Member.ZodiacElement, Long> entry : data.getElementDistribution().entrySet()) {
-                    String emoji = getElementEmoji(entry.getKey());
-                    String line = String.format("  %s %s: %d members",
-                            emoji, entry.getKey().name(), entry.getValue());
-                    yPosition = addText(content, line, yPosition, TEXT_SIZE);
-                }
-                yPosition -= LINE_HEIGHT;
-
-                // Insights
-                if (!data.getInsights().isEmpty()) {
-                    yPosition = addHeading(content, "Key Insights", yPosition);
-                    for (String insight : data.getInsights()) {
-                        yPosition = addBulletPoint(content, insight, yPosition);
-                    }
-                    yPosition -= LINE_HEIGHT;
+        render(out, FOOTER, pdf -> {
+            // Title
+            pdf.title("♐ ZODIAC ANALYTICS REPORT");
+            pdf.skip(2);
+
+            // Metadata
+            pdf.text("Generated: " + LocalDate.now().format(DateTimeFormatter.ISO_DATE));
+            pdf.text("Total Members: " + data.getTotalMembers());
+            pdf.skip(1);
+
+            // Most/Least Common Signs
+            pdf.heading("Zodiac Distribution");
+            pdf.text("Most Common: " + data.getMostCommonSign());
+            pdf.text("Least Common: " + data.getLeastCommonSign());
+            pdf.text("Preferred Element: " + data.getPreferredElement());
+            pdf.skip(1);
+
+            // Zodiac Breakdown
+            pdf.heading("Sign Distribution");
+            for (Map.Entry<Member.ZodiacSign, Long> entry : data.getZodiacDistribution().entrySet()) {
+                if (entry.getValue() > 0) {
+                    pdf.text(String.format("  %s: %d members (%.1f%%)",
+                            entry.getKey().name(),
+                            entry.getValue(),
+                            (entry.getValue() * 100.0 / data.getTotalMembers())));
                 }
+            }
+            pdf.skip(1);
 
-                // Recommendations
-                if (!data.getRecommendations().isEmpty()) {
-                    yPosition = addHeading(content, "Recommendations", yPosition);
-                    for (String recommendation : data.getRecommendations()) {
-                        yPosition = addBulletPoint(content, recommendation, yPosition);
-                    }
-                }
+            // Element Distribution
+            pdf.heading("Element Balance");
+            for (Map.Entry<Member.ZodiacElement, Long> entry : data.getElementDistribution().entrySet()) {
+                String emoji = getElementEmoji(entry.getKey());
+                pdf.text(String.format("  %s %s: %d members", emoji, entry.getKey().name(), entry.getValue()));
+            }
+            pdf.skip(1);
 
-                // Footer
-                addFooter(content, page, "JCI Danang Junior Club - Zodiac HR Management");
+            // Insights
+            if (!data.getInsights().isEmpty()) {
+                pdf.heading("Key Insights");
+                for (String insight : data.getInsights()) {
+                    pdf.bullet(insight);
+                }
+                pdf.skip(1);
             }
 
-            return convertToByteArray(document);
-        }
+            // Recommendations
+            if (!data.getRecommendations().isEmpty()) {
+                pdf.heading("Recommendations");
+                for (String recommendation : data.getRecommendations()) {
+                    pdf.bullet(recommendation);
+                }
+            }
+        });
     }
 
     /**
      * Generate PDF for Department Composition Report
      */
-    public byte[] generateDepartmentCompositionPdf(DepartmentCompositionResponse data) throws IOException {
+    public void writeDepartmentCompositionPdf(DepartmentCompositionResponse data, OutputStream out) throws IOException {
         log.info("Generating Department Composition PDF");
 
-        try (PDDocument document = new PDDocument()) {
-            PDPage page = new PDPage(PDRectangle.A4);
-            document.addPage(page);
+        render(out, FOOTER, pdf -> {
+            // Title
+            pdf.title("DEPARTMENT COMPOSITION REPORT");
+            pdf.skip(2);
 
-            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
-                float yPosition = page.getMediaBox().getHeight() - MARGIN;
-
-                // Title
-                yPosition = addTitle(content, "DEPARTMENT COMPOSITION REPORT", yPosition);
-                yPosition -= LINE_HEIGHT * 2;
-
-                yPosition = addText(content, "Total Departments: " + data.getTotalDepartments(), yPosition, TEXT_SIZE);
-                yPosition = addText(content, "Generated: " + data.getGeneratedAt().format(DateTimeFormatter.ISO_DATE),
-                        yPosition, TEXT_SIZE);
-                yPosition -= LINE_HEIGHT * 2;
-
-                // Each Department
-                for (DepartmentCompositionResponse.DepartmentZodiacBreakdown dept : data.getDepartments()) {
-                    // Check if we need a new page
-                    if (yPosition < 150) {
-                        page = new PDPage(PDRectangle.A4);
-                        document.addPage(page);
-                        content.close();
-                        PDPageContentStream newContent = new PDPageContentStream(document, page);
-                        yPosition = page.getMediaBox().getHeight() - MARGIN;
-                        return generateDepartmentCompositionPdf(data); // Recursive call with new page
-                    }
-
-                    yPosition = addHeading(content, dept.getDepartmentName() + " (" + dept.getDepartmentCode() + ")", yPosition);
-                    yPosition = addText(content, "Total Members: " + dept.getTotalMembers(), yPosition, TEXT_SIZE);
-                    yPosition = addText(content, "Dominant Sign: " + dept.getDominantSign(), yPosition, TEXT_SIZE);
-                    yPosition = addText(content, "Team Vibe: " + dept.getTeamVibe(), yPosition, TEXT_SIZE);
-                    yPosition = addText(content, "Balanced: " + (dept.getIsBalanced() ? "Yes" : "No"), yPosition, TEXT_SIZE);
-
-                    if (!dept.getMissingElements().isEmpty()) {
-                        yPosition = addText(content, "Missing Elements: " + String.join(", ", dept.getMissingElements()),
-                                yPosition, TEXT_SIZE);
-                    }
-
-                    yPosition -= LINE_HEIGHT * 2;
+            pdf.text("Total Departments: " + data.getTotalDepartments());
+            pdf.text("Generated: " + data.getGeneratedAt().format(DateTimeFormatter.ISO_DATE));
+            pdf.skip(2);
+
+            // Each Department (kept on one page)
+            for (DepartmentCompositionResponse.DepartmentZodiacBreakdown dept : data.getDepartments()) {
+                pdf.ensureSpace(LINE_HEIGHT * 7.5f);
+
+                pdf.heading(dept.getDepartmentName() + " (" + dept.getDepartmentCode() + ")");
+                pdf.text("Total Members: " + dept.getTotalMembers());
+                pdf.text("Dominant Sign: " + dept.getDominantSign());
+                pdf.text("Team Vibe: " + dept.getTeamVibe());
+                pdf.text("Balanced: " + (dept.getIsBalanced() ? "Yes" : "No"));
+
+                if (!dept.getMissingElements().isEmpty()) {
+                    pdf.text("Missing Elements: " + String.join(", ", dept.getMissingElements()));
                 }
 
-                addFooter(content, page, "JCI Danang Junior Club - Zodiac HR Management");
+                pdf.skip(2);
             }
-
-            return convertToByteArray(document);
-        }
+        });
     }
 
     /**
      * Generate PDF for Fun Stats Report
      */
-    public byte[] generateFunStatsPdf(FunStatsResponse data) throws IOException {
+    public void writeFunStatsPdf(FunStatsResponse data, OutputStream out) throws IOException {
         log.info("Generating Fun Stats PDF");
 
-        try (PDDocument document = new PDDocument()) {
-            PDPage page = new PDPage(PDRectangle.A4);
-            document.addPage(page);
-
-            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
-                float yPosition = page.getMediaBox().getHeight() - MARGIN;
-
-                // Title with emoji
-                yPosition = addTitle(content, "FUN ZODIAC STATISTICS", yPosition);
-                yPosition -= LINE_HEIGHT * 2;
-
-                // Sagittarius Special Section
-                yPosition = addHeading(content, "Sagittarius Power", yPosition);
-                yPosition = addText(content, String.format("Count: %d members", data.getSagittariusCount()),
-                        yPosition, TEXT_SIZE);
-                yPosition = addText(content, String.format("Percentage: %.1f%%", data.getSagittariusPercentage()),
-                        yPosition, TEXT_SIZE);
-                yPosition -= LINE_HEIGHT * 2;
-
-                // Compatibility Highlights
-                yPosition = addHeading(content, "Compatibility Highlights", yPosition);
-                yPosition = addText(content, "Most Compatible Pair:", yPosition, TEXT_SIZE);
-                yPosition = addText(content, "  " + data.getMostCompatiblePair(), yPosition, TEXT_SIZE);
-                yPosition -= LINE_HEIGHT;
-
-                yPosition = addText(content, "Least Compatible Pair:", yPosition, TEXT_SIZE);
-                yPosition = addText(content, "  " + data.getLeastCompatiblePair(), yPosition, TEXT_SIZE);
-                yPosition -= LINE_HEIGHT * 2;
-
-                // Team Recognition
-                yPosition = addHeading(content, "Team Recognition", yPosition);
-                yPosition = addText(content, "Most Balanced Team: " + data.getMostBalancedTeam(), yPosition, TEXT_SIZE);
-                yPosition = addText(content, "Zodiac of the Month: " + data.getZodiacOfTheMonth(), yPosition, TEXT_SIZE);
-                yPosition -= LINE_HEIGHT * 2;
-
-                // Fun Facts
-                if (!data.getFunFacts().isEmpty()) {
-                    yPosition = addHeading(content, "Fun Facts", yPosition);
-                    for (String fact : data.getFunFacts()) {
-                        yPosition = addBulletPoint(content, fact, yPosition);
-                    }
+        render(out, FOOTER, pdf -> {
+            // Title with emoji
+            pdf.title("FUN ZODIAC STATISTICS");
+            pdf.skip(2);
+
+            // Sagittarius Special Section
+            pdf.heading("Sagittarius Power");
+            pdf.text(String.format("Count: %d members", data.getSagittariusCount()));
+            pdf.text(String.format("Percentage: %.1f%%", data.getSagittariusPercentage()));
+            pdf.skip(2);
+
+            // Compatibility Highlights
+            pdf.heading("Compatibility Highlights");
+            pdf.text("Most Compatible Pair:");
+            pdf.text("  " + data.getMostCompatiblePair());
+            pdf.skip(1);
+
+            pdf.text("Least Compatible Pair:");
+            pdf.text("  " + data.getLeastCompatiblePair());
+            pdf.skip(2);
+
+            // Team Recognition
+            pdf.heading("Team Recognition");
+            pdf.text("Most Balanced Team: " + data.getMostBalancedTeam());
+            pdf.text("Zodiac of the Month: " + data.getZodiacOfTheMonth());
+            pdf.skip(2);
+
+            // Fun Facts
+            if (!data.getFunFacts().isEmpty()) {
+                pdf.heading("Fun Facts");
+                for (String fact : data.getFunFacts()) {
+                    pdf.bullet(fact);
                 }
-
-                addFooter(content, page, "JCI Danang Junior Club - Zodiac HR Management");
             }
-
-            return convertToByteArray(document);
-        }
+        });
     }
 
     /**
      * Generate PDF for Compatibility Report
      */
-    public byte[] generateCompatibilityReportPdf(CompatibilityReport report) throws IOException {
+    public void writeCompatibilityReportPdf(CompatibilityReport report, OutputStream out) throws IOException {
         log.info("Generating Compatibility Report PDF: {}", report.getReportType());
 
-        try (PDDocument document = new PDDocument()) {
-            PDPage page = new PDPage(PDRectangle.A4);
-            document.addPage(page);
-
-            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
-                float yPosition = page.getMediaBox().getHeight() - MARGIN;
-
-                // Title
-                yPosition = addTitle(content, report.getTitle(), yPosition);
-                yPosition -= LINE_HEIGHT * 2;
+        String footer = "Generated: " + report.getGeneratedAt().format(DateTimeFormatter.ISO_DATE_TIME);
+        render(out, footer, pdf -> {
+            // Title
+            pdf.title(report.getTitle());
+            pdf.skip(2);
 
-                // Summary
-                yPosition = addText(content, report.getSummary(), yPosition, TEXT_SIZE);
-                yPosition -= LINE_HEIGHT;
+            // Summary
+            pdf.text(report.getSummary());
+            pdf.skip(1);
 
-                yPosition = addText(content, String.format("Overall Score: %.1f%% (%s)",
-                        report.getOverallScore(), report.getOverallLevel()), yPosition, TEXT_SIZE);
-                yPosition -= LINE_HEIGHT * 2;
+            pdf.text(String.format("Overall Score: %.1f%% (%s)", report.getOverallScore(), report.getOverallLevel()));
+            pdf.skip(2);
 
-                // Strengths
-                if (report.getKeyStrengths() != null && !report.getKeyStrengths().isEmpty()) {
-                    yPosition = addHeading(content, "Key Strengths", yPosition);
-                    for (String strength : report.getKeyStrengths()) {
-                        yPosition = addBulletPoint(content, strength, yPosition);
-                    }
-                    yPosition -= LINE_HEIGHT;
+            // Strengths
+            if (report.getKeyStrengths() != null && !report.getKeyStrengths().isEmpty()) {
+                pdf.heading("Key Strengths");
+                for (String strength : report.getKeyStrengths()) {
+                    pdf.bullet(strength);
                 }
+                pdf.skip(1);
+            }
 
-                // Weaknesses
-                if (report.getKeyWeaknesses() != null && !report.getKeyWeaknesses().isEmpty()) {
-                    yPosition = addHeading(content, "Areas to Watch", yPosition);
-                    for (String weakness : report.getKeyWeaknesses()) {
-                        yPosition = addBulletPoint(content, weakness, yPosition);
-                    }
-                    yPosition -= LINE_HEIGHT;
+            // Weaknesses
+            if (report.getKeyWeaknesses() != null && !report.getKeyWeaknesses().isEmpty()) {
+                pdf.heading("Areas to Watch");
+                for (String weakness : report.getKeyWeaknesses()) {
+                    pdf.bullet(weakness);
                 }
+                pdf.skip(1);
+            }
 
-                // Recommendations
-                if (report.getActionItems() != null && !report.getActionItems().isEmpty()) {
-                    yPosition = addHeading(content, "Action Items", yPosition);
-                    for (String action : report.getActionItems()) {
-                        yPosition = addBulletPoint(content, action, yPosition);
-                    }
+            // Recommendations
+            if (report.getActionItems() != null && !report.getActionItems().isEmpty()) {
+                pdf.heading("Action Items");
+                for (String action : report.getActionItems()) {
+                    pdf.bullet(action);
                 }
-
-                addFooter(content, page, "Generated: " + report.getGeneratedAt().format(DateTimeFormatter.ISO_DATE_TIME));
             }
-
-            return convertToByteArray(document);
-        }
+        });
     }
 
     // ==================== Helper Methods ====================
 
-    private float addTitle(PDPageContentStream content, String text, float yPosition) throws IOException {
-        content.beginText();
-        content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD), TITLE_SIZE);
-        content.newLineAtOffset(MARGIN, yPosition);
-        content.showText(text);
-        content.endText();
-        return yPosition - LINE_HEIGHT * 2;
+    @FunctionalInterface
+    private interface PdfContent {
+        void write(PageWriter pdf) throws IOException;
     }
 
-    private float addHeading(PDPageContentStream content, String text, float yPosition) throws IOException {
-        content.beginText();
-        content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD), HEADING_SIZE);
-        content.newLineAtOffset(MARGIN, yPosition);
-        content.showText(text);
-        content.endText();
-        return yPosition - LINE_HEIGHT * 1.5f;
-    }
-
-    private float addText(PDPageContentStream content, String text, float yPosition, float fontSize) throws IOException {
-        content.beginText();
-        content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), fontSize);
-        content.newLineAtOffset(MARGIN, yPosition);
-
-        // Handle long text by wrapping
-        String wrappedText = text.length() > 80 ? text.substring(0, 77) + "..." : text;
-        content.showText(wrappedText);
-        content.endText();
-        return yPosition - LINE_HEIGHT;
-    }
-
-    private float addBulletPoint(PDPageContentStream content, String text, float yPosition) throws IOException {
-        content.beginText();
-        content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), TEXT_SIZE);
-        content.newLineAtOffset(MARGIN + 10, yPosition);
-        String wrappedText = text.length() > 75 ? text.substring(0, 72) + "..." : text;
-        content.showText("• " + wrappedText);
-        content.endText();
-        return yPosition - LINE_HEIGHT;
-    }
-
-    private void addFooter(PDPageContentStream content, PDPage page, String text) throws IOException {
-        content.beginText();
-        content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 9);
-        content.newLineAtOffset(MARGIN, 30);
-        content.showText(text);
-        content.endText();
-    }
-
-    private byte[] convertToByteArray(PDDocument document) throws IOException {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        document.save(outputStream);
-        return outputStream.toByteArray();
+    private void render(OutputStream out, String footer, PdfContent content) throws IOException {
+        MemoryUsageSetting memory = MemoryUsageSetting.setupMixed(maxMainMemoryMb * 1024 * 1024);
+        try (PDDocument document = new PDDocument(memory.streamCache)) {
+            try (PageWriter pdf = new PageWriter(document, footer)) {
+                content.write(pdf);
+            }
+            document.save(out);
+        }
     }
 
     private String getElementEmoji(Member.ZodiacElement element) {
@@ -345,4 +256,91 @@ public class PdfExportService {
             case Water -> "💧";
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes lines top-down, starting a new A4 page (with footer) when the current one is full
+     */
+    private static final class PageWriter implements AutoCloseable {
+
+        private final PDDocument document;
+        private final String footer;
+        private final PDType1Font regular = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        private final PDType1Font bold = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
+        private PDPage page;
+        private PDPageContentStream content;
+        private float yPosition;
+
+        private PageWriter(PDDocument document, String footer) throws IOException {
+            this.document = document;
+            this.footer = footer;
+            newPage();
+        }
+
+        void title(String text) throws IOException {
+            line(bold, TITLE_SIZE, MARGIN, text, LINE_HEIGHT * 2);
+        }
+
+        void heading(String text) throws IOException {
+            line(bold, HEADING_SIZE, MARGIN, text, LINE_HEIGHT * 1.5f);
+        }
+
+        void text(String text) throws IOException {
+            // Handle long text by truncating
+            String wrappedText = text.length() > 80 ? text.substring(0, 77) + "..." : text;
+            line(regular, TEXT_SIZE, MARGIN, wrappedText, LINE_HEIGHT);
+        }
+
+        void bullet(String text) throws IOException {
+            String wrappedText = text.length() > 75 ? text.substring(0, 72) + "..." : text;
+            line(regular, TEXT_SIZE, MARGIN + 10, "• " + wrappedText, LINE_HEIGHT);
+        }
+
+        void skip(float lines) {
+            yPosition -= LINE_HEIGHT * lines;
+        }
+
+        // Start a new page unless the given height still fits on this one
+        void ensureSpace(float height) throws IOException {
+            if (yPosition - height < BOTTOM) {
+                newPage();
+            }
+        }
+
+        private void line(PDType1Font font, float fontSize, float x, String text, float advance) throws IOException {
+            ensureSpace(LINE_HEIGHT);
+            content.beginText();
+            content.setFont(font, fontSize);
+            content.newLineAtOffset(x, yPosition);
+            content.showText(text);
+            content.endText();
+            yPosition -= advance;
+        }
+
+        private void newPage() throws IOException {
+            finishPage();
+            page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            content = new PDPageContentStream(document, page);
+            yPosition = page.getMediaBox().getHeight() - MARGIN;
+        }
+
+        // Footer, then close the page's content stream so it is flushed to the document's stream cache
+        private void finishPage() throws IOException {
+            if (content == null) {
+                return;
+            }
+            content.beginText();
+            content.setFont(regular, 9);
+            content.newLineAtOffset(MARGIN, 30);
+            content.showText(footer);
+            content.endText();
+            content.close();
+            content = null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            finishPage();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.dto.response.CompatibilityMatrixResponse;
+import com.jci.zodiac.dto.response.DepartmentCompositionResponse;
+import com.jci.zodiac.entity.Department;
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.repository.DepartmentRepository;
+import com.jci.zodiac.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * ReportBundleService - Monthly per-department report bundle as one ZIP
+ * Departments, their members and the sign-pair compatibility table are loaded once. Each department
+ * gets a composition PDF, a composition workbook and a compatibility matrix workbook; documents are
+ * rendered concurrently on reportExecutor into temp files and zipped in completion order, so the
+ * bundle takes about as long as its slowest document.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportBundleService {
+
+    private final DepartmentRepository departmentRepository;
+    private final MemberRepository memberRepository;
+    private final ReportService reportService;
+    private final PdfExportService pdfExportService;
+    private final ExcelExportService excelExportService;
+    private final ThreadPoolTaskExecutor reportExecutor;
+
+    /** One file of the bundle */
+    private record BundleDocument(String name, ReportService.ReportWriter writer) {
+    }
+
+    private record RenderedDocument(String name, Path file) {
+    }
+
+    /**
+     * Prepare the bundle of all departments
+     * Shared data is loaded now; the returned writer renders the documents and streams the ZIP
+     */
+    @Transactional(readOnly = true)
+    public ReportService.ReportWriter prepareDepartmentBundle() {
+        log.info("Preparing department report bundle");
+
+        List<Department> departments = departmentRepository.findAll();
+        Map<Long, List<Member>> membersByDepartment = memberRepository.findByDepartmentIdIsNotNull().stream()
+                .collect(Collectors.groupingBy(Member::getDepartmentId));
+        Function<List<Member.ZodiacSign>, CompatibilityMatrixResponse.MatrixCell> cellForSigns = reportService.matrixCells();
+
+        List<BundleDocument> documents = new ArrayList<>();
+        Set<String> folders = new HashSet<>();
+        for (Department department : departments) {
+            List<Member> members = membersByDepartment.getOrDefault(department.getId(), List.of());
+            DepartmentCompositionResponse composition =
+                    reportService.buildDepartmentComposition(List.of(department), id -> members);
+            String folder = folderName(department, folders);
+
+            documents.add(new BundleDocument(folder + "/composition.pdf",
+                    out -> pdfExportService.writeDepartmentCompositionPdf(composition, out)));
+            documents.add(new BundleDocument(folder + "/composition.xlsx",
+                    out -> excelExportService.writeDepartmentCompositionExcel(composition, out)));
+            documents.add(new BundleDocument(folder + "/compatibility_matrix.xlsx",
+                    out -> excelExportService.writeCompatibilityMatrixExcel(members, cellForSigns, out)));
+        }
+
+        log.info("Department report bundle: {} department(s), {} document(s)", departments.size(), documents.size());
+        return out -> writeZip(documents, out);
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * ZIP folder of a department: its code with unsafe characters replaced, or department_<id>
+     * Codes can sanitize to the same name (A.B and A_B), so a name already used, ignoring case as
+     * extracting on Windows or macOS would, gets the department id appended.
+     */
+    private String folderName(Department department, Set<String> used) {
+        String code = department.getCode() != null ? department.getCode().replaceAll("[^a-zA-Z0-9_-]", "_") : "";
+        String folder = code.isEmpty() ? "department_" + department.getId() : code;
+        while (!used.add(folder.toLowerCase(Locale.ROOT))) {
+            folder = folder + "_" + department.getId();
+        }
+        return folder;
+    }
+
+    // Render everything on the pool, then copy each document into the ZIP as soon as it is done
+    private void writeZip(List<BundleDocument> documents, OutputStream out) throws IOException {
+        CompletionService<RenderedDocument> completion = new ExecutorCompletionService<>(reportExecutor.getThreadPoolExecutor());
+        TempFiles tempFiles = new TempFiles();
+        List<Future<RenderedDocument>> futures = new ArrayList<>(documents.size());
+
+        try {
+            for (BundleDocument document : documents) {
+                futures.add(completion.submit(() -> render(document, tempFiles)));
+            }
+
+            ZipOutputStream zip = new ZipOutputStream(out);
+            zip.setLevel(Deflater.BEST_SPEED); // PDF and xlsx content is already compressed
+            for (int i = 0; i < documents.size(); i++) {
+                RenderedDocument rendered = completion.take().get();
+                zip.putNextEntry(new ZipEntry(rendered.name()));
+                Files.copy(rendered.file(), zip);
+                zip.closeEntry();
+                deleteQuietly(rendered.file());
+            }
+            zip.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Report bundle interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to render report bundle: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+            // Tasks still running delete their own file when they finish (see render)
+            tempFiles.abandon().forEach(this::deleteQuietly);
+        }
+    }
+
+    // The task owns its temp file until the bundle adopts it; a file the bundle no longer wants is deleted here
+    private RenderedDocument render(BundleDocument document, TempFiles tempFiles) throws IOException {
+        String name = document.name();
+        Path file = Files.createTempFile("zodiac-report-", name.substring(name.lastIndexOf('.')));
+
+        try {
+            try (OutputStream out = Files.newOutputStream(file)) {
+                document.writer().writeTo(out);
+            }
+            if (tempFiles.adopt(file)) {
+                return new RenderedDocument(name, file);
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+        deleteQuietly(file);
+        throw new CancellationException("Report bundle was abandoned");
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete report file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Rendered files handed over to the bundle; once abandoned, no more files are adopted
+     */
+    private static final class TempFiles {
+        private final List<Path> files = new ArrayList<>();
+        private boolean abandoned;
+
+        synchronized boolean adopt(Path file) {
+            if (!abandoned) {
+                files.add(file);
+            }
+            return !abandoned;
+        }
+
+        synchronized List<Path> abandon() {
+            abandoned = true;
+            return List.copyOf(files);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.dto.request.GenerateReportRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ReportCacheService - Rendered report files cached on local disk
+ * Files are keyed by a SHA-256 of the normalized request, the format and the data version tag
+ * ({@link DataVersionService#currentTag()}: the shared version plus today's date, since documents
+ * print their generation date), so a committed write on any node makes older entries unreachable.
+ * Unreachable and cold entries are evicted least-recently-used first once the cache exceeds
+ * app.report.cache.max-size-mb; an entry is pinned while a response is reading it and only evicted
+ * once the last reader closes it. Responses send the file with FileChannel.transferTo, so its bytes
+ * are not copied through the heap.
+ */
+@Service
+@Slf4j
+public class ReportCacheService {
+
+    /** Request attribute holding the report a response is sending; closed when the request ends */
+    public static final String OPEN_REPORT_ATTRIBUTE = ReportCacheService.class.getName() + ".openReport";
+
+    /** Names this cache creates: a key hash plus extension, and in-progress renders */
+    private static final Pattern CACHE_FILE = Pattern.compile("^([0-9a-f]{64}\\.[a-z]+|render-.*\\.tmp)$");
+
+    private final DataVersionService dataVersionService;
+    private final Path cacheDir;
+    private final long maxBytes;
+
+    /** Cached files, least recently used first */
+    private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Object> renderLocks = new ConcurrentHashMap<>();
+    private long totalBytes;
+
+    /** Size of a cached file and the number of open readers */
+    private static final class Entry {
+        private final long size;
+        private int pins;
+
+        private Entry(long size) {
+            this.size = size;
+        }
+    }
+
+    /**
+     * An open cached report; closing it releases the entry for eviction (only the first close counts)
+     */
+    public static final class CachedReport implements Closeable {
+        private final FileChannel channel;
+        private final long size;
+        private final Runnable release;
+        private boolean closed;
+
+        private CachedReport(FileChannel channel, long size, Runnable release) {
+            this.channel = channel;
+            this.size = size;
+            this.release = release;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        /**
+         * Send the whole file to out, then close the report, whether or not sending succeeded
+         */
+        public void transferTo(OutputStream out) throws IOException {
+            try {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = 0;
+                while (position < size) {
+                    long sent = channel.transferTo(position, size - position, target);
+                    if (sent <= 0) {
+                        throw new EOFException("Cached report ended after " + position + " of " + size + " bytes");
+                    }
+                    position += sent;
+                }
+                out.flush();
+            } finally {
+                close();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            try {
+                channel.close();
+            } finally {
+                release.run();
+            }
+        }
+    }
+
+    public ReportCacheService(DataVersionService dataVersionService,
+                              @Value("${app.report.cache.dir:${java.io.tmpdir}/zodiac-report-cache}") String cacheDir,
+                              @Value("${app.report.cache.max-size-mb:256}") long maxSizeMb) throws IOException {
+        this.dataVersionService = dataVersionService;
+        this.cacheDir = Paths.get(cacheDir);
+        this.maxBytes = maxSizeMb * 1024 * 1024;
+
+        // Files from a previous run were keyed by data versions that can never come back;
+        // anything else in the directory is not ours and stays
+        Files.createDirectories(this.cacheDir);
+        try (Stream<Path> leftovers = Files.list(this.cacheDir)) {
+            for (Path file : leftovers.toList()) {
+                if (Files.isRegularFile(file) && CACHE_FILE.matcher(file.getFileName().toString()).matches()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cached report for the request, rendering it first on a miss
+     * Identical concurrent requests render once; the others wait and read the same file.
+     * The caller must close the returned report once it has been sent ({@link CachedReport#transferTo} does).
+     */
+    public CachedReport getOrRender(GenerateReportRequest request, String extension,
+                                    Supplier<ReportService.ReportWriter> renderer) throws IOException {
+        String key = cacheKey(request, extension);
+        Path file = cacheDir.resolve(key + "." + extension);
+
+        Object lock = renderLocks.computeIfAbsent(key, k -> new Object());
+        try {
+            synchronized (lock) {
+                CachedReport cached = open(file);
+                if (cached != null) {
+                    log.debug("Report cache hit: {}", file.getFileName());
+                    return cached;
+                }
+
+                log.debug("Report cache miss: {}", file.getFileName());
+                ReportService.ReportWriter writer = renderer.get();
+                render(writer, file);
+                return store(file, Files.size(file));
+            }
+        } finally {
+            renderLocks.remove(key, lock);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    // Pin and open a cached file; null if it is not cached
+    private synchronized CachedReport open(Path file) throws IOException {
+        Entry entry = entries.get(file); // marks the entry as recently used
+        if (entry == null) {
+            return null;
+        }
+        if (!Files.exists(file)) {
+            entries.remove(file);
+            totalBytes -= entry.size;
+            return null;
+        }
+        return pin(file, entry);
+    }
+
+    // Write to a temp file and move it into place, so a reader never sees a half-written report
+    private void render(ReportService.ReportWriter writer, Path file) throws IOException {
+        Path temp = Files.createTempFile(cacheDir, "render-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.writeTo(out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Record the new entry already pinned for its caller, then make room for it
+    private synchronized CachedReport store(Path file, long size) throws IOException {
+        Entry entry = new Entry(size);
+        Entry previous = entries.put(file, entry);
+        totalBytes += size - (previous != null ? previous.size : 0);
+
+        CachedReport report = pin(file, entry);
+        evict();
+        return report;
+    }
+
+    private CachedReport pin(Path file, Entry entry) throws IOException {
+        FileChannel channel = FileChannel.open(file);
+        entry.pins++;
+        return new CachedReport(channel, entry.size, () -> unpin(entry));
+    }
+
+    private synchronized void unpin(Entry entry) {
+        entry.pins--;
+        evict();
+    }
+
+    // Evict the least recently used entries nobody is reading until the cache fits
+    private synchronized void evict() {
+        Iterator<Map.Entry<Path, Entry>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<Path, Entry> candidate = eldest.next();
+            if (candidate.getValue().pins > 0) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(candidate.getKey());
+            } catch (IOException e) {
+                log.warn("Could not delete cached report {}: {}", candidate.getKey(), e.getMessage());
+                continue;
+            }
+            totalBytes -= candidate.getValue().size;
+            eldest.remove();
+        }
+    }
+
+    private String cacheKey(GenerateReportRequest request, String extension) {
+        String normalized = String.join("|", List.of(
+                extension,
+                request.getReportType().trim().toUpperCase(),
+                Objects.toString(request.getMember1Id(), ""),
+                Objects.toString(request.getMember2Id(), ""),
+                request.getTeamMemberIds() != null ? sorted(request.getTeamMemberIds()) : "",
+                Objects.toString(request.getTeamId(), ""),
+                Objects.toString(request.getDepartmentId(), ""),
+                Objects.toString(request.getStartDate(), ""),
+                Objects.toString(request.getEndDate(), ""),
+                String.valueOf(Boolean.TRUE.equals(request.getIncludeInactive())),
+                String.valueOf(Boolean.TRUE.equals(request.getIncludeDetailedAnalysis())),
+                String.valueOf(Boolean.TRUE.equals(request.getIncludeRecommendations())),
+                String.valueOf(Boolean.TRUE.equals(request.getIncludeCharts())),
+                String.valueOf(Boolean.TRUE.equals(request.getIncludeRawData())),
+                dataVersionService.currentTag()));
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // The same team in any order is the same report
+    private static String sorted(List<Long> ids) {
+        return ids.stream()
+                .sorted(Comparator.nullsFirst(Comparator.naturalOrder()))
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+}
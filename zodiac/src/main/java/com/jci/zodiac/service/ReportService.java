@@ -5,17 +5,21 @@ import com.jci.zodiac.dto.request.TeamPredictionRequest;
 import com.jci.zodiac.dto.response.*;
 import com.jci.zodiac.entity.*;
 import com.jci.zodiac.exception.BadRequestException;
+import com.jci.zodiac.exception.ResourceNotFoundException;
 import com.jci.zodiac.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.YearMonth;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +30,22 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ReportService {
 
+    /** Members in a matrix without a department when no limit is given */
+    static final int DEFAULT_MATRIX_MEMBERS = 20;
+
+    /** One column per member next to the label column; an Excel sheet has 16,384 columns */
+    public static final int MAX_MATRIX_MEMBERS = 16_384 - 1;
+
+    /** Members in a matrix returned as JSON, where every cell is serialized */
+    static final int MAX_JSON_MATRIX_MEMBERS = 500;
+
+    /** Diagonal cell of a compatibility matrix */
+    public static final CompatibilityMatrixResponse.MatrixCell SELF_CELL = CompatibilityMatrixResponse.MatrixCell.builder()
+            .value(BigDecimal.valueOf(100))
+            .level("Self")
+            .color("#E8E8E8")
+            .build();
+
     private final MemberRepository memberRepository;
     private final DepartmentRepository departmentRepository;
     private final TeamRepository teamRepository;
@@ -34,6 +54,7 @@ public class ReportService {
     private final ZodiacUtilityService zodiacUtilityService;
     private final PdfExportService pdfExportService;
     private final ExcelExportService excelExportService;
+    private final MembershipRollupService membershipRollupService;
 
     /**
      * Get zodiac analytics report
@@ -43,7 +64,6 @@ public class ReportService {
         log.info("Generating zodiac analytics report");
 
         List<Member> activeMembers = memberRepository.findByMembershipStatus(Member.MembershipStatus.Active);
-        List<Member> allMembers = memberRepository.findAll();
 
         // Zodiac distribution
         Map<Member.ZodiacSign, Long> zodiacDistribution = zodiacUtilityService.calculateZodiacDistribution(activeMembers);
@@ -56,7 +76,7 @@ public class ReportService {
         Member.ZodiacSign leastCommon = zodiacUtilityService.getLeastCommonZodiacSign(activeMembers);
 
         // Hiring patterns by month
-        Map<String, Map<Member.ZodiacSign, Long>> hiringPatterns = calculateHiringPatternsByMonth(allMembers);
+        Map<String, Map<Member.ZodiacSign, Long>> hiringPatterns = calculateHiringPatternsByMonth();
 
         // Insights
         List<String> insights = generateZodiacInsights(activeMembers, zodiacDistribution, elementDistribution);
@@ -86,11 +106,46 @@ public class ReportService {
 
     /**
      * Get compatibility matrix for report
+     * maxMembers <= 0 means the whole department, or DEFAULT_MATRIX_MEMBERS active members when no
+     * department is given; never more than MAX_JSON_MATRIX_MEMBERS, since every cell is serialized
+     * (the Excel export streams larger matrices). Scores depend only on the sign pair, so each
+     * pair's cell is shared by every member pair with those signs.
      */
     @Transactional(readOnly = true)
     public CompatibilityMatrixResponse getCompatibilityMatrixForReport(Long departmentId, int maxMembers) {
         log.info("Generating compatibility matrix: department={}, maxMembers={}", departmentId, maxMembers);
 
+        List<Member> members = matrixMembers(departmentId, maxMembers, MAX_JSON_MATRIX_MEMBERS);
+        Function<List<Member.ZodiacSign>, CompatibilityMatrixResponse.MatrixCell> cellForSigns = matrixCells();
+
+        List<String> labels = members.stream()
+                .map(ReportService::matrixLabel)
+                .collect(Collectors.toList());
+
+        List<List<CompatibilityMatrixResponse.MatrixCell>> matrix = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            List<CompatibilityMatrixResponse.MatrixCell> row = new ArrayList<>(members.size());
+            for (int j = 0; j < members.size(); j++) {
+                row.add(i == j ? SELF_CELL : cellForSigns.apply(
+                        List.of(members.get(i).getZodiacSign(), members.get(j).getZodiacSign())));
+            }
+            matrix.add(row);
+        }
+
+        return CompatibilityMatrixResponse.builder()
+                .rowLabels(labels)
+                .columnLabels(labels)
+                .matrix(matrix)
+                .build();
+    }
+
+    /**
+     * Members of a compatibility matrix, in the order of its rows and columns
+     * maxMembers <= 0 means the whole department, or DEFAULT_MATRIX_MEMBERS active members when no
+     * department is given; never more than cap.
+     */
+    @Transactional(readOnly = true)
+    public List<Member> matrixMembers(Long departmentId, int maxMembers, int cap) {
         List<Member> members;
         if (departmentId != null) {
             members = memberRepository.findByDepartmentId(departmentId);
@@ -98,47 +153,54 @@ public class ReportService {
             members = memberRepository.findByMembershipStatus(Member.MembershipStatus.Active);
         }
 
-        // Limit members for performance
-        if (members.size() > maxMembers) {
-            members = members.subList(0, maxMembers);
+        int limit = Math.min(maxMembers > 0 ? maxMembers : departmentId != null ? cap : DEFAULT_MATRIX_MEMBERS, cap);
+        if (members.size() > limit) {
+            if (limit == cap) {
+                log.warn("Compatibility matrix limited to {} of {} members", cap, members.size());
+            }
+            members = members.subList(0, limit);
         }
+        return members;
+    }
 
-        List<String> labels = members.stream()
-                .map(m -> String.format("%s (%s)", m.getFullName(), m.getZodiacSign().name()))
-                .collect(Collectors.toList());
-
-        List<List<CompatibilityMatrixResponse.MatrixCell>> matrix = new ArrayList<>();
-
-        for (Member member1 : members) {
-            List<CompatibilityMatrixResponse.MatrixCell> row = new ArrayList<>();
-
-            for (Member member2 : members) {
-                if (member1.getId().equals(member2.getId())) {
-                    row.add(CompatibilityMatrixResponse.MatrixCell.builder()
-                            .value(BigDecimal.valueOf(100))
-                            .level("Self")
-                            .color("#E8E8E8")
-                            .build());
-                } else {
-                    ZodiacCompatibility compat = compatibilityService.getCompatibilityByMembers(
-                            member1.getId(), member2.getId()
-                    );
+    /**
+     * Cell of every sign pair (both orders), read from the compatibility table in one query
+     */
+    @Transactional(readOnly = true)
+    public Function<List<Member.ZodiacSign>, CompatibilityMatrixResponse.MatrixCell> matrixCells() {
+        Map<List<Member.ZodiacSign>, CompatibilityMatrixResponse.MatrixCell> cells = new HashMap<>();
+        for (ZodiacCompatibility compat : compatibilityRepository.findAll()) {
+            Member.ZodiacSign sign1 = Member.ZodiacSign.valueOf(compat.getZodiacSign1().name());
+            Member.ZodiacSign sign2 = Member.ZodiacSign.valueOf(compat.getZodiacSign2().name());
+            CompatibilityMatrixResponse.MatrixCell cell = toMatrixCell(compat);
+            cells.put(List.of(sign1, sign2), cell);
+            cells.put(List.of(sign2, sign1), cell);
+        }
 
-                    row.add(CompatibilityMatrixResponse.MatrixCell.builder()
-                            .value(compat.getOverallScore())
-                            .level(compat.getCompatibilityLevel().name())
-                            .color(getCompatibilityColor(compat.getOverallScore()))
-                            .build());
-                }
+        return signs -> {
+            CompatibilityMatrixResponse.MatrixCell cell = cells.get(signs);
+            if (cell == null) {
+                throw new ResourceNotFoundException("Compatibility not found for pair: " + signs.get(0) + " - " + signs.get(1));
             }
+            return cell;
+        };
+    }
 
-            matrix.add(row);
-        }
+    /**
+     * Row and column label of a member in a compatibility matrix
+     */
+    public static String matrixLabel(Member member) {
+        return String.format("%s (%s)", member.getFullName(), member.getZodiacSign().name());
+    }
 
-        return CompatibilityMatrixResponse.builder()
-                .rowLabels(labels)
-                .columnLabels(labels)
-                .matrix(matrix)
+    /**
+     * Matrix cell for a sign pair's compatibility
+     */
+    public CompatibilityMatrixResponse.MatrixCell toMatrixCell(ZodiacCompatibility compat) {
+        return CompatibilityMatrixResponse.MatrixCell.builder()
+                .value(compat.getOverallScore())
+                .level(compat.getCompatibilityLevel().name())
+                .color(getCompatibilityColor(compat.getOverallScore()))
                 .build();
     }
 
@@ -149,8 +211,6 @@ public class ReportService {
     public DepartmentCompositionResponse getDepartmentComposition(Long departmentId) {
         log.info("Generating department composition for department: {}", departmentId);
 
-        List<DepartmentCompositionResponse.DepartmentZodiacBreakdown> breakdowns = new ArrayList<>();
-
         List<Department> departments;
         if (departmentId != null) {
             departments = List.of(departmentRepository.findById(departmentId)
@@ -159,8 +219,18 @@ public class ReportService {
             departments = departmentRepository.findAll();
         }
 
+        return buildDepartmentComposition(departments, memberRepository::findByDepartmentId);
+    }
+
+    /**
+     * Build the composition of the given departments; membersOf returns a department's members
+     */
+    public DepartmentCompositionResponse buildDepartmentComposition(List<Department> departments,
+                                                                    Function<Long, List<Member>> membersOf) {
+        List<DepartmentCompositionResponse.DepartmentZodiacBreakdown> breakdowns = new ArrayList<>();
+
         for (Department dept : departments) {
-            List<Member> members = memberRepository.findByDepartmentId(dept.getId());
+            List<Member> members = membersOf.apply(dept.getId());
 
             Map<Member.ZodiacSign, Long> zodiacDist = zodiacUtilityService.calculateZodiacDistribution(members);
             Map<Member.ZodiacElement, Long> elementBalance = zodiacUtilityService.calculateElementBalance(members);
@@ -255,28 +325,37 @@ public class ReportService {
     }
 
     /**
-     * Generate PDF report (using PdfExportService)
+     * Renders a prepared report onto a stream (data is already loaded)
+     */
+    @FunctionalInterface
+    public interface ReportWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Prepare PDF report (using PdfExportService)
+     * Report data is loaded now; the returned writer streams the document
      */
-    public byte[] generatePdfReport(GenerateReportRequest request) {
+    public ReportWriter preparePdfReport(GenerateReportRequest request) {
         log.info("Generating PDF report: {}", request.getReportType());
 
         try {
             return switch (request.getReportType().toUpperCase()) {
                 case "ZODIAC_ANALYTICS" -> {
                     ZodiacAnalyticsResponse data = getZodiacAnalytics();
-                    yield pdfExportService.generateZodiacAnalyticsPdf(data);
+                    yield out -> pdfExportService.writeZodiacAnalyticsPdf(data, out);
                 }
                 case "DEPARTMENT_COMPOSITION" -> {
                     DepartmentCompositionResponse data = getDepartmentComposition(request.getDepartmentId());
-                    yield pdfExportService.generateDepartmentCompositionPdf(data);
+                    yield out -> pdfExportService.writeDepartmentCompositionPdf(data, out);
                 }
                 case "FUN_STATS" -> {
                     FunStatsResponse data = getFunStats();
-                    yield pdfExportService.generateFunStatsPdf(data);
+                    yield out -> pdfExportService.writeFunStatsPdf(data, out);
                 }
                 case "COMPATIBILITY", "PAIR", "TEAM", "DEPARTMENT" -> {
                     CompatibilityReport data = generateCompatibilityReport(request);
-                    yield pdfExportService.generateCompatibilityReportPdf(data);
+                    yield out -> pdfExportService.writeCompatibilityReportPdf(data, out);
                 }
                 default -> throw new BadRequestException("Invalid report type for PDF export: " + request.getReportType());
             };
@@ -287,28 +366,30 @@ public class ReportService {
     }
 
     /**
-     * Generate Excel report (using ExcelExportService)
+     * Prepare Excel report (using ExcelExportService)
+     * Report data is loaded now; the returned writer streams the workbook
      */
-    public byte[] generateExcelReport(GenerateReportRequest request) {
+    public ReportWriter prepareExcelReport(GenerateReportRequest request) {
         log.info("Generating Excel report: {}", request.getReportType());
 
         try {
             return switch (request.getReportType().toUpperCase()) {
                 case "ZODIAC_ANALYTICS" -> {
                     ZodiacAnalyticsResponse data = getZodiacAnalytics();
-                    yield excelExportService.generateZodiacAnalyticsExcel(data);
+                    yield out -> excelExportService.writeZodiacAnalyticsExcel(data, out);
                 }
                 case "DEPARTMENT_COMPOSITION" -> {
                     DepartmentCompositionResponse data = getDepartmentComposition(request.getDepartmentId());
-                    yield excelExportService.generateDepartmentCompositionExcel(data);
+                    yield out -> excelExportService.writeDepartmentCompositionExcel(data, out);
                 }
                 case "FUN_STATS" -> {
                     FunStatsResponse data = getFunStats();
-                    yield excelExportService.generateFunStatsExcel(data);
+                    yield out -> excelExportService.writeFunStatsExcel(data, out);
                 }
                 case "COMPATIBILITY_MATRIX" -> {
-                    CompatibilityMatrixResponse data = getCompatibilityMatrixForReport(request.getDepartmentId(), 20);
-                    yield excelExportService.generateCompatibilityMatrixExcel(data);
+                    List<Member> members = matrixMembers(request.getDepartmentId(), 0, MAX_MATRIX_MEMBERS);
+                    Function<List<Member.ZodiacSign>, CompatibilityMatrixResponse.MatrixCell> cellForSigns = matrixCells();
+                    yield out -> excelExportService.writeCompatibilityMatrixExcel(members, cellForSigns, out);
                 }
                 default -> throw new BadRequestException("Invalid report type for Excel export: " + request.getReportType());
             };
@@ -326,33 +407,31 @@ public class ReportService {
         log.info("Generating hiring trends for last {} months", months);
 
         LocalDate startDate = LocalDate.now().minusMonths(months);
-        List<Member> recentHires = memberRepository.findRecentJoins(startDate);
-
-        Map<String, HiringTrendsResponse.MonthlyHiring> monthlyData = new LinkedHashMap<>();
 
-        for (Member member : recentHires) {
-            String monthKey = member.getJoinDate().format(DateTimeFormatter.ofPattern("yyyy-MM"));
+        List<HiringTrendsResponse.MonthlyHiring> monthlyData = new ArrayList<>();
+        int totalHires = 0;
 
-            monthlyData.computeIfAbsent(monthKey, k -> HiringTrendsResponse.MonthlyHiring.builder()
-                    .month(monthKey)
-                    .totalHires(0)
-                    .zodiacBreakdown(new HashMap<>())
-                    .build());
+        for (Map.Entry<YearMonth, Map<Member.ZodiacSign, Long>> entry :
+                membershipRollupService.getMonthlyJoinsBySign(startDate).entrySet()) {
 
-            HiringTrendsResponse.MonthlyHiring monthData = monthlyData.get(monthKey);
-            monthData.setTotalHires(monthData.getTotalHires() + 1);
+            Map<String, Long> zodiacBreakdown = new HashMap<>();
+            entry.getValue().forEach((sign, count) -> zodiacBreakdown.put(sign.name(), count));
+            int monthHires = (int) entry.getValue().values().stream().mapToLong(Long::longValue).sum();
 
-            String zodiacKey = member.getZodiacSign().name();
-            monthData.getZodiacBreakdown().put(zodiacKey,
-                    monthData.getZodiacBreakdown().getOrDefault(zodiacKey, 0L) + 1);
+            monthlyData.add(HiringTrendsResponse.MonthlyHiring.builder()
+                    .month(entry.getKey().toString())
+                    .totalHires(monthHires)
+                    .zodiacBreakdown(zodiacBreakdown)
+                    .build());
+            totalHires += monthHires;
         }
 
         return HiringTrendsResponse.builder()
                 .months(months)
                 .startDate(startDate)
                 .endDate(LocalDate.now())
-                .monthlyData(new ArrayList<>(monthlyData.values()))
-                .totalHires(recentHires.size())
+                .monthlyData(monthlyData)
+                .totalHires(totalHires)
                 .build();
     }
 
@@ -486,16 +565,12 @@ public class ReportService {
 
     // ==================== Helper Methods ====================
 
-    private Map<String, Map<Member.ZodiacSign, Long>> calculateHiringPatternsByMonth(List<Member> members) {
+    private Map<String, Map<Member.ZodiacSign, Long>> calculateHiringPatternsByMonth() {
         Map<String, Map<Member.ZodiacSign, Long>> patterns = new LinkedHashMap<>();
 
-        for (Member member : members) {
-            String monthKey = member.getJoinDate().format(DateTimeFormatter.ofPattern("yyyy-MM"));
-            patterns.computeIfAbsent(monthKey, k -> new HashMap<>());
-
-            Map<Member.ZodiacSign, Long> monthData = patterns.get(monthKey);
-            monthData.put(member.getZodiacSign(), monthData.getOrDefault(member.getZodiacSign(), 0L) + 1);
-        }
+        // YearMonth.toString() is already "yyyy-MM"
+        membershipRollupService.getMonthlyJoinsBySign()
+                .forEach((month, joinsBySign) -> patterns.put(month.toString(), joinsBySign));
 
         return patterns;
     }
@@ -0,0 +1,453 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.dto.response.SearchResultResponse;
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.entity.Note;
+import com.jci.zodiac.entity.Setting;
+import com.jci.zodiac.entity.ZodiacProfile;
+import com.jci.zodiac.event.DataVersionBumpedEvent;
+import com.jci.zodiac.repository.MemberRepository;
+import com.jci.zodiac.repository.NoteRepository;
+import com.jci.zodiac.repository.SettingRepository;
+import com.jci.zodiac.repository.ZodiacProfileRepository;
+import com.jci.zodiac.util.SearchTextNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * SearchIndexService - In-process inverted index over members, notes, settings and zodiac profiles
+ * Tokens are accent-insensitive ("nguyen" matches "Nguyễn") and every query term also matches
+ * as a prefix. Built at startup, kept in sync by SearchIndexEntityListener after each commit,
+ * and rebuilt nightly as a safety net (app.search.rebuild.cron).
+ * The index remembers the shared data version it reflects and follows this node's own bumps.
+ * When the version moved past it on another node, the next query rebuilds the index first, so
+ * every node answers with every node's committed writes.
+ */
+@Service
+@Slf4j
+public class SearchIndexService {
+
+    public enum DocumentType {
+        MEMBER, NOTE, SETTING, PROFILE
+    }
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    // Field weights: names / codes rank above descriptions and free text
+    private static final int WEIGHT_TITLE = 3;
+    private static final int WEIGHT_KEY_FIELD = 2;
+    private static final int WEIGHT_TEXT = 1;
+
+    private final MemberRepository memberRepository;
+    private final NoteRepository noteRepository;
+    private final SettingRepository settingRepository;
+    private final ZodiacProfileRepository zodiacProfileRepository;
+    private final DataVersionService dataVersionService;
+    private final TransactionTemplate rebuildTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private NavigableMap<String, Map<DocumentKey, Integer>> postings = new TreeMap<>();
+    private Map<DocumentKey, IndexedDocument> documents = new HashMap<>();
+    // Changes committed while a rebuild is loading; replayed onto the new index before it is swapped in
+    private List<Consumer<SearchIndexService>> pendingDuringRebuild;
+    // Data version the index reflects (-1 until the first build)
+    private volatile long indexedVersion = -1;
+
+    private record DocumentKey(DocumentType type, Long id) {
+    }
+
+    private record IndexedDocument(String title, String subtitle, Map<String, Integer> tokenWeights) {
+    }
+
+    private record ScoredDocument(DocumentKey key, IndexedDocument document, double score) {
+    }
+
+    public SearchIndexService(MemberRepository memberRepository,
+                              NoteRepository noteRepository,
+                              SettingRepository settingRepository,
+                              ZodiacProfileRepository zodiacProfileRepository,
+                              DataVersionService dataVersionService,
+                              PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.noteRepository = noteRepository;
+        this.settingRepository = settingRepository;
+        this.zodiacProfileRepository = zodiacProfileRepository;
+        this.dataVersionService = dataVersionService;
+        // Its own read-only transaction, also when a query inside another transaction triggers it
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTransaction.setReadOnly(true);
+    }
+
+    // ==================== Index Maintenance ====================
+
+    /**
+     * Rebuild the whole index from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.search.rebuild.cron:0 45 3 * * ?}")
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        withWriteLock(() -> pendingDuringRebuild = new ArrayList<>());
+
+        // Read before loading, so the index holds at least everything up to this version
+        long version;
+        Map<DocumentKey, IndexedDocument> newDocuments = new HashMap<>();
+        try {
+            version = dataVersionService.refreshedVersion();
+            rebuildTransaction.executeWithoutResult(status -> {
+                memberRepository.findAll().forEach(member -> newDocuments.put(keyOf(member), documentOf(member)));
+                noteRepository.findAll().forEach(note -> newDocuments.put(keyOf(note), documentOf(note)));
+                settingRepository.findAll().forEach(setting -> newDocuments.put(keyOf(setting), documentOf(setting)));
+                zodiacProfileRepository.findAll().forEach(profile -> newDocuments.put(keyOf(profile), documentOf(profile)));
+            });
+        } catch (RuntimeException e) {
+            withWriteLock(() -> pendingDuringRebuild = null);
+            throw e;
+        }
+
+        NavigableMap<String, Map<DocumentKey, Integer>> newPostings = new TreeMap<>();
+        newDocuments.forEach((key, document) -> addPostings(newPostings, key, document));
+
+        withWriteLock(() -> {
+            List<Consumer<SearchIndexService>> pending = pendingDuringRebuild;
+            pendingDuringRebuild = null;
+            postings = newPostings;
+            documents = newDocuments;
+            indexedVersion = version;
+            pending.forEach(change -> change.accept(this));
+        });
+
+        log.info("🔎 Search index rebuilt: {} document(s), {} token(s) in {} ms",
+                newDocuments.size(), newPostings.size(), System.currentTimeMillis() - start);
+        return newDocuments.size();
+    }
+
+    /**
+     * Follow this node's committed version bumps
+     * A bump right after the indexed version only covers writes this node has already applied
+     * (or will apply in the same commit); any other gap means another node wrote.
+     */
+    @EventListener
+    public void onDataVersionBumped(DataVersionBumpedEvent event) {
+        withWriteLock(() -> {
+            adoptVersion(event.version());
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(index -> index.adoptVersion(event.version()));
+            }
+        });
+    }
+
+    /**
+     * (Re)index an entity once the current transaction commits
+     * The document is built now, while the entity is still attached.
+     */
+    public void indexAfterCommit(Object entity) {
+        DocumentKey key = keyOf(entity);
+        if (key == null || key.id() == null) {
+            return;
+        }
+        IndexedDocument document = documentOf(entity);
+        afterCommit(() -> put(key, document));
+    }
+
+    /**
+     * (Re)index a batch of entities once the current transaction commits
+     * For bulk JDBC writes, which bypass the entity listeners.
+     */
+    public void indexAllAfterCommit(Collection<?> entities) {
+        Map<DocumentKey, IndexedDocument> batch = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            DocumentKey key = keyOf(entity);
+            if (key != null && key.id() != null) {
+                batch.put(key, documentOf(entity));
+            }
+        }
+        if (!batch.isEmpty()) {
+            afterCommit(() -> batch.forEach(this::put));
+        }
+    }
+
+    /**
+     * Drop an entity from the index once the current transaction commits
+     */
+    public void removeAfterCommit(Object entity) {
+        DocumentKey key = keyOf(entity);
+        if (key == null || key.id() == null) {
+            return;
+        }
+        afterCommit(() -> remove(key));
+    }
+
+    /**
+     * Drop documents by id once the current transaction commits (bulk deletes)
+     */
+    public void removeAllAfterCommit(DocumentType type, Collection<Long> ids) {
+        List<DocumentKey> keys = ids.stream().map(id -> new DocumentKey(type, id)).toList();
+        if (!keys.isEmpty()) {
+            afterCommit(() -> keys.forEach(this::remove));
+        }
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Ranked search across the given document types (all types when empty)
+     * Every query term must match a token exactly or as a prefix.
+     */
+    public SearchResultResponse search(String query, Set<DocumentType> types, Integer limit) {
+        long start = System.nanoTime();
+        int maxHits = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<ScoredDocument> matches = match(query, types);
+
+        List<SearchResultResponse.Hit> hits = matches.stream()
+                .limit(maxHits)
+                .map(match -> SearchResultResponse.Hit.builder()
+                        .type(match.key().type())
+                        .id(match.key().id())
+                        .title(match.document().title())
+                        .subtitle(match.document().subtitle())
+                        .score(match.score())
+                        .build())
+                .toList();
+
+        return SearchResultResponse.builder()
+                .query(query)
+                .totalHits(matches.size())
+                .tookMs((System.nanoTime() - start) / 1_000_000)
+                .hits(hits)
+                .build();
+    }
+
+    /**
+     * Ids of all matches of one type, best first
+     */
+    public List<Long> searchIds(String query, DocumentType type) {
+        return searchIds(query, type, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ids of the best matches of one type, best first
+     */
+    public List<Long> searchIds(String query, DocumentType type, int limit) {
+        return match(query, EnumSet.of(type)).stream()
+                .limit(limit)
+                .map(match -> match.key().id())
+                .toList();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private List<ScoredDocument> match(String query, Set<DocumentType> types) {
+        Set<String> terms = new LinkedHashSet<>(SearchTextNormalizer.tokenize(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        ensureCurrent();
+        Set<DocumentType> wanted = types == null || types.isEmpty() ? EnumSet.allOf(DocumentType.class) : types;
+
+        List<ScoredDocument> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<DocumentKey, Double> scores = null;
+            for (String term : terms) {
+                Map<DocumentKey, Double> termScores = new HashMap<>();
+                for (Map.Entry<String, Map<DocumentKey, Integer>> posting :
+                        postings.subMap(term, true, term + Character.MAX_VALUE, true).entrySet()) {
+                    double factor = posting.getKey().equals(term) ? 1.0 : PREFIX_MATCH_FACTOR;
+                    posting.getValue().forEach((key, weight) -> {
+                        if (wanted.contains(key.type())) {
+                            termScores.merge(key, weight * factor, Math::max);
+                        }
+                    });
+                }
+
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((key, score) -> score + termScores.get(key));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            scores.forEach((key, score) -> result.add(new ScoredDocument(key, documents.get(key), score)));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        result.sort(Comparator.comparingDouble(ScoredDocument::score).reversed()
+                .thenComparing(match -> match.document().title(), Comparator.nullsLast(Comparator.naturalOrder())));
+        return result;
+    }
+
+    // Rebuild first if another node has written since the index was built
+    private void ensureCurrent() {
+        if (dataVersionService.currentVersion() > indexedVersion) {
+            synchronized (this) {
+                if (dataVersionService.currentVersion() > indexedVersion) {
+                    log.debug("Search index is behind data version {}, rebuilding", dataVersionService.currentVersion());
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    // Called with the write lock held
+    private void adoptVersion(long version) {
+        if (indexedVersion == version - 1) {
+            indexedVersion = version;
+        }
+    }
+
+    private void put(DocumentKey key, IndexedDocument document) {
+        withWriteLock(() -> {
+            removePostings(key);
+            documents.put(key, document);
+            addPostings(postings, key, document);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(index -> index.applyPut(key, document));
+            }
+        });
+    }
+
+    private void remove(DocumentKey key) {
+        withWriteLock(() -> {
+            removePostings(key);
+            documents.remove(key);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(index -> index.applyRemove(key));
+            }
+        });
+    }
+
+    // Replay helpers (called with the write lock already held)
+    private void applyPut(DocumentKey key, IndexedDocument document) {
+        removePostings(key);
+        documents.put(key, document);
+        addPostings(postings, key, document);
+    }
+
+    private void applyRemove(DocumentKey key) {
+        removePostings(key);
+        documents.remove(key);
+    }
+
+    private void removePostings(DocumentKey key) {
+        IndexedDocument existing = documents.get(key);
+        if (existing == null) {
+            return;
+        }
+        for (String token : existing.tokenWeights().keySet()) {
+            Map<DocumentKey, Integer> keys = postings.get(token);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private static void addPostings(NavigableMap<String, Map<DocumentKey, Integer>> target,
+                                    DocumentKey key, IndexedDocument document) {
+        document.tokenWeights().forEach((token, weight) ->
+                target.computeIfAbsent(token, t -> new HashMap<>()).put(key, weight));
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private DocumentKey keyOf(Object entity) {
+        if (entity instanceof Member member) return new DocumentKey(DocumentType.MEMBER, member.getId());
+        if (entity instanceof Note note) return new DocumentKey(DocumentType.NOTE, note.getId());
+        if (entity instanceof Setting setting) return new DocumentKey(DocumentType.SETTING, setting.getId());
+        if (entity instanceof ZodiacProfile profile) return new DocumentKey(DocumentType.PROFILE, profile.getId());
+        return null;
+    }
+
+    private IndexedDocument documentOf(Object entity) {
+        Map<String, Integer> weights = new HashMap<>();
+
+        if (entity instanceof Member member) {
+            addTokens(weights, WEIGHT_TITLE, member.getFullName(), member.getMemberCode());
+            addTokens(weights, WEIGHT_KEY_FIELD, member.getEmail());
+            addTokens(weights, WEIGHT_TEXT, member.getPosition(), member.getCompany());
+            String subtitle = member.getPosition() != null
+                    ? member.getMemberCode() + " · " + member.getPosition()
+                    : member.getMemberCode();
+            return new IndexedDocument(member.getFullName(), subtitle, weights);
+        }
+        if (entity instanceof Note note) {
+            addTokens(weights, WEIGHT_TITLE, note.getTitle());
+            addTokens(weights, WEIGHT_KEY_FIELD, note.getTags());
+            addTokens(weights, WEIGHT_TEXT, note.getContent());
+            return new IndexedDocument(note.getTitle(), note.getNoteType().name(), weights);
+        }
+        if (entity instanceof Setting setting) {
+            addTokens(weights, WEIGHT_TITLE, setting.getKey());
+            addTokens(weights, WEIGHT_TEXT, setting.getDescription(), setting.getValue());
+            return new IndexedDocument(setting.getKey(), setting.getDescription(), weights);
+        }
+        ZodiacProfile profile = (ZodiacProfile) entity;
+        addTokens(weights, WEIGHT_TITLE, profile.getZodiacSign().name());
+        addTokens(weights, WEIGHT_KEY_FIELD, profile.getElement().name(), profile.getRulingPlanet());
+        addTokens(weights, WEIGHT_TEXT, profile.getPersonalityTraits());
+        addTokens(weights, WEIGHT_TEXT, profile.getStrengths());
+        addTokens(weights, WEIGHT_TEXT, profile.getBestRoles());
+        addTokens(weights, WEIGHT_TEXT, profile.getDescriptionLong());
+        return new IndexedDocument(profile.getZodiacSign().name(),
+                profile.getElement().name() + " · " + profile.getRulingPlanet(), weights);
+    }
+
+    private static void addTokens(Map<String, Integer> weights, int weight, String... fields) {
+        for (String field : fields) {
+            for (String token : SearchTextNormalizer.tokenize(field)) {
+                weights.merge(token, weight, Math::max);
+            }
+        }
+    }
+
+    private static void addTokens(Map<String, Integer> weights, int weight, List<String> values) {
+        if (values != null) {
+            values.forEach(value -> addTokens(weights, weight, value));
+        }
+    }
+}
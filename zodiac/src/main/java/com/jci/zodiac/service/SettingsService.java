@@ -3,14 +3,17 @@ package com.jci.zodiac.service;
 import com.jci.zodiac.dto.request.BulkUpdateSettingsRequest;
 import com.jci.zodiac.dto.request.CreateSettingRequest;
 import com.jci.zodiac.dto.request.UpdateSettingRequest;
+import com.jci.zodiac.dto.response.CursorPageResponse;
 import com.jci.zodiac.dto.response.SettingResponse;
 import com.jci.zodiac.dto.response.SettingsByCategoryResponse;
 import com.jci.zodiac.entity.Setting;
 import com.jci.zodiac.exception.DuplicateResourceException;
 import com.jci.zodiac.exception.ResourceNotFoundException;
 import com.jci.zodiac.repository.SettingRepository;
+import com.jci.zodiac.util.KeysetPagination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +30,10 @@ import java.util.stream.Collectors;
 public class SettingsService {
 
     private final SettingRepository settingRepository;
+    private final SearchIndexService searchIndexService;
+
+    private static final KeysetPagination.SortKey<Setting> KEYSET_SORT_KEY =
+            KeysetPagination.SortKey.of("id", Long.class, Setting::getId, Setting::getId);
 
     /**
      * Create a new setting
@@ -97,6 +104,17 @@ public class SettingsService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get all settings, one keyset page at a time (ordered by id)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<SettingResponse> getAllSettings(String cursor, Integer size) {
+        log.debug("Fetching settings page after cursor: {}", cursor);
+
+        return KeysetPagination.fetch(settingRepository, null, KEYSET_SORT_KEY, Sort.Direction.ASC,
+                cursor, size, this::toResponse);
+    }
+
     /**
      * Get public settings only
      */
@@ -255,12 +273,20 @@ public class SettingsService {
 
     /**
      * Search settings by keyword
+     * Returns every match, best first (settings are a small table, so no cap is needed)
      */
     @Transactional(readOnly = true)
     public List<SettingResponse> searchSettings(String keyword) {
         log.debug("Searching settings with keyword: {}", keyword);
 
-        return settingRepository.searchByKeyword(keyword).stream()
+        List<Long> ids = searchIndexService.searchIds(keyword, SearchIndexService.DocumentType.SETTING);
+        Map<Long, Setting> byId = settingRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Setting::getId, setting -> setting));
+
+        // Keep relevance order
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
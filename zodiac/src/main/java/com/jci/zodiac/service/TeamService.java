@@ -9,9 +9,11 @@ import com.jci.zodiac.exception.DuplicateResourceException;
 import com.jci.zodiac.exception.ResourceNotFoundException;
 import com.jci.zodiac.mapper.MemberMapper;
 import com.jci.zodiac.repository.*;
+import com.jci.zodiac.util.KeysetPagination;
 import com.jci.zodiac.util.ZodiacCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +39,9 @@ public class TeamService {
     private final MemberMapper memberMapper;
     private final ZodiacUtilityService zodiacUtilityService;
 
+    private static final KeysetPagination.SortKey<Team> KEYSET_SORT_KEY =
+            KeysetPagination.SortKey.of("id", Long.class, Team::getId, Team::getId);
+
     /**
      * Create team
      */
@@ -98,6 +103,17 @@ public class TeamService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get all teams, one keyset page at a time (ordered by id)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TeamSummaryResponse> getAllTeams(String cursor, Integer size) {
+        log.debug("Fetching teams page after cursor: {}", cursor);
+
+        return KeysetPagination.fetch(teamRepository, null, KEYSET_SORT_KEY, Sort.Direction.ASC,
+                cursor, size, this::toSummaryResponse);
+    }
+
     /**
      * Get active teams
      */
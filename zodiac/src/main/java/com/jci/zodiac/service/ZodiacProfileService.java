@@ -3,7 +3,9 @@ package com.jci.zodiac.service;
 import com.jci.zodiac.entity.Member;
 import com.jci.zodiac.entity.ZodiacProfile;
 import com.jci.zodiac.exception.ResourceNotFoundException;
+import com.jci.zodiac.repository.DetailRows;
 import com.jci.zodiac.repository.ZodiacProfileRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +26,8 @@ import java.util.stream.Collectors;
 public class ZodiacProfileService {
 
     private final ZodiacProfileRepository zodiacProfileRepository;
+    private final SearchIndexService searchIndexService;
+    private final EntityManager entityManager;
 
     /**
      * Get all zodiac profiles (12 signs)
@@ -30,7 +35,9 @@ public class ZodiacProfileService {
     @Transactional(readOnly = true)
     public List<ZodiacProfile> getAllProfiles() {
         log.debug("Fetching all zodiac profiles");
-        return zodiacProfileRepository.findAllOrderedByElement();
+        return zodiacProfileRepository.findAllOrderedByElementWithDetails().stream()
+                .map(this::fromDetailRow)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -40,6 +47,7 @@ public class ZodiacProfileService {
     public ZodiacProfile getProfileBySign(ZodiacProfile.ZodiacSign sign) {
         log.debug("Fetching profile for sign: {}", sign);
         return zodiacProfileRepository.findByZodiacSign(sign)
+                .map(this::withDetails)
                 .orElseThrow(() -> new ResourceNotFoundException("ZodiacProfile", "sign", sign));
     }
 
@@ -49,7 +57,9 @@ public class ZodiacProfileService {
     @Transactional(readOnly = true)
     public List<ZodiacProfile> getProfilesByElement(ZodiacProfile.Element element) {
         log.debug("Fetching profiles for element: {}", element);
-        return zodiacProfileRepository.findByElementOrdered(element);
+        return zodiacProfileRepository.findByElementOrderedWithDetails(element).stream()
+                .map(this::fromDetailRow)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -58,7 +68,9 @@ public class ZodiacProfileService {
     @Transactional(readOnly = true)
     public List<ZodiacProfile> getProfilesByModality(ZodiacProfile.Modality modality) {
         log.debug("Fetching profiles for modality: {}", modality);
-        return zodiacProfileRepository.findByModality(modality);
+        return zodiacProfileRepository.findByModalityWithDetails(modality).stream()
+                .map(this::fromDetailRow)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -124,18 +136,60 @@ public class ZodiacProfileService {
 
     /**
      * Search profiles by keyword
+     * Returns every match, best first (there are only twelve profiles)
      */
     @Transactional(readOnly = true)
     public List<ZodiacProfile> searchProfiles(String keyword) {
         log.debug("Searching profiles with keyword: {}", keyword);
-        return zodiacProfileRepository.findAll().stream()
-                .filter(profile ->
-                        profile.getZodiacSign().name().toLowerCase().contains(keyword.toLowerCase()) ||
-                                profile.getDescriptionLong().toLowerCase().contains(keyword.toLowerCase())
-                )
+        List<Long> ids = searchIndexService.searchIds(keyword, SearchIndexService.DocumentType.PROFILE);
+        Map<Long, ZodiacProfile> byId = zodiacProfileRepository.findAllByIdWithDetails(ids).stream()
+                .map(this::fromDetailRow)
+                .collect(Collectors.toMap(ZodiacProfile::getId, profile -> profile));
+
+        // Keep relevance order
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Load the lazy descriptive columns (one select for the whole lazy group) so the
+     * profile can still be serialized after the transaction ends
+     */
+    private ZodiacProfile withDetails(ZodiacProfile profile) {
+        profile.getPersonalityTraits();
+        return profile;
+    }
+
+    /**
+     * Entity from a "WithDetails" list row (entity, then ZodiacProfileRepository.DETAIL_COLUMNS)
+     * Setting a lazy attribute marks it loaded, so no per-row select is issued; the entity is
+     * detached first so that is never flushed as an UPDATE.
+     */
+    @SuppressWarnings("unchecked")
+    private ZodiacProfile fromDetailRow(Object[] row) {
+        ZodiacProfile profile = (ZodiacProfile) row[0];
+        if (!DetailRows.detachLoaded(entityManager, profile)) {
+            return withDetails(profile);
+        }
+        profile.setPersonalityTraits((List<String>) row[1]);
+        profile.setStrengths((List<String>) row[2]);
+        profile.setWeaknesses((List<String>) row[3]);
+        profile.setWorkStyle((List<String>) row[4]);
+        profile.setBestRoles((List<String>) row[5]);
+        profile.setCommunicationStyle((String) row[6]);
+        profile.setMotivationFactors((List<String>) row[7]);
+        profile.setStressTriggers((List<String>) row[8]);
+        profile.setLeadershipStyle((String) row[9]);
+        profile.setTeamContribution((String) row[10]);
+        profile.setConflictResolutionStyle((String) row[11]);
+        profile.setDescriptionLong((String) row[12]);
+        profile.setFamousPeople((List<String>) row[13]);
+        profile.setCustomAttributes((Map<String, Object>) row[14]);
+        return profile;
+    }
+
     // Helper method to convert Member.ZodiacSign to ZodiacProfile.ZodiacSign
     private ZodiacProfile.ZodiacSign convertToProfileSign(Member.ZodiacSign memberSign) {
         return ZodiacProfile.ZodiacSign.valueOf(memberSign.name());
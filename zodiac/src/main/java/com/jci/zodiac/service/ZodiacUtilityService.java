@@ -2,6 +2,7 @@ package com.jci.zodiac.service;
 
 import com.jci.zodiac.entity.Member;
 import com.jci.zodiac.entity.ZodiacProfile;
+import com.jci.zodiac.util.BirthdayDates;
 import com.jci.zodiac.util.ZodiacCalculator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -81,8 +82,8 @@ public class ZodiacUtilityService {
         if (memberCode == null || memberCode.isEmpty()) {
             return false;
         }
-        // Format: JCI-DN-XXX where XXX is 3 digits
-        return memberCode.matches("^JCI-DN-\\d{3}$");
+        // Format: JCI-DN-XXX where XXX is at least 3 digits
+        return memberCode.matches("^JCI-DN-\\d{3,}$");
     }
 
     // ==================== Element Compatibility ====================
@@ -215,30 +216,13 @@ public class ZodiacUtilityService {
      */
     public List<Member> getUpcomingBirthdays(List<Member> members, int daysAhead) {
         LocalDate today = LocalDate.now();
-        LocalDate endDate = today.plusDays(daysAhead);
 
+        // Works on the caller's list; for all active members use BirthdayCalendarService instead
         return members.stream()
-                .filter(member -> {
-                    LocalDate birthday = LocalDate.of(
-                            today.getYear(),
-                            member.getDateOfBirth().getMonth(),
-                            member.getDateOfBirth().getDayOfMonth()
-                    );
-
-                    // Handle birthdays that already passed this year
-                    if (birthday.isBefore(today)) {
-                        birthday = birthday.plusYears(1);
-                    }
-
-                    return !birthday.isBefore(today) && !birthday.isAfter(endDate);
-                })
-                .sorted(Comparator.comparing(member ->
-                        LocalDate.of(
-                                today.getYear(),
-                                member.getDateOfBirth().getMonth(),
-                                member.getDateOfBirth().getDayOfMonth()
-                        )
-                ))
+                .map(member -> Map.entry(member, BirthdayDates.daysUntil(member.getDateOfBirth(), today)))
+                .filter(entry -> entry.getValue() <= daysAhead)
+                .sorted(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
                 .collect(Collectors.toList());
     }
 
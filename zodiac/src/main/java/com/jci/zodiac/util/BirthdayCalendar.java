@@ -0,0 +1,156 @@
+package com.jci.zodiac.util;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * BirthdayCalendar - Member ids bucketed by birthday (366 day-of-year buckets, Feb 29 included)
+ * Window, count and month lookups visit one bucket per calendar day, so they cost O(window)
+ * regardless of head-count. Feb 29 birthdays are listed on Feb 28 in non-leap years.
+ * Thread-safe.
+ */
+public final class BirthdayCalendar {
+
+    public static final int BUCKETS = 366;
+
+    private static final int LEAP_YEAR = 2000;
+    private static final int FEB_29_BUCKET = bucketOf(MonthDay.of(Month.FEBRUARY, 29));
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<SortedSet<Long>> buckets = new ArrayList<>(BUCKETS);
+    private final Map<Long, Integer> bucketById = new HashMap<>();
+
+    public BirthdayCalendar() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.add(new TreeSet<>());
+        }
+    }
+
+    // ==================== Updates ====================
+
+    /**
+     * Add a member, or move them if their birthday changed
+     */
+    public void put(Long id, LocalDate dateOfBirth) {
+        int bucket = bucketOf(MonthDay.from(dateOfBirth));
+        withWriteLock(() -> {
+            Integer previous = bucketById.put(id, bucket);
+            if (previous != null) {
+                buckets.get(previous).remove(id);
+            }
+            buckets.get(bucket).add(id);
+        });
+    }
+
+    public void remove(Long id) {
+        withWriteLock(() -> {
+            Integer previous = bucketById.remove(id);
+            if (previous != null) {
+                buckets.get(previous).remove(id);
+            }
+        });
+    }
+
+    /**
+     * Replace the whole calendar (id -> date of birth)
+     */
+    public void replaceAll(Map<Long, LocalDate> birthdays) {
+        withWriteLock(() -> {
+            buckets.forEach(Set::clear);
+            bucketById.clear();
+            birthdays.forEach((id, dateOfBirth) -> {
+                int bucket = bucketOf(MonthDay.from(dateOfBirth));
+                bucketById.put(id, bucket);
+                buckets.get(bucket).add(id);
+            });
+        });
+    }
+
+    // ==================== Queries ====================
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return bucketById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids with a birthday from {@code start} to {@code end} (inclusive), in calendar order
+     * then by id. Windows of a year or more return everyone once, starting at {@code start}.
+     */
+    public List<Long> idsBetween(LocalDate start, LocalDate end) {
+        List<Long> ids = new ArrayList<>();
+        forEachBucket(start, end, ids::addAll);
+        return ids;
+    }
+
+    public int countBetween(LocalDate start, LocalDate end) {
+        int[] count = {0};
+        forEachBucket(start, end, bucket -> count[0] += bucket.size());
+        return count[0];
+    }
+
+    /**
+     * Ids with a birthday in the month, by day then id (February always includes the 29th)
+     */
+    public List<Long> idsInMonth(Month month) {
+        List<Long> ids = new ArrayList<>();
+        int first = bucketOf(MonthDay.of(month, 1));
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < month.maxLength(); i++) {
+                ids.addAll(buckets.get(first + i));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void forEachBucket(LocalDate start, LocalDate end, Consumer<Set<Long>> action) {
+        if (end.isBefore(start)) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            if (!end.isBefore(start.plusDays(BUCKETS - 1))) {
+                int first = bucketOf(MonthDay.from(start));
+                for (int i = 0; i < BUCKETS; i++) {
+                    action.accept(buckets.get((first + i) % BUCKETS));
+                }
+                return;
+            }
+            for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                action.accept(buckets.get(bucketOf(MonthDay.from(day))));
+                if (!day.isLeapYear() && day.getMonth() == Month.FEBRUARY && day.getDayOfMonth() == 28) {
+                    action.accept(buckets.get(FEB_29_BUCKET));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Day of a leap year, 0-based: Jan 1 = 0, Feb 29 = 59, Dec 31 = 365
+    private static int bucketOf(MonthDay monthDay) {
+        return monthDay.atYear(LEAP_YEAR).getDayOfYear() - 1;
+    }
+}
@@ -0,0 +1,96 @@
+package com.jci.zodiac.util;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * BirthdayDates - Month-day arithmetic for birthday lookups
+ * Birthdays are compared as MMDD integers (e.g. 1225), the value stored in members.birth_month_day.
+ * Feb 29 birthdays are celebrated on Feb 28 in non-leap years.
+ */
+public final class BirthdayDates {
+
+    private static final int FEB_28 = 228;
+    private static final int FEB_29 = 229;
+
+    private BirthdayDates() {
+    }
+
+    /**
+     * MMDD of a date, e.g. 2000-12-25 -> 1225
+     */
+    public static int monthDay(LocalDate date) {
+        return date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    /**
+     * Next birthday on or after {@code from}
+     */
+    public static LocalDate nextOccurrence(LocalDate dateOfBirth, LocalDate from) {
+        LocalDate candidate = occurrenceIn(dateOfBirth, from.getYear());
+        return candidate.isBefore(from) ? occurrenceIn(dateOfBirth, from.getYear() + 1) : candidate;
+    }
+
+    /**
+     * Days from {@code from} until the next birthday (0 = today)
+     */
+    public static long daysUntil(LocalDate dateOfBirth, LocalDate from) {
+        return ChronoUnit.DAYS.between(from, nextOccurrence(dateOfBirth, from));
+    }
+
+    private static LocalDate occurrenceIn(LocalDate dateOfBirth, int year) {
+        // MonthDay.atYear moves Feb 29 to Feb 28 in non-leap years
+        return MonthDay.from(dateOfBirth).atYear(year);
+    }
+
+    /**
+     * Inclusive MMDD window as up to two ranges, so a year wrap (Dec 25 -> Jan 4) is still
+     * one indexed query: {@code md BETWEEN from AND to OR md BETWEEN wrapFrom AND wrapTo}.
+     * The wrap range is empty (1..0) when the window does not cross the new year.
+     */
+    public record Window(int from, int to, int wrapFrom, int wrapTo) {
+
+        private static final int EMPTY_FROM = 1;
+        private static final int EMPTY_TO = 0;
+
+        /**
+         * Birthdays falling on any day from {@code start} to {@code end} (inclusive)
+         */
+        public static Window between(LocalDate start, LocalDate end) {
+            if (end.isBefore(start)) {
+                return new Window(EMPTY_FROM, EMPTY_TO, EMPTY_FROM, EMPTY_TO);
+            }
+            if (!end.isBefore(start.plusYears(1))) {
+                return new Window(101, 1231, EMPTY_FROM, EMPTY_TO);
+            }
+            int from = monthDay(start);
+            int to = celebratedThrough(end);
+            return end.getYear() == start.getYear()
+                    ? new Window(from, to, EMPTY_FROM, EMPTY_TO)
+                    : new Window(from, 1231, 101, to);
+        }
+
+        /**
+         * Birthdays on a single day
+         */
+        public static Window on(LocalDate day) {
+            return between(day, day);
+        }
+
+        /**
+         * Birthdays in a calendar month
+         */
+        public static Window month(Month month) {
+            int base = month.getValue() * 100;
+            return new Window(base + 1, base + 31, EMPTY_FROM, EMPTY_TO);
+        }
+
+        // Feb 28 of a non-leap year also covers Feb 29 birthdays
+        private static int celebratedThrough(LocalDate end) {
+            int to = monthDay(end);
+            return to == FEB_28 && !end.isLeapYear() ? FEB_29 : to;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.jci.zodiac.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CsvRowSource - Incremental RFC 4180 CSV parser
+ * Handles quoted fields with commas, doubled quotes and line breaks, CRLF or LF record ends and a
+ * leading UTF-8 BOM. Reads one record at a time, so memory does not grow with the file.
+ * Lenient on malformed input: an unterminated quote ends at end of file.
+ */
+public final class CsvRowSource implements TabularRowSource {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BufferedReader reader;
+    private boolean started;
+
+    public CsvRowSource(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, BUFFER_SIZE);
+    }
+
+    @Override
+    public void forEachRow(RowHandler handler) throws IOException, InterruptedException {
+        long rowNumber = 0;
+        List<String> record;
+        while ((record = nextRecord()) != null) {
+            handler.accept(++rowNumber, record);
+        }
+    }
+
+    /**
+     * Next record, or null at end of input (a blank line is one empty field)
+     */
+    public List<String> nextRecord() throws IOException {
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == -1 || c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Format one record as an RFC 4180 line (without line break), quoting only where needed
+     */
+    public static String formatRecord(List<String> values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            String value = values.get(i) == null ? "" : values.get(i);
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                line.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                line.append(value);
+            }
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.jci.zodiac.util;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EnumCounts - GROUP BY rows (enum, count) as a map holding every constant
+ * Constants without a row count as 0; rows with a null key are ignored.
+ */
+public final class EnumCounts {
+
+    private EnumCounts() {
+    }
+
+    public static <E extends Enum<E>> Map<E, Long> of(List<Object[]> rows, Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            counts.put(constant, 0L);
+        }
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                counts.put(type.cast(row[0]), row[1] != null ? ((Number) row[1]).longValue() : 0L);
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,115 @@
+package com.jci.zodiac.util;
+
+import org.apache.poi.ss.usermodel.*;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ExcelStylePalette - The cell styles of one report workbook, each created once on first use
+ * A workbook holds at most ~64k styles, so cells must share styles instead of creating their own:
+ * a matrix of any size uses at most one style per score band.
+ */
+public final class ExcelStylePalette {
+
+    /** Compatibility score bands, highest first */
+    public enum ScoreBand {
+        EXCELLENT(80, IndexedColors.LIGHT_GREEN),
+        GOOD(65, IndexedColors.LIME),
+        AVERAGE(50, IndexedColors.LIGHT_YELLOW),
+        CHALLENGING(35, IndexedColors.LIGHT_ORANGE),
+        DIFFICULT(0, IndexedColors.CORAL);
+
+        private final BigDecimal minScore;
+        private final IndexedColors color;
+
+        ScoreBand(int minScore, IndexedColors color) {
+            this.minScore = BigDecimal.valueOf(minScore);
+            this.color = color;
+        }
+
+        public static ScoreBand of(BigDecimal score) {
+            for (ScoreBand band : values()) {
+                if (score.compareTo(band.minScore) >= 0) {
+                    return band;
+                }
+            }
+            return DIFFICULT;
+        }
+    }
+
+    private final Workbook workbook;
+    private final Map<ScoreBand, CellStyle> scoreStyles = new EnumMap<>(ScoreBand.class);
+    private CellStyle header;
+    private CellStyle title;
+    private CellStyle sagittarius;
+    private CellStyle data;
+
+    public ExcelStylePalette(Workbook workbook) {
+        this.workbook = workbook;
+    }
+
+    public CellStyle header() {
+        if (header == null) {
+            header = bordered(workbook.createCellStyle());
+            header.setFont(font(true, 12, null));
+            header.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+            header.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        }
+        return header;
+    }
+
+    public CellStyle title() {
+        if (title == null) {
+            title = workbook.createCellStyle();
+            title.setFont(font(true, 16, IndexedColors.DARK_BLUE));
+        }
+        return title;
+    }
+
+    public CellStyle sagittarius() {
+        if (sagittarius == null) {
+            sagittarius = workbook.createCellStyle();
+            sagittarius.setFont(font(true, 14, IndexedColors.VIOLET));
+            sagittarius.setFillForegroundColor(IndexedColors.LAVENDER.getIndex());
+            sagittarius.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        }
+        return sagittarius;
+    }
+
+    public CellStyle data() {
+        if (data == null) {
+            data = bordered(workbook.createCellStyle());
+            data.setWrapText(true);
+        }
+        return data;
+    }
+
+    public CellStyle score(BigDecimal score) {
+        return scoreStyles.computeIfAbsent(ScoreBand.of(score), band -> {
+            CellStyle style = bordered(workbook.createCellStyle());
+            style.setFillForegroundColor(band.color.getIndex());
+            style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            return style;
+        });
+    }
+
+    private Font font(boolean bold, int points, IndexedColors color) {
+        Font font = workbook.createFont();
+        font.setBold(bold);
+        font.setFontHeightInPoints((short) points);
+        if (color != null) {
+            font.setColor(color.getIndex());
+        }
+        return font;
+    }
+
+    private static CellStyle bordered(CellStyle style) {
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+        return style;
+    }
+}
@@ -0,0 +1,105 @@
+package com.jci.zodiac.util;
+
+/**
+ * FingerprintSet - Compact set of strings stored as 64-bit fingerprints
+ * An open-addressing long[] takes 8-16 bytes per entry instead of ~100 for a HashSet of
+ * Strings, so every email / member code of the organization fits in a few MB. A hit may be a
+ * fingerprint collision (about n / 2^64), so callers confirm hits against the database when a
+ * false positive matters. Callers normalize values (e.g. lower-case emails). Not thread-safe.
+ */
+public final class FingerprintSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] slots;
+    private int size;
+
+    public FingerprintSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public FingerprintSet(int expectedSize) {
+        slots = new long[tableSize(expectedSize)];
+    }
+
+    /**
+     * Add a value; false if it (or a value with the same fingerprint) was already present
+     */
+    public boolean add(String value) {
+        if (size * 2 >= slots.length) {
+            resize();
+        }
+        return insert(slots, fingerprint(value));
+    }
+
+    public boolean mightContain(String value) {
+        long fingerprint = fingerprint(value);
+        int mask = slots.length - 1;
+        for (int i = slot(fingerprint, mask); slots[i] != EMPTY; i = (i + 1) & mask) {
+            if (slots[i] == fingerprint) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean insert(long[] table, long fingerprint) {
+        int mask = table.length - 1;
+        int i = slot(fingerprint, mask);
+        while (table[i] != EMPTY) {
+            if (table[i] == fingerprint) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = fingerprint;
+        size++;
+        return true;
+    }
+
+    private void resize() {
+        long[] old = slots;
+        slots = new long[old.length * 2];
+        size = 0;
+        for (long fingerprint : old) {
+            if (fingerprint != EMPTY) {
+                insert(slots, fingerprint);
+            }
+        }
+    }
+
+    private static int slot(long fingerprint, int mask) {
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+
+    // Power of two with load factor <= 0.5
+    private static int tableSize(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    // FNV-1a over the chars, then the MurmurHash3 finalizer to spread the bits; 0 is reserved for empty slots
+    static long fingerprint(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb3fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == EMPTY ? 1L : hash;
+    }
+}
@@ -0,0 +1,42 @@
+package com.jci.zodiac.util;
+
+import com.jci.zodiac.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * KeysetCursor - Opaque position in a keyset-paginated list
+ * Holds the sort property and direction it was issued for, plus the sort value and id
+ * of the last row on the page. Serialized as URL-safe Base64.
+ */
+public record KeysetCursor(String property, Sort.Direction direction, Long id, String value) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encode to an opaque token
+     */
+    public String encode() {
+        String raw = property + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + (value != null ? value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The value goes last so it may itself contain the separator
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new KeysetCursor(parts[0], Sort.Direction.valueOf(parts[1]), Long.valueOf(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
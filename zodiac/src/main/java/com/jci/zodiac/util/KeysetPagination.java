@@ -0,0 +1,134 @@
+package com.jci.zodiac.util;
+
+import com.jci.zodiac.dto.response.CursorPageResponse;
+import com.jci.zodiac.exception.BadRequestException;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * KeysetPagination - Seek pagination over JPA specifications
+ * Each page is "WHERE (sort, id) after (last sort value, last id) ORDER BY sort, id LIMIT size + 1",
+ * so the cost of a page does not depend on how deep it is (no OFFSET).
+ */
+public final class KeysetPagination {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Sort key: a non-null entity property (String, Integer, Long, LocalDate or LocalDateTime),
+     * with the entity id as tie-breaker
+     */
+    public record SortKey<E>(String property, Class<?> type,
+                             Function<E, Object> valueExtractor, Function<E, Long> idExtractor) {
+
+        public static <E> SortKey<E> of(String property, Class<?> type,
+                                        Function<E, Object> valueExtractor, Function<E, Long> idExtractor) {
+            return new SortKey<>(property, type, valueExtractor, idExtractor);
+        }
+    }
+
+    /**
+     * Fetch one page after the given cursor (first page when the cursor is blank)
+     */
+    public static <E, R> CursorPageResponse<R> fetch(JpaSpecificationExecutor<E> repository,
+                                                     Specification<E> filter,
+                                                     SortKey<E> key,
+                                                     Sort.Direction direction,
+                                                     String cursor,
+                                                     Integer size,
+                                                     Function<E, R> mapper) {
+        int pageSize = pageSize(size);
+        Specification<E> spec = Specification.where(filter);
+
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            if (!position.property().equals(key.property()) || position.direction() != direction) {
+                throw new BadRequestException("Cursor does not match the requested sort order");
+            }
+            spec = spec.and(after(key, direction, position));
+        }
+
+        Sort sort = key.property().equals("id")
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, key.property()).and(Sort.by(direction, "id"));
+
+        List<E> rows = repository.findBy(spec, query -> query.sortBy(sort).limit(pageSize + 1).all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            Object lastValue = key.valueExtractor().apply(last);
+            nextCursor = new KeysetCursor(key.property(), direction, key.idExtractor().apply(last),
+                    lastValue != null ? lastValue.toString() : null).encode();
+        }
+
+        return CursorPageResponse.<R>builder()
+                .items(page.stream().map(mapper).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Clamp a requested page size to 1..MAX_PAGE_SIZE (default when null)
+     */
+    public static int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // ==================== Helper Methods ====================
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> Specification<E> after(SortKey<E> key, Sort.Direction direction, KeysetCursor position) {
+        Long lastId = position.id();
+
+        if (key.property().equals("id")) {
+            return (root, query, cb) -> direction.isAscending()
+                    ? cb.greaterThan(root.get("id"), lastId)
+                    : cb.lessThan(root.get("id"), lastId);
+        }
+
+        Comparable lastValue = parseValue(position.value(), key.type());
+        return (root, query, cb) -> {
+            Path<Comparable> path = root.get(key.property());
+            Path<Long> idPath = root.get("id");
+            return direction.isAscending()
+                    ? cb.or(cb.greaterThan(path, lastValue),
+                            cb.and(cb.equal(path, lastValue), cb.greaterThan(idPath, lastId)))
+                    : cb.or(cb.lessThan(path, lastValue),
+                            cb.and(cb.equal(path, lastValue), cb.lessThan(idPath, lastId)));
+        };
+    }
+
+    private static Comparable<?> parseValue(String value, Class<?> type) {
+        try {
+            if (type == String.class) return value;
+            if (type == Long.class) return Long.valueOf(value);
+            if (type == Integer.class) return Integer.valueOf(value);
+            if (type == LocalDate.class) return LocalDate.parse(value);
+            if (type == LocalDateTime.class) return LocalDateTime.parse(value);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        throw new IllegalArgumentException("Unsupported keyset sort type: " + type.getSimpleName());
+    }
+}
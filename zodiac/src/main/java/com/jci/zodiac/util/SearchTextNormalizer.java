@@ -0,0 +1,61 @@
+package com.jci.zodiac.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * SearchTextNormalizer - Accent- and case-insensitive tokens for the search index
+ * "Nguyễn Văn Đức" -> [nguyen, van, duc]
+ */
+public final class SearchTextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    private SearchTextNormalizer() {
+    }
+
+    /**
+     * Lower-case, strip diacritics (đ/Đ has no decomposition and is mapped explicitly)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replace('đ', 'd')
+                .replace('Đ', 'D')
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Tokens of all fields as one string, each preceded by a space (" nguyen van an")
+     * SQL LIKE '% term%' on it matches a token starting with term, the search index's prefix rule.
+     */
+    public static String tokenText(String... fields) {
+        StringBuilder text = new StringBuilder();
+        for (String field : fields) {
+            for (String token : tokenize(field)) {
+                text.append(' ').append(token);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Normalized alphanumeric tokens, in order
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_ALPHANUMERIC.split(normalize(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,21 @@
+package com.jci.zodiac.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * TabularRowSource - A file read row by row (CSV, xlsx sheet) without loading it into memory
+ */
+public interface TabularRowSource extends Closeable {
+
+    /**
+     * Push every row to the handler in file order; row numbers are 1-based and include any header row
+     */
+    void forEachRow(RowHandler handler) throws IOException, InterruptedException;
+
+    @FunctionalInterface
+    interface RowHandler {
+        void accept(long rowNumber, List<String> columns) throws InterruptedException;
+    }
+}
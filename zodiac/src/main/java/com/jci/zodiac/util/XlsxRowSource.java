@@ -0,0 +1,136 @@
+package com.jci.zodiac.util;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * XlsxRowSource - Reads the first sheet of an xlsx workbook with POI's SAX event model
+ * Cells are pushed row by row from the sheet XML (no XSSFWorkbook DOM), so memory stays
+ * constant regardless of sheet size; only the shared strings table is held, read-only.
+ * Gaps in sparse rows become empty strings. Date-formatted numeric cells are rendered with
+ * the given pattern so they parse like the CSV import's date columns.
+ */
+public final class XlsxRowSource implements TabularRowSource {
+
+    private final OPCPackage pkg;
+    private final DateTimeFormatter dateFormatter;
+
+    public XlsxRowSource(Path file, DateTimeFormatter dateFormatter) throws IOException {
+        try {
+            this.pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+        } catch (OpenXML4JException | RuntimeException e) {
+            throw new IOException("Not a valid xlsx workbook: " + e.getMessage(), e);
+        }
+        this.dateFormatter = dateFormatter;
+    }
+
+    @Override
+    public void forEachRow(RowHandler handler) throws IOException, InterruptedException {
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(),
+                    new ReadOnlySharedStringsTable(pkg), new RowCollector(handler), new ImportDataFormatter(), false));
+
+            try (InputStream sheet = sheets.next()) {
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (Interrupted e) {
+            throw e.cause;
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Failed to read xlsx sheet: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        pkg.revert(); // read-only: release without saving
+    }
+
+    /**
+     * Collects the cells of the current row and hands the row over when it ends
+     */
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowHandler handler;
+        private final List<String> columns = new ArrayList<>();
+
+        private RowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            columns.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            try {
+                handler.accept(rowNum + 1L, List.copyOf(columns));
+            } catch (InterruptedException e) {
+                throw new Interrupted(e);
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null
+                    ? new CellReference(cellReference).getCol()
+                    : columns.size();
+            while (columns.size() < column) {
+                columns.add("");
+            }
+            columns.add(formattedValue != null ? formattedValue : "");
+        }
+    }
+
+    /**
+     * Formats date cells with the import's date pattern, everything else like Excel shows it
+     */
+    private final class ImportDataFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).format(dateFormatter);
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString, use1904Windowing);
+        }
+    }
+
+    // Carries an InterruptedException out of the SAX callbacks
+    private static final class Interrupted extends RuntimeException {
+        private final InterruptedException cause;
+
+        private Interrupted(InterruptedException cause) {
+            super(cause);
+            this.cause = cause;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+-- =====================================================
+-- V10: Add Restore Checkpoints
+-- Progress of streaming JSON backup restores (section + rows done),
+-- so a failed restore can resume after its last committed chunk,
+-- and the backup id -> database id mapping used to remap references
+-- =====================================================
+
+CREATE TABLE restore_checkpoints (
+    id VARCHAR(36) PRIMARY KEY,
+    file_name VARCHAR(255),
+    spool_path VARCHAR(500) NOT NULL,
+
+    status ENUM('RUNNING', 'COMPLETED', 'FAILED') NOT NULL DEFAULT 'RUNNING',
+    section VARCHAR(30) NOT NULL,
+    section_rows BIGINT NOT NULL DEFAULT 0,
+
+    imported_counts JSON,
+    failed_counts JSON,
+    message TEXT,
+
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    INDEX idx_restore_status (status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE restore_id_map (
+    restore_id VARCHAR(36) NOT NULL,
+    entity VARCHAR(20) NOT NULL,
+    old_id BIGINT NOT NULL,
+    new_id BIGINT NOT NULL,
+    created BOOLEAN NOT NULL DEFAULT FALSE,
+    -- Backup lead_member_id of a department this restore created (inserted without a lead,
+    -- since fk_departments_lead needs the member); set once the members are restored
+    lead_old_id BIGINT NULL,
+
+    PRIMARY KEY (restore_id, entity, old_id),
+    CONSTRAINT fk_restore_id_map_restore FOREIGN KEY (restore_id)
+        REFERENCES restore_checkpoints(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,7 @@
+-- =====================================================
+-- V11: Add Data Version Sequence
+-- Shared data version (ETags, dashboard and report cache keys),
+-- bumped by every committed write so all app nodes agree on it
+-- =====================================================
+
+INSERT INTO id_sequences (name, next_value) VALUES ('data_version', 1);
@@ -0,0 +1,14 @@
+-- =====================================================
+-- V12: Add Member Search Text Column
+-- search_text = " " + the search index tokens of name, code, email,
+-- position and company, so SQL can match keyword terms as token
+-- prefixes (LIKE '% term%') exactly like the search index does
+-- =====================================================
+
+ALTER TABLE members ADD COLUMN search_text VARCHAR(500) NOT NULL DEFAULT '' AFTER company;
+
+-- Existing rows keep their accents (the column collation ignores them in LIKE);
+-- the application rewrites the fully normalized text on each row's next save
+UPDATE members SET search_text = CONCAT(' ', TRIM(REGEXP_REPLACE(
+    REPLACE(LOWER(CONCAT_WS(' ', full_name, member_code, email, position, company)), 'đ', 'd'),
+    '[^[:alnum:]]+', ' ')));
@@ -0,0 +1,40 @@
+-- =====================================================
+-- V13: Add Member Import Jobs
+-- State of background member imports and their rejected rows,
+-- shared by all app nodes: a job runs on the node that accepted
+-- the upload, its status and error CSV are served by any node
+-- =====================================================
+
+CREATE TABLE member_import_jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    file_name VARCHAR(255),
+    format VARCHAR(10) NOT NULL,
+
+    status ENUM('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED') NOT NULL DEFAULT 'QUEUED',
+    total_rows BIGINT NOT NULL DEFAULT 0,
+    processed_rows BIGINT NOT NULL DEFAULT 0,
+    successful_imports BIGINT NOT NULL DEFAULT 0,
+    failed_imports BIGINT NOT NULL DEFAULT 0,
+    skipped_rows BIGINT NOT NULL DEFAULT 0,
+    message TEXT,
+
+    started_at TIMESTAMP NULL,
+    finished_at TIMESTAMP NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    INDEX idx_import_job_updated (updated_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE member_import_errors (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id VARCHAR(36) NOT NULL,
+    source_row BIGINT NOT NULL,
+    field VARCHAR(50),
+    field_value TEXT,
+    error TEXT,
+
+    INDEX idx_import_errors_job (job_id, id),
+    CONSTRAINT fk_import_errors_job FOREIGN KEY (job_id)
+        REFERENCES member_import_jobs(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,45 @@
+-- =====================================================
+-- V5: Add Membership Monthly Rollup Table
+-- Pre-aggregated joins/leaves per month x sign x element x department
+-- Read by timelines and hiring trends instead of scanning members
+-- =====================================================
+
+CREATE TABLE membership_monthly_rollup (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+
+    -- Bucket (period_month is always the 1st day of the month)
+    period_month DATE NOT NULL,
+    zodiac_sign ENUM('Aries', 'Taurus', 'Gemini', 'Cancer', 'Leo', 'Virgo',
+                     'Libra', 'Scorpio', 'Sagittarius', 'Capricorn', 'Aquarius', 'Pisces') NOT NULL,
+    zodiac_element ENUM('Fire', 'Earth', 'Air', 'Water') NOT NULL,
+    department_id BIGINT NOT NULL DEFAULT 0, -- 0 = no department
+
+    -- Counters
+    join_count INT NOT NULL DEFAULT 0,
+    leave_count INT NOT NULL DEFAULT 0,
+
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    UNIQUE KEY uk_rollup_bucket (period_month, zodiac_sign, zodiac_element, department_id),
+    INDEX idx_rollup_month (period_month)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Day a member last left (Inactive/Alumni); kept through later edits, cleared on reactivation.
+-- Existing left members get the day of their last update, the best date there is.
+ALTER TABLE members ADD COLUMN left_date DATE NULL AFTER membership_status;
+
+UPDATE members SET left_date = DATE(updated_at) WHERE membership_status IN ('Inactive', 'Alumni');
+
+-- Backfill joins (month of join_date)
+INSERT INTO membership_monthly_rollup (period_month, zodiac_sign, zodiac_element, department_id, join_count, leave_count)
+SELECT DATE_FORMAT(join_date, '%Y-%m-01'), zodiac_sign, zodiac_element, COALESCE(department_id, 0), COUNT(*), 0
+FROM members
+GROUP BY DATE_FORMAT(join_date, '%Y-%m-01'), zodiac_sign, zodiac_element, COALESCE(department_id, 0);
+
+-- Backfill leaves (Inactive/Alumni members, month of their left_date)
+INSERT INTO membership_monthly_rollup (period_month, zodiac_sign, zodiac_element, department_id, join_count, leave_count)
+SELECT DATE_FORMAT(left_date, '%Y-%m-01'), zodiac_sign, zodiac_element, COALESCE(department_id, 0), 0, COUNT(*)
+FROM members
+WHERE membership_status IN ('Inactive', 'Alumni')
+GROUP BY DATE_FORMAT(left_date, '%Y-%m-01'), zodiac_sign, zodiac_element, COALESCE(department_id, 0)
+ON DUPLICATE KEY UPDATE leave_count = VALUES(leave_count);
@@ -0,0 +1,33 @@
+-- =====================================================
+-- V6: Add Organization Snapshots Table
+-- One compact row per day, written by OrganizationSnapshotService
+-- Powers compatibility trends and 12-month dashboard/report charts
+-- =====================================================
+
+CREATE TABLE organization_snapshots (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    snapshot_date DATE NOT NULL UNIQUE, -- the unique key doubles as the date index
+
+    -- Headcounts
+    total_members INT NOT NULL DEFAULT 0,
+    active_members INT NOT NULL DEFAULT 0,
+    inactive_members INT NOT NULL DEFAULT 0,
+    on_leave_members INT NOT NULL DEFAULT 0,
+    alumni_members INT NOT NULL DEFAULT 0,
+    total_departments INT NOT NULL DEFAULT 0,
+    active_teams INT NOT NULL DEFAULT 0,
+
+    -- Histograms of active members, e.g. {"Sagittarius": 4, "Leo": 2}
+    sign_histogram JSON,
+    element_histogram JSON,
+
+    -- Compatibility
+    average_compatibility DECIMAL(5,2),
+    excellent_pairs INT NOT NULL DEFAULT 0,
+    good_pairs INT NOT NULL DEFAULT 0,
+    conflict_pairs INT NOT NULL DEFAULT 0,
+    critical_conflicts INT NOT NULL DEFAULT 0,
+
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,15 @@
+-- =====================================================
+-- V7: Add Composite Indexes for Member Search
+-- Filter columns first, then the keyset sort column and id,
+-- so combined filters + cursor pagination seek instead of scan
+-- =====================================================
+
+-- Default order (newest first) with the common filters
+CREATE INDEX idx_members_status_created ON members (membership_status, created_at, id);
+CREATE INDEX idx_members_sign_status_created ON members (zodiac_sign, membership_status, created_at, id);
+CREATE INDEX idx_members_element_status_created ON members (zodiac_element, membership_status, created_at, id);
+CREATE INDEX idx_members_department_status_created ON members (department_id, membership_status, created_at, id);
+
+-- Unfiltered keyset orders
+CREATE INDEX idx_members_created ON members (created_at, id);
+CREATE INDEX idx_members_full_name ON members (full_name, id);
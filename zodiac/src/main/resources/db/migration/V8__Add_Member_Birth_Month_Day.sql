@@ -0,0 +1,11 @@
+-- =====================================================
+-- V8: Add Member Birth Month-Day Column
+-- birth_month_day = MMDD of date_of_birth (e.g. 1225), so birthday
+-- lookups are index range scans instead of MONTH()/DAY() full scans
+-- =====================================================
+
+ALTER TABLE members ADD COLUMN birth_month_day INT NOT NULL DEFAULT 0 AFTER date_of_birth;
+
+UPDATE members SET birth_month_day = MONTH(date_of_birth) * 100 + DAY(date_of_birth);
+
+CREATE INDEX idx_members_status_birthday ON members (membership_status, birth_month_day);
@@ -0,0 +1,16 @@
+-- =====================================================
+-- V9: Add Id Sequences Table
+-- Named counters reserved in blocks by the application (hi/lo),
+-- starting with member codes (JCI-DN-XXX)
+-- =====================================================
+
+CREATE TABLE id_sequences (
+    name VARCHAR(50) PRIMARY KEY,
+    next_value BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Continue after the highest existing JCI-DN-XXX code
+INSERT INTO id_sequences (name, next_value)
+SELECT 'member_code', COALESCE(MAX(CAST(SUBSTRING(member_code, 8) AS UNSIGNED)), 0) + 1
+FROM members
+WHERE member_code REGEXP '^JCI-DN-[0-9]+$';
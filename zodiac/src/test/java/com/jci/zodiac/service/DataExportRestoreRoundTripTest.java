@@ -0,0 +1,143 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.entity.RestoreCheckpoint;
+import com.jci.zodiac.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A JSON export read back by the restore: members keep their lazy columns (address, notes, tags),
+ * which the export takes from the streamed row instead of loading them per member.
+ */
+class DataExportRestoreRoundTripTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportedMembersAreRestoredWithEveryColumn() throws Exception {
+        Member original = Member.builder()
+                .id(42L)
+                .memberCode("JCI-DN-042")
+                .fullName("Nguyen Van An")
+                .email("an@jci.vn")
+                .phone("0905123456")
+                .dateOfBirth(LocalDate.of(1992, 3, 25))
+                .zodiacSign(Member.ZodiacSign.Aries)
+                .zodiacElement(Member.ZodiacElement.Fire)
+                .position("Treasurer")
+                .joinDate(LocalDate.of(2020, 1, 15))
+                .company("JCI Danang")
+                .createdAt(LocalDateTime.of(2020, 1, 15, 9, 0))
+                .build();
+        Object[] streamedRow = {original, "12 Bach Dang, Hai Chau", "Prefers morning meetings", List.of("board", "mentor")};
+
+        byte[] backup = export(streamedRow);
+        List<Member> restored = restore(backup);
+
+        assertEquals(1, restored.size());
+        Member member = restored.get(0);
+        assertEquals("JCI-DN-042", member.getMemberCode());
+        assertEquals("Nguyen Van An", member.getFullName());
+        assertEquals("an@jci.vn", member.getEmail());
+        assertEquals(LocalDate.of(1992, 3, 25), member.getDateOfBirth());
+        assertEquals(Member.ZodiacSign.Aries, member.getZodiacSign());
+        assertEquals(LocalDate.of(2020, 1, 15), member.getJoinDate());
+        assertEquals("12 Bach Dang, Hai Chau", member.getAddress());
+        assertEquals("Prefers morning meetings", member.getNotes());
+        assertEquals(List.of("board", "mentor"), member.getTags());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private byte[] export(Object[] memberRow) throws Exception {
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        SettingRepository settingRepository = mock(SettingRepository.class);
+        DepartmentRepository departmentRepository = mock(DepartmentRepository.class);
+        TeamRepository teamRepository = mock(TeamRepository.class);
+        TeamMemberRepository teamMemberRepository = mock(TeamMemberRepository.class);
+        NoteRepository noteRepository = mock(NoteRepository.class);
+        when(memberRepository.streamAllWithDetails()).thenReturn(Stream.<Object[]>of(memberRow));
+        when(settingRepository.streamAll()).thenReturn(Stream.empty());
+        when(departmentRepository.streamAll()).thenReturn(Stream.empty());
+        when(teamRepository.streamAll()).thenReturn(Stream.empty());
+        when(teamMemberRepository.streamAll()).thenReturn(Stream.empty());
+        when(noteRepository.streamAll()).thenReturn(Stream.empty());
+
+        DataExportService exportService = new DataExportService(memberRepository, departmentRepository,
+                teamRepository, teamMemberRepository, noteRepository, settingRepository,
+                mock(ZodiacProfileRepository.class), mock(ZodiacCompatibilityRepository.class),
+                mock(EntityManager.class));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeAllDataToJson(out, false);
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Member> restore(byte[] backup) throws Exception {
+        Path spooled = Files.write(tempDir.resolve("backup.json"), backup);
+
+        MemberImportJobService memberImportJobService = mock(MemberImportJobService.class);
+        when(memberImportJobService.spool(any(), anyString())).thenReturn(spooled);
+
+        AtomicReference<RestoreCheckpoint> checkpoint = new AtomicReference<>();
+        RestoreCheckpointRepository checkpointRepository = mock(RestoreCheckpointRepository.class);
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> {
+            checkpoint.set(invocation.getArgument(0));
+            return checkpoint.get();
+        });
+        when(checkpointRepository.findById(anyString())).thenAnswer(invocation -> Optional.ofNullable(checkpoint.get()));
+
+        AtomicLong nextId = new AtomicLong(1000);
+        MemberBulkWriter memberBulkWriter = mock(MemberBulkWriter.class);
+        when(memberBulkWriter.insertChunk(any())).thenAnswer(invocation -> {
+            List<Member> chunk = invocation.getArgument(0);
+            chunk.forEach(member -> member.setId(nextId.incrementAndGet()));
+            return new MemberBulkWriter.ChunkResult(chunk, List.of());
+        });
+
+        DataRestoreService restoreService = new DataRestoreService(checkpointRepository,
+                mock(SettingRepository.class), mock(DepartmentRepository.class), mock(MemberRepository.class),
+                mock(TeamMemberRepository.class), memberBulkWriter, memberImportJobService,
+                mock(SearchIndexService.class), mock(DataVersionService.class), mock(JdbcTemplate.class),
+                mock(NamedParameterJdbcTemplate.class), mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(restoreService, "chunkSize", 100);
+
+        Map<String, Object> result = restoreService.restore(
+                new MockMultipartFile("file", "backup.json", "application/json", backup));
+        assertEquals(true, result.get("success"));
+
+        ArgumentCaptor<List<Member>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(memberBulkWriter).insertChunk(inserted.capture());
+        return inserted.getValue();
+    }
+}
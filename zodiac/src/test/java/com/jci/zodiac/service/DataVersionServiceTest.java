@@ -0,0 +1,124 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.dto.request.UpdateMemberRequest;
+import com.jci.zodiac.entity.IdSequence;
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.event.DataVersionEntityListener;
+import com.jci.zodiac.mapper.MemberMapper;
+import com.jci.zodiac.repository.IdSequenceRepository;
+import com.jci.zodiac.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Writes that Hibernate only flushes while committing (dirty-checked updates) still bump the version
+ */
+class DataVersionServiceTest {
+
+    private final AtomicLong storedVersion = new AtomicLong(5);
+    private final FlushAtCommitTransactionManager transactionManager = new FlushAtCommitTransactionManager();
+    private DataVersionService dataVersionService;
+    private DataVersionEntityListener dataVersionListener;
+
+    @BeforeEach
+    void setUp() {
+        IdSequenceRepository idSequenceRepository = mock(IdSequenceRepository.class);
+        when(idSequenceRepository.increment(IdSequence.DATA_VERSION)).thenAnswer(invocation -> {
+            storedVersion.incrementAndGet();
+            return 1;
+        });
+        when(idSequenceRepository.findValue(IdSequence.DATA_VERSION))
+                .thenAnswer(invocation -> Optional.of(storedVersion.get()));
+
+        dataVersionService = new DataVersionService(idSequenceRepository, new ConcurrentMapCacheManager(),
+                mock(ApplicationEventPublisher.class), transactionManager, 60_000);
+        dataVersionListener = new DataVersionEntityListener(dataVersionService);
+    }
+
+    @Test
+    void memberUpdateFlushedAtCommitBumpsTheVersion() {
+        Member member = Member.builder()
+                .id(7L)
+                .memberCode("JCI-DN-007")
+                .fullName("Tran Thi Binh")
+                .dateOfBirth(LocalDate.of(1994, 7, 30))
+                .zodiacSign(Member.ZodiacSign.Leo)
+                .zodiacElement(Member.ZodiacElement.Fire)
+                .joinDate(LocalDate.of(2021, 3, 1))
+                .build();
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        when(memberRepository.findById(7L)).thenReturn(Optional.of(member));
+        // A managed entity: save() writes nothing, the UPDATE (and @PostUpdate) happen at commit
+        when(memberRepository.save(any(Member.class))).thenAnswer(invocation -> {
+            transactionManager.flushAtCommit(() -> dataVersionListener.afterWrite(member));
+            return member;
+        });
+        MemberService memberService = new MemberService(memberRepository, new MemberMapper(),
+                new ZodiacUtilityService(), mock(SearchIndexService.class), mock(MemberCodeAllocator.class));
+
+        long before = dataVersionService.currentVersion();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                memberService.updateMember(7L, UpdateMemberRequest.builder().phone("0905000111").build()));
+
+        assertEquals(before + 1, dataVersionService.currentVersion());
+        assertEquals(before + 1, storedVersion.get());
+    }
+
+    @Test
+    void writeRegisteredBeforeCommitBumpsOnce() {
+        long before = dataVersionService.currentVersion();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            dataVersionService.bumpAfterCommit();
+            transactionManager.flushAtCommit(dataVersionService::bumpAfterCommit);
+        });
+
+        assertEquals(before + 1, dataVersionService.currentVersion());
+    }
+
+    /** Runs pending flushes inside doCommit, after the before-commit hooks, like Hibernate does */
+    private static class FlushAtCommitTransactionManager extends AbstractPlatformTransactionManager {
+        private final List<Runnable> pendingFlushes = new ArrayList<>();
+
+        void flushAtCommit(Runnable flush) {
+            pendingFlushes.add(flush);
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            List<Runnable> flushes = new ArrayList<>(pendingFlushes);
+            pendingFlushes.clear();
+            flushes.forEach(Runnable::run);
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            pendingFlushes.clear();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.dto.response.ImportValidationReport;
+import com.jci.zodiac.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImportDryRunServiceTest {
+
+    private static final String EMAILS_SQL = "SELECT email FROM members WHERE email IS NOT NULL";
+    private static final String CODES_SQL = "SELECT member_code FROM members";
+
+    private MemberRepository memberRepository;
+    private Statement statement;
+    private ImportDryRunService service;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        memberRepository = mock(MemberRepository.class);
+        when(memberRepository.findExistingEmails(anyCollection()))
+                .thenAnswer(invocation -> matching(invocation.getArgument(0), List.of("taken@jci.vn")));
+        when(memberRepository.findExistingMemberCodes(anyCollection()))
+                .thenAnswer(invocation -> matching(invocation.getArgument(0), List.of("JCI-DN-001")));
+
+        // Existing rows, as streamed by the fingerprint preload
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenAnswer(invocation -> switch ((String) invocation.getArgument(0)) {
+            case EMAILS_SQL -> resultSet(List.of("taken@jci.vn"));
+            case CODES_SQL -> resultSet(List.of("JCI-DN-001"));
+            default -> throw new SQLException("Unexpected query");
+        });
+
+        service = new ImportDryRunService(new JdbcTemplate(dataSource), memberRepository, null);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+    }
+
+    @Test
+    void jsonRowsWithExistingCodesAreLinkedLikeTheRestore() {
+        ImportValidationReport report = validateJson("""
+                {"members": [
+                  {"memberCode": "JCI-DN-001", "fullName": "Existing", "email": "taken@jci.vn", "dateOfBirth": "1990-01-01"},
+                  {"memberCode": "JCI-DN-100", "fullName": "New", "email": "new@jci.vn", "dateOfBirth": "1991-02-02"},
+                  {"memberCode": "jci-dn-100", "fullName": "Repeat", "email": "other@jci.vn", "dateOfBirth": "1991-02-02"}
+                ]}
+                """);
+
+        assertEquals(3, report.getTotalRows());
+        assertEquals(1, report.getValidRows());
+        assertEquals(2, report.getLinkedRows());
+        assertEquals(0, report.getInvalidRows());
+    }
+
+    @Test
+    void jsonRowsThatWouldBeInsertedStillNeedFreeEmails() {
+        ImportValidationReport report = validateJson("""
+                {"members": [
+                  {"memberCode": "JCI-DN-100", "fullName": "A", "email": "Taken@jci.vn", "dateOfBirth": "1990-01-01"},
+                  {"memberCode": "JCI-DN-101", "fullName": "B", "email": "same@jci.vn", "dateOfBirth": "1990-01-01"},
+                  {"memberCode": "JCI-DN-102", "fullName": "C", "email": "SAME@jci.vn", "dateOfBirth": "1990-01-01"},
+                  {"memberCode": "JCI-DN-103", "fullName": "D", "dateOfBirth": "not a date"},
+                  {"memberCode": "JCI-DN-104", "fullName": "E", "dateOfBirth": "2015-06-01", "zodiacSign": "Dragon"}
+                ]}
+                """);
+
+        assertEquals(5, report.getTotalRows());
+        assertEquals(1, report.getValidRows());
+        assertEquals(4, report.getInvalidRows());
+        assertEquals(List.of("email", "email", "dateOfBirth", "row"),
+                report.getErrors().stream().map(ImportValidationReport.RowError::getField).toList());
+        assertEquals(List.of(1L, 3L, 4L, 5L),
+                report.getErrors().stream().map(ImportValidationReport.RowError::getRow).toList());
+    }
+
+    @Test
+    void existingValuesAreStreamedOncePerRequest() throws SQLException {
+        validateJson("""
+                {"members": [
+                  {"memberCode": "JCI-DN-100", "fullName": "A", "email": "a@jci.vn", "dateOfBirth": "1990-01-01"},
+                  {"memberCode": "JCI-DN-101", "fullName": "B", "email": "b@jci.vn", "dateOfBirth": "1990-01-01"},
+                  {"memberCode": "JCI-DN-102", "fullName": "C", "email": "c@jci.vn", "dateOfBirth": "1990-01-01"}
+                ]}
+                """);
+
+        verify(statement, times(1)).executeQuery(EMAILS_SQL);
+        verify(statement, times(1)).executeQuery(CODES_SQL);
+    }
+
+    @Test
+    void fileWithoutValidRowsDoesNotScanMembers() throws SQLException {
+        ImportValidationReport report = validateJson("""
+                {"members": [{"fullName": "No code", "dateOfBirth": "1990-01-01"}], "teams": []}
+                """);
+
+        assertEquals(1, report.getInvalidRows());
+        verify(statement, times(0)).executeQuery(anyString());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private ImportValidationReport validateJson(String json) {
+        return service.validateJson(new MockMultipartFile("file", "backup.json", "application/json",
+                json.getBytes(StandardCharsets.UTF_8)), 0, 20);
+    }
+
+    private static List<String> matching(Collection<String> candidates, List<String> existing) {
+        List<String> lowerCandidates = candidates.stream().map(value -> value.toLowerCase(Locale.ROOT)).toList();
+        return existing.stream().filter(value -> lowerCandidates.contains(value.toLowerCase(Locale.ROOT))).toList();
+    }
+
+    private static ResultSet resultSet(List<String> values) throws SQLException {
+        Iterator<String> rows = values.iterator();
+        String[] current = new String[1];
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenAnswer(invocation -> {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            current[0] = rows.next();
+            return true;
+        });
+        when(resultSet.getString(1)).thenAnswer(invocation -> current[0]);
+        return resultSet;
+    }
+}
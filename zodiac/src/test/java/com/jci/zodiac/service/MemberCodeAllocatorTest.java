@@ -0,0 +1,77 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.entity.IdSequence;
+import com.jci.zodiac.repository.IdSequenceRepository;
+import com.jci.zodiac.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberCodeAllocatorTest {
+
+    private IdSequenceRepository idSequenceRepository;
+    private MemberRepository memberRepository;
+    private IdSequence sequence;
+
+    @BeforeEach
+    void setUp() {
+        idSequenceRepository = mock(IdSequenceRepository.class);
+        memberRepository = mock(MemberRepository.class);
+        sequence = new IdSequence(IdSequence.MEMBER_CODE, 1L);
+        when(idSequenceRepository.findForUpdate(IdSequence.MEMBER_CODE)).thenReturn(Optional.of(sequence));
+        when(memberRepository.findExistingMemberCodes(anyCollection())).thenReturn(List.of());
+    }
+
+    private MemberCodeAllocator allocator(int blockSize) {
+        return new MemberCodeAllocator(idSequenceRepository, memberRepository, new ZodiacUtilityService(),
+                mock(PlatformTransactionManager.class), blockSize);
+    }
+
+    @Test
+    void servesBlocksAndReservesTheNextWhenUsedUp() {
+        MemberCodeAllocator allocator = allocator(2);
+
+        assertEquals(List.of("JCI-DN-001", "JCI-DN-002", "JCI-DN-003"),
+                List.of(allocator.nextCode(), allocator.nextCode(), allocator.nextCode()));
+        assertEquals(5L, sequence.getNextValue());
+        verify(idSequenceRepository, times(2)).findForUpdate(IdSequence.MEMBER_CODE);
+    }
+
+    @Test
+    void skipsValuesWhoseCodeIsAlreadyTaken() {
+        when(memberRepository.findExistingMemberCodes(anyCollection()))
+                .thenReturn(List.of("JCI-DN-002", "jci-dn-003"));
+        MemberCodeAllocator allocator = allocator(5);
+
+        assertEquals(List.of("JCI-DN-001", "JCI-DN-004", "JCI-DN-005"),
+                List.of(allocator.nextCode(), allocator.nextCode(), allocator.nextCode()));
+    }
+
+    @Test
+    void advancesPastHighestSequenceCode() {
+        allocator(50).advancePast(Arrays.asList("JCI-DN-007", "jci-dn-012", "JCI-DN-009", "GUEST-99", null));
+
+        verify(idSequenceRepository).advanceTo(IdSequence.MEMBER_CODE, 13L);
+    }
+
+    @Test
+    void leavesSequenceAloneWithoutSequenceCodes() {
+        allocator(50).advancePast(Arrays.asList("GUEST-99", "JCI-HN-001", null));
+
+        verify(idSequenceRepository, never()).advanceTo(anyString(), anyLong());
+    }
+}
@@ -0,0 +1,73 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.event.MemberChangedEvent;
+import com.jci.zodiac.repository.MembershipMonthlyRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class MembershipRollupServiceTest {
+
+    private static final LocalDate JOINED = LocalDate.of(2019, 5, 10);
+    private static final LocalDate LEFT = LocalDate.of(2024, 2, 20);
+
+    private MembershipMonthlyRollupRepository rollupRepository;
+    private MembershipRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        rollupRepository = mock(MembershipMonthlyRollupRepository.class);
+        service = new MembershipRollupService(rollupRepository, mock(DataVersionService.class));
+    }
+
+    @Test
+    void editingAMemberWhoLeftKeepsTheLeaveInItsMonth() {
+        service.onMemberChanged(updated(
+                state(Member.MembershipStatus.Inactive, LEFT),
+                state(Member.MembershipStatus.Inactive, LEFT)));
+
+        verify(rollupRepository, never()).applyDelta(any(), anyString(), anyString(), anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void reactivationTakesTheLeaveOutOfItsMonth() {
+        service.onMemberChanged(updated(
+                state(Member.MembershipStatus.Alumni, LEFT),
+                state(Member.MembershipStatus.Active, null)));
+
+        verify(rollupRepository).applyDelta(LocalDate.of(2024, 2, 1), "Leo", "Fire", 3L, 0, -1);
+    }
+
+    @Test
+    void leftDateIsKeptWhileLeftAndClearedOnReturn() {
+        LocalDate today = LocalDate.of(2026, 10, 18);
+
+        assertEquals(today, Member.leftDateFor(Member.MembershipStatus.Inactive, null, today));
+        assertEquals(LEFT, Member.leftDateFor(Member.MembershipStatus.Alumni, LEFT, today));
+        assertNull(Member.leftDateFor(Member.MembershipStatus.OnLeave, LEFT, today));
+        assertNull(Member.leftDateFor(Member.MembershipStatus.Active, LEFT, today));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static MemberChangedEvent updated(MemberChangedEvent.MemberState before, MemberChangedEvent.MemberState after) {
+        return new MemberChangedEvent(MemberChangedEvent.ChangeType.UPDATED, before, after);
+    }
+
+    private static MemberChangedEvent.MemberState state(Member.MembershipStatus status, LocalDate leftDate) {
+        return new MemberChangedEvent.MemberState(7L, LocalDate.of(1990, 8, 1), JOINED,
+                Member.ZodiacSign.Leo, Member.ZodiacElement.Fire, 3L, status, leftDate);
+    }
+}
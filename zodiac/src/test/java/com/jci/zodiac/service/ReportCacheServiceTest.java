@@ -0,0 +1,147 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.config.CachedReportReleaseListener;
+import com.jci.zodiac.dto.request.GenerateReportRequest;
+import jakarta.servlet.ServletRequestEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReportCacheServiceTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private DataVersionService dataVersionService;
+    private AtomicInteger renders;
+
+    @BeforeEach
+    void setUp() {
+        dataVersionService = mock(DataVersionService.class);
+        when(dataVersionService.currentTag()).thenReturn("7-2026-10-18");
+        renders = new AtomicInteger();
+    }
+
+    @Test
+    void startupRemovesOnlyCacheFiles() throws IOException {
+        Path stale = Files.writeString(cacheDir.resolve("a".repeat(64) + ".pdf"), "old");
+        Path partial = Files.writeString(cacheDir.resolve("render-123.tmp"), "half");
+        Path foreign = Files.writeString(cacheDir.resolve("notes.txt"), "keep");
+        Path almost = Files.writeString(cacheDir.resolve("abc.pdf"), "keep");
+
+        new ReportCacheService(dataVersionService, cacheDir.toString(), 256);
+
+        assertFalse(Files.exists(stale));
+        assertFalse(Files.exists(partial));
+        assertTrue(Files.exists(foreign));
+        assertTrue(Files.exists(almost));
+    }
+
+    @Test
+    void teamMemberOrderDoesNotChangeTheKey() throws IOException {
+        ReportCacheService cache = new ReportCacheService(dataVersionService, cacheDir.toString(), 256);
+
+        assertArrayEquals(bytes("team"), read(cache, teamRequest(List.of(3L, 1L, 2L)), "team"));
+        assertArrayEquals(bytes("team"), read(cache, teamRequest(List.of(1L, 2L, 3L)), "other"));
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    void newDataVersionRendersAgain() throws IOException {
+        ReportCacheService cache = new ReportCacheService(dataVersionService, cacheDir.toString(), 256);
+        GenerateReportRequest request = teamRequest(List.of(1L));
+
+        read(cache, request, "first");
+        when(dataVersionService.currentTag()).thenReturn("8-2026-10-18");
+
+        assertArrayEquals(bytes("second"), read(cache, request, "second"));
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void entriesBeingReadAreNotEvicted() throws IOException {
+        // A 0 MB cache evicts every entry as soon as nobody reads it
+        ReportCacheService cache = new ReportCacheService(dataVersionService, cacheDir.toString(), 0);
+
+        ReportCacheService.CachedReport first = cache.getOrRender(teamRequest(List.of(1L)), "pdf", writer("first"));
+        ReportCacheService.CachedReport second = cache.getOrRender(teamRequest(List.of(2L)), "pdf", writer("second"));
+        assertEquals(2, cachedFiles());
+
+        assertArrayEquals(bytes("first"), send(first));
+        assertEquals(1, cachedFiles());
+
+        assertArrayEquals(bytes("second"), send(second));
+        second.close();
+        assertEquals(0, cachedFiles());
+    }
+
+    @Test
+    void reportNeverSentIsReleasedWhenTheRequestEnds() throws IOException {
+        ReportCacheService cache = new ReportCacheService(dataVersionService, cacheDir.toString(), 0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(ReportCacheService.OPEN_REPORT_ATTRIBUTE,
+                cache.getOrRender(teamRequest(List.of(1L)), "pdf", writer("unsent")));
+        assertEquals(1, cachedFiles());
+
+        new CachedReportReleaseListener().requestDestroyed(new ServletRequestEvent(new MockServletContext(), request));
+        assertEquals(0, cachedFiles());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private byte[] read(ReportCacheService cache, GenerateReportRequest request, String content) throws IOException {
+        ReportCacheService.CachedReport report = cache.getOrRender(request, "pdf", writer(content));
+        byte[] read = send(report);
+        assertEquals(read.length, report.size());
+        return read;
+    }
+
+    private static byte[] send(ReportCacheService.CachedReport report) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        report.transferTo(out);
+        return out.toByteArray();
+    }
+
+    private Supplier<ReportService.ReportWriter> writer(String content) {
+        return () -> {
+            renders.incrementAndGet();
+            return out -> out.write(bytes(content));
+        };
+    }
+
+    private long cachedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.count();
+        }
+    }
+
+    private static GenerateReportRequest teamRequest(List<Long> memberIds) {
+        GenerateReportRequest request = new GenerateReportRequest();
+        request.setReportType("team");
+        request.setTeamMemberIds(memberIds);
+        return request;
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,116 @@
+package com.jci.zodiac.service;
+
+import com.jci.zodiac.entity.Member;
+import com.jci.zodiac.event.DataVersionBumpedEvent;
+import com.jci.zodiac.repository.MemberRepository;
+import com.jci.zodiac.repository.NoteRepository;
+import com.jci.zodiac.repository.SettingRepository;
+import com.jci.zodiac.repository.ZodiacProfileRepository;
+import com.jci.zodiac.util.SearchTextNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchIndexServiceTest {
+
+    private final AtomicLong sharedVersion = new AtomicLong(10);
+    private final List<Member> storedMembers = new ArrayList<>();
+    private MemberRepository memberRepository;
+    private SearchIndexService index;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        when(memberRepository.findAll()).thenAnswer(invocation -> List.copyOf(storedMembers));
+
+        DataVersionService dataVersionService = mock(DataVersionService.class);
+        when(dataVersionService.currentVersion()).thenAnswer(invocation -> sharedVersion.get());
+        when(dataVersionService.refreshedVersion()).thenAnswer(invocation -> sharedVersion.get());
+
+        index = new SearchIndexService(memberRepository, mock(NoteRepository.class), mock(SettingRepository.class),
+                mock(ZodiacProfileRepository.class), dataVersionService, mock(PlatformTransactionManager.class));
+
+        storedMembers.add(member(1L, "Nguyễn Văn An", "JCI-DN-001", "an.nguyen@jci.vn", "Treasurer", "Da Nang Port"));
+        index.rebuild();
+    }
+
+    @Test
+    void writeOnAnotherNodeIsFoundAfterTheVersionMoves() {
+        storedMembers.add(member(2L, "Trần Thị Bình", "JCI-DN-002", "binh@jci.vn", null, null));
+        assertEquals(List.of(), index.searchIds("binh", SearchIndexService.DocumentType.MEMBER));
+
+        sharedVersion.set(11); // bumped by the other node's commit
+        assertEquals(List.of(2L), index.searchIds("binh", SearchIndexService.DocumentType.MEMBER));
+        verify(memberRepository, times(2)).findAll();
+    }
+
+    @Test
+    void ownBumpDoesNotRebuild() {
+        Member added = member(2L, "Trần Thị Bình", "JCI-DN-002", "binh@jci.vn", null, null);
+        storedMembers.add(added);
+        index.indexAfterCommit(added);
+        sharedVersion.set(11);
+        index.onDataVersionBumped(new DataVersionBumpedEvent(11));
+
+        assertEquals(List.of(2L), index.searchIds("binh", SearchIndexService.DocumentType.MEMBER));
+        verify(memberRepository, times(1)).findAll();
+    }
+
+    @Test
+    void bumpAfterAnotherNodesWriteStillRebuilds() {
+        storedMembers.add(member(2L, "Trần Thị Bình", "JCI-DN-002", "binh@jci.vn", null, null));
+        sharedVersion.set(12); // 11 was the other node's, 12 ours
+        index.onDataVersionBumped(new DataVersionBumpedEvent(12));
+
+        assertEquals(List.of(2L), index.searchIds("binh", SearchIndexService.DocumentType.MEMBER));
+        verify(memberRepository, times(2)).findAll();
+    }
+
+    @Test
+    void searchTextMatchesTheSameMembersAsTheIndex() {
+        storedMembers.add(member(2L, "Trần Thị Bình", "JCI-DN-002", "binh@jci.vn", "Secretary", "Đà Nẵng Tech"));
+        storedMembers.add(member(3L, "Lê Nam", "JCI-DN-003", "nam.le@example.com", "Member", "Anh Duong Co"));
+        sharedVersion.set(11);
+
+        for (String keyword : List.of("an", "nguyen van", "da nang", "jci dn 00", "ech", "le", "duong", "@jci.vn")) {
+            List<Long> sqlMatches = storedMembers.stream()
+                    .filter(member -> matchesSearchText(member, keyword))
+                    .map(Member::getId)
+                    .sorted()
+                    .toList();
+            List<Long> indexMatches = index.searchIds(keyword, SearchIndexService.DocumentType.MEMBER).stream()
+                    .sorted()
+                    .toList();
+            assertEquals(sqlMatches, indexMatches, keyword);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    // MemberSpecifications.keyword: search_text LIKE '% term%' for every term
+    private static boolean matchesSearchText(Member member, String keyword) {
+        String searchText = member.keywordText();
+        return SearchTextNormalizer.tokenize(keyword).stream().allMatch(term -> searchText.contains(" " + term));
+    }
+
+    private static Member member(Long id, String fullName, String code, String email, String position, String company) {
+        return Member.builder()
+                .id(id)
+                .fullName(fullName)
+                .memberCode(code)
+                .email(email)
+                .position(position)
+                .company(company)
+                .build();
+    }
+}
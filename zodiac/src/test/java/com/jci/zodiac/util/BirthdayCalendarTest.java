@@ -0,0 +1,90 @@
+package com.jci.zodiac.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BirthdayCalendarTest {
+
+    private static final long LEAP_DAY_MEMBER = 1L;
+    private static final long FEB_28_MEMBER = 2L;
+    private static final long MAR_1_MEMBER = 3L;
+    private static final long DEC_31_MEMBER = 4L;
+    private static final long JAN_1_MEMBER = 5L;
+
+    private BirthdayCalendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        calendar = new BirthdayCalendar();
+        calendar.put(LEAP_DAY_MEMBER, LocalDate.of(1996, 2, 29));
+        calendar.put(FEB_28_MEMBER, LocalDate.of(1990, 2, 28));
+        calendar.put(MAR_1_MEMBER, LocalDate.of(1992, 3, 1));
+        calendar.put(DEC_31_MEMBER, LocalDate.of(1985, 12, 31));
+        calendar.put(JAN_1_MEMBER, LocalDate.of(2000, 1, 1));
+    }
+
+    @Test
+    void leapDayBirthdayIsCelebratedOnFeb28InNonLeapYears() {
+        LocalDate feb28 = LocalDate.of(2025, 2, 28);
+
+        assertEquals(List.of(FEB_28_MEMBER, LEAP_DAY_MEMBER), calendar.idsBetween(feb28, feb28));
+        assertEquals(List.of(MAR_1_MEMBER), calendar.idsBetween(feb28.plusDays(1), feb28.plusDays(1)));
+    }
+
+    @Test
+    void leapDayBirthdayIsCelebratedOnFeb29InLeapYears() {
+        LocalDate feb28 = LocalDate.of(2028, 2, 28);
+        LocalDate feb29 = LocalDate.of(2028, 2, 29);
+
+        assertEquals(List.of(FEB_28_MEMBER), calendar.idsBetween(feb28, feb28));
+        assertEquals(List.of(LEAP_DAY_MEMBER), calendar.idsBetween(feb29, feb29));
+        assertEquals(List.of(FEB_28_MEMBER, LEAP_DAY_MEMBER, MAR_1_MEMBER),
+                calendar.idsBetween(feb28, LocalDate.of(2028, 3, 1)));
+    }
+
+    @Test
+    void windowAcrossNewYearIsInCalendarOrder() {
+        List<Long> ids = calendar.idsBetween(LocalDate.of(2025, 12, 30), LocalDate.of(2026, 1, 2));
+
+        assertEquals(List.of(DEC_31_MEMBER, JAN_1_MEMBER), ids);
+        assertEquals(2, calendar.countBetween(LocalDate.of(2025, 12, 30), LocalDate.of(2026, 1, 2)));
+    }
+
+    @Test
+    void yearLongWindowListsEveryoneOnce() {
+        LocalDate start = LocalDate.of(2024, 2, 29);
+
+        assertEquals(5, calendar.idsBetween(start, start.plusYears(2)).size());
+        assertEquals(List.of(LEAP_DAY_MEMBER, MAR_1_MEMBER, DEC_31_MEMBER, JAN_1_MEMBER, FEB_28_MEMBER),
+                calendar.idsBetween(start, start.plusDays(365)));
+    }
+
+    @Test
+    void februaryMonthViewIncludesLeapDay() {
+        assertEquals(List.of(FEB_28_MEMBER, LEAP_DAY_MEMBER), calendar.idsInMonth(Month.FEBRUARY));
+    }
+
+    @Test
+    void movedAndRemovedMembersLeaveTheirOldBucket() {
+        calendar.put(LEAP_DAY_MEMBER, LocalDate.of(1996, 3, 1));
+        calendar.remove(FEB_28_MEMBER);
+
+        assertEquals(List.of(), calendar.idsInMonth(Month.FEBRUARY));
+        assertEquals(List.of(LEAP_DAY_MEMBER, MAR_1_MEMBER), calendar.idsInMonth(Month.MARCH));
+        assertEquals(4, calendar.size());
+    }
+
+    @Test
+    void nextOccurrenceOfLeapDayFallsOnFeb28InNonLeapYears() {
+        LocalDate dateOfBirth = LocalDate.of(1996, 2, 29);
+
+        assertEquals(LocalDate.of(2025, 2, 28), BirthdayDates.nextOccurrence(dateOfBirth, LocalDate.of(2025, 1, 10)));
+        assertEquals(LocalDate.of(2028, 2, 29), BirthdayDates.nextOccurrence(dateOfBirth, LocalDate.of(2027, 3, 1)));
+    }
+}
@@ -0,0 +1,75 @@
+package com.jci.zodiac.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BirthdayDatesTest {
+
+    private static final LocalDate LEAP_DAY_BIRTH = LocalDate.of(1996, 2, 29);
+
+    @Test
+    void windowWithinOneYearHasEmptyWrap() {
+        assertEquals(new BirthdayDates.Window(310, 317, 1, 0),
+                BirthdayDates.Window.between(LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 17)));
+    }
+
+    @Test
+    void windowAcrossNewYearWrapsToJanuary() {
+        assertEquals(new BirthdayDates.Window(1225, 1231, 101, 104),
+                BirthdayDates.Window.between(LocalDate.of(2025, 12, 25), LocalDate.of(2026, 1, 4)));
+    }
+
+    @Test
+    void windowEndingDecember31DoesNotWrap() {
+        assertEquals(new BirthdayDates.Window(1231, 1231, 1, 0),
+                BirthdayDates.Window.on(LocalDate.of(2025, 12, 31)));
+    }
+
+    @Test
+    void windowOfAYearOrMoreCoversEveryDay() {
+        assertEquals(new BirthdayDates.Window(101, 1231, 1, 0),
+                BirthdayDates.Window.between(LocalDate.of(2025, 6, 1), LocalDate.of(2026, 6, 1)));
+    }
+
+    @Test
+    void windowEndingBeforeStartIsEmpty() {
+        assertEquals(new BirthdayDates.Window(1, 0, 1, 0),
+                BirthdayDates.Window.between(LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 1)));
+    }
+
+    @Test
+    void february28OfNonLeapYearAlsoCoversLeapDay() {
+        assertEquals(new BirthdayDates.Window(228, 229, 1, 0),
+                BirthdayDates.Window.on(LocalDate.of(2025, 2, 28)));
+        assertEquals(new BirthdayDates.Window(228, 228, 1, 0),
+                BirthdayDates.Window.on(LocalDate.of(2024, 2, 28)));
+        assertEquals(new BirthdayDates.Window(1220, 1231, 101, 229),
+                BirthdayDates.Window.between(LocalDate.of(2024, 12, 20), LocalDate.of(2025, 2, 28)));
+    }
+
+    @Test
+    void monthWindowCoversWholeMonth() {
+        assertEquals(new BirthdayDates.Window(201, 231, 1, 0), BirthdayDates.Window.month(Month.FEBRUARY));
+    }
+
+    @Test
+    void leapDayBirthdayIsCelebratedOnFebruary28InNonLeapYears() {
+        assertEquals(LocalDate.of(2025, 2, 28),
+                BirthdayDates.nextOccurrence(LEAP_DAY_BIRTH, LocalDate.of(2025, 1, 1)));
+        assertEquals(0, BirthdayDates.daysUntil(LEAP_DAY_BIRTH, LocalDate.of(2025, 2, 28)));
+        assertEquals(LocalDate.of(2024, 2, 29),
+                BirthdayDates.nextOccurrence(LEAP_DAY_BIRTH, LocalDate.of(2024, 2, 28)));
+        assertEquals(1, BirthdayDates.daysUntil(LEAP_DAY_BIRTH, LocalDate.of(2024, 2, 28)));
+    }
+
+    @Test
+    void daysUntilWrapsIntoNextYear() {
+        assertEquals(2, BirthdayDates.daysUntil(LocalDate.of(1990, 1, 1), LocalDate.of(2025, 12, 30)));
+        assertEquals(364, BirthdayDates.daysUntil(LocalDate.of(1990, 3, 9), LocalDate.of(2025, 3, 10)));
+        assertEquals(364, BirthdayDates.daysUntil(LEAP_DAY_BIRTH, LocalDate.of(2024, 3, 1)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.jci.zodiac.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvRowSourceTest {
+
+    @Test
+    void parsesQuotedFieldsWithCommasQuotesAndLineBreaks() throws IOException {
+        List<List<String>> records = parse("name,note\r\n\"Nguyễn, A\",\"said \"\"hi\"\"\r\nthen left\"\r\n");
+
+        assertEquals(List.of(List.of("name", "note"), List.of("Nguyễn, A", "said \"hi\"\r\nthen left")), records);
+    }
+
+    @Test
+    void skipsBomAndHandlesBareLineEndsAndEmptyFields() throws IOException {
+        List<List<String>> records = parse("\uFEFFa,,c\nd\r\re,f");
+
+        assertEquals(List.of(List.of("a", "", "c"), List.of("d"), List.of(""), List.of("e", "f")), records);
+    }
+
+    @Test
+    void formatRecordRoundTrips() throws IOException {
+        List<String> values = List.of("plain", "with,comma", "with \"quote\"", "multi\nline", "");
+
+        assertEquals(List.of(values), parse(CsvRowSource.formatRecord(values)));
+    }
+
+    private List<List<String>> parse(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvRowSource source = new CsvRowSource(new StringReader(csv))) {
+            List<String> record;
+            while ((record = source.nextRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
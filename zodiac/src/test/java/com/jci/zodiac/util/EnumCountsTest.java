@@ -0,0 +1,23 @@
+package com.jci.zodiac.util;
+
+import com.jci.zodiac.entity.Member;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EnumCountsTest {
+
+    @Test
+    void fillsMissingConstantsWithZero() {
+        Map<Member.ZodiacElement, Long> counts = EnumCounts.of(List.of(
+                new Object[]{Member.ZodiacElement.Fire, 3L},
+                new Object[]{Member.ZodiacElement.Water, 2},
+                new Object[]{null, 7L}), Member.ZodiacElement.class);
+
+        assertEquals(Map.of(Member.ZodiacElement.Fire, 3L, Member.ZodiacElement.Earth, 0L,
+                Member.ZodiacElement.Air, 0L, Member.ZodiacElement.Water, 2L), counts);
+    }
+}
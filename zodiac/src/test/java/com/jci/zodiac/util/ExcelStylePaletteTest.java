@@ -0,0 +1,43 @@
+package com.jci.zodiac.util;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ExcelStylePaletteTest {
+
+    @Test
+    void scoresShareOneStylePerBand() throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+            int before = workbook.getNumCellStyles();
+            ExcelStylePalette palette = new ExcelStylePalette(workbook);
+
+            for (int score = 0; score <= 100; score++) {
+                palette.score(BigDecimal.valueOf(score));
+            }
+
+            assertEquals(before + ExcelStylePalette.ScoreBand.values().length, workbook.getNumCellStyles());
+            assertSame(palette.score(BigDecimal.valueOf(80)), palette.score(BigDecimal.valueOf(99.5)));
+            assertNotSame(palette.score(BigDecimal.valueOf(79.9)), palette.score(BigDecimal.valueOf(80)));
+            workbook.dispose();
+        }
+    }
+
+    @Test
+    void namedStylesAreCreatedOnce() throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+            ExcelStylePalette palette = new ExcelStylePalette(workbook);
+
+            assertSame(palette.header(), palette.header());
+            assertSame(palette.data(), palette.data());
+            assertEquals(ExcelStylePalette.ScoreBand.DIFFICULT, ExcelStylePalette.ScoreBand.of(BigDecimal.valueOf(-5)));
+            workbook.dispose();
+        }
+    }
+}
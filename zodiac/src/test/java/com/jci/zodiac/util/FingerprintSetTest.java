@@ -0,0 +1,55 @@
+package com.jci.zodiac.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FingerprintSetTest {
+
+    @Test
+    void addReportsDuplicates() {
+        FingerprintSet set = new FingerprintSet();
+
+        assertTrue(set.add("an@jci.vn"));
+        assertTrue(set.add("binh@jci.vn"));
+        assertFalse(set.add("an@jci.vn"));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void mightContainOnlyAddedValues() {
+        FingerprintSet set = new FingerprintSet(4);
+        set.add("jci-dn-001");
+
+        assertTrue(set.mightContain("jci-dn-001"));
+        assertFalse(set.mightContain("jci-dn-002"));
+        assertFalse(set.mightContain(""));
+    }
+
+    @Test
+    void keepsEveryValueAcrossResizes() {
+        FingerprintSet set = new FingerprintSet();
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(set.add("member" + i + "@jci.vn"));
+        }
+
+        assertEquals(10_000, set.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(set.mightContain("member" + i + "@jci.vn"));
+            assertFalse(set.mightContain("guest" + i + "@jci.vn"));
+        }
+    }
+
+    @Test
+    void emptyStringIsAnOrdinaryValue() {
+        FingerprintSet set = new FingerprintSet();
+
+        assertNotEquals(0L, FingerprintSet.fingerprint(""));
+        assertTrue(set.add(""));
+        assertTrue(set.mightContain(""));
+        assertFalse(set.add(""));
+    }
+}
@@ -0,0 +1,54 @@
+package com.jci.zodiac.util;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class XlsxRowSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void streamsRowsWithSparseCellsAndDateCells() throws Exception {
+        Path file = tempDir.resolve("members.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Members");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("dd/mm/yyyy"));
+
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Full Name");
+            header.createCell(3).setCellValue("Date of Birth");
+
+            Row member = sheet.createRow(2);
+            member.createCell(0).setCellValue("Nguyễn Văn A");
+            member.createCell(2).setCellValue(905123456);
+            member.createCell(3).setCellValue(LocalDate.of(2000, 11, 25));
+            member.getCell(3).setCellStyle(dateStyle);
+            workbook.write(out);
+        }
+
+        List<String> rows = new ArrayList<>();
+        try (XlsxRowSource source = new XlsxRowSource(file, DateTimeFormatter.ISO_LOCAL_DATE)) {
+            source.forEachRow((rowNumber, columns) -> rows.add(rowNumber + ":" + columns));
+        }
+
+        assertEquals(List.of(
+                "1:[Full Name, , , Date of Birth]",
+                "3:[Nguyễn Văn A, , 905123456, 2000-11-25]"), rows);
+    }
+}